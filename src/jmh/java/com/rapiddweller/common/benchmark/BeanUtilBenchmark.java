@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link BeanUtil#getPropertyValue(Object, String)}
+ * and {@link BeanUtil#setPropertyValue(Object, String, Object)}.
+ * Created: 17.10.2026 21:05:48
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeanUtilBenchmark {
+
+  private final Person person = new Person("Alice", 23, new Address("Munich"));
+
+  @Benchmark
+  public Object getPropertyValue() {
+    return BeanUtil.getPropertyValue(person, "name");
+  }
+
+  @Benchmark
+  public Object getNavigatedPropertyValue() {
+    return BeanUtil.getPropertyValue(person, "address.city");
+  }
+
+  @Benchmark
+  public Person setPropertyValue() {
+    BeanUtil.setPropertyValue(person, "age", 42);
+    return person;
+  }
+
+  public static class Person {
+
+    private String name;
+    private int age;
+    private Address address;
+
+    public Person() {
+      this(null, 0, null);
+    }
+
+    public Person(String name, int age, Address address) {
+      this.name = name;
+      this.age = age;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+  }
+
+  public static class Address {
+
+    private String city;
+
+    public Address() {
+      this(null);
+    }
+
+    public Address(String city) {
+      this.city = city;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.CharSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link CharSet#contains(char)}.
+ * Created: 17.10.2026 21:12:04
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CharSetBenchmark {
+
+  private final String text = "The quick brown fox jumps over the lazy dog 0123456789 äöü ß !?";
+  private CharSet wordChars;
+
+  @Setup
+  public void setUp() {
+    wordChars = new CharSet().addWordChars();
+  }
+
+  @Benchmark
+  public int contains() {
+    int count = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (wordChars.contains(text.charAt(i))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.converter.AnyConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link AnyConverter#convert(Object, Class)}.
+ * Created: 17.10.2026 21:02:15
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConverterBenchmark {
+
+  private final String intText = "4711";
+  private final String doubleText = "3.1415";
+  private final Integer intValue = 4711;
+
+  @Benchmark
+  public Integer stringToInteger() {
+    return AnyConverter.convert(intText, Integer.class);
+  }
+
+  @Benchmark
+  public Double stringToDouble() {
+    return AnyConverter.convert(doubleText, Double.class);
+  }
+
+  @Benchmark
+  public String integerToString() {
+    return AnyConverter.convert(intValue, String.class);
+  }
+
+  @Benchmark
+  public Long integerToLong() {
+    return AnyConverter.convert(intValue, Long.class);
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.OrderedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link OrderedMap#get(Object)} and {@link OrderedMap#put(Object, Object)}.
+ * Created: 17.10.2026 21:14:40
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderedMapBenchmark {
+
+  private static final int SIZE = 100;
+
+  private String[] keys;
+  private OrderedMap<String, Integer> map;
+
+  @Setup
+  public void setUp() {
+    keys = new String[SIZE];
+    map = new OrderedMap<>();
+    for (int i = 0; i < SIZE; i++) {
+      keys[i] = "key" + i;
+      map.put(keys[i], i);
+    }
+  }
+
+  @Benchmark
+  public int get() {
+    int sum = 0;
+    for (String key : keys) {
+      sum += map.get(key);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public OrderedMap<String, Integer> put() {
+    OrderedMap<String, Integer> result = new OrderedMap<>();
+    for (int i = 0; i < SIZE; i++) {
+      result.put(keys[i], i);
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.FieldTokenizer;
+import com.rapiddweller.common.MultiPatternReplacer;
+import com.rapiddweller.common.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link StringUtil#tokenize(String, char)}, {@link StringUtil#split(String, char)}
+ * and of splitting with a reused array and a {@link FieldTokenizer},
+ * as well as of {@link StringUtil#replace(String, Map)} and a reused {@link MultiPatternReplacer}.
+ * Created: 17.10.2026 21:09:33
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringUtilBenchmark {
+
+  private final String line = "4711,Alice,Smith,alice.smith@example.com,Munich,80331,Germany,2026-10-17,3.1415,true";
+  private final String[] fields = new String[10];
+  private final FieldTokenizer tokenizer = new FieldTokenizer(',', '"', FieldTokenizer.NONE, false);
+  private final Map<String, String> replacements = createReplacements(500);
+  private final MultiPatternReplacer replacer = new MultiPatternReplacer(replacements);
+  private final String template = createTemplate(500);
+
+  @Benchmark
+  public String[] tokenize() {
+    return StringUtil.tokenize(line, ',');
+  }
+
+  @Benchmark
+  public String[] split() {
+    return StringUtil.split(line, ',');
+  }
+
+  @Benchmark
+  public String[] splitIntoArray() {
+    StringUtil.split(line, ',', fields);
+    return fields;
+  }
+
+  @Benchmark
+  public int fieldTokenizer() {
+    tokenizer.reset(line);
+    int sum = 0;
+    while (tokenizer.next()) {
+      sum += tokenizer.length();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public String replace() {
+    return StringUtil.replace(template, replacements);
+  }
+
+  @Benchmark
+  public String replaceReused() {
+    return replacer.replace(template);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Map<String, String> createReplacements(int count) {
+    Map<String, String> result = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      result.put("${var" + i + "}", "value" + i);
+    }
+    return result;
+  }
+
+  private static String createTemplate(int count) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      builder.append("Some text with ${var").append(i).append("} in it. ");
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.benchmark;
+
+import com.rapiddweller.common.xml.XMLUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the performance of {@link XMLUtil#parseString(String)}.
+ * Created: 17.10.2026 21:19:50
+ * @author Volker Bergmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class XMLUtilBenchmark {
+
+  private final String xml =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+          + "<setup xmlns=\"https://www.benerator.de/schema/3.0.0\">"
+          + "  <generate type=\"person\" count=\"100\" consumer=\"ConsoleExporter\">"
+          + "    <attribute name=\"name\" values=\"'Alice','Bob','Charly'\"/>"
+          + "    <attribute name=\"age\" type=\"int\" min=\"18\" max=\"67\"/>"
+          + "  </generate>"
+          + "</setup>";
+
+  @Benchmark
+  public Document parseString() {
+    return XMLUtil.parseString(xml);
+  }
+
+}
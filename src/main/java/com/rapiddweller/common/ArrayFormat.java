@@ -18,6 +18,7 @@
 import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.DigitWriter;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
@@ -124,6 +125,15 @@ public static <T, E extends Appendable> E formatPart(E toAppendTo, Converter<Obj
       if (formatter == null) {
         formatter = DEFAULT_ITEM_FORMATTER;
       }
+      if (formatter instanceof ToStringConverter) {
+        // write the items directly into the target
+        ToStringConverter toStringConverter = (ToStringConverter) formatter;
+        toStringConverter.formatTo(Array.get(items, offset), toAppendTo);
+        for (int i = 1; i < length; i++) {
+          toStringConverter.formatTo(Array.get(items, offset + i), toAppendTo.append(separator));
+        }
+        return toAppendTo;
+      }
       toAppendTo.append(formatter.convert(Array.get(items, offset)));
       for (int i = 1; i < length; i++) {
         toAppendTo.append(separator).append(formatter.convert(Array.get(items, offset + i)));
@@ -146,6 +156,46 @@ public static String formatInts(String separator, int... items) {
     return builder.toString();
   }
 
+  /** Writes integers with separators into an {@link Appendable} without creating intermediate Strings.
+   *  @param toAppendTo the target to write to
+   *  @param separator the separator to write between the integers
+   *  @param items the integers to write
+   *  @param <E> the type of the target
+   *  @return the target */
+  public static <E extends Appendable> E formatIntsTo(E toAppendTo, String separator, int... items) {
+    try {
+      for (int i = 0; i < items.length; i++) {
+        if (i > 0) {
+          toAppendTo.append(separator);
+        }
+        DigitWriter.appendLong(toAppendTo, items[i]);
+      }
+      return toAppendTo;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting ints", e);
+    }
+  }
+
+  /** Writes long integers with separators into an {@link Appendable} without creating intermediate Strings.
+   *  @param toAppendTo the target to write to
+   *  @param separator the separator to write between the integers
+   *  @param items the integers to write
+   *  @param <E> the type of the target
+   *  @return the target */
+  public static <E extends Appendable> E formatLongsTo(E toAppendTo, String separator, long... items) {
+    try {
+      for (int i = 0; i < items.length; i++) {
+        if (i > 0) {
+          toAppendTo.append(separator);
+        }
+        DigitWriter.appendLong(toAppendTo, items[i]);
+      }
+      return toAppendTo;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting longs", e);
+    }
+  }
+
   public static String formatBytes(String separator, byte... items) {
     if (items.length == 0) {
       return "";
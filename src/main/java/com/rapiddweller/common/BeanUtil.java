@@ -15,10 +15,14 @@
 
 package com.rapiddweller.common;
 
+import com.rapiddweller.common.bean.BeanMapper;
+import com.rapiddweller.common.bean.PropertyTable;
 import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.common.converter.ConverterManager;
 import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.common.exception.AccessFailed;
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.exception.MutationFailed;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
@@ -74,8 +78,6 @@ public final class BeanUtil {
 
   private static final Class<?>[] NO_CLASSES = new Class<?>[0];
 
-  private static final Map<String, PropertyDescriptor> propertyDescriptors = new HashMap<>();
-
   /** List of simple Java types. */
   private static final Class<?>[] simpleTypes = {
       String.class,
@@ -797,41 +799,7 @@ private static boolean isArrayOfType(Class<?> componentType, Class<?> foundType)
    *  @return the attribute's property descriptor */
   public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass, String propertyName) {
     Assert.notNull(beanClass, "beanClass");
-    String propertyId = beanClass.getName() + '#' + propertyName;
-    PropertyDescriptor result = propertyDescriptors.get(propertyId);
-    if (result != null) {
-      return result;
-    }
-    // descriptor is new
-
-    int separatorIndex = propertyName.indexOf('.');
-    if (separatorIndex >= 0) {
-      String localProperty = propertyName.substring(0, separatorIndex);
-      String remoteProperty = propertyName.substring(separatorIndex + 1);
-      PropertyDescriptor localPropertyDescriptor = getPropertyDescriptor(beanClass, localProperty);
-      if (localPropertyDescriptor == null) {
-        return null;
-      }
-      Class<?> localPropertyType = localPropertyDescriptor.getPropertyType();
-      result = getPropertyDescriptor(localPropertyType, remoteProperty);
-    } else {
-      try {
-        BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-        PropertyDescriptor[] descriptors = beanInfo.getPropertyDescriptors();
-        for (PropertyDescriptor descriptor : descriptors) {
-          String name = descriptor.getName();
-          if (name.equals(propertyName)) {
-            result = descriptor;
-            break;
-          }
-        }
-      } catch (IntrospectionException e) {
-        throw ExceptionFactory.getInstance().illegalArgument(
-            "Failed to get property descriptor " + propertyName, e);
-      }
-    }
-    propertyDescriptors.put(propertyId, result);
-    return result;
+    return PropertyTable.of(beanClass).getDescriptor(propertyName);
   }
 
   public static PropertyDescriptor getPropertyDescriptor(
@@ -876,80 +844,62 @@ public static String writeMethodName(String propertyName) {
    *  @param type the class to check
    *  @return all found property descriptors */
   public static PropertyDescriptor[] getPropertyDescriptors(Class<?> type) {
-    try {
-      return Introspector.getBeanInfo(type).getPropertyDescriptors();
-    } catch (IntrospectionException e) {
-      throw ExceptionFactory.getInstance().operationFailed("Introspection failed on " + type, e);
-    }
+    return PropertyTable.of(type).getDescriptors();
   }
 
-  /** Copies a Map's values to the properties of a JavaBean,
-   *  using the Map entries' key values as bean property names.
+  /** Copies the property values of a JavaBean to the properties of the same name of another JavaBean,
+   *  converting them if necessary. The copy plan for the class pair is cached, see {@link BeanMapper}.
    *  @param sourceBean the bean from which to read the properties
    *  @param targetBean the bean on which to set the properties */
+  @SuppressWarnings("unchecked")
   public static void copyPropertyValues(Object sourceBean, Object targetBean) {
-    PropertyDescriptor[] propertyDescriptors = getPropertyDescriptors(sourceBean.getClass());
-    for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-      String name = propertyDescriptor.getName();
-      if (propertyDescriptor.getReadMethod() != null) {
-        Object value = getPropertyValue(sourceBean, propertyDescriptor);
-        setPropertyValue(targetBean, name, value, false, true);
-      }
-    }
+    BeanMapper<Object, Object> mapper = BeanMapper.of((Class<Object>) sourceBean.getClass(), (Class<Object>) targetBean.getClass());
+    mapper.copy(sourceBean, targetBean);
   }
 
+  /** Copies a Map's values to the properties of a JavaBean,
+   *  using the Map entries' key values as bean property names.
+   *  @param bean       the bean on which to set the properties
+   *  @param properties the property values to set */
   public static void setPropertyValues(Object bean, Map<String, ?> properties) {
-    Class<?> beanClass = bean.getClass();
-    Method writeMethod = null;
+    PropertyTable table = PropertyTable.of(bean.getClass());
+    PropertyTable.Property property = null;
     try {
-      BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-      PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-      for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-        String name = propertyDescriptor.getName();
-        Object value = properties.get(name);
+      for (int i = 0; i < table.size(); i++) {
+        property = table.getProperty(i);
+        Object value = properties.get(property.getName());
         if (value != null) {
-          writeMethod = propertyDescriptor.getWriteMethod();
-          Object targetTypeObject = AnyConverter.convert(value, propertyDescriptor.getPropertyType());
-          writeMethod.invoke(bean, targetTypeObject);
+          Object targetTypeObject = AnyConverter.convert(value, property.getDescriptor().getPropertyType());
+          property.setValue(bean, targetTypeObject);
         }
       }
-    } catch (IntrospectionException | IllegalAccessException | InvocationTargetException e) {
-      throw ExceptionFactory.getInstance().illegalArgument("Failed to set property value using " + writeMethod, e);
+    } catch (MutationFailed e) {
+      throw ExceptionFactory.getInstance().illegalArgument("Failed to set property value using " + property, e.getCause());
     }
   }
 
   public static Map<String, Object> getPropertyValues(Object bean, boolean includeClass) {
-    Map<String, Object> result = new HashMap<>();
-    PropertyDescriptor[] descriptors = getPropertyDescriptors(bean.getClass());
-    for (PropertyDescriptor descriptor : descriptors) {
-      String propertyName = descriptor.getName();
-      if (includeClass || !CLASS.equals(propertyName)) {
-        result.put(propertyName, getPropertyValue(bean, descriptor));
-      }
-    }
-    return result;
+    return getPropertyValues(bean, includeClass, false, false);
   }
 
   public static Map<String, Object> getReadablePropertyValues(Object bean, boolean includeClass) {
-    Map<String, Object> result = new HashMap<>();
-    PropertyDescriptor[] descriptors = getPropertyDescriptors(bean.getClass());
-    for (PropertyDescriptor descriptor : descriptors) {
-      String propertyName = descriptor.getName();
-      if (descriptor.getReadMethod() != null && (includeClass || !CLASS.equals(propertyName))) {
-        result.put(propertyName, getPropertyValue(bean, descriptor));
-      }
-    }
-    return result;
+    return getPropertyValues(bean, includeClass, true, false);
   }
 
   public static Map<String, Object> getRWPropertyValues(Object bean, boolean includeClass) {
-    Map<String, Object> result = new HashMap<>();
-    PropertyDescriptor[] descriptors = getPropertyDescriptors(bean.getClass());
-    for (PropertyDescriptor descriptor : descriptors) {
-      String propertyName = descriptor.getName();
-      if (descriptor.getWriteMethod() != null && descriptor.getReadMethod() != null
+    return getPropertyValues(bean, includeClass, true, true);
+  }
+
+  private static Map<String, Object> getPropertyValues(
+      Object bean, boolean includeClass, boolean readableOnly, boolean writableOnly) {
+    PropertyTable table = PropertyTable.of(bean.getClass());
+    Map<String, Object> result = new HashMap<>(table.size() * 2);
+    for (int i = 0; i < table.size(); i++) {
+      PropertyTable.Property property = table.getProperty(i);
+      String propertyName = property.getName();
+      if ((!readableOnly || property.isReadable()) && (!writableOnly || property.isWritable())
           && (includeClass || !CLASS.equals(propertyName))) {
-        result.put(propertyName, getPropertyValue(bean, descriptor));
+        result.put(propertyName, getPropertyValue(bean, property));
       }
     }
     return result;
@@ -964,8 +914,8 @@ public static Object getPropertyValue(Object bean, String propertyName) {
   }
 
   public static Object getPropertyValue(Object bean, String propertyName, boolean propertyRequired) {
-    PropertyDescriptor descriptor = getPropertyDescriptor(bean.getClass(), propertyName);
-    if (descriptor == null) {
+    PropertyTable.Property property = PropertyTable.of(bean.getClass()).getProperty(propertyName);
+    if (property == null) {
       if (propertyRequired) {
         throw ExceptionFactory.getInstance().internalError(
             "Property '" + propertyName + "' not found in class " + bean.getClass(), null);
@@ -973,17 +923,15 @@ public static Object getPropertyValue(Object bean, String propertyName, boolean
         return null;
       }
     }
-    return getPropertyValue(bean, descriptor);
+    return getPropertyValue(bean, property);
   }
 
-  private static Object getPropertyValue(Object bean, PropertyDescriptor descriptor) {
-    Method readMethod;
+  private static Object getPropertyValue(Object bean, PropertyTable.Property property) {
     try {
-      readMethod = descriptor.getReadMethod();
-      return readMethod.invoke(bean);
-    } catch (IllegalAccessException | InvocationTargetException e) {
+      return property.getValue(bean);
+    } catch (AccessFailed e) {
       throw ExceptionFactory.getInstance().illegalArgument(
-          "Failed to get property value " + descriptor.getName(), e);
+          "Failed to get property value " + property.getName(), e.getCause());
     }
   }
 
@@ -1000,11 +948,10 @@ public static void setPropertyValue(Object bean, String propertyName, Object pro
   }
 
   public static void setPropertyValue(Object bean, String propertyName, Object propertyValue, boolean required, boolean autoConvert) {
-    Method writeMethod;
     try {
       Class<?> beanClass = bean.getClass();
-      PropertyDescriptor propertyDescriptor = getPropertyDescriptor(beanClass, propertyName);
-      if (propertyDescriptor == null) {
+      PropertyTable.Property property = PropertyTable.of(beanClass).getProperty(propertyName);
+      if (property == null) {
         if (required) {
           throw ExceptionFactory.getInstance().internalError(
               beanClass + " does not have a property '" + propertyName + "'", null);
@@ -1012,8 +959,8 @@ public static void setPropertyValue(Object bean, String propertyName, Object pro
           return;
         }
       }
-      writeMethod = propertyDescriptor.getWriteMethod();
-      if (writeMethod != null) {
+      PropertyDescriptor propertyDescriptor = property.getDescriptor();
+      if (property.isWritable()) {
         Class<?> propertyType = propertyDescriptor.getPropertyType();
         if (propertyValue != null) {
           Class<?> argType = propertyValue.getClass();
@@ -1025,13 +972,13 @@ public static void setPropertyValue(Object bean, String propertyName, Object pro
             propertyValue = AnyConverter.convert(propertyValue, propertyType);
           }
         }
-        writeMethod.invoke(bean, propertyValue);
+        property.setValue(bean, propertyValue);
       } else if (required) {
         throw ExceptionFactory.getInstance().illegalArgument(
             "Cannot write read-only property '" + propertyDescriptor.getName() + "' of " + beanClass);
       }
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw ExceptionFactory.getInstance().illegalArgument("Failed to set value of property " + propertyName, e);
+    } catch (MutationFailed e) {
+      throw ExceptionFactory.getInstance().illegalArgument("Failed to set value of property " + propertyName, e.getCause());
     }
   }
 
@@ -17,19 +17,35 @@
 
 import com.rapiddweller.common.exception.ExceptionFactory;
 
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Set of characters and provides locale-dependent character sets
- * as well as set manipulation methods.
+ * as well as set manipulation methods. The characters are stored in a {@link CompactCharSet},
+ * so they are not boxed and {@link #contains(char)} does not allocate any objects.
  * Created: 18.08.2006 19:49:17
  *
  * @author Volker Bergmann
  */
-public class CharSet implements Named {
+public class CharSet implements Named, Cloneable {
+
+  private static final CompactCharSet DIGITS = CompactCharSet.ofRange('0', '9').toImmutable();
+  private static final CompactCharSet HEX_DIGITS =
+      CompactCharSet.ofRange('0', '9').addRange('a', 'f').addRange('A', 'F').toImmutable();
+  private static final CompactCharSet ANY_CHARACTERS = CompactCharSet.ofRange((char) 0x20, (char) 0x7E).toImmutable();
+  private static final CompactCharSet NON_DIGITS = ANY_CHARACTERS.copy().removeAll(DIGITS).toImmutable();
+  private static final CompactCharSet NON_WORD_CHARS =
+      CompactCharSet.ofRange(' ', '@').addRange('[', '`').addRange('{', '~').toImmutable();
+  private static final CompactCharSet WHITESPACES = CompactCharSet.of(" \t\n\u000B\f\r").toImmutable();
+  private static final CompactCharSet NON_WHITESPACES = ANY_CHARACTERS.copy().removeAll(WHITESPACES).toImmutable();
+
+  /** Caches the word characters of each locale */
+  private static final Map<Locale, CompactCharSet> WORD_CHARS = new ConcurrentHashMap<>();
 
   private String name;
 
@@ -41,7 +57,7 @@ public class CharSet implements Named {
   /**
    * the wrapped set
    */
-  private final Set<Character> set;
+  private CompactCharSet chars;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -58,7 +74,7 @@ public CharSet() {
    * @param locale the locale for which to create te set
    */
   public CharSet(Locale locale) {
-    set = new HashSet<>();
+    chars = new CompactCharSet();
     this.locale = locale;
   }
 
@@ -68,8 +84,7 @@ public CharSet(Locale locale) {
    * @param c the character to include
    */
   public CharSet(char c) {
-    set = new HashSet<>();
-    set.add(c);
+    chars = new CompactCharSet().add(c);
     this.locale = LocaleUtil.getFallbackLocale();
   }
 
@@ -92,10 +107,7 @@ public CharSet(char from, char to) {
    */
   public CharSet(String name, char from, char to) {
     this.name = name;
-    set = new HashSet<>();
-    for (char c = from; c <= to; c++) {
-      set.add(c);
-    }
+    chars = CompactCharSet.ofRange(from, to);
     this.locale = LocaleUtil.getFallbackLocale();
   }
 
@@ -105,7 +117,7 @@ public CharSet(String name, char from, char to) {
    * @param charSet the set of characters to include
    */
   public CharSet(CharSet charSet) {
-    this(charSet.set);
+    this(null, charSet.chars.copy(), LocaleUtil.getFallbackLocale());
   }
 
   /**
@@ -124,9 +136,23 @@ public CharSet(Set<Character> set) {
    * @param set  the set
    */
   public CharSet(String name, Set<Character> set) {
+    this(name, CompactCharSet.of(set), LocaleUtil.getFallbackLocale());
+  }
+
+  /**
+   * Instantiates a new Char set with a copy of the specified characters.
+   *
+   * @param name  the name
+   * @param chars the characters to include
+   */
+  public CharSet(String name, CompactCharSet chars) {
+    this(name, chars.copy(), LocaleUtil.getFallbackLocale());
+  }
+
+  private CharSet(String name, CompactCharSet chars, Locale locale) {
     this.name = name;
-    this.set = new HashSet<>(set);
-    this.locale = LocaleUtil.getFallbackLocale();
+    this.chars = chars;
+    this.locale = locale;
   }
 
 
@@ -146,14 +172,15 @@ public String getName() {
    * @return the char set
    */
   public CharSet addDigits() {
-    return addAll(getDigits());
+    chars.addAll(DIGITS);
+    return this;
   }
 
   /**
    * Remove digits.
    */
   public void removeDigits() {
-    removeAll(getDigits());
+    chars.removeAll(DIGITS);
   }
 
   /**
@@ -162,7 +189,8 @@ public void removeDigits() {
    * @return the char set
    */
   public CharSet addHexDigits() {
-    return addAll(getHexDigits());
+    chars.addAll(HEX_DIGITS);
+    return this;
   }
 
   /**
@@ -171,7 +199,8 @@ public CharSet addHexDigits() {
    * @return the char set
    */
   public CharSet removeHexDigits() {
-    return removeAll(getHexDigits());
+    chars.removeAll(HEX_DIGITS);
+    return this;
   }
 
   /**
@@ -180,7 +209,8 @@ public CharSet removeHexDigits() {
    * @return the char set
    */
   public CharSet addNonDigits() {
-    return addAll(getNonDigits());
+    chars.addAll(NON_DIGITS);
+    return this;
   }
 
   /**
@@ -189,7 +219,8 @@ public CharSet addNonDigits() {
    * @return the char set
    */
   public CharSet removeNonDigits() {
-    return removeAll(getNonDigits());
+    chars.removeAll(NON_DIGITS);
+    return this;
   }
 
   /**
@@ -198,7 +229,7 @@ public CharSet removeNonDigits() {
    * @return the digits
    */
   public static Set<Character> getDigits() {
-    return new CharSet('0', '9').getSet();
+    return DIGITS.toSet();
   }
 
   /**
@@ -207,7 +238,7 @@ public static Set<Character> getDigits() {
    * @return the hex digits
    */
   public static Set<Character> getHexDigits() {
-    return new CharSet('0', '9').addRange('a', 'f').addRange('A', 'F').getSet();
+    return HEX_DIGITS.toSet();
   }
 
   /**
@@ -216,7 +247,7 @@ public static Set<Character> getHexDigits() {
    * @return the non digits
    */
   public static Set<Character> getNonDigits() {
-    return new CharSet().addAnyCharacters().removeAll(getDigits()).getSet();
+    return NON_DIGITS.toSet();
   }
 
   // word related interface ------------------------------------------------------------------------------------------
@@ -237,7 +268,8 @@ public CharSet addWordChars() {
    * @return this char set
    */
   public CharSet addWordChars(Locale locale) {
-    return addAll(getWordChars(locale));
+    chars.addAll(wordChars(locale));
+    return this;
   }
 
   /**
@@ -256,7 +288,8 @@ public CharSet removeWordChars() {
    * @return this char set
    */
   public CharSet removeWordChars(Locale locale) {
-    return removeAll(getWordChars(locale));
+    chars.removeAll(wordChars(locale));
+    return this;
   }
 
   /**
@@ -266,10 +299,23 @@ public CharSet removeWordChars(Locale locale) {
    * @return a set with all letters of the specified locale
    */
   public static Set<Character> getWordChars(Locale locale) {
-    Set<Character> wordChars = LocaleUtil.letters(locale);
-    wordChars.add('_');
-    wordChars.addAll(getDigits());
-    return wordChars;
+    return wordChars(locale).toSet();
+  }
+
+  /**
+   * Provides the letters of the specified locale, the digits and the underscore as immutable set.
+   * The sets are cached.
+   *
+   * @param locale the locale for which to get the characters
+   * @return an immutable set with all letters of the specified locale
+   */
+  public static CompactCharSet wordChars(Locale locale) {
+    CompactCharSet result = WORD_CHARS.get(locale);
+    if (result == null) {
+      result = CompactCharSet.of(LocaleUtil.letters(locale)).add('_').addAll(DIGITS).toImmutable();
+      WORD_CHARS.putIfAbsent(locale, result);
+    }
+    return result;
   }
 
   /**
@@ -278,7 +324,8 @@ public static Set<Character> getWordChars(Locale locale) {
    * @return this char set
    */
   public CharSet addNonWordChars() {
-    return addAll(getNonWordChars());
+    chars.addAll(NON_WORD_CHARS);
+    return this;
   }
 
   /**
@@ -287,7 +334,8 @@ public CharSet addNonWordChars() {
    * @return this char set
    */
   public CharSet removeNonWordChars() {
-    return removeAll(getNonWordChars());
+    chars.removeAll(NON_WORD_CHARS);
+    return this;
   }
 
   /**
@@ -296,7 +344,7 @@ public CharSet removeNonWordChars() {
    * @return a set with all characters that are not letters of any locale
    */
   public static Set<Character> getNonWordChars() {
-    return new CharSet(' ', '@').addRange('[', '`').addRange('{', '~').getSet();
+    return NON_WORD_CHARS.toSet();
   }
 
   // whitespace related interface ------------------------------------------------------------------------------------
@@ -307,7 +355,8 @@ public static Set<Character> getNonWordChars() {
    * @return this char set
    */
   public CharSet addWhitespaces() {
-    return addAll(getWhitespaces());
+    chars.addAll(WHITESPACES);
+    return this;
   }
 
   /**
@@ -316,7 +365,8 @@ public CharSet addWhitespaces() {
    * @return this char set
    */
   public CharSet removeWhitespaces() {
-    return removeAll(getWhitespaces());
+    chars.removeAll(WHITESPACES);
+    return this;
   }
 
   /**
@@ -325,7 +375,7 @@ public CharSet removeWhitespaces() {
    * @return a Set of all whitespace charaters
    */
   public static Set<Character> getWhitespaces() {
-    return new CharSet().add(' ').add('\t').add('\n').add((char) 0x0B).add('\f').add('\r').getSet();
+    return WHITESPACES.toSet();
   }
 
   /**
@@ -334,7 +384,8 @@ public static Set<Character> getWhitespaces() {
    * @return this char set
    */
   public CharSet addNonWhitespaces() {
-    return addAll(getNonWhitespaces());
+    chars.addAll(NON_WHITESPACES);
+    return this;
   }
 
   /**
@@ -343,7 +394,8 @@ public CharSet addNonWhitespaces() {
    * @return this char set
    */
   public CharSet removeNonWhitespaces() {
-    return removeAll(getNonWhitespaces());
+    chars.removeAll(NON_WHITESPACES);
+    return this;
   }
 
   /**
@@ -352,7 +404,7 @@ public CharSet removeNonWhitespaces() {
    * @return a set of all characters that are not white spaces
    */
   public static Set<Character> getNonWhitespaces() {
-    return new CharSet().addAnyCharacters().removeAll(getWhitespaces()).getSet();
+    return NON_WHITESPACES.toSet();
   }
 
   // low level interface ---------------------------------------------------------------------------------------------
@@ -363,7 +415,8 @@ public static Set<Character> getNonWhitespaces() {
    * @return this char set
    */
   public CharSet addAnyCharacters() {
-    return addAll(getAnyCharacters());
+    chars.addAll(ANY_CHARACTERS);
+    return this;
   }
 
   /**
@@ -372,18 +425,14 @@ public CharSet addAnyCharacters() {
    * @return a set of any characters
    */
   public static Set<Character> getAnyCharacters() {
-    Set<Character> set = new HashSet<>();
-    for (int c = 0x20; c < 0x7F; c++) {
-      set.add((char) c);
-    }
-    return set;
+    return ANY_CHARACTERS.toSet();
   }
 
   /**
    * Clears the set.
    */
   public void removeAll() {
-    set.clear();
+    chars.clear();
   }
 
   /**
@@ -394,9 +443,7 @@ public void removeAll() {
    * @return this char set
    */
   public CharSet addRange(char from, char to) {
-    for (char c = from; c <= to; c++) {
-      set.add(c);
-    }
+    chars.addRange(from, to);
     return this;
   }
 
@@ -407,7 +454,7 @@ public CharSet addRange(char from, char to) {
    * @return this char set
    */
   public CharSet add(char c) {
-    set.add(c);
+    chars.add(c);
     return this;
   }
 
@@ -418,7 +465,20 @@ public CharSet add(char c) {
    * @return this char set
    */
   public CharSet addAll(Set<Character> chars) {
-    set.addAll(chars);
+    for (Character c : chars) {
+      this.chars.add(c);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the characters of another char set.
+   *
+   * @param other the characters to include
+   * @return this char set
+   */
+  public CharSet addAll(CharSet other) {
+    chars.addAll(other.chars);
     return this;
   }
 
@@ -429,7 +489,31 @@ public CharSet addAll(Set<Character> chars) {
    * @return this char set
    */
   public CharSet removeAll(Set<Character> chars) {
-    set.removeAll(chars);
+    for (Character c : chars) {
+      this.chars.remove(c);
+    }
+    return this;
+  }
+
+  /**
+   * Removes the characters of another char set.
+   *
+   * @param other the characters to remove
+   * @return this char set
+   */
+  public CharSet removeAll(CharSet other) {
+    chars.removeAll(other.chars);
+    return this;
+  }
+
+  /**
+   * Removes all characters which are not contained in another char set.
+   *
+   * @param other the characters to retain
+   * @return this char set
+   */
+  public CharSet retainAll(CharSet other) {
+    chars.retainAll(other.chars);
     return this;
   }
 
@@ -441,9 +525,7 @@ public CharSet removeAll(Set<Character> chars) {
    * @return this char set
    */
   public CharSet removeRange(char min, char max) {
-    for (char c = min; c <= max; c++) {
-      remove(c);
-    }
+    chars.removeRange(min, max);
     return this;
   }
 
@@ -453,7 +535,48 @@ public CharSet removeRange(char min, char max) {
    * @param c the character to remove
    */
   public void remove(char c) {
-    set.remove(c);
+    chars.remove(c);
+  }
+
+  // set operations --------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates a new char set with the characters of this and the other set.
+   *
+   * @param other the other set
+   * @return a new char set
+   */
+  public CharSet union(CharSet other) {
+    return new CharSet(null, chars.union(other.chars), locale);
+  }
+
+  /**
+   * Creates a new char set with the characters which are contained in this and the other set.
+   *
+   * @param other the other set
+   * @return a new char set
+   */
+  public CharSet intersection(CharSet other) {
+    return new CharSet(null, chars.intersection(other.chars), locale);
+  }
+
+  /**
+   * Creates a new char set with all characters of the Basic Multilingual Plane which are not contained in this set.
+   *
+   * @return a new char set
+   */
+  public CharSet complement() {
+    return new CharSet(null, chars.complement(), locale);
+  }
+
+  /**
+   * Provides the characters as immutable {@link CompactCharSet}, which is suitable for sharing
+   * and in the most compact representation.
+   *
+   * @return an immutable copy of the characters
+   */
+  public CompactCharSet toCompact() {
+    return chars.toImmutable();
   }
 
   /**
@@ -462,7 +585,7 @@ public void remove(char c) {
    * @return a copy of the wrapped Set as HashSet
    */
   public Set<Character> getSet() {
-    return new HashSet<>(set);
+    return chars.toSet();
   }
 
   /**
@@ -471,7 +594,35 @@ public Set<Character> getSet() {
    * @return the iterator
    */
   public Iterator<Character> iterator() {
-    return set.iterator();
+    return new Iterator<>() {
+
+      private int next = chars.nextChar(0);
+      private int last = -1;
+
+      @Override
+      public boolean hasNext() {
+        return (next >= 0);
+      }
+
+      @Override
+      public Character next() {
+        if (next < 0) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        next = chars.nextChar(next + 1);
+        return (char) last;
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        chars.remove((char) last);
+        last = -1;
+      }
+    };
   }
 
   /**
@@ -481,7 +632,7 @@ public Iterator<Character> iterator() {
    * @return the boolean
    */
   public boolean contains(char c) {
-    return set.contains(c);
+    return chars.contains(c);
   }
 
   /**
@@ -490,7 +641,7 @@ public boolean contains(char c) {
    * @return the int
    */
   public int size() {
-    return set.size();
+    return chars.size();
   }
 
   /**
@@ -500,7 +651,12 @@ public int size() {
    * @return the boolean
    */
   public boolean containsAll(Set<Character> set) {
-    return (this.set.containsAll(set));
+    for (Character c : set) {
+      if (!chars.contains(c)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   // java.lang.Object overrides --------------------------------------------------------------------------------------
@@ -516,7 +672,7 @@ public String toString() {
     if (name != null) {
       return name;
     } else {
-      return set.toString();
+      return chars.toString();
     }
   }
 
@@ -534,7 +690,7 @@ public boolean equals(Object o) {
       return false;
     }
     final CharSet charSet = (CharSet) o;
-    return set.equals(charSet.set);
+    return chars.equals(charSet.chars);
   }
 
   /**
@@ -545,13 +701,15 @@ public boolean equals(Object o) {
    */
   @Override
   public int hashCode() {
-    return set.hashCode();
+    return chars.hashCode();
   }
 
   @Override
   public CharSet clone() {
     try {
-      return (CharSet) super.clone();
+      CharSet copy = (CharSet) super.clone();
+      copy.chars = chars.copy();
+      return copy;
     } catch (CloneNotSupportedException e) {
       throw ExceptionFactory.getInstance().cloningFailed("Unexpected exception", e);
     }
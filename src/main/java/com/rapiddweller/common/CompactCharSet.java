@@ -0,0 +1,432 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of chars which does not box its elements. A mutable CompactCharSet stores its chars in a bitmap
+ * which grows up to the highest contained char, so a set of ASCII characters needs two longs.
+ * {@link #toImmutable()} creates an immutable copy which keeps the bitmap representation for dense sets
+ * and uses a sorted table of char ranges for sparse sets which spread over a wide range of the BMP.
+ * Membership tests by {@link #contains(char)} do not allocate any objects in both representations,
+ * union, intersection and complement are calculated word-wise on the bitmap.
+ * Immutable instances are thread-safe.
+ * Created: 17.10.2026 21:48:30
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class CompactCharSet {
+
+  private static final long[] NO_WORDS = new long[0];
+
+  /** Number of words of the bitmap for the whole BMP */
+  private static final int MAX_WORDS = 1024;
+
+  /** Bitmaps of up to this number of words are always kept as bitmap in an immutable set */
+  private static final int MAX_DENSE_WORDS = 16;
+
+  /** The bitmap representation: Bit (c &amp; 63) of word (c &gt;&gt;&gt; 6) is set if char c is contained,
+   *  words after the highest contained char are omitted. null if the range representation is used. */
+  private long[] words;
+
+  /** The range representation: sorted, non-overlapping and non-adjacent ranges of contained chars,
+   *  null if the bitmap representation is used. */
+  private final char[] rangeStarts;
+  private final char[] rangeEnds;
+
+  private final boolean immutable;
+
+  /** Creates an empty mutable set. */
+  public CompactCharSet() {
+    this(NO_WORDS, false);
+  }
+
+  private CompactCharSet(long[] words, boolean immutable) {
+    this.words = words;
+    this.rangeStarts = null;
+    this.rangeEnds = null;
+    this.immutable = immutable;
+  }
+
+  private CompactCharSet(char[] rangeStarts, char[] rangeEnds) {
+    this.words = null;
+    this.rangeStarts = rangeStarts;
+    this.rangeEnds = rangeEnds;
+    this.immutable = true;
+  }
+
+  // factory methods -------------------------------------------------------------------------------------------------
+
+  /** @return a mutable set with the chars from 'from' to 'to', both inclusive */
+  public static CompactCharSet ofRange(char from, char to) {
+    return new CompactCharSet().addRange(from, to);
+  }
+
+  /** @return a mutable set with the chars of the text */
+  public static CompactCharSet of(CharSequence chars) {
+    CompactCharSet result = new CompactCharSet();
+    for (int i = 0; i < chars.length(); i++) {
+      result.add(chars.charAt(i));
+    }
+    return result;
+  }
+
+  /** @return a mutable set with the chars of the Set */
+  public static CompactCharSet of(Set<Character> chars) {
+    CompactCharSet result = new CompactCharSet();
+    for (Character c : chars) {
+      result.add(c);
+    }
+    return result;
+  }
+
+  /** @return a mutable copy of this set */
+  public CompactCharSet copy() {
+    return new CompactCharSet(bitmap().clone(), false);
+  }
+
+  /** @return this set if it is immutable, otherwise an immutable copy in the more suitable representation */
+  public CompactCharSet toImmutable() {
+    if (immutable) {
+      return this;
+    }
+    long[] trimmed = trim(words);
+    if (trimmed.length > MAX_DENSE_WORDS) {
+      int rangeCount = countRanges(trimmed);
+      if (rangeCount * 2 < trimmed.length) {
+        return createRangeTable(trimmed, rangeCount);
+      }
+    }
+    return new CompactCharSet(trimmed, true);
+  }
+
+  public boolean isImmutable() {
+    return immutable;
+  }
+
+  // queries ---------------------------------------------------------------------------------------------------------
+
+  public boolean contains(char c) {
+    if (words != null) {
+      int index = c >>> 6;
+      return (index < words.length && (words[index] & (1L << c)) != 0);
+    }
+    int low = 0;
+    int high = rangeStarts.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (c < rangeStarts[mid]) {
+        high = mid - 1;
+      } else if (c > rangeEnds[mid]) {
+        low = mid + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean containsAll(CompactCharSet other) {
+    long[] own = bitmap();
+    long[] others = other.bitmap();
+    for (int i = 0; i < others.length; i++) {
+      if ((others[i] & ~(i < own.length ? own[i] : 0)) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int size() {
+    if (words != null) {
+      int result = 0;
+      for (long word : words) {
+        result += Long.bitCount(word);
+      }
+      return result;
+    }
+    int result = 0;
+    for (int i = 0; i < rangeStarts.length; i++) {
+      result += rangeEnds[i] - rangeStarts[i] + 1;
+    }
+    return result;
+  }
+
+  public boolean isEmpty() {
+    return (nextChar(0) < 0);
+  }
+
+  /** @param from the char at which to start the search
+   *  @return the lowest contained char which is greater than or equal to from, or -1 if there is none */
+  public int nextChar(int from) {
+    if (from > Character.MAX_VALUE) {
+      return -1;
+    }
+    if (words != null) {
+      int index = from >>> 6;
+      if (index >= words.length) {
+        return -1;
+      }
+      long word = words[index] & (-1L << from);
+      while (word == 0) {
+        if (++index == words.length) {
+          return -1;
+        }
+        word = words[index];
+      }
+      return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+    for (int i = 0; i < rangeStarts.length; i++) {
+      if (from <= rangeEnds[i]) {
+        return Math.max(from, rangeStarts[i]);
+      }
+    }
+    return -1;
+  }
+
+  /** Calls the consumer for each contained char in ascending order. */
+  public void forEach(IntConsumer consumer) {
+    for (int c = nextChar(0); c >= 0; c = nextChar(c + 1)) {
+      consumer.accept(c);
+    }
+  }
+
+  /** @return a new HashSet with the contained chars */
+  public Set<Character> toSet() {
+    Set<Character> result = new HashSet<>(size() * 2);
+    forEach(c -> result.add((char) c));
+    return result;
+  }
+
+  // set operations --------------------------------------------------------------------------------------------------
+
+  /** @return a new mutable set with the chars that are contained in this set or in the other one */
+  public CompactCharSet union(CompactCharSet other) {
+    return copy().addAll(other);
+  }
+
+  /** @return a new mutable set with the chars that are contained in this set and in the other one */
+  public CompactCharSet intersection(CompactCharSet other) {
+    return copy().retainAll(other);
+  }
+
+  /** @return a new mutable set with all chars of the BMP which are not contained in this set */
+  public CompactCharSet complement() {
+    long[] own = bitmap();
+    long[] result = new long[MAX_WORDS];
+    for (int i = 0; i < MAX_WORDS; i++) {
+      result[i] = ~(i < own.length ? own[i] : 0);
+    }
+    return new CompactCharSet(result, false);
+  }
+
+  // mutators --------------------------------------------------------------------------------------------------------
+
+  public CompactCharSet add(char c) {
+    checkMutable();
+    ensureWords((c >>> 6) + 1);
+    words[c >>> 6] |= 1L << c;
+    return this;
+  }
+
+  /** Adds the chars from 'from' to 'to', both inclusive. */
+  public CompactCharSet addRange(char from, char to) {
+    checkMutable();
+    if (from <= to) {
+      ensureWords((to >>> 6) + 1);
+      setBits(from, to, true);
+    }
+    return this;
+  }
+
+  public CompactCharSet addAll(CompactCharSet other) {
+    checkMutable();
+    long[] others = other.bitmap();
+    ensureWords(others.length);
+    for (int i = 0; i < others.length; i++) {
+      words[i] |= others[i];
+    }
+    return this;
+  }
+
+  public CompactCharSet remove(char c) {
+    checkMutable();
+    int index = c >>> 6;
+    if (index < words.length) {
+      words[index] &= ~(1L << c);
+    }
+    return this;
+  }
+
+  /** Removes the chars from 'from' to 'to', both inclusive. */
+  public CompactCharSet removeRange(char from, char to) {
+    checkMutable();
+    if (from <= to && from < words.length << 6) {
+      setBits(from, (char) Math.min(to, (words.length << 6) - 1), false);
+    }
+    return this;
+  }
+
+  public CompactCharSet removeAll(CompactCharSet other) {
+    checkMutable();
+    long[] others = other.bitmap();
+    for (int i = 0; i < Math.min(words.length, others.length); i++) {
+      words[i] &= ~others[i];
+    }
+    return this;
+  }
+
+  public CompactCharSet retainAll(CompactCharSet other) {
+    checkMutable();
+    long[] others = other.bitmap();
+    for (int i = 0; i < words.length; i++) {
+      words[i] &= (i < others.length ? others[i] : 0);
+    }
+    return this;
+  }
+
+  public CompactCharSet clear() {
+    checkMutable();
+    words = NO_WORDS;
+    return this;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(trim(bitmap()), trim(((CompactCharSet) o).bitmap()));
+  }
+
+  /** @return the sum of the contained chars, which equals the hash code of a Set of the corresponding Characters */
+  @Override
+  public int hashCode() {
+    int[] result = new int[1];
+    forEach(c -> result[0] += c);
+    return result[0];
+  }
+
+  /** @return the contained chars in the format of {@link java.util.AbstractCollection#toString()} */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    forEach(c -> {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append((char) c);
+    });
+    return builder.append(']').toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkMutable() {
+    if (immutable) {
+      throw ExceptionFactory.getInstance().illegalOperation("Cannot modify an immutable " + getClass().getSimpleName());
+    }
+  }
+
+  private void ensureWords(int count) {
+    if (words.length < count) {
+      words = Arrays.copyOf(words, Math.min(Math.max(count, words.length * 2), MAX_WORDS));
+    }
+  }
+
+  private void setBits(char from, char to, boolean value) {
+    int fromIndex = from >>> 6;
+    int toIndex = to >>> 6;
+    for (int i = fromIndex; i <= toIndex; i++) {
+      long mask = -1L;
+      if (i == fromIndex) {
+        mask &= -1L << from;
+      }
+      if (i == toIndex) {
+        mask &= -1L >>> (63 - (to & 63));
+      }
+      if (value) {
+        words[i] |= mask;
+      } else {
+        words[i] &= ~mask;
+      }
+    }
+  }
+
+  /** @return the bitmap of the set, which is created for the range representation */
+  private long[] bitmap() {
+    if (words != null) {
+      return words;
+    }
+    long[] result = new long[rangeEnds.length > 0 ? (rangeEnds[rangeEnds.length - 1] >>> 6) + 1 : 0];
+    CompactCharSet helper = new CompactCharSet(result, false);
+    for (int i = 0; i < rangeStarts.length; i++) {
+      helper.setBits(rangeStarts[i], rangeEnds[i], true);
+    }
+    return result;
+  }
+
+  private static long[] trim(long[] words) {
+    int length = words.length;
+    while (length > 0 && words[length - 1] == 0) {
+      length--;
+    }
+    return (length < words.length ? Arrays.copyOf(words, length) : words.clone());
+  }
+
+  private static int countRanges(long[] words) {
+    int count = 0;
+    long previousHighBit = 0;
+    for (long word : words) {
+      // a range starts at each set bit whose lower neighbour is not set
+      long starts = word & ~((word << 1) | previousHighBit);
+      count += Long.bitCount(starts);
+      previousHighBit = word >>> 63;
+    }
+    return count;
+  }
+
+  private static CompactCharSet createRangeTable(long[] words, int rangeCount) {
+    char[] starts = new char[rangeCount];
+    char[] ends = new char[rangeCount];
+    CompactCharSet bitmapSet = new CompactCharSet(words, true);
+    int rangeIndex = 0;
+    int c = bitmapSet.nextChar(0);
+    while (c >= 0) {
+      int end = c;
+      while (end < Character.MAX_VALUE && bitmapSet.contains((char) (end + 1))) {
+        end++;
+      }
+      starts[rangeIndex] = (char) c;
+      ends[rangeIndex] = (char) end;
+      rangeIndex++;
+      c = bitmapSet.nextChar(end + 1);
+    }
+    return new CompactCharSet(starts, ends);
+  }
+
+}
@@ -18,7 +18,6 @@
 import com.rapiddweller.common.converter.FormatHolder;
 import com.rapiddweller.common.converter.ToStringConverter;
 
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
@@ -117,9 +116,9 @@ void renderComponent(StringBuilder builder, String indent, Map.Entry<String, ?>
     } else if (value instanceof Date) {
       Date date = (Date) value;
       if (TimeUtil.isMidnight(date)) {
-        value = new SimpleDateFormat(datePattern).format((Date) value);
+        value = dateFormat(datePattern).format((Date) value);
       } else {
-        value = new SimpleDateFormat(dateTimePattern).format((Date) value);
+        value = dateFormat(dateTimePattern).format((Date) value);
       }
     } else if (value instanceof Composite) {
       value = render("[", (Composite) value, "]");
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+/**
+ * Iterates the fields of a separated text, e.g. a line of a CSV file, without creating Strings or arrays.
+ * After each call to {@link #next()}, the current field is available as offsets of the text,
+ * e.g. for {@link ParseUtil#parseInt(CharSequence, int, int)}, or as a reusable {@link CharSequence} view.
+ * Optionally fields may be enclosed in quotes, in which a doubled quote represents a single one,
+ * and characters may be escaped by an escape character. Whitespace around fields can be trimmed.
+ * Like {@link StringUtil#tokenize(String, char)}, an empty text has one empty field
+ * and a trailing separator is followed by an empty field.
+ * A tokenizer is not thread-safe, but can be reused for any number of texts by calling {@link #reset(CharSequence)}.
+ * Example:<pre>
+ * FieldTokenizer tokenizer = new FieldTokenizer(',', '"', FieldTokenizer.NONE, true);
+ * tokenizer.reset(line);
+ * while (tokenizer.next()) {
+ *   int value = ParseUtil.parseInt(line, tokenizer.start(), tokenizer.length());
+ * }</pre>
+ * Created: 18.10.2026 14:06:52
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FieldTokenizer {
+
+  /** Used as quote or escape character to disable quoting or escaping */
+  public static final char NONE = 0;
+
+  private final char separator;
+  private final char quote;
+  private final char escape;
+  private final boolean trim;
+  private final FieldView view;
+
+  private CharSequence text;
+  private int length;
+  /** The start of the next field, or -1 if there is none */
+  private int position;
+  private int start;
+  private int end;
+  private boolean quoted;
+  private boolean escaped;
+
+  public FieldTokenizer(char separator) {
+    this(separator, NONE, NONE, false);
+  }
+
+  public FieldTokenizer(char separator, char quote, char escape, boolean trim) {
+    if (separator == quote || separator == escape || (quote != NONE && quote == escape)) {
+      throw ExceptionFactory.getInstance().illegalArgument(
+          "separator, quote and escape characters must differ, but were '" + separator + "', '" + quote
+          + "' and '" + escape + "'");
+    }
+    this.separator = separator;
+    this.quote = quote;
+    this.escape = escape;
+    this.trim = trim;
+    this.view = new FieldView();
+    reset(null);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  /** Starts the iteration of the fields of another text.
+   *  @param text the text to split, if it is null, there are no fields
+   *  @return this */
+  public FieldTokenizer reset(CharSequence text) {
+    this.text = text;
+    this.length = (text != null ? text.length() : 0);
+    this.position = (text != null ? 0 : -1);
+    this.start = 0;
+    this.end = 0;
+    this.quoted = false;
+    this.escaped = false;
+    return this;
+  }
+
+  /** Advances to the next field.
+   *  @return true if there is a next field, false if the end of the text has been reached */
+  public boolean next() {
+    if (position < 0) {
+      return false;
+    }
+    int i = position;
+    if (trim) {
+      i = skipWhitespace(i);
+    }
+    quoted = (quote != NONE && i < length && text.charAt(i) == quote);
+    escaped = false;
+    if (quoted) {
+      i = scanQuoted(i + 1);
+    } else {
+      i = scanUnquoted(i);
+    }
+    // i is now the index of the separator or the text length
+    position = (i < length ? i + 1 : -1);
+    return true;
+  }
+
+  /** @return the index of the first character of the current field */
+  public int start() {
+    return start;
+  }
+
+  /** @return the index after the last character of the current field */
+  public int end() {
+    return end;
+  }
+
+  /** @return the number of characters of the current field in the text */
+  public int length() {
+    return end - start;
+  }
+
+  /** @return true if the current field was enclosed in quotes, which are not part of the field range */
+  public boolean isQuoted() {
+    return quoted;
+  }
+
+  /** @return true if the current field contains escape characters or doubled quotes,
+   *      so its range in the text differs from its value */
+  public boolean isEscaped() {
+    return escaped;
+  }
+
+  /** Provides the current field's characters in the text without copying them.
+   *  The view is reused and changes with each call to {@link #next()}.
+   *  If the field {@link #isEscaped()}, the view contains the escape characters, use {@link #field()} then.
+   *  @return a view of the current field's range in the text */
+  public CharSequence fieldView() {
+    return view;
+  }
+
+  /** @return the value of the current field, with escape sequences and doubled quotes resolved */
+  public String field() {
+    if (!escaped) {
+      return text.subSequence(start, end).toString();
+    }
+    StringBuilder builder = new StringBuilder(end - start);
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if ((c == escape || (quoted && c == quote)) && i + 1 < end) {
+        c = text.charAt(++i);
+      }
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+  /** Splits a text into fields and stores them in an array.
+   *  @param text the text to split
+   *  @param target the array to fill with the fields' values
+   *  @return the total number of fields of the text. If it exceeds the array's length, the array holds the first fields */
+  public int split(CharSequence text, String[] target) {
+    reset(text);
+    int count = 0;
+    while (next()) {
+      if (count < target.length) {
+        target[count] = field();
+      }
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[separator='" + separator + "'" + (quote != NONE ? ", quote='" + quote + "'" : "")
+        + (escape != NONE ? ", escape='" + escape + "'" : "") + (trim ? ", trim" : "") + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private int scanUnquoted(int i) {
+    start = i;
+    while (i < length) {
+      char c = text.charAt(i);
+      if (c == separator) {
+        break;
+      } else if (c == escape && i + 1 < length) {
+        escaped = true;
+        i++;
+      }
+      i++;
+    }
+    end = i;
+    if (trim) {
+      while (end > start && text.charAt(end - 1) <= ' ' && !isEscapedAt(end - 1)) {
+        end--;
+      }
+    }
+    return i;
+  }
+
+  /** Scans a field from behind the opening quote to the closing quote, which may be missing at the end of the text.
+   *  Characters between the closing quote and the next separator are ignored. */
+  private int scanQuoted(int i) {
+    start = i;
+    end = length;
+    while (i < length) {
+      char c = text.charAt(i);
+      if (c == quote) {
+        if (i + 1 < length && text.charAt(i + 1) == quote) {
+          escaped = true;
+          i += 2;
+        } else {
+          end = i;
+          break;
+        }
+      } else if (c == escape && i + 1 < length) {
+        escaped = true;
+        i += 2;
+      } else {
+        i++;
+      }
+    }
+    while (i < length && text.charAt(i) != separator) {
+      i++;
+    }
+    return i;
+  }
+
+  private int skipWhitespace(int i) {
+    while (i < length && text.charAt(i) <= ' ' && text.charAt(i) != separator) {
+      i++;
+    }
+    return i;
+  }
+
+  /** @return true if the character at the index is preceded by an odd number of escape characters */
+  private boolean isEscapedAt(int index) {
+    int count = 0;
+    for (int i = index - 1; i >= start && text.charAt(i) == escape; i--) {
+      count++;
+    }
+    return (count % 2 == 1);
+  }
+
+  // FieldView class -------------------------------------------------------------------------------------------------
+
+  /** {@link CharSequence} view of the current field's range in the text. */
+  private final class FieldView implements CharSequence {
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= end - start) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + (end - start) + ")");
+      }
+      return text.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      return text.subSequence(start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+      return (text != null ? text.subSequence(start, end).toString() : "");
+    }
+  }
+
+}
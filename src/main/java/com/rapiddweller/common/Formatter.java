@@ -16,7 +16,10 @@
 package com.rapiddweller.common;
 
 import com.rapiddweller.common.converter.PercentageFormatter;
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.DigitWriter;
 
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -209,6 +212,52 @@ public static String format(double value, Locale locale) {
     }
   }
 
+  /**
+   * Writes a number in the {@link #DEFAULT_NUMBER_PATTERN} with the separators of a locale
+   * into an {@link Appendable}, without creating intermediate Strings.
+   *
+   * @param value  the value
+   * @param locale the locale
+   * @param out    the target to write to
+   * @param <A>    the type of the target
+   * @return the target
+   */
+  public static <A extends Appendable> A formatTo(double value, Locale locale, A out) {
+    DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+    try {
+      if (symbols.getMinusSign() == '-' && symbols.getZeroDigit() == '0') {
+        DigitWriter.appendDecimal(out, value, 2, symbols.getDecimalSeparator(), symbols.getGroupingSeparator());
+      } else {
+        out.append(format(value, locale));
+      }
+      return out;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting " + value, e);
+    }
+  }
+
+  /**
+   * Writes a date in the {@link #DEFAULT_DATE_PATTERN} into an {@link Appendable},
+   * without creating intermediate Strings.
+   *
+   * @param localDate the date
+   * @param out       the target to write to
+   * @param <A>       the type of the target
+   * @return the target
+   */
+  public static <A extends Appendable> A formatTo(LocalDate localDate, A out) {
+    try {
+      if (localDate.getYear() >= 0 && localDate.getYear() <= 9999) {
+        DigitWriter.appendIsoDate(out, localDate.toEpochDay());
+      } else {
+        out.append(format(localDate));
+      }
+      return out;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting " + localDate, e);
+    }
+  }
+
   /**
    * Format days from now string.
    *
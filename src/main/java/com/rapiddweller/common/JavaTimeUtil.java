@@ -3,6 +3,8 @@
 package com.rapiddweller.common;
 
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.FormatterCache;
+import com.rapiddweller.common.time.IsoDateTimeParser;
 
 import java.sql.Time;
 import java.time.DayOfWeek;
@@ -243,12 +245,12 @@ public static int daysBetween(LocalDate from, LocalDate until) {
   }
 
   public static String format(LocalDate date, String pattern) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+    DateTimeFormatter formatter = FormatterCache.getInstance().getDateTimeFormatter(pattern);
     return date.format(formatter);
   }
 
   public static String format(LocalDateTime dateTime, String pattern) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+    DateTimeFormatter formatter = FormatterCache.getInstance().getDateTimeFormatter(pattern);
     return dateTime.format(formatter);
   }
 
@@ -257,21 +259,33 @@ public static LocalDate parseDate(String dateSpec, String pattern) {
   }
 
   public static LocalDate parseDate(String dateSpec, String pattern, Locale locale) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+    if (Patterns.DEFAULT_DATE_PATTERN.equals(pattern)) {
+      LocalDate result = IsoDateTimeParser.parseLocalDate(dateSpec);
+      if (result != null) {
+        return result;
+      }
+    }
+    DateTimeFormatter formatter = FormatterCache.getInstance().getDateTimeFormatter(pattern, locale);
     return LocalDate.parse(dateSpec, formatter);
   }
 
   public static LocalDateTime parseDateTime(String dateSpec, String pattern) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+    if (dateSpec != null && IsoDateTimeParser.layoutLength(pattern) == dateSpec.length()) {
+      LocalDateTime result = IsoDateTimeParser.parseLocalDateTime(dateSpec);
+      if (result != null) {
+        return result;
+      }
+    }
+    DateTimeFormatter formatter = FormatterCache.getInstance().getDateTimeFormatter(pattern);
     return LocalDateTime.parse(dateSpec, formatter);
   }
 
   public static ZonedDateTime parseZonedDateTime(String spec, String pattern) {
-    return ZonedDateTime.parse(spec, DateTimeFormatter.ofPattern(pattern));
+    return ZonedDateTime.parse(spec, FormatterCache.getInstance().getDateTimeFormatter(pattern));
   }
 
   public static ZonedDateTime parseZonedDateTime(String spec, String pattern, ZoneId zone) {
-    return ZonedDateTime.parse(spec, DateTimeFormatter.ofPattern(pattern).withZone(zone));
+    return ZonedDateTime.parse(spec, FormatterCache.getInstance().getDateTimeFormatter(pattern).withZone(zone));
   }
 
   public static long millisBetween(ZonedDateTime zdt1, ZonedDateTime zdt2) {
@@ -325,12 +339,16 @@ public static LocalTime parseLocalTime(String spec) {
   }
 
   public static LocalTime parseLocalTime(String timeSpec, String pattern) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+    DateTimeFormatter formatter = FormatterCache.getInstance().getDateTimeFormatter(pattern);
     return LocalTime.parse(timeSpec, formatter);
   }
 
   public static LocalDate parseLocalDate(String spec) {
-    return (spec != null ? LocalDate.parse(spec) : null);
+    if (spec == null) {
+      return null;
+    }
+    LocalDate result = IsoDateTimeParser.parseLocalDate(spec);
+    return (result != null ? result : LocalDate.parse(spec));
   }
 
   public static String format(LocalTime time) {
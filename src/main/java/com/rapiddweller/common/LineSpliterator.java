@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator} for the lines of a text file, which splits the file at line boundaries
+ * by byte offset, so the lines can be processed by a parallel {@link Stream}.
+ * Each part is read by a {@link MappedLineIterator}. Splitting is only possible before traversal.
+ * The charset must encode the line feed as a single byte of value 10, like UTF-8 and the ISO-8859 charsets do.
+ * Created: 17.10.2026 19:20:45
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class LineSpliterator implements Spliterator<String> {
+
+  static final long DEFAULT_MIN_SPLIT_SIZE = 1024 * 1024;
+
+  private static final int SCAN_BUFFER_SIZE = 8192;
+
+  private final File file;
+  private final Charset charset;
+  private long start;
+  private final long end;
+  private final long minSplitSize;
+  private final Queue<Closeable> openIterators;
+  private MappedLineIterator iterator;
+
+  public LineSpliterator(File file, Charset charset) {
+    this(file, charset, 0, file.length(), DEFAULT_MIN_SPLIT_SIZE, new ConcurrentLinkedQueue<>());
+  }
+
+  LineSpliterator(File file, Charset charset, long start, long end, long minSplitSize, Queue<Closeable> openIterators) {
+    this.file = file;
+    this.charset = charset;
+    this.start = start;
+    this.end = end;
+    this.minSplitSize = minSplitSize;
+    this.openIterators = openIterators;
+  }
+
+  /** Creates a stream of the lines of a file.
+   *  The stream should be closed if it is not consumed completely.
+   *  @param file the file to read
+   *  @param charset the charset of the file
+   *  @param parallel tells if the stream shall be parallel
+   *  @return a stream of the file's lines */
+  public static Stream<String> lines(File file, Charset charset, boolean parallel) {
+    LineSpliterator spliterator = new LineSpliterator(file, charset);
+    return StreamSupport.stream(spliterator, parallel).onClose(spliterator::closeAll);
+  }
+
+  // Spliterator interface -------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean tryAdvance(Consumer<? super String> action) {
+    MappedLineIterator lines = getIterator();
+    if (lines.hasNext()) {
+      action.accept(lines.nextString());
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super String> action) {
+    MappedLineIterator lines = getIterator();
+    while (lines.hasNext()) {
+      action.accept(lines.nextString());
+    }
+  }
+
+  /** Splits off the lines of the first half of the remaining bytes, rounded up to the next line boundary. */
+  @Override
+  public Spliterator<String> trySplit() {
+    if (iterator != null || end - start < 2 * minSplitSize) {
+      return null;
+    }
+    long boundary = findLineStart(start + (end - start) / 2);
+    if (boundary >= end) {
+      return null;
+    }
+    LineSpliterator prefix = new LineSpliterator(file, charset, start, boundary, minSplitSize, openIterators);
+    this.start = boundary;
+    return prefix;
+  }
+
+  /** @return the number of remaining bytes, which is an upper bound of the number of lines */
+  @Override
+  public long estimateSize() {
+    return end - start;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL | IMMUTABLE;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + file + '[' + start + ".." + end + "])";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private MappedLineIterator getIterator() {
+    if (iterator == null) {
+      iterator = new MappedLineIterator(file, charset, false, start, end, MappedLineIterator.DEFAULT_WINDOW_SIZE);
+      openIterators.add(iterator);
+    }
+    return iterator;
+  }
+
+  /** @return the position after the first line feed at or after position - 1, or the end if there is none */
+  private long findLineStart(long position) {
+    try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+      byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+      long offset = position - 1;
+      while (offset < end) {
+        in.seek(offset);
+        int count = in.read(buffer, 0, (int) Math.min(buffer.length, end - offset));
+        if (count <= 0) {
+          break;
+        }
+        for (int i = 0; i < count; i++) {
+          if (buffer[i] == '\n') {
+            return offset + i + 1;
+          }
+        }
+        offset += count;
+      }
+      return end;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileAccessException("Failed to read " + file, e);
+    }
+  }
+
+  private void closeAll() {
+    Closeable closeable;
+    while ((closeable = openIterators.poll()) != null) {
+      IOUtil.close(closeable);
+    }
+  }
+
+}
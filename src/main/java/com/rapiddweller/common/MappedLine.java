@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * View of a text line in a byte buffer, as provided by the {@link MappedLineIterator}.
+ * The bytes are decoded on the first character access: Lines which consist of ASCII characters only
+ * are accessed directly in the buffer, other lines are decoded into a character buffer which is reused
+ * for subsequent lines. A MappedLine object is reused for all lines of an iteration, so it is only valid
+ * until the iterator is advanced. Call {@link #toString()} for retaining the content.
+ * Created: 17.10.2026 18:02:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class MappedLine implements CharSequence {
+
+  private final CharsetDecoder decoder;
+  private final boolean asciiCompatible;
+  private ByteBuffer buffer;
+  private int offset;
+  private int byteLength;
+  private long lineNumber;
+
+  private boolean decoded;
+  private boolean ascii;
+  private CharBuffer chars;
+
+  MappedLine(CharsetDecoder decoder) {
+    this.decoder = decoder.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.asciiCompatible = (decoder.charset().equals(StandardCharsets.UTF_8)
+        || decoder.charset().equals(StandardCharsets.ISO_8859_1)
+        || decoder.charset().equals(StandardCharsets.US_ASCII));
+    this.chars = CharBuffer.allocate(256);
+  }
+
+  void set(ByteBuffer buffer, int offset, int byteLength, long lineNumber) {
+    this.buffer = buffer;
+    this.offset = offset;
+    this.byteLength = byteLength;
+    this.lineNumber = lineNumber;
+    this.decoded = false;
+  }
+
+  /** @return the number of the line in the file, starting with 1 for the first line */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  // byte access -----------------------------------------------------------------------------------------------------
+
+  /** @return the number of bytes of the line, excluding the line separator */
+  public int byteLength() {
+    return byteLength;
+  }
+
+  /** @param index the index of a byte in the line
+   *  @return the byte of the specified index */
+  public byte byteAt(int index) {
+    if (index < 0 || index >= byteLength) {
+      throw new IndexOutOfBoundsException("index " + index + ", length " + byteLength);
+    }
+    return buffer.get(offset + index);
+  }
+
+  /** Copies the bytes of the line to an array.
+   *  @param target the array to copy the bytes to
+   *  @param targetOffset the index in the array at which to store the first byte */
+  public void copyBytes(byte[] target, int targetOffset) {
+    buffer.duplicate().position(offset).get(target, targetOffset, byteLength);
+  }
+
+  /** @return a read-only view of the bytes of the line */
+  public ByteBuffer bytes() {
+    return buffer.duplicate().position(offset).limit(offset + byteLength).slice().asReadOnlyBuffer();
+  }
+
+  // CharSequence interface ------------------------------------------------------------------------------------------
+
+  @Override
+  public int length() {
+    decode();
+    return (ascii ? byteLength : chars.limit());
+  }
+
+  @Override
+  public char charAt(int index) {
+    decode();
+    if (ascii) {
+      if (index < 0 || index >= byteLength) {
+        throw new IndexOutOfBoundsException("index " + index + ", length " + byteLength);
+      }
+      return (char) buffer.get(offset + index);
+    } else {
+      return chars.get(index);
+    }
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().substring(start, end);
+  }
+
+  /** Materializes the line as String. */
+  @Override
+  public String toString() {
+    decode();
+    if (ascii) {
+      byte[] bytes = new byte[byteLength];
+      copyBytes(bytes, 0);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    } else {
+      return chars.toString();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void decode() {
+    if (decoded) {
+      return;
+    }
+    ascii = asciiCompatible && isAscii();
+    if (!ascii) {
+      int maxLength = (int) Math.ceil(byteLength * (double) decoder.maxCharsPerByte());
+      if (chars.capacity() < maxLength) {
+        chars = CharBuffer.allocate(Math.max(maxLength, chars.capacity() * 2));
+      }
+      chars.clear();
+      ByteBuffer input = buffer.duplicate().position(offset).limit(offset + byteLength);
+      decoder.reset();
+      CoderResult result = decoder.decode(input, chars, true);
+      if (!result.isError()) {
+        result = decoder.flush(chars);
+      }
+      if (result.isError()) {
+        throw ExceptionFactory.getInstance().internalError("Failed to decode line " + lineNumber + ": " + result, null);
+      }
+      chars.flip();
+    }
+    decoded = true;
+  }
+
+  private boolean isAscii() {
+    int i = offset;
+    int end = offset + byteLength;
+    for (; i + 8 <= end; i += 8) {
+      if ((buffer.getLong(i) & 0x8080808080808080L) != 0) {
+        return false;
+      }
+    }
+    for (; i < end; i++) {
+      if (buffer.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
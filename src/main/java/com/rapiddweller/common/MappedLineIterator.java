@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the lines of a file by mapping it to memory, without copying the bytes of a line
+ * or creating a String for it. Lines are separated by LF or CRLF, the separators are not part of the lines.
+ * The file is mapped in windows of limited size, so files of arbitrary size can be processed.
+ * Each line is provided as {@link MappedLine} which is reused for all lines and is only valid until
+ * {@link #hasNext()} or {@link #next()} is called again. Use {@link #nextString()} for retrieving
+ * a line as String. The charset must encode the line feed as a single byte of value 10, like UTF-8
+ * and the ISO-8859 charsets do.
+ * Created: 17.10.2026 18:25:14
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedLineIterator implements HeavyweightIterator<MappedLine> {
+
+  static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+  private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+  private static final long LOW_BITS = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  private FileChannel channel;
+  private final long endPosition;
+  private final boolean skipEmptyLines;
+  private final MappedLine line;
+  private int windowSize;
+  private MappedByteBuffer window;
+  private long windowStart;
+  private int position;
+  private long lineCount;
+  private boolean fetched;
+  private boolean available;
+
+  public MappedLineIterator(File file) {
+    this(file, StandardCharsets.UTF_8, false);
+  }
+
+  public MappedLineIterator(File file, Charset charset, boolean skipEmptyLines) {
+    this(file, charset, skipEmptyLines, 0, Long.MAX_VALUE, DEFAULT_WINDOW_SIZE);
+  }
+
+  /** Iterates the lines in a byte range of the file.
+   *  @param start the position of the first line
+   *  @param end the position after the last line, it is limited to the file size */
+  MappedLineIterator(File file, Charset charset, boolean skipEmptyLines, long start, long end, int windowSize) {
+    if (!Arrays.equals("\n".getBytes(charset), new byte[] { '\n' })) {
+      throw ExceptionFactory.getInstance().illegalArgument("Charset not supported for mapped line iteration: " + charset);
+    }
+    try {
+      this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      this.endPosition = Math.min(end, channel.size());
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileAccessException("Failed to open file " + file, e);
+    }
+    this.skipEmptyLines = skipEmptyLines;
+    this.line = new MappedLine(charset.newDecoder());
+    this.windowSize = windowSize;
+    this.windowStart = start;
+    this.position = 0;
+    this.lineCount = 0;
+    this.fetched = false;
+  }
+
+  /** @return the number of lines that have been read so far */
+  public long lineCount() {
+    return lineCount;
+  }
+
+  /** Provides the next line as String.
+   *  @return the next line */
+  public String nextString() {
+    return next().toString();
+  }
+
+  @Override
+  public void close() {
+    if (channel != null) {
+      IOUtil.close(channel);
+      channel = null;
+      window = null;
+    }
+  }
+
+  // Iterator interface ----------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean hasNext() {
+    if (!fetched) {
+      available = (channel != null && fetchNext());
+      fetched = true;
+      if (!available) {
+        close();
+      }
+    }
+    return available;
+  }
+
+  @Override
+  public MappedLine next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    fetched = false;
+    return line;
+  }
+
+  @Override
+  public void remove() {
+    throw ExceptionFactory.getInstance().illegalOperation(getClass() + " does not support remove()");
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private boolean fetchNext() {
+    while (true) {
+      long lineStart = windowStart + position;
+      if (lineStart >= endPosition) {
+        return false;
+      }
+      if (window == null) {
+        map(lineStart);
+      }
+      int limit = window.limit();
+      int lineFeed = indexOfLineFeed(window, position, limit);
+      int lineEnd;
+      int nextPosition;
+      if (lineFeed >= 0) {
+        lineEnd = lineFeed;
+        nextPosition = lineFeed + 1;
+      } else if (windowStart + limit >= endPosition) {
+        lineEnd = limit;
+        nextPosition = limit;
+      } else {
+        // the line continues beyond the window: map a new window starting with the line,
+        // which needs to be larger if the line has not fit into the current one
+        if (position == 0) {
+          growWindow();
+        }
+        map(lineStart);
+        continue;
+      }
+      if (lineEnd > position && window.get(lineEnd - 1) == '\r') {
+        lineEnd--;
+      }
+      int lineOffset = position;
+      position = nextPosition;
+      lineCount++;
+      if (!skipEmptyLines || !isBlank(window, lineOffset, lineEnd)) {
+        line.set(window, lineOffset, lineEnd - lineOffset, lineCount);
+        return true;
+      }
+    }
+  }
+
+  private void map(long start) {
+    try {
+      long size = Math.min(windowSize, endPosition - start);
+      window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+      window.order(ByteOrder.LITTLE_ENDIAN);
+      windowStart = start;
+      position = 0;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().fileAccessException("Failed to map file region at " + start, e);
+    }
+  }
+
+  private void growWindow() {
+    if (windowSize == MAX_WINDOW_SIZE) {
+      throw ExceptionFactory.getInstance().illegalArgument("Line too long at position " + windowStart);
+    }
+    windowSize = (int) Math.min((long) windowSize * 2, MAX_WINDOW_SIZE);
+  }
+
+  /** Finds the next line feed in a little-endian buffer, testing 8 bytes at a time.
+   *  @return the index of the line feed or -1 if none was found */
+  static int indexOfLineFeed(ByteBuffer buffer, int from, int to) {
+    int i = from;
+    for (; i + 8 <= to; i += 8) {
+      long word = buffer.getLong(i) ^ LINE_FEEDS;
+      // the lowest byte of the word which contained a line feed is now zero and gets its high bit set
+      long match = (word - LOW_BITS) & ~word & HIGH_BITS;
+      if (match != 0) {
+        return i + (Long.numberOfTrailingZeros(match) >>> 3);
+      }
+    }
+    for (; i < to; i++) {
+      if (buffer.get(i) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if ((buffer.get(i) & 0xff) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
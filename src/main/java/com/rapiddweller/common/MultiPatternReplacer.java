@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces all occurrences of a set of Strings in a text in a single pass, using an Aho-Corasick automaton
+ * which is built once on construction, so the time for replacing does not grow with the number of patterns.
+ * Where patterns overlap, the one which starts first is replaced, and of patterns starting at the same position,
+ * the longest one. Replaced text is not searched again.
+ * For case-insensitive matching, characters are compared in the case folding of {@link StringUtil#foldCase(String)}.
+ * When keeping capitalization, the replacement is converted to lower case if the text has no upper case characters
+ * and to upper case if the text has no lower case characters.
+ * Instances are immutable and thread-safe.<br/><br/>
+ * Created: 18.10.2026 15:21:08
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MultiPatternReplacer {
+
+  private static final int ROOT = 0;
+  private static final int NO_NODE = -1;
+  private static final int ROOT_TABLE_SIZE = 128;
+
+  private final boolean ignoreCase;
+  private final boolean keepCaps;
+
+  // the trie as arrays indexed by node id, the edges of a node are sorted by char
+  private final int[] edgeOffsets;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  /** Direct transitions from the root for ASCII characters */
+  private final int[] rootTable;
+  private final int[] failure;
+  /** The next node in the failure chain which completes a pattern */
+  private final int[] output;
+  /** The index of the pattern completed by the node, or -1 */
+  private final int[] patternIndex;
+
+  private final int[] patternLengths;
+  private final String[] replacements;
+  private final String[] upperReplacements;
+  private final String[] lowerReplacements;
+  private final int maxPatternLength;
+
+  public MultiPatternReplacer(Map<String, String> replacements) {
+    this(replacements, false, false);
+  }
+
+  /** @param replacements maps each String to search to its replacement.
+   *      If case-insensitively equal Strings are mapped, the first mapping is applied
+   *  @param ignoreCase tells if the Strings are searched case-insensitively
+   *  @param keepCaps tells if the replacements are adapted to a text in all lower or all upper case */
+  public MultiPatternReplacer(Map<String, String> replacements, boolean ignoreCase, boolean keepCaps) {
+    this.ignoreCase = ignoreCase;
+    this.keepCaps = keepCaps;
+    int patternCount = replacements.size();
+    this.patternLengths = new int[patternCount];
+    this.replacements = new String[patternCount];
+    this.upperReplacements = new String[patternCount];
+    this.lowerReplacements = new String[patternCount];
+    // build the trie with temporary edge maps, keyed by node and char
+    Map<Long, Integer> edges = new HashMap<>();
+    List<Integer> patternOfNode = new ArrayList<>();
+    patternOfNode.add(NO_NODE);
+    int maxLength = 0;
+    int index = 0;
+    for (Map.Entry<String, String> entry : replacements.entrySet()) {
+      String pattern = entry.getKey();
+      if (pattern == null || pattern.isEmpty()) {
+        throw ExceptionFactory.getInstance().illegalArgument("Cannot replace an empty String");
+      }
+      int node = ROOT;
+      for (int i = 0; i < pattern.length(); i++) {
+        long key = edgeKey(node, fold(pattern.charAt(i)));
+        Integer child = edges.get(key);
+        if (child == null) {
+          child = patternOfNode.size();
+          patternOfNode.add(NO_NODE);
+          edges.put(key, child);
+        }
+        node = child;
+      }
+      if (patternOfNode.get(node) == NO_NODE) {
+        patternOfNode.set(node, index);
+      }
+      String replacement = String.valueOf(entry.getValue());
+      this.patternLengths[index] = pattern.length();
+      this.replacements[index] = replacement;
+      this.upperReplacements[index] = replacement.toUpperCase();
+      this.lowerReplacements[index] = replacement.toLowerCase();
+      maxLength = Math.max(maxLength, pattern.length());
+      index++;
+    }
+    this.maxPatternLength = maxLength;
+    int nodeCount = patternOfNode.size();
+    this.patternIndex = new int[nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      this.patternIndex[node] = patternOfNode.get(node);
+    }
+    // store the edges sorted by node and char
+    long[] keys = new long[edges.size()];
+    int k = 0;
+    for (Long key : edges.keySet()) {
+      keys[k++] = key;
+    }
+    Arrays.sort(keys);
+    this.edgeOffsets = new int[nodeCount + 1];
+    this.edgeChars = new char[keys.length];
+    this.edgeTargets = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      int node = (int) (keys[i] >>> 16);
+      edgeOffsets[node + 1]++;
+      edgeChars[i] = (char) keys[i];
+      edgeTargets[i] = edges.get(keys[i]);
+    }
+    for (int node = 0; node < nodeCount; node++) {
+      edgeOffsets[node + 1] += edgeOffsets[node];
+    }
+    this.rootTable = new int[ROOT_TABLE_SIZE];
+    for (char c = 0; c < ROOT_TABLE_SIZE; c++) {
+      rootTable[c] = child(ROOT, c);
+    }
+    // calculate failure and output links in breadth-first order
+    this.failure = new int[nodeCount];
+    this.output = new int[nodeCount];
+    output[ROOT] = NO_NODE;
+    int[] queue = new int[nodeCount];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail) {
+      int node = queue[head++];
+      for (int e = edgeOffsets[node]; e < edgeOffsets[node + 1]; e++) {
+        int child = edgeTargets[e];
+        failure[child] = (node == ROOT ? ROOT : transition(failure[node], edgeChars[e]));
+        int fail = failure[child];
+        output[child] = (patternIndex[fail] != NO_NODE ? fail : output[fail]);
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getPatternCount() {
+    return patternLengths.length;
+  }
+
+  public boolean isIgnoreCase() {
+    return ignoreCase;
+  }
+
+  public boolean isKeepCaps() {
+    return keepCaps;
+  }
+
+  /** @param text the text in which to replace the patterns
+   *  @return the text with all patterns replaced, or the text itself if it contains none of them */
+  public String replace(String text) {
+    if (text == null) {
+      return null;
+    }
+    StringBuilder builder = new StringBuilder(text.length() + 16);
+    int copied = replaceMatches(text, builder);
+    if (copied == 0) {
+      return text;
+    }
+    return builder.append(text, copied, text.length()).toString();
+  }
+
+  /** Appends a text to a {@link StringBuilder} with all patterns replaced.
+   *  If the text contains none of the patterns, it is appended unchanged.
+   *  @param text the text in which to replace the patterns
+   *  @param out the builder to write to
+   *  @return true if a pattern has been replaced */
+  public boolean replaceTo(CharSequence text, StringBuilder out) {
+    int copied = replaceMatches(text, out);
+    out.append(text, copied, text.length());
+    return (copied > 0);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + patternLengths.length + " patterns"
+        + (ignoreCase ? ", ignoreCase" : "") + (keepCaps ? ", keepCaps" : "") + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Appends the text up to the end of the last match with all matches replaced.
+   *  @return the position up to which the text has been appended, which is 0 if no pattern has been found,
+   *      since patterns are not empty */
+  private int replaceMatches(CharSequence text, StringBuilder out) {
+    String[] values = replacementsFor(text);
+    // longest[s % maxPatternLength] holds the index of the longest pattern found to start at position s
+    int[] longest = new int[Math.max(1, maxPatternLength)];
+    Arrays.fill(longest, NO_NODE);
+    int length = text.length();
+    int copied = 0;
+    int state = ROOT;
+    for (int i = 0; i < length; i++) {
+      state = transition(state, fold(text.charAt(i)));
+      // register the patterns which end at i
+      for (int node = (patternIndex[state] != NO_NODE ? state : output[state]); node != NO_NODE; node = output[node]) {
+        int pattern = patternIndex[node];
+        int slot = (i + 1 - patternLengths[pattern]) % longest.length;
+        if (longest[slot] == NO_NODE || patternLengths[pattern] > patternLengths[longest[slot]]) {
+          longest[slot] = pattern;
+        }
+      }
+      // no pattern which starts at position i + 1 - maxPatternLength can end after i
+      int start = i + 1 - longest.length;
+      if (start >= 0) {
+        copied = resolve(text, start, longest, copied, values, out);
+      }
+    }
+    for (int start = Math.max(0, length + 1 - longest.length); start < length; start++) {
+      copied = resolve(text, start, longest, copied, values, out);
+    }
+    return copied;
+  }
+
+  /** Replaces the longest pattern starting at the position unless it overlaps a prior replacement.
+   *  @return the position up to which the text has been processed */
+  private int resolve(CharSequence text, int start, int[] longest, int copied, String[] values, StringBuilder out) {
+    int slot = start % longest.length;
+    int pattern = longest[slot];
+    longest[slot] = NO_NODE;
+    if (pattern == NO_NODE || start < copied) {
+      return copied;
+    }
+    out.append(text, copied, start).append(values[pattern]);
+    return start + patternLengths[pattern];
+  }
+
+  /** Determines the replacements with the capitalization of the text */
+  private String[] replacementsFor(CharSequence text) {
+    if (!keepCaps) {
+      return replacements;
+    }
+    boolean hasUpper = false;
+    boolean hasLower = false;
+    for (int i = 0; i < text.length() && !(hasUpper && hasLower); i++) {
+      char c = text.charAt(i);
+      hasUpper |= (Character.toLowerCase(c) != c);
+      hasLower |= (Character.toUpperCase(c) != c);
+    }
+    if (!hasUpper) {
+      return lowerReplacements;
+    } else if (!hasLower) {
+      return upperReplacements;
+    } else {
+      return replacements;
+    }
+  }
+
+  private int transition(int state, char c) {
+    while (true) {
+      int next = (state == ROOT && c < ROOT_TABLE_SIZE ? rootTable[c] : child(state, c));
+      if (next != NO_NODE) {
+        return next;
+      } else if (state == ROOT) {
+        return ROOT;
+      }
+      state = failure[state];
+    }
+  }
+
+  private int child(int node, char c) {
+    int low = edgeOffsets[node];
+    int high = edgeOffsets[node + 1] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char midChar = edgeChars[mid];
+      if (midChar < c) {
+        low = mid + 1;
+      } else if (midChar > c) {
+        high = mid - 1;
+      } else {
+        return edgeTargets[mid];
+      }
+    }
+    return NO_NODE;
+  }
+
+  private char fold(char c) {
+    return (ignoreCase ? StringUtil.foldCase(c) : c);
+  }
+
+  private static long edgeKey(int node, char c) {
+    return ((long) node << 16) | c;
+  }
+
+}
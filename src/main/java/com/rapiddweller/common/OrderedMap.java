@@ -18,12 +18,21 @@
 import com.rapiddweller.common.collection.ListBasedSet;
 import com.rapiddweller.common.collection.MapEntry;
 import com.rapiddweller.common.collection.MapProxy;
+import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 
 /**
@@ -39,26 +48,54 @@
  */
 public class OrderedMap<K, V> implements Map<K, V>, Serializable {
 
-  private static final long serialVersionUID = -6081918861041975388L;
+  private static final long serialVersionUID = -6081918861041975389L;
 
-  private final Map<K, Integer> keyIndices;
-  protected List<V> values;
+  private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+  /** Open addressing degrades with higher fill ratios, so larger load factors are reduced to this value */
+  private static final float MAX_LOAD_FACTOR = 0.75f;
+  private static final int DEFAULT_CAPACITY = 8;
+
+  /** Marks the key of a removed entry */
+  private static final Object REMOVED = new Object();
+
+  /** Marks a slot of which the entry has been removed */
+  private static final int DELETED_SLOT = -1;
+
+  private final float loadFactor;
+
+  /** Hash table of entry index + 1, 0 for an empty slot or {@link #DELETED_SLOT} */
+  private transient int[] slots;
+  private transient int[] hashes;
+  private transient Object[] keys;
+  private transient Object[] vals;
+  /** Number of used entry positions, including removed ones */
+  private transient int entryCount;
+  private transient int removedCount;
+  /** Number of slots which are not empty, including deleted ones */
+  private transient int usedSlots;
+
+  /** Live list view of the values in insertion order, which supports get and set */
+  protected transient List<V> values;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
   public OrderedMap() {
-    keyIndices = new HashMap<>();
-    values = new ArrayList<>();
+    this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
   }
 
   public OrderedMap(int initialCapacity) {
-    keyIndices = new HashMap<>(initialCapacity);
-    values = new ArrayList<>(initialCapacity);
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
   }
 
   public OrderedMap(int initialCapacity, float loadFactor) {
-    keyIndices = new HashMap<>(initialCapacity, loadFactor);
-    values = new ArrayList<>(initialCapacity);
+    if (initialCapacity < 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("Illegal initial capacity: " + initialCapacity);
+    }
+    if (!(loadFactor > 0)) {
+      throw ExceptionFactory.getInstance().illegalArgument("Illegal load factor: " + loadFactor);
+    }
+    this.loadFactor = Math.min(loadFactor, MAX_LOAD_FACTOR);
+    init(initialCapacity);
   }
 
   public OrderedMap(Map<K, V> source) {
@@ -83,61 +120,64 @@ public Map.Entry<K, V> getEntry(K key) {
 
   @Override
   public int size() {
-    return values.size();
+    return entryCount - removedCount;
   }
 
   @Override
   public boolean isEmpty() {
-    return values.isEmpty();
+    return (size() == 0);
   }
 
   @Override
   public boolean containsKey(Object key) {
-    return keyIndices.containsKey(key);
+    return (indexOfKey(key) >= 0);
   }
 
   @Override
   public boolean containsValue(Object value) {
-    return values.contains(value);
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED && Objects.equals(vals[i], value)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public V get(Object key) {
-    Integer index = keyIndices.get(key);
-    if (index == null) {
-      return null;
-    }
-    return values.get(index);
+    int index = indexOfKey(key);
+    return (index >= 0 ? (V) vals[index] : null);
   }
 
   @Override
   public V put(K key, V value) {
-    Integer index = keyIndices.get(key);
-    if (index != null) {
-      return values.set(index, value);
-    } else {
-      keyIndices.put(key, values.size());
-      values.add(value);
-      return null;
-    }
+    return putEntry(key, value);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public V remove(Object key) {
-    Integer index = keyIndices.remove(key);
-    if (index != null) {
-      V oldValue = values.get(index);
-      values.remove((int) index);
-      for (Entry<K, Integer> entry : keyIndices.entrySet()) {
-        int entryIndex = entry.getValue();
-        if (entryIndex > index) {
-          entry.setValue(entryIndex - 1);
-        }
-      }
-      return oldValue;
-    } else {
+    int slot = findSlot(key, hash(key));
+    if (slot < 0) {
       return null;
     }
+    int index = slots[slot] - 1;
+    V oldValue = (V) vals[index];
+    slots[slot] = DELETED_SLOT;
+    vals[index] = null;
+    if (index == entryCount - 1) {
+      keys[index] = null;
+      entryCount--;
+    } else {
+      keys[index] = REMOVED;
+      removedCount++;
+      // compact here, so that read access never needs to change the arrays
+      if (removedCount > entryCount / 4) {
+        rehash(size());
+      }
+    }
+    return oldValue;
   }
 
   @Override
@@ -149,20 +189,22 @@ public void putAll(Map<? extends K, ? extends V> t) {
 
   @Override
   public void clear() {
-    keyIndices.clear();
-    values.clear();
+    Arrays.fill(slots, 0);
+    Arrays.fill(keys, 0, entryCount, null);
+    Arrays.fill(vals, 0, entryCount, null);
+    entryCount = 0;
+    removedCount = 0;
+    usedSlots = 0;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Set<K> keySet() {
-    List<K> tmp = new ArrayList<>(values.size());
-    // set the used array size by adding nulls
-    for (int i = 0; i < values.size(); i++) {
-      tmp.add(null);
-    }
-    // set the array elements themselves
-    for (Entry<K, Integer> entry : keyIndices.entrySet()) {
-      tmp.set(entry.getValue(), entry.getKey());
+    List<K> tmp = new ArrayList<>(size());
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED) {
+        tmp.add((K) keys[i]);
+      }
     }
     return new ListBasedSet<>(tmp);
   }
@@ -175,18 +217,22 @@ public List<V> values() {
   @Override
   @SuppressWarnings("unchecked")
   public Set<Map.Entry<K, V>> entrySet() {
-    Map.Entry<K, V>[] tmp = new Map.Entry[values.size()];
-    for (Map.Entry<K, Integer> entry : keyIndices.entrySet()) {
-      Integer index = entry.getValue();
-      tmp[index] = new ProxyEntry(entry.getKey(), index);
+    Map.Entry<K, V>[] tmp = new Map.Entry[size()];
+    int index = 0;
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED) {
+        tmp[index] = new ProxyEntry((K) keys[i], index);
+        index++;
+      }
     }
     return new ListBasedSet<>(tmp);
   }
 
   // List/Vector interface -------------------------------------------------------------------------------------------
 
+  @SuppressWarnings("unchecked")
   public V valueAt(int index) {
-    return values.get(index);
+    return (V) vals[entryIndex(index)];
   }
 
   public int indexOfValue(V value) {
@@ -214,6 +260,7 @@ public <T> T[] toArray(T[] a) {
 
   // specific interface ----------------------------------------------------------------------------------------------
 
+  /** @return a live view of the values, which supports get and set, but no structural modification */
   public List<V> internalValues() {
     return values;
   }
@@ -237,6 +284,243 @@ public boolean equalsIgnoreOrder(Map<K, V> that) {
     return true;
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void init(int capacity) {
+    this.keys = new Object[Math.max(capacity, 1)];
+    this.vals = new Object[keys.length];
+    this.hashes = new int[keys.length];
+    this.slots = new int[slotCount(keys.length)];
+    this.entryCount = 0;
+    this.removedCount = 0;
+    this.usedSlots = 0;
+    this.values = new ValueList();
+  }
+
+  private int slotCount(int capacity) {
+    int required = (int) Math.ceil((capacity + 1) / loadFactor);
+    return Math.max(Integer.highestOneBit(required - 1) << 1, 2);
+  }
+
+  private static int hash(Object key) {
+    int h = (key != null ? key.hashCode() : 0);
+    return h ^ (h >>> 16);
+  }
+
+  /** Puts an entry without calling overridable methods, so it can be used during deserialization. */
+  @SuppressWarnings("unchecked")
+  private V putEntry(K key, V value) {
+    int hash = hash(key);
+    int slot = findSlot(key, hash);
+    if (slot >= 0) {
+      int index = slots[slot] - 1;
+      V oldValue = (V) vals[index];
+      vals[index] = value;
+      return oldValue;
+    }
+    if (entryCount == keys.length || usedSlots + 1 > slots.length * loadFactor) {
+      rehash(size() + 1);
+    }
+    int index = entryCount++;
+    hashes[index] = hash;
+    keys[index] = key;
+    vals[index] = value;
+    insertSlot(hash, index);
+    return null;
+  }
+
+  /** @return the entry index of the key or -1 if the key is not contained */
+  private int indexOfKey(Object key) {
+    int hash = hash(key);
+    int[] slots = this.slots;
+    int mask = slots.length - 1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      int slot = slots[i];
+      if (slot == 0) {
+        return -1;
+      }
+      if (slot > 0 && keyMatches(slot - 1, key, hash)) {
+        return slot - 1;
+      }
+    }
+  }
+
+  /** @return the position of the key's slot or -1 if the key is not contained */
+  private int findSlot(Object key, int hash) {
+    int mask = slots.length - 1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      int slot = slots[i];
+      if (slot == 0) {
+        return -1;
+      }
+      if (slot > 0 && keyMatches(slot - 1, key, hash)) {
+        return i;
+      }
+    }
+  }
+
+  private boolean keyMatches(int index, Object key, int hash) {
+    Object candidate = keys[index];
+    return (candidate == key || (key != null && hashes[index] == hash && key.equals(candidate)));
+  }
+
+  private void insertSlot(int hash, int index) {
+    int mask = slots.length - 1;
+    int i = hash & mask;
+    while (slots[i] > 0) {
+      i = (i + 1) & mask;
+    }
+    if (slots[i] == 0) {
+      usedSlots++;
+    }
+    slots[i] = index + 1;
+  }
+
+  /** Compacts the entries, resizes the arrays if necessary and rebuilds the hash table. */
+  private void rehash(int requiredCapacity) {
+    int j = 0;
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED) {
+        keys[j] = keys[i];
+        vals[j] = vals[i];
+        hashes[j++] = hashes[i];
+      }
+    }
+    Arrays.fill(keys, j, entryCount, null);
+    Arrays.fill(vals, j, entryCount, null);
+    entryCount = j;
+    removedCount = 0;
+    if (requiredCapacity > keys.length) {
+      int capacity = Math.max(requiredCapacity, keys.length * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      vals = Arrays.copyOf(vals, capacity);
+      hashes = Arrays.copyOf(hashes, capacity);
+    }
+    int slotCount = slotCount(keys.length);
+    if (slotCount != slots.length) {
+      slots = new int[slotCount];
+    } else {
+      Arrays.fill(slots, 0);
+    }
+    usedSlots = 0;
+    for (int i = 0; i < entryCount; i++) {
+      insertSlot(hashes[i], i);
+    }
+  }
+
+  /** Maps a value index to the entry position, skipping the tombstones of removed entries.
+   *  @return the entry position */
+  private int entryIndex(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+    }
+    if (removedCount == 0) {
+      return index;
+    }
+    int i = 0;
+    for (int remaining = index; remaining > 0 || keys[i] == REMOVED; i++) {
+      if (keys[i] != REMOVED) {
+        remaining--;
+      }
+    }
+    return i;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(size());
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED) {
+        out.writeObject(keys[i]);
+        out.writeObject(vals[i]);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int size = in.readInt();
+    init(size);
+    for (int i = 0; i < size; i++) {
+      putEntry((K) in.readObject(), (V) in.readObject());
+    }
+  }
+
+  private class ValueList extends AbstractList<V> implements RandomAccess {
+
+    @Override
+    public V get(int index) {
+      return valueAt(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V set(int index, V value) {
+      int entryIndex = entryIndex(index);
+      V oldValue = (V) vals[entryIndex];
+      vals[entryIndex] = value;
+      return oldValue;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+      int index = 0;
+      for (int i = 0; i < entryCount; i++) {
+        if (keys[i] != REMOVED) {
+          if (Objects.equals(vals[i], value)) {
+            return index;
+          }
+          index++;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+      return new Iterator<>() {
+        private int position = 0;
+        private int remaining = size();
+
+        @Override
+        public boolean hasNext() {
+          return (remaining > 0);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+          if (remaining == 0) {
+            throw new NoSuchElementException();
+          }
+          while (keys[position] == REMOVED) {
+            position++;
+          }
+          remaining--;
+          return (V) vals[position++];
+        }
+      };
+    }
+
+    @Override
+    public Object[] toArray() {
+      Object[] result = new Object[size()];
+      int index = 0;
+      for (int i = 0; i < entryCount; i++) {
+        if (keys[i] != REMOVED) {
+          result[index++] = vals[i];
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public int size() {
+      return OrderedMap.this.size();
+    }
+  }
+
   private class ProxyEntry implements Map.Entry<K, V> {
 
     private final K key;
@@ -282,13 +566,39 @@ public boolean equals(Object o) {
     while (o instanceof MapProxy) {
       o = ((MapProxy) o).getRealMap();
     }
+    if (!(o instanceof OrderedMap)) {
+      return false;
+    }
     final OrderedMap that = (OrderedMap) o;
-    return (this.values.equals(that.values) && this.keyIndices.equals(that.keyIndices));
+    if (this.size() != that.size()) {
+      return false;
+    }
+    // compare the entries in order, skipping the tombstones of removed entries
+    int j = 0;
+    for (int i = 0; i < this.entryCount; i++) {
+      if (this.keys[i] != REMOVED) {
+        while (that.keys[j] == REMOVED) {
+          j++;
+        }
+        if (!Objects.equals(this.keys[i], that.keys[j]) || !Objects.equals(this.vals[i], that.vals[j])) {
+          return false;
+        }
+        j++;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return keyIndices.hashCode() * 29 + values.hashCode();
+    int keyHash = 0;
+    int index = 0;
+    for (int i = 0; i < entryCount; i++) {
+      if (keys[i] != REMOVED) {
+        keyHash += Objects.hashCode(keys[i]) ^ index++;
+      }
+    }
+    return keyHash * 29 + values.hashCode();
   }
 
   @Override
@@ -305,4 +615,4 @@ public String toString() {
     return buffer.toString();
   }
 
-}
\ No newline at end of file
+}
@@ -16,23 +16,42 @@
 package com.rapiddweller.common;
 
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.exception.ParseException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PushbackReader;
 import java.io.Reader;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Provides methods for parsing PushbackReaders and Strings.
+ * Provides methods for parsing PushbackReaders and Strings
+ * and for parsing numbers from ranges of CharSequences, char arrays and byte arrays.
  * Created: 20.03.2005 16:32:00
  * @author Volker Bergmann
  */
 public final class ParseUtil {
 
+  /** Maximum number of significant digits of a mantissa which is exactly representable as double */
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  /** Maximum power of ten which is exactly representable as double */
+  private static final int MAX_EXACT_POWER_OF_TEN = 22;
+
+  /** Number of digits which always fit into a long */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
   /** private constructor to prevent instantiation of this utility class */
   private ParseUtil() {
     // private constructor to prevent instantiation of this utility class
@@ -338,6 +357,249 @@ public static Boolean parseBoolean(String s, boolean acceptWhitespace) {
     }
   }
 
+  // number parsing from character ranges ----------------------------------------------------------------------------
+
+  /** Parses an int from a range of a {@link CharSequence} without creating a substring.
+   *  The range must consist of an optional sign followed by decimal digits, white space is not accepted.
+   *  @param text   the text to parse
+   *  @param offset the index of the first character to parse
+   *  @param length the number of characters to parse
+   *  @return the parsed value */
+  public static int parseInt(CharSequence text, int offset, int length) {
+    return toInt(parseLong(text, offset, length), text, offset, length);
+  }
+
+  /** Parses an int from a range of a char array. See {@link #parseInt(CharSequence, int, int)}. */
+  public static int parseInt(char[] chars, int offset, int length) {
+    return parseInt(CharBuffer.wrap(chars), offset, length);
+  }
+
+  /** Parses an int from a range of a byte array which contains ASCII characters.
+   *  See {@link #parseInt(CharSequence, int, int)}. */
+  public static int parseInt(byte[] bytes, int offset, int length) {
+    return parseInt(new AsciiSequence(bytes), offset, length);
+  }
+
+  /** Parses a long from a range of a {@link CharSequence} without creating a substring.
+   *  The range must consist of an optional sign followed by decimal digits, white space is not accepted.
+   *  @param text   the text to parse
+   *  @param offset the index of the first character to parse
+   *  @param length the number of characters to parse
+   *  @return the parsed value */
+  public static long parseLong(CharSequence text, int offset, int length) {
+    checkRange(text.length(), offset, length);
+    int end = offset + length;
+    int i = offset;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = (text.charAt(i) == '-');
+      i++;
+    }
+    if (i == end) {
+      throw numberExpected(text, offset, length);
+    }
+    // accumulate negatively, since the range of negative long values is larger than the positive one
+    long limit = (negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+    long minBeforeMultiplication = limit / 10;
+    long result = 0;
+    for (; i < end; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw numberExpected(text, offset, length);
+      }
+      if (result < minBeforeMultiplication) {
+        throw numberOutOfRange(text, offset, length);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        throw numberOutOfRange(text, offset, length);
+      }
+      result -= digit;
+    }
+    return (negative ? result : -result);
+  }
+
+  /** Parses a long from a range of a char array. See {@link #parseLong(CharSequence, int, int)}. */
+  public static long parseLong(char[] chars, int offset, int length) {
+    return parseLong(CharBuffer.wrap(chars), offset, length);
+  }
+
+  /** Parses a long from a range of a byte array which contains ASCII characters.
+   *  See {@link #parseLong(CharSequence, int, int)}. */
+  public static long parseLong(byte[] bytes, int offset, int length) {
+    return parseLong(new AsciiSequence(bytes), offset, length);
+  }
+
+  /** Parses a double from a range of a {@link CharSequence} with the syntax and the exact rounding
+   *  of {@link Double#parseDouble(String)}, but without leading or trailing white space.
+   *  Plain decimal numbers with up to 15 significant digits and a decimal exponent of at most 22
+   *  are calculated directly without creating a substring, since this can be done by a single
+   *  exact floating point operation. Other representations are delegated to {@link Double#parseDouble(String)}.
+   *  @param text   the text to parse
+   *  @param offset the index of the first character to parse
+   *  @param length the number of characters to parse
+   *  @return the parsed value */
+  public static double parseDouble(CharSequence text, int offset, int length) {
+    checkRange(text.length(), offset, length);
+    int end = offset + length;
+    int i = offset;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = (text.charAt(i) == '-');
+      i++;
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean digitFound = false;
+    char c = 0;
+    // integral part
+    for (; i < end && isDigit(c = text.charAt(i)); i++) {
+      digitFound = true;
+      if (significantDigits < MAX_EXACT_DIGITS) {
+        mantissa = mantissa * 10 + (c - '0');
+        if (mantissa > 0) {
+          significantDigits++;
+        }
+      } else {
+        return parseDoubleSlowly(text, offset, length);
+      }
+    }
+    // fraction part
+    if (i < end && c == '.') {
+      for (i++; i < end && isDigit(c = text.charAt(i)); i++) {
+        digitFound = true;
+        if (significantDigits < MAX_EXACT_DIGITS) {
+          mantissa = mantissa * 10 + (c - '0');
+          if (mantissa > 0) {
+            significantDigits++;
+          }
+          exponent--;
+        } else if (c != '0') {
+          return parseDoubleSlowly(text, offset, length);
+        }
+      }
+    }
+    if (!digitFound) {
+      return parseDoubleSlowly(text, offset, length);
+    }
+    // exponent part
+    if (i < end && (c == 'e' || c == 'E')) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+        negativeExponent = (text.charAt(i) == '-');
+        i++;
+      }
+      if (i == end) {
+        return parseDoubleSlowly(text, offset, length);
+      }
+      int explicitExponent = 0;
+      for (; i < end && isDigit(c = text.charAt(i)); i++) {
+        if (explicitExponent > 1000) {
+          return parseDoubleSlowly(text, offset, length);
+        }
+        explicitExponent = explicitExponent * 10 + (c - '0');
+      }
+      exponent += (negativeExponent ? -explicitExponent : explicitExponent);
+    }
+    if (i < end) {
+      // type suffixes, hexadecimal numbers, NaN, Infinity or an illegal format
+      return parseDoubleSlowly(text, offset, length);
+    }
+    if (mantissa == 0) {
+      return (negative ? -0. : 0.);
+    }
+    if (exponent < -MAX_EXACT_POWER_OF_TEN || exponent > MAX_EXACT_POWER_OF_TEN) {
+      return parseDoubleSlowly(text, offset, length);
+    }
+    // mantissa and power of ten are exactly representable as doubles,
+    // so a single multiplication or division yields the correctly rounded result
+    double result = (exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent]);
+    return (negative ? -result : result);
+  }
+
+  /** Parses a double from a range of a char array. See {@link #parseDouble(CharSequence, int, int)}. */
+  public static double parseDouble(char[] chars, int offset, int length) {
+    return parseDouble(CharBuffer.wrap(chars), offset, length);
+  }
+
+  /** Parses a double from a range of a byte array which contains ASCII characters.
+   *  See {@link #parseDouble(CharSequence, int, int)}. */
+  public static double parseDouble(byte[] bytes, int offset, int length) {
+    return parseDouble(new AsciiSequence(bytes), offset, length);
+  }
+
+  /** Parses a {@link BigDecimal} from a range of a {@link CharSequence} with the syntax and result
+   *  of {@link BigDecimal#BigDecimal(String)}. Numbers with up to 18 digits are created from their
+   *  unscaled value and scale without creating a substring.
+   *  @param text   the text to parse
+   *  @param offset the index of the first character to parse
+   *  @param length the number of characters to parse
+   *  @return the parsed value */
+  public static BigDecimal parseBigDecimal(CharSequence text, int offset, int length) {
+    checkRange(text.length(), offset, length);
+    int end = offset + length;
+    int i = offset;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = (text.charAt(i) == '-');
+      i++;
+    }
+    long unscaledValue = 0;
+    int significantDigits = 0;
+    long scale = 0;
+    boolean digitFound = false;
+    char c = 0;
+    for (boolean fraction = false; i < end; i++) {
+      c = text.charAt(i);
+      if (isDigit(c)) {
+        digitFound = true;
+        if (significantDigits == MAX_LONG_DIGITS) {
+          return parseBigDecimalSlowly(text, offset, length);
+        }
+        unscaledValue = unscaledValue * 10 + (c - '0');
+        if (unscaledValue > 0) {
+          significantDigits++;
+        }
+        if (fraction) {
+          scale++;
+        }
+      } else if (c == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+    }
+    if (!digitFound) {
+      return parseBigDecimalSlowly(text, offset, length);
+    }
+    if (i < end && (c == 'e' || c == 'E')) {
+      try {
+        scale -= parseInt(text, i + 1, end - i - 1);
+      } catch (ParseException e) {
+        return parseBigDecimalSlowly(text, offset, length);
+      }
+    } else if (i < end) {
+      return parseBigDecimalSlowly(text, offset, length);
+    }
+    if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+      return parseBigDecimalSlowly(text, offset, length);
+    }
+    return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, (int) scale);
+  }
+
+  /** Parses a {@link BigDecimal} from a range of a char array. See {@link #parseBigDecimal(CharSequence, int, int)}. */
+  public static BigDecimal parseBigDecimal(char[] chars, int offset, int length) {
+    return parseBigDecimal(CharBuffer.wrap(chars), offset, length);
+  }
+
+  /** Parses a {@link BigDecimal} from a range of a byte array which contains ASCII characters.
+   *  See {@link #parseBigDecimal(CharSequence, int, int)}. */
+  public static BigDecimal parseBigDecimal(byte[] bytes, int offset, int length) {
+    return parseBigDecimal(new AsciiSequence(bytes), offset, length);
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private static void addPart(String partString, List<Object> parts, Boolean numMode) {
@@ -369,4 +631,80 @@ private static void unread(PushbackReader reader, int c) {
     }
   }
 
+  private static boolean isDigit(char c) {
+    return (c >= '0' && c <= '9');
+  }
+
+  private static void checkRange(int textLength, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > textLength - length) {
+      throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", text length " + textLength);
+    }
+  }
+
+  private static int toInt(long value, CharSequence text, int offset, int length) {
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw numberOutOfRange(text, offset, length);
+    }
+    return (int) value;
+  }
+
+  private static double parseDoubleSlowly(CharSequence text, int offset, int length) {
+    String number = text.subSequence(offset, offset + length).toString();
+    if (!number.isEmpty() && (number.charAt(0) <= ' ' || number.charAt(number.length() - 1) <= ' ')) {
+      throw numberExpected(text, offset, length);
+    }
+    try {
+      return Double.parseDouble(number);
+    } catch (NumberFormatException e) {
+      throw ExceptionFactory.getInstance().parsingError("Not a number: '" + number + "'", e);
+    }
+  }
+
+  private static BigDecimal parseBigDecimalSlowly(CharSequence text, int offset, int length) {
+    String number = text.subSequence(offset, offset + length).toString();
+    try {
+      return new BigDecimal(number);
+    } catch (NumberFormatException e) {
+      throw ExceptionFactory.getInstance().parsingError("Not a number: '" + number + "'", e);
+    }
+  }
+
+  private static ParseException numberExpected(CharSequence text, int offset, int length) {
+    return ExceptionFactory.getInstance().parsingError("Not a number: '" + text.subSequence(offset, offset + length) + "'");
+  }
+
+  private static ParseException numberOutOfRange(CharSequence text, int offset, int length) {
+    return ExceptionFactory.getInstance().parsingError("Number out of range: '" + text.subSequence(offset, offset + length) + "'");
+  }
+
+  /** Provides the ASCII characters of a byte array as {@link CharSequence} without copying them. */
+  private static final class AsciiSequence implements CharSequence {
+
+    private final byte[] bytes;
+
+    AsciiSequence(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+      return bytes.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (bytes[index] & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+  }
+
 }
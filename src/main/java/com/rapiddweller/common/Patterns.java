@@ -51,6 +51,9 @@ public interface Patterns {
 
   String DEFAULT_DATETIME_PATTERN = DEFAULT_DATETIME_SECONDS_PATTERN;
 
+  /** The datetime layout of JDBC timestamp escapes, with a space instead of 'T' */
+  String SQL_DATETIME_SECONDS_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
   // timestamp patterns ----------------------------------------------------------------------------------------------
 
   String DEFAULT_TIMESTAMP_PATTERN = DEFAULT_DATETIME_NANOS_PATTERN;
@@ -55,8 +55,6 @@ public final class StringUtil {
   /** character (CR, 0x0D) */
   public static final String CR = String.valueOf('\r');
 
-  private static final Set<Character> REGEX_ESCAPABLES = CollectionUtil.toSet('*', '-', '.', ',', '\\', '|');
-
   private StringUtil() {
     // private constructor to prevent instantiation of this utility class
   }
@@ -128,30 +126,8 @@ public static String[] tokenize(String text, char separator) {
     if (text == null) {
       return null;
     }
-    if (text.length() == 0) {
-      return new String[] {""};
-    }
-    int i = 0;
-    int sep;
-    List<String> list = new ArrayList<>();
-    while ((sep = text.indexOf(separator, i)) >= 0) {
-      if (sep == i) {
-        list.add("");
-        i++;
-      } else {
-        list.add(text.substring(i, sep));
-        i = sep + 1;
-      }
-    }
-    if (i < text.length()) {
-      list.add(text.substring(i));
-    } else if (text.endsWith("" + separator)) {
-      list.add("");
-    }
-    String[] tokens = new String[list.size()];
-    for (i = 0; i < tokens.length; i++) {
-      tokens[i] = list.get(i);
-    }
+    String[] tokens = new String[countChars(text, separator) + 1];
+    split(text, separator, tokens);
     return tokens;
   }
 
@@ -187,12 +163,55 @@ public static String[] splitAndTrim(String list, char separator) {
     return StringUtil.trimAll(split(list, separator));
   }
 
+  /** Splits a text at a separator character like {@link String#split(String)} does
+   *  with a regular expression which matches the character, i.e. removing trailing empty Strings,
+   *  but without regular expression processing and intermediate collections.
+   *  @param list the text to split
+   *  @param separator the separator character
+   *  @return the parts of the text */
   public static String[] split(String list, char separator) {
-    String separatorRegex = String.valueOf(separator);
-    if (REGEX_ESCAPABLES.contains(separator)) {
-      separatorRegex = '\\' + separatorRegex;
+    int count = countChars(list, separator) + 1;
+    if (count == 1) {
+      return new String[] { list };
+    }
+    // ignore trailing empty parts
+    int end = list.length();
+    while (end > 0 && list.charAt(end - 1) == separator) {
+      end--;
+      count--;
+    }
+    if (end == 0) {
+      return new String[0];
     }
-    return list.split(separatorRegex);
+    String[] result = new String[count];
+    split(list.subSequence(0, end), separator, result);
+    return result;
+  }
+
+  /** Splits a text at a separator character into a caller-supplied array, e.g. one which is reused for each line
+   *  of a delimited file. Like with {@link #tokenize(String, char)}, empty parts are kept.
+   *  For quoted or escaped fields, use a {@link FieldTokenizer}.
+   *  @param text the text to split
+   *  @param separator the separator character
+   *  @param target the array to fill with the parts of the text
+   *  @return the total number of parts. If it exceeds the array's length, the array holds the first parts */
+  public static int split(CharSequence text, char separator, String[] target) {
+    int count = 0;
+    int start = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      if (text.charAt(i) == separator) {
+        if (count < target.length) {
+          target[count] = text.subSequence(start, i).toString();
+        }
+        count++;
+        start = i + 1;
+      }
+    }
+    if (count < target.length) {
+      target[count] = text.subSequence(start, length).toString();
+    }
+    return count + 1;
   }
 
   public static String normalize(String s) {
@@ -602,6 +621,36 @@ public static boolean equalsIgnoreCase(String s1, String s2) {
     return (s1 != null ? s1.equalsIgnoreCase(s2) : s2 == null);
   }
 
+  /** Maps a string to a representation which is the same for all strings that are equal
+   *  by {@link String#equalsIgnoreCase(String)}, so it can serve as key for case-insensitive lookups.
+   *  @param s the string to fold
+   *  @return the case-folded string, which is the string itself if it is folded already */
+  public static String foldCase(String s) {
+    if (s == null) {
+      return null;
+    }
+    int length = s.length();
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (foldCase(c) != c) {
+        char[] chars = s.toCharArray();
+        for (int j = i; j < length; j++) {
+          chars[j] = foldCase(chars[j]);
+        }
+        return new String(chars);
+      }
+    }
+    return s;
+  }
+
+  /** Folds a character like {@link #foldCase(String)}, shared with {@link MultiPatternReplacer}. */
+  static char foldCase(char c) {
+    if (c < 128) {
+      return (c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+    }
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
   public static boolean equalsIgnoreCase(String[] a1, String[] a2) {
     if (a1.length != a2.length) {
       return false;
@@ -1154,54 +1203,29 @@ public static String withLineBreaks(String text, int maxWidth) {
     return builder.toString();
   }
 
+  /** Replaces all occurrences of the keys of a map by their values, ignoring case,
+   *  see {@link MultiPatternReplacer}. For applying the same replacements to many texts,
+   *  create a {@link MultiPatternReplacer} once and reuse it.
+   *  @param text the text in which to replace
+   *  @param replacements maps each String to search to its replacement
+   *  @param keepCaps tells if the replacements shall be converted to lower or upper case
+   *      if the text is completely in lower or upper case
+   *  @return the text with the replacements */
   public static String replaceIgnoreCase(String text, Map<String, String> replacements, boolean keepCaps) {
-    Capitalization caps = Capitalization.mixed;
-    String lcText = text.toLowerCase();
-    if (keepCaps) {
-      if (text.equals(lcText)) {
-        caps = Capitalization.lower;
-      } else if (text.equals(text.toUpperCase())) {
-        caps = Capitalization.upper;
-      }
-    }
-
-    String result = text;
-    for (Map.Entry<String, String> entry : replacements.entrySet()) {
-      String orig = entry.getKey().toLowerCase();
-      int index = lcText.indexOf(orig);
-      if (index >= 0) {
-        String replacement = applyCaps(caps, entry);
-        result = result.substring(0, index) + replacement + result.substring(index + orig.length());
-        lcText = result.toLowerCase();
-      }
-    }
-    return result;
+    return new MultiPatternReplacer(replacements, true, keepCaps).replace(text);
   }
 
+  /** Replaces all occurrences of the keys of a map by their values in a single pass, see {@link MultiPatternReplacer}.
+   *  For applying the same replacements to many texts, create a {@link MultiPatternReplacer} once and reuse it.
+   *  @param text the text in which to replace
+   *  @param replacements maps each String to search to its replacement
+   *  @return the text with the replacements */
   public static String replace(String text, Map<String, String> replacements) {
-    String result = text;
-    for (Map.Entry<String, String> entry : replacements.entrySet()) {
-      String orig = entry.getKey();
-      int index = result.indexOf(orig);
-      if (index >= 0) {
-        result = result.substring(0, index) + entry.getValue() + result.substring(index + orig.length());
-      }
-    }
-    return result;
+    return new MultiPatternReplacer(replacements).replace(text);
   }
 
   public static boolean isUpperCase(String text) {
     return text.toUpperCase().equals(text);
   }
 
-  private static String applyCaps(Capitalization caps, Map.Entry<String, String> entry) {
-    String replacement = entry.getValue();
-    if (caps == Capitalization.upper) {
-      replacement = replacement.toUpperCase();
-    } else if (caps == Capitalization.lower) {
-      replacement = replacement.toLowerCase();
-    }
-    return replacement;
-  }
-
 }
@@ -16,6 +16,7 @@
 package com.rapiddweller.common;
 
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.time.IsoDateTimeParser;
 
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -575,6 +576,11 @@ public static Date parse(String dateOrTimeSpec) {
     try {
       dateOrTimeSpec = dateOrTimeSpec.replace(' ', 'T');
       int sepIndex = dateOrTimeSpec.indexOf('.');
+      Date isoDate = (sepIndex >= 0 ?
+          IsoDateTimeParser.parseTimestamp(dateOrTimeSpec) : IsoDateTimeParser.parseDate(dateOrTimeSpec));
+      if (isoDate != null) {
+        return isoDate;
+      }
       Integer nanos = null;
       if (sepIndex >= 0) {
         String nanoSpec = StringUtil.padRight(dateOrTimeSpec.substring(sepIndex + 1), 9, '0');
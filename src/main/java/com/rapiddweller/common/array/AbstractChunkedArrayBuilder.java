@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parent class for builders which collect primitive values in a list of fixed-size chunks.
+ * Growing never copies the values collected so far, and chunks may be borrowed from and returned to
+ * a {@link PrimitiveArrayPool}. In contrast to the contiguous builders like {@link IntArrayBuilder},
+ * a chunked builder can be reused after {@link #clear()} or toArray().<br/><br/>
+ * Created: 18.10.2026 06:41:12
+ * @param <A> the primitive array type of the chunks
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public abstract class AbstractChunkedArrayBuilder<A> {
+
+  protected final PrimitiveArrayPool pool;
+  protected final int chunkSize;
+  protected final int chunkShift;
+  protected final int chunkMask;
+  protected final List<A> chunks;
+  /** The number of values in the last chunk */
+  protected int position;
+
+  protected AbstractChunkedArrayBuilder(int chunkSize, PrimitiveArrayPool pool) {
+    this.pool = pool;
+    this.chunkSize = PrimitiveArrayPool.checkChunkSize(pool != null ? pool.getChunkSize() : chunkSize);
+    this.chunkShift = Integer.numberOfTrailingZeros(this.chunkSize);
+    this.chunkMask = this.chunkSize - 1;
+    this.chunks = new ArrayList<>();
+    this.position = this.chunkSize;
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int length() {
+    return (chunks.size() - 1) * chunkSize + position;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /** Removes all values and returns the chunks to the pool, if there is one. */
+  public void clear() {
+    if (pool != null) {
+      for (A chunk : chunks) {
+        recycle(chunk);
+      }
+    }
+    chunks.clear();
+    position = chunkSize;
+  }
+
+  // helpers for child classes ---------------------------------------------------------------------------------------
+
+  /** Appends a new chunk and makes it the current one.
+   *  @return the new chunk */
+  protected A nextChunk() {
+    A chunk = allocate();
+    chunks.add(chunk);
+    position = 0;
+    return chunk;
+  }
+
+  /** @param chunkIndex the index of a chunk
+   *  @return the number of values in the chunk */
+  protected int chunkLength(int chunkIndex) {
+    return (chunkIndex < chunks.size() - 1 ? chunkSize : position);
+  }
+
+  protected void checkIndex(int index) {
+    if (index < 0 || index >= length()) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+    }
+  }
+
+  /** Copies all values into an array of the chunk type, starting at the given position.
+   *  @param target the array to fill
+   *  @param offset the index in the target array at which to copy the first value */
+  protected void copyTo(A target, int offset) {
+    for (int i = 0; i < chunks.size(); i++) {
+      int length = chunkLength(i);
+      System.arraycopy(chunks.get(i), 0, target, offset, length);
+      offset += length;
+    }
+  }
+
+  /** @return a new chunk of {@link #chunkSize} elements */
+  protected abstract A allocate();
+
+  /** Returns a chunk to the pool. Is only called if the builder has a pool.
+   *  @param chunk the chunk to return */
+  protected abstract void recycle(A chunk);
+
+}
@@ -18,8 +18,13 @@
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * Helper class for constructing byte arrays.
+ * For large arrays which should not be copied on growth see {@link ChunkedByteArrayBuilder}.
  * Created: 27.12.2010 07:45:22
  * @author Volker Bergmann
  * @since 0.5.5
@@ -40,19 +45,13 @@ public ByteArrayBuilder(int initialCapacity) {
 
   @Override
   public ByteArrayBuilder add(byte item) {
-    if (this.buffer == null) {
-      throw ExceptionFactory.getInstance().programmerStateError(
-          "ArrayBuilder cannot be reused after invoking toArray()");
-    }
+    checkBuffer();
     super.add(item);
     return this;
   }
 
   public byte[] toArray() {
-    if (this.buffer == null) {
-      throw ExceptionFactory.getInstance().programmerStateError(
-          "ArrayBuilder cannot be reused after invoking toArray()");
-    }
+    checkBuffer();
     byte[] result = new byte[this.itemCount];
     System.arraycopy(buffer, 0, result, 0, this.itemCount);
     this.itemCount = 0;
@@ -60,6 +59,31 @@ public byte[] toArray() {
     return result;
   }
 
+  /** Hands over the collected bytes without copying them. Like {@link #toArray()}, this ends the use of the builder.
+   *  @return a buffer which wraps the internal array, with its limit at the number of collected bytes */
+  public ByteBuffer toByteBuffer() {
+    checkBuffer();
+    ByteBuffer result = ByteBuffer.wrap(buffer, 0, itemCount);
+    this.itemCount = 0;
+    buffer = null;
+    return result;
+  }
+
+  /** Writes the collected bytes to a stream without an intermediate array.
+   *  @param out the stream to write to
+   *  @throws IOException if writing fails */
+  public void writeTo(OutputStream out) throws IOException {
+    checkBuffer();
+    out.write(buffer, 0, itemCount);
+  }
+
+  /** Puts the collected bytes into the target buffer without an intermediate array.
+   *  @param target the buffer to write to */
+  public void writeTo(ByteBuffer target) {
+    checkBuffer();
+    target.put(buffer, 0, itemCount);
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder();
@@ -72,4 +96,13 @@ public String toString() {
     return builder.toString();
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkBuffer() {
+    if (this.buffer == null) {
+      throw ExceptionFactory.getInstance().programmerStateError(
+          "ArrayBuilder cannot be reused after invoking toArray()");
+    }
+  }
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Builds byte arrays in chunks which are never copied on growth, see {@link AbstractChunkedArrayBuilder}.
+ * The bytes can be exported to an array or directly into a {@link ByteBuffer} or an {@link OutputStream}.<br/><br/>
+ * Created: 18.10.2026 07:11:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ChunkedByteArrayBuilder extends AbstractChunkedArrayBuilder<byte[]> {
+
+  private byte[] current;
+
+  public ChunkedByteArrayBuilder() {
+    this(PrimitiveArrayPool.DEFAULT_CHUNK_SIZE);
+  }
+
+  public ChunkedByteArrayBuilder(int chunkSize) {
+    super(chunkSize, null);
+  }
+
+  public ChunkedByteArrayBuilder(PrimitiveArrayPool pool) {
+    super(0, pool);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public ChunkedByteArrayBuilder add(byte value) {
+    if (position == chunkSize) {
+      current = nextChunk();
+    }
+    current[position++] = value;
+    return this;
+  }
+
+  public void addAll(byte[] values) {
+    addAll(values, 0, values.length);
+  }
+
+  public void addAll(byte[] values, int fromIndex, int toIndex) {
+    while (fromIndex < toIndex) {
+      if (position == chunkSize) {
+        current = nextChunk();
+      }
+      int count = Math.min(toIndex - fromIndex, chunkSize - position);
+      System.arraycopy(values, fromIndex, current, position, count);
+      position += count;
+      fromIndex += count;
+    }
+  }
+
+  public byte get(int index) {
+    checkIndex(index);
+    return chunks.get(index >>> chunkShift)[index & chunkMask];
+  }
+
+  public void set(int index, byte value) {
+    checkIndex(index);
+    chunks.get(index >>> chunkShift)[index & chunkMask] = value;
+  }
+
+  /** Copies the bytes to a new array and clears the builder for reuse.
+   *  @return an array of the bytes */
+  public byte[] toArray() {
+    byte[] result = new byte[length()];
+    copyTo(result, 0);
+    clear();
+    return result;
+  }
+
+  /** Puts all bytes into the target buffer.
+   *  @param target the buffer to write to
+   *  @throws BufferOverflowException if the buffer has not enough space left, in which case it remains unchanged */
+  public void writeTo(ByteBuffer target) {
+    if (target.remaining() < length()) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < chunks.size(); i++) {
+      target.put(chunks.get(i), 0, chunkLength(i));
+    }
+  }
+
+  /** Writes all bytes to the stream, chunk by chunk.
+   *  @param out the stream to write to
+   *  @throws IOException if writing fails */
+  public void writeTo(OutputStream out) throws IOException {
+    for (int i = 0; i < chunks.size(); i++) {
+      out.write(chunks.get(i), 0, chunkLength(i));
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    current = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < chunks.size(); i++) {
+      byte[] chunk = chunks.get(i);
+      int length = chunkLength(i);
+      for (int j = 0; j < length; j++) {
+        if (builder.length() > 0) {
+          builder.append(", ");
+        }
+        builder.append(chunk[j]);
+      }
+    }
+    return builder.toString();
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  @Override
+  protected byte[] allocate() {
+    return (pool != null ? pool.borrowBytes() : new byte[chunkSize]);
+  }
+
+  @Override
+  protected void recycle(byte[] chunk) {
+    pool.release(chunk);
+  }
+
+}
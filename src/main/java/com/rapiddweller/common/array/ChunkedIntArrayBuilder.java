@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.function.IntConsumer;
+
+/**
+ * Builds int arrays in chunks which are never copied on growth, see {@link AbstractChunkedArrayBuilder}.
+ * The values can be exported to an array or directly into an {@link IntBuffer} or {@link ByteBuffer}.<br/><br/>
+ * Created: 18.10.2026 06:55:31
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ChunkedIntArrayBuilder extends AbstractChunkedArrayBuilder<int[]> {
+
+  private int[] current;
+
+  public ChunkedIntArrayBuilder() {
+    this(PrimitiveArrayPool.DEFAULT_CHUNK_SIZE);
+  }
+
+  public ChunkedIntArrayBuilder(int chunkSize) {
+    super(chunkSize, null);
+  }
+
+  public ChunkedIntArrayBuilder(PrimitiveArrayPool pool) {
+    super(0, pool);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public ChunkedIntArrayBuilder add(int value) {
+    if (position == chunkSize) {
+      current = nextChunk();
+    }
+    current[position++] = value;
+    return this;
+  }
+
+  public void addAll(int[] values) {
+    addAll(values, 0, values.length);
+  }
+
+  public void addAll(int[] values, int fromIndex, int toIndex) {
+    while (fromIndex < toIndex) {
+      if (position == chunkSize) {
+        current = nextChunk();
+      }
+      int count = Math.min(toIndex - fromIndex, chunkSize - position);
+      System.arraycopy(values, fromIndex, current, position, count);
+      position += count;
+      fromIndex += count;
+    }
+  }
+
+  public int get(int index) {
+    checkIndex(index);
+    return chunks.get(index >>> chunkShift)[index & chunkMask];
+  }
+
+  public void set(int index, int value) {
+    checkIndex(index);
+    chunks.get(index >>> chunkShift)[index & chunkMask] = value;
+  }
+
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0; i < chunks.size(); i++) {
+      int[] chunk = chunks.get(i);
+      int length = chunkLength(i);
+      for (int j = 0; j < length; j++) {
+        consumer.accept(chunk[j]);
+      }
+    }
+  }
+
+  /** Copies the values to a new array and clears the builder for reuse.
+   *  @return an array of the values */
+  public int[] toArray() {
+    int[] result = new int[length()];
+    copyTo(result, 0);
+    clear();
+    return result;
+  }
+
+  /** Puts all values into the target buffer.
+   *  @param target the buffer to write to
+   *  @throws BufferOverflowException if the buffer has not enough space left, in which case it remains unchanged */
+  public void writeTo(IntBuffer target) {
+    if (target.remaining() < length()) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < chunks.size(); i++) {
+      target.put(chunks.get(i), 0, chunkLength(i));
+    }
+  }
+
+  /** Puts all values into the target buffer in the buffer's byte order.
+   *  @param target the buffer to write to
+   *  @throws BufferOverflowException if the buffer has not enough space left, in which case it remains unchanged */
+  public void writeTo(ByteBuffer target) {
+    writeTo(target.asIntBuffer());
+    target.position(target.position() + length() * Integer.BYTES);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    current = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    forEach(value -> {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(value);
+    });
+    return builder.toString();
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  @Override
+  protected int[] allocate() {
+    return (pool != null ? pool.borrowInts() : new int[chunkSize]);
+  }
+
+  @Override
+  protected void recycle(int[] chunk) {
+    pool.release(chunk);
+  }
+
+}
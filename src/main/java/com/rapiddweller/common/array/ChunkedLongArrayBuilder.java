@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Builds long arrays in chunks which are never copied on growth, see {@link AbstractChunkedArrayBuilder}.
+ * The values can be exported to an array or directly into an {@link LongBuffer} or {@link ByteBuffer}.<br/><br/>
+ * Created: 18.10.2026 07:02:47
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ChunkedLongArrayBuilder extends AbstractChunkedArrayBuilder<long[]> {
+
+  private long[] current;
+
+  public ChunkedLongArrayBuilder() {
+    this(PrimitiveArrayPool.DEFAULT_CHUNK_SIZE);
+  }
+
+  public ChunkedLongArrayBuilder(int chunkSize) {
+    super(chunkSize, null);
+  }
+
+  public ChunkedLongArrayBuilder(PrimitiveArrayPool pool) {
+    super(0, pool);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public ChunkedLongArrayBuilder add(long value) {
+    if (position == chunkSize) {
+      current = nextChunk();
+    }
+    current[position++] = value;
+    return this;
+  }
+
+  public void addAll(long[] values) {
+    addAll(values, 0, values.length);
+  }
+
+  public void addAll(long[] values, int fromIndex, int toIndex) {
+    while (fromIndex < toIndex) {
+      if (position == chunkSize) {
+        current = nextChunk();
+      }
+      int count = Math.min(toIndex - fromIndex, chunkSize - position);
+      System.arraycopy(values, fromIndex, current, position, count);
+      position += count;
+      fromIndex += count;
+    }
+  }
+
+  public long get(int index) {
+    checkIndex(index);
+    return chunks.get(index >>> chunkShift)[index & chunkMask];
+  }
+
+  public void set(int index, long value) {
+    checkIndex(index);
+    chunks.get(index >>> chunkShift)[index & chunkMask] = value;
+  }
+
+  public void forEach(LongConsumer consumer) {
+    for (int i = 0; i < chunks.size(); i++) {
+      long[] chunk = chunks.get(i);
+      int length = chunkLength(i);
+      for (int j = 0; j < length; j++) {
+        consumer.accept(chunk[j]);
+      }
+    }
+  }
+
+  /** Copies the values to a new array and clears the builder for reuse.
+   *  @return an array of the values */
+  public long[] toArray() {
+    long[] result = new long[length()];
+    copyTo(result, 0);
+    clear();
+    return result;
+  }
+
+  /** Puts all values into the target buffer.
+   *  @param target the buffer to write to
+   *  @throws BufferOverflowException if the buffer has not enough space left, in which case it remains unchanged */
+  public void writeTo(LongBuffer target) {
+    if (target.remaining() < length()) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < chunks.size(); i++) {
+      target.put(chunks.get(i), 0, chunkLength(i));
+    }
+  }
+
+  /** Puts all values into the target buffer in the buffer's byte order.
+   *  @param target the buffer to write to
+   *  @throws BufferOverflowException if the buffer has not enough space left, in which case it remains unchanged */
+  public void writeTo(ByteBuffer target) {
+    writeTo(target.asLongBuffer());
+    target.position(target.position() + length() * Long.BYTES);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    current = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    forEach(value -> {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(value);
+    });
+    return builder.toString();
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  @Override
+  protected long[] allocate() {
+    return (pool != null ? pool.borrowLongs() : new long[chunkSize]);
+  }
+
+  @Override
+  protected void recycle(long[] chunk) {
+    pool.release(chunk);
+  }
+
+}
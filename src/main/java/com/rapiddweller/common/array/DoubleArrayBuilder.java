@@ -18,8 +18,11 @@
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.nio.DoubleBuffer;
+
 /**
  * Helper class for constructing double arrays.
+ * For large arrays which should not be copied on growth see {@link ChunkedDoubleArrayBuilder}.
  * Created: 30.12.2013 21:53:43
  * @author Volker Bergmann
  * @since 0.5.26
@@ -87,6 +90,16 @@ public double[] toArray() {
     return result;
   }
 
+  /** Puts the values into the target buffer without an intermediate array.
+   *  @param target the buffer to write to */
+  public void writeTo(DoubleBuffer target) {
+    if (buffer == null) {
+      throw ExceptionFactory.getInstance().illegalOperation(
+          getClass().getName() + " cannot be reused after invoking toArray()");
+    }
+    target.put(buffer, 0, itemCount);
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder();
@@ -18,8 +18,11 @@
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.nio.IntBuffer;
+
 /**
  * Helper class for constructing int arrays.
+ * For large arrays which should not be copied on growth see {@link ChunkedIntArrayBuilder}.
  * Created: 27.12.2010 07:45:22
  * @author Volker Bergmann
  * @since 1.0.6
@@ -87,6 +90,15 @@ public void addAll(int[] elements, int fromIndex, int toIndex) {
     }
   }
 
+  /** Puts the values into the target buffer without an intermediate array.
+   *  @param target the buffer to write to */
+  public void writeTo(IntBuffer target) {
+    if (this.buffer == null) {
+      throw ExceptionFactory.getInstance().illegalOperation("buffer was deleted");
+    }
+    target.put(buffer, 0, itemCount);
+  }
+
   // private helper method -------------------------------------------------------------------------------------------
 
   private static int[] createBuffer(int capacity) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.nio.LongBuffer;
+
+/**
+ * Helper class for constructing long arrays.
+ * For large arrays which should not be copied on growth see {@link ChunkedLongArrayBuilder}.<br/><br/>
+ * Created: 18.10.2026 07:18:05
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class LongArrayBuilder {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+  protected long[] buffer;
+  protected int itemCount;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public LongArrayBuilder() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public LongArrayBuilder(int initialCapacity) {
+    this.buffer = new long[initialCapacity];
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int length() {
+    return itemCount;
+  }
+
+  public long get(int index) {
+    if (index >= itemCount) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + itemCount);
+    }
+    return buffer[index];
+  }
+
+  /** Sets the value at the given index, appending zeros if the index is beyond the current length.
+   *  @param index the index of the value
+   *  @param value the value to set */
+  public void set(int index, long value) {
+    if (index < itemCount) {
+      buffer[index] = value;
+    } else {
+      while (itemCount < index) {
+        add(0);
+      }
+      add(value);
+    }
+  }
+
+  public LongArrayBuilder add(long item) {
+    checkBuffer();
+    if (itemCount == buffer.length) {
+      grow(itemCount + 1);
+    }
+    buffer[itemCount++] = item;
+    return this;
+  }
+
+  public void addAll(long[] elements) {
+    addAll(elements, 0, elements.length);
+  }
+
+  public void addAll(long[] elements, int fromIndex, int toIndex) {
+    checkBuffer();
+    int count = toIndex - fromIndex;
+    if (itemCount + count > buffer.length) {
+      grow(itemCount + count);
+    }
+    System.arraycopy(elements, fromIndex, buffer, itemCount, count);
+    itemCount += count;
+  }
+
+  /** Puts the values into the target buffer without an intermediate array.
+   *  @param target the buffer to write to */
+  public void writeTo(LongBuffer target) {
+    checkBuffer();
+    target.put(buffer, 0, itemCount);
+  }
+
+  public long[] toArray() {
+    checkBuffer();
+    long[] result = new long[itemCount];
+    System.arraycopy(buffer, 0, result, 0, itemCount);
+    itemCount = 0;
+    buffer = null;
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < itemCount; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(buffer[i]);
+    }
+    return builder.toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkBuffer() {
+    if (buffer == null) {
+      throw ExceptionFactory.getInstance().illegalOperation("LongArrayBuilder cannot be reused after invoking toArray()");
+    }
+  }
+
+  private void grow(int minCapacity) {
+    long[] newBuffer = new long[Math.max(Math.max(buffer.length * 2, minCapacity), DEFAULT_INITIAL_CAPACITY)];
+    System.arraycopy(buffer, 0, newBuffer, 0, itemCount);
+    buffer = newBuffer;
+  }
+
+}
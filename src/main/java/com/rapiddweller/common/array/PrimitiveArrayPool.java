@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.array;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.ArrayDeque;
+
+/**
+ * Thread-safe pool of primitive arrays of one fixed length, which serve as chunks of the chunked array builders
+ * like {@link ChunkedIntArrayBuilder}. Builders which share a pool return their chunks on
+ * clear() or toArray(), so that subsequent batches reuse them instead of allocating new ones.
+ * The pool keeps at most maxPooledArrays arrays of each type and leaves surplus arrays to the garbage collector.<br/><br/>
+ * Created: 18.10.2026 06:24:50
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PrimitiveArrayPool {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1024;
+  public static final int DEFAULT_MAX_POOLED_ARRAYS = 256;
+
+  private final int chunkSize;
+  private final int maxPooledArrays;
+  private final ArrayDeque<int[]> ints;
+  private final ArrayDeque<long[]> longs;
+  private final ArrayDeque<double[]> doubles;
+  private final ArrayDeque<byte[]> bytes;
+
+  public PrimitiveArrayPool() {
+    this(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_ARRAYS);
+  }
+
+  public PrimitiveArrayPool(int chunkSize, int maxPooledArrays) {
+    this.chunkSize = checkChunkSize(chunkSize);
+    this.maxPooledArrays = maxPooledArrays;
+    this.ints = new ArrayDeque<>();
+    this.longs = new ArrayDeque<>();
+    this.doubles = new ArrayDeque<>();
+    this.bytes = new ArrayDeque<>();
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public int[] borrowInts() {
+    synchronized (ints) {
+      int[] result = ints.pollLast();
+      return (result != null ? result : new int[chunkSize]);
+    }
+  }
+
+  public void release(int[] array) {
+    if (array.length == chunkSize) {
+      synchronized (ints) {
+        if (ints.size() < maxPooledArrays) {
+          ints.addLast(array);
+        }
+      }
+    }
+  }
+
+  public long[] borrowLongs() {
+    synchronized (longs) {
+      long[] result = longs.pollLast();
+      return (result != null ? result : new long[chunkSize]);
+    }
+  }
+
+  public void release(long[] array) {
+    if (array.length == chunkSize) {
+      synchronized (longs) {
+        if (longs.size() < maxPooledArrays) {
+          longs.addLast(array);
+        }
+      }
+    }
+  }
+
+  public double[] borrowDoubles() {
+    synchronized (doubles) {
+      double[] result = doubles.pollLast();
+      return (result != null ? result : new double[chunkSize]);
+    }
+  }
+
+  public void release(double[] array) {
+    if (array.length == chunkSize) {
+      synchronized (doubles) {
+        if (doubles.size() < maxPooledArrays) {
+          doubles.addLast(array);
+        }
+      }
+    }
+  }
+
+  public byte[] borrowBytes() {
+    synchronized (bytes) {
+      byte[] result = bytes.pollLast();
+      return (result != null ? result : new byte[chunkSize]);
+    }
+  }
+
+  public void release(byte[] array) {
+    if (array.length == chunkSize) {
+      synchronized (bytes) {
+        if (bytes.size() < maxPooledArrays) {
+          bytes.addLast(array);
+        }
+      }
+    }
+  }
+
+  /** @return the number of arrays of all types which are currently pooled */
+  public int pooledArrayCount() {
+    int result = 0;
+    synchronized (ints) {
+      result += ints.size();
+    }
+    synchronized (longs) {
+      result += longs.size();
+    }
+    synchronized (doubles) {
+      result += doubles.size();
+    }
+    synchronized (bytes) {
+      result += bytes.size();
+    }
+    return result;
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  static int checkChunkSize(int chunkSize) {
+    if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+      throw ExceptionFactory.getInstance().illegalArgument("chunkSize must be a power of two, but was " + chunkSize);
+    }
+    return chunkSize;
+  }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.ArrayUtil;
+import com.rapiddweller.common.Assert;
+import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.common.converter.ConverterManager;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Copies the JavaBean properties of objects of one class to objects of another class
+ * using a plan which is computed once per class pair: It determines which properties map to each other,
+ * which converter to apply and which compiled accessors and mutators to use, so mapping a bean
+ * does not require any reflection. The semantics are the same as of
+ * {@link com.rapiddweller.common.BeanUtil#copyPropertyValues(Object, Object)}: Each readable source property
+ * is copied to the writable target property of the same name, if one exists, and converted if necessary.
+ * BeanMappers are thread-safe. The shared instances provided by {@link #of(Class, Class)} are cached
+ * until the {@link ConverterManager} is reset or reconfigured, or until {@link #clearCache()} is called.
+ * Created: 17.10.2026 15:10:44
+ * @param <S> the source bean type
+ * @param <T> the target bean type
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class BeanMapper<S, T> {
+
+  private static final Map<Class<?>, Map<Class<?>, BeanMapper>> MAPPERS = new ConcurrentHashMap<>();
+
+  static {
+    // the mappers hold converters of the ConverterManager
+    ConverterManager.addCacheInvalidationListener(BeanMapper::clearCache);
+  }
+
+  private final Class<S> sourceType;
+  private final Class<T> targetType;
+  private final PropertyMapping[] mappings;
+  private volatile Supplier<T> constructor;
+
+  public BeanMapper(Class<S> sourceType, Class<T> targetType) {
+    Assert.notNull(sourceType, "sourceType");
+    Assert.notNull(targetType, "targetType");
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+    this.mappings = createMappings(sourceType, targetType);
+  }
+
+  /** Provides a shared BeanMapper for the class pair.
+   *  @param sourceType the source bean type
+   *  @param targetType the target bean type
+   *  @return a cached BeanMapper instance */
+  public static <S, T> BeanMapper<S, T> of(Class<S> sourceType, Class<T> targetType) {
+    Map<Class<?>, BeanMapper> targetMappers = MAPPERS.computeIfAbsent(sourceType, k -> new ConcurrentHashMap<>());
+    BeanMapper<S, T> result = targetMappers.get(targetType);
+    if (result == null) {
+      // not computeIfAbsent(), since creating the mapper may reset caches
+      result = new BeanMapper<>(sourceType, targetType);
+      BeanMapper<S, T> existing = targetMappers.putIfAbsent(targetType, result);
+      if (existing != null) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  /** Removes all shared BeanMappers, releasing the classes they refer to. */
+  public static void clearCache() {
+    MAPPERS.clear();
+  }
+
+  public Class<S> getSourceType() {
+    return sourceType;
+  }
+
+  public Class<T> getTargetType() {
+    return targetType;
+  }
+
+  /** @return the names of the properties which are copied */
+  public String[] getMappedPropertyNames() {
+    String[] result = new String[mappings.length];
+    for (int i = 0; i < mappings.length; i++) {
+      result[i] = mappings[i].name;
+    }
+    return result;
+  }
+
+  /** Copies the property values of the source bean to the target bean.
+   *  @param source the bean to read from
+   *  @param target the bean to write to */
+  public void copy(S source, T target) {
+    for (PropertyMapping mapping : mappings) {
+      mapping.copy(source, target);
+    }
+  }
+
+  /** Creates a new instance of the target type by its public default constructor
+   *  and copies the property values of the source bean to it.
+   *  @param source the bean to read from
+   *  @return a new target bean or null if the source is null */
+  public T map(S source) {
+    if (source == null) {
+      return null;
+    }
+    T target = getConstructor().get();
+    copy(source, target);
+    return target;
+  }
+
+  public void copyAll(S[] sources, T[] targets) {
+    Assert.equals(sources.length, targets.length, "Arrays differ in length");
+    for (int i = 0; i < sources.length; i++) {
+      copy(sources[i], targets[i]);
+    }
+  }
+
+  public T[] mapAll(S[] sources) {
+    T[] result = ArrayUtil.newInstance(targetType, sources.length);
+    for (int i = 0; i < sources.length; i++) {
+      result[i] = map(sources[i]);
+    }
+    return result;
+  }
+
+  public List<T> mapAll(Collection<? extends S> sources) {
+    List<T> result = new ArrayList<>(sources.size());
+    for (S source : sources) {
+      result.add(map(source));
+    }
+    return result;
+  }
+
+  /** Maps a stream of beans lazily. Since BeanMappers are thread-safe, the stream may be parallel.
+   *  @param sources the stream of source beans
+   *  @return a stream of the mapped target beans */
+  public Stream<T> mapAll(Stream<? extends S> sources) {
+    return sources.map(this::map);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + sourceType.getName() + " -> " + targetType.getName() + ')';
+  }
+
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Supplier<T> getConstructor() {
+    Supplier<T> result = constructor;
+    if (result == null) {
+      result = PropertyLambdaFactory.constructor(targetType);
+      constructor = result;
+    }
+    return result;
+  }
+
+  private static PropertyMapping[] createMappings(Class<?> sourceType, Class<?> targetType) {
+    PropertyTable sourceTable = PropertyTable.of(sourceType);
+    PropertyTable targetTable = PropertyTable.of(targetType);
+    List<PropertyMapping> result = new ArrayList<>(sourceTable.size());
+    for (int i = 0; i < sourceTable.size(); i++) {
+      PropertyTable.Property sourceProperty = sourceTable.getProperty(i);
+      PropertyTable.Property targetProperty = targetTable.getProperty(sourceProperty.getName());
+      if (sourceProperty.isReadable() && targetProperty != null && targetProperty.isWritable()) {
+        result.add(createMapping(sourceProperty, targetProperty));
+      }
+    }
+    return result.toArray(new PropertyMapping[0]);
+  }
+
+  private static PropertyMapping createMapping(PropertyTable.Property sourceProperty, PropertyTable.Property targetProperty) {
+    PropertyAccessor reader = sourceProperty.getAccessor();
+    CompiledPropertyMutator writer = (CompiledPropertyMutator) targetProperty.getMutator();
+    Class<?> sourcePropertyType = sourceProperty.getDescriptor().getPropertyType();
+    Class<?> targetPropertyType = targetProperty.getDescriptor().getPropertyType();
+    String name = sourceProperty.getName();
+    // primitive values of the same type are copied without boxing
+    if (sourcePropertyType == targetPropertyType && reader instanceof CompiledPropertyAccessor) {
+      CompiledPropertyAccessor typedReader = (CompiledPropertyAccessor) reader;
+      if (sourcePropertyType == int.class) {
+        return new PropertyMapping(name, reader, writer) {
+          @Override
+          void copy(Object source, Object target) {
+            writer.setInt(target, typedReader.getInt(source));
+          }
+        };
+      } else if (sourcePropertyType == long.class) {
+        return new PropertyMapping(name, reader, writer) {
+          @Override
+          void copy(Object source, Object target) {
+            writer.setLong(target, typedReader.getLong(source));
+          }
+        };
+      } else if (sourcePropertyType == double.class) {
+        return new PropertyMapping(name, reader, writer) {
+          @Override
+          void copy(Object source, Object target) {
+            writer.setDouble(target, typedReader.getDouble(source));
+          }
+        };
+      }
+    }
+    Class<?> sourceWrapper = wrap(sourcePropertyType);
+    Class<?> targetWrapper = wrap(targetPropertyType);
+    if (targetWrapper.isAssignableFrom(sourceWrapper)) {
+      return new PropertyMapping(name, reader, writer);
+    }
+    // If the source property type is final, all values have exactly this type,
+    // so the converter can be chosen in advance. Otherwise, it depends on each value's class.
+    if (Modifier.isFinal(sourceWrapper.getModifiers())) {
+      try {
+        Converter converter = ConverterManager.getInstance().createConverter(sourceWrapper, targetPropertyType);
+        if (converter.isThreadSafe()) {
+          return new PropertyMapping(name, reader, writer) {
+            @Override
+            Object convert(Object value) {
+              return AnyConverter.convert(value, targetPropertyType, converter);
+            }
+          };
+        } else {
+          return new PropertyMapping(name, reader, writer) {
+            @Override
+            Object convert(Object value) {
+              synchronized (converter) {
+                return AnyConverter.convert(value, targetPropertyType, converter);
+              }
+            }
+          };
+        }
+      } catch (ConversionException e) {
+        // the conversion may still be possible for a value's class, so fall back to per-value conversion
+      }
+    }
+    return new PropertyMapping(name, reader, writer) {
+      @Override
+      Object convert(Object value) {
+        return AnyConverter.convert(value, targetPropertyType);
+      }
+    };
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  /** Copies a single property. The default implementation copies the value without conversion. */
+  private static class PropertyMapping {
+
+    final String name;
+    final PropertyAccessor reader;
+    final CompiledPropertyMutator writer;
+
+    PropertyMapping(String name, PropertyAccessor reader, CompiledPropertyMutator writer) {
+      this.name = name;
+      this.reader = reader;
+      this.writer = writer;
+    }
+
+    void copy(Object source, Object target) {
+      Object value = reader.getValue(source);
+      writer.setValue(target, (value != null ? convert(value) : null));
+    }
+
+    Object convert(Object value) {
+      return value;
+    }
+  }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.exception.AccessFailed;
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Retrieves the value of a JavaBean property with knowledge of the bean type,
+ * calling the read method through a compiled lambda instead of reflection.
+ * Properties of type int, long and double can be read without boxing
+ * by {@link #getInt(Object)}, {@link #getLong(Object)} and {@link #getDouble(Object)}.
+ * Created: 17.10.2026 10:41:18
+ * @param <E> the object type to access
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledPropertyAccessor<E> implements PropertyAccessor<E, Object> {
+
+  private final String propertyName;
+  private final boolean strict;
+  private final Class<?> valueType;
+  private final Function<Object, Object> getter;
+  private final ToIntFunction<Object> intGetter;
+  private final ToLongFunction<Object> longGetter;
+  private final ToDoubleFunction<Object> doubleGetter;
+
+  public CompiledPropertyAccessor(Class<E> beanClass, String propertyName, boolean strict) {
+    this(beanClass, BeanUtil.getPropertyDescriptor(beanClass, propertyName), propertyName, strict);
+  }
+
+  CompiledPropertyAccessor(Class<E> beanClass, PropertyDescriptor descriptor, String propertyName, boolean strict) {
+    this.propertyName = propertyName;
+    this.strict = strict;
+    Method readMethod = null;
+    if (descriptor == null) {
+      if (strict) {
+        throw ExceptionFactory.getInstance().configurationError("No property '" + propertyName + "' found in " + beanClass);
+      }
+    } else {
+      readMethod = descriptor.getReadMethod();
+      if (readMethod == null) {
+        throw ExceptionFactory.getInstance().configurationError("No read method for property '" + propertyName + "'" +
+            " found on " + beanClass);
+      }
+    }
+    if (readMethod != null) {
+      this.valueType = readMethod.getReturnType();
+      this.getter = PropertyLambdaFactory.getter(readMethod);
+      this.intGetter = PropertyLambdaFactory.intGetter(readMethod);
+      this.longGetter = PropertyLambdaFactory.longGetter(readMethod);
+      this.doubleGetter = PropertyLambdaFactory.doubleGetter(readMethod);
+    } else {
+      this.valueType = null;
+      this.getter = null;
+      this.intGetter = null;
+      this.longGetter = null;
+      this.doubleGetter = null;
+    }
+  }
+
+  @Override
+  public Object getValue(E bean) {
+    if (bean == null || getter == null) {
+      return handleUnavailable(bean);
+    }
+    try {
+      return getter.apply(bean);
+    } catch (AccessFailed e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw ExceptionFactory.getInstance().accessFailed("Error accessing property " + propertyName, e);
+    }
+  }
+
+  public int getInt(E bean) {
+    if (intGetter == null) {
+      Object value = getValue(bean);
+      return (value != null ? ((Number) value).intValue() : 0);
+    }
+    if (bean == null) {
+      handleUnavailable(null);
+      return 0;
+    }
+    try {
+      return intGetter.applyAsInt(bean);
+    } catch (RuntimeException e) {
+      throw ExceptionFactory.getInstance().accessFailed("Error accessing property " + propertyName, e);
+    }
+  }
+
+  public long getLong(E bean) {
+    if (longGetter == null) {
+      Object value = getValue(bean);
+      return (value != null ? ((Number) value).longValue() : 0L);
+    }
+    if (bean == null) {
+      handleUnavailable(null);
+      return 0L;
+    }
+    try {
+      return longGetter.applyAsLong(bean);
+    } catch (RuntimeException e) {
+      throw ExceptionFactory.getInstance().accessFailed("Error accessing property " + propertyName, e);
+    }
+  }
+
+  public double getDouble(E bean) {
+    if (doubleGetter == null) {
+      Object value = getValue(bean);
+      return (value != null ? ((Number) value).doubleValue() : 0.);
+    }
+    if (bean == null) {
+      handleUnavailable(null);
+      return 0.;
+    }
+    try {
+      return doubleGetter.applyAsDouble(bean);
+    } catch (RuntimeException e) {
+      throw ExceptionFactory.getInstance().accessFailed("Error accessing property " + propertyName, e);
+    }
+  }
+
+  @Override
+  public Class<?> getValueType() {
+    return valueType;
+  }
+
+  @Override
+  public String getPropertyName() {
+    return propertyName;
+  }
+
+  private Object handleUnavailable(E bean) {
+    if (bean == null && strict) {
+      throw ExceptionFactory.getInstance().accessFailed(
+          "Trying to get property value '" + propertyName + "' from null", null);
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + propertyName + ')';
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.exception.MutationFailed;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Mutates the value of a JavaBean property with knowledge of the property type,
+ * calling the write method through a compiled lambda instead of reflection.
+ * Properties of type int, long and double can be written without boxing
+ * by {@link #setInt(Object, int)}, {@link #setLong(Object, long)} and {@link #setDouble(Object, double)}.
+ * Created: 17.10.2026 11:05:32
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledPropertyMutator extends AbstractNamedMutator {
+
+  private final boolean required;
+  private final boolean autoConvert;
+  private final Class<?> propertyType;
+  private final BiConsumer<Object, Object> setter;
+  private final ObjIntConsumer<Object> intSetter;
+  private final ObjLongConsumer<Object> longSetter;
+  private final ObjDoubleConsumer<Object> doubleSetter;
+
+  public CompiledPropertyMutator(Class<?> beanClass, String propertyName, boolean required, boolean autoConvert) {
+    this(beanClass, BeanUtil.getPropertyDescriptor(beanClass, propertyName), propertyName, required, autoConvert);
+  }
+
+  CompiledPropertyMutator(Class<?> beanClass, PropertyDescriptor descriptor, String propertyName,
+                          boolean required, boolean autoConvert) {
+    super(propertyName);
+    this.required = required;
+    this.autoConvert = autoConvert;
+    Method writeMethod = null;
+    if (descriptor == null) {
+      if (required) {
+        throw ExceptionFactory.getInstance().configurationError("No property '" + propertyName + "' found in " + beanClass);
+      }
+    } else {
+      writeMethod = descriptor.getWriteMethod();
+      if (writeMethod == null) {
+        throw ExceptionFactory.getInstance().configurationError("No write method found for property '" + propertyName + "' in class " + beanClass.getName());
+      }
+    }
+    if (writeMethod != null) {
+      this.propertyType = writeMethod.getParameterTypes()[0];
+      this.setter = PropertyLambdaFactory.setter(writeMethod);
+      this.intSetter = PropertyLambdaFactory.intSetter(writeMethod);
+      this.longSetter = PropertyLambdaFactory.longSetter(writeMethod);
+      this.doubleSetter = PropertyLambdaFactory.doubleSetter(writeMethod);
+    } else {
+      this.propertyType = null;
+      this.setter = null;
+      this.intSetter = null;
+      this.longSetter = null;
+      this.doubleSetter = null;
+    }
+  }
+
+  public Class<?> getPropertyType() {
+    return propertyType;
+  }
+
+  @Override
+  public void setValue(Object bean, Object value) throws MutationFailed {
+    if (!checkBean(bean)) {
+      return;
+    }
+    if (autoConvert && value != null && !propertyType.isAssignableFrom(value.getClass())) {
+      try {
+        value = AnyConverter.convert(value, propertyType);
+      } catch (ConversionException e) {
+        throw ExceptionFactory.getInstance().configurationError("Error converting value " + value, e);
+      }
+    }
+    try {
+      setter.accept(bean, value);
+    } catch (MutationFailed e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw ExceptionFactory.getInstance().mutationFailed("Error setting property " + name + " to " + value, e);
+    }
+  }
+
+  public void setInt(Object bean, int value) throws MutationFailed {
+    if (intSetter == null) {
+      setValue(bean, value);
+    } else if (checkBean(bean)) {
+      try {
+        intSetter.accept(bean, value);
+      } catch (RuntimeException e) {
+        throw ExceptionFactory.getInstance().mutationFailed("Error setting property " + name + " to " + value, e);
+      }
+    }
+  }
+
+  public void setLong(Object bean, long value) throws MutationFailed {
+    if (longSetter == null) {
+      setValue(bean, value);
+    } else if (checkBean(bean)) {
+      try {
+        longSetter.accept(bean, value);
+      } catch (RuntimeException e) {
+        throw ExceptionFactory.getInstance().mutationFailed("Error setting property " + name + " to " + value, e);
+      }
+    }
+  }
+
+  public void setDouble(Object bean, double value) throws MutationFailed {
+    if (doubleSetter == null) {
+      setValue(bean, value);
+    } else if (checkBean(bean)) {
+      try {
+        doubleSetter.accept(bean, value);
+      } catch (RuntimeException e) {
+        throw ExceptionFactory.getInstance().mutationFailed("Error setting property " + name + " to " + value, e);
+      }
+    }
+  }
+
+  /** @return true if the bean is available and has a writable property */
+  private boolean checkBean(Object bean) {
+    if (bean == null) {
+      if (required) {
+        throw ExceptionFactory.getInstance().illegalArgument("Cannot set a property on null");
+      } else {
+        return false;
+      }
+    }
+    return (setter != null);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + name + ')';
+  }
+
+}
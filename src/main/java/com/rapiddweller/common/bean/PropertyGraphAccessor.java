@@ -31,7 +31,11 @@ public class PropertyGraphAccessor extends TypedAccessorChain implements Propert
   private final String propertyName;
 
   public PropertyGraphAccessor(Class<?> beanClass, String propertyName, boolean strict) {
-    super(createSubAccessors(beanClass, propertyName, strict));
+    this(beanClass, propertyName, strict, false);
+  }
+
+  PropertyGraphAccessor(Class<?> beanClass, String propertyName, boolean strict, boolean compiled) {
+    super(createSubAccessors(beanClass, propertyName, strict, compiled));
     this.propertyName = propertyName;
   }
 
@@ -53,12 +57,15 @@ public static Object getPropertyGraph(String path, Object bean) {
     }
   }
 
-  private static TypedAccessor[] createSubAccessors(Class<?> beanClass, String propertyName, boolean strict) {
+  private static TypedAccessor[] createSubAccessors(
+      Class<?> beanClass, String propertyName, boolean strict, boolean compiled) {
     String[] nodeNames = StringUtil.tokenize(propertyName, '.');
     PropertyAccessor[] nodes = new PropertyAccessor[nodeNames.length];
     Class<?> intermediateClass = beanClass;
     for (int i = 0; i < nodeNames.length; i++) {
-      PropertyAccessor node = PropertyAccessorFactory.getAccessor(intermediateClass, nodeNames[i], strict);
+      PropertyAccessor node = (compiled && intermediateClass != null ?
+          PropertyAccessorFactory.getCompiledAccessor(intermediateClass, nodeNames[i], strict) :
+          PropertyAccessorFactory.getAccessor(intermediateClass, nodeNames[i], strict));
       nodes[i] = node;
       if (intermediateClass != null) {
         intermediateClass = node.getValueType();
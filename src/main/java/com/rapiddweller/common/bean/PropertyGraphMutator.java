@@ -53,8 +53,13 @@ public PropertyGraphMutator(Class<?> beanClass, String propertyName) {
     this(beanClass, propertyName, true, false);
   }
 
-  @SuppressWarnings("unchecked")
   public PropertyGraphMutator(Class<?> beanClass, String propertyName, boolean required, boolean autoConvert) {
+    this(beanClass, propertyName, required, autoConvert, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  PropertyGraphMutator(Class<?> beanClass, String propertyName, boolean required, boolean autoConvert,
+                       boolean compiled) {
     this.propertyName = propertyName;
     this.required = required;
     this.autoConvert = autoConvert;
@@ -64,16 +69,22 @@ public PropertyGraphMutator(Class<?> beanClass, String propertyName, boolean req
       Class<?> nodeClass = beanClass;
       subAccessors = new PropertyAccessor[nodeNames.length - 1];
       for (int i = 0; i < nodeNames.length - 1; i++) {
-        subAccessors[i] = PropertyAccessorFactory.getAccessor(nodeClass, nodeNames[i], required);
+        subAccessors[i] = (compiled && nodeClass != null ?
+            PropertyAccessorFactory.getCompiledAccessor(nodeClass, nodeNames[i], required) :
+            PropertyAccessorFactory.getAccessor(nodeClass, nodeNames[i], required));
         nodeClass = subAccessors[i].getValueType();
       }
       String lastNodeName = nodeNames[nodeNames.length - 1];
-      if (beanClass != null) {
-        lastMutator = PropertyMutatorFactory.getPropertyMutator(
-            subAccessors[subAccessors.length - 1].getValueType(), lastNodeName, required, autoConvert);
+      Class<?> lastNodeClass = subAccessors[subAccessors.length - 1].getValueType();
+      if (compiled && lastNodeClass != null) {
+        lastMutator = PropertyMutatorFactory.getCompiledPropertyMutator(lastNodeClass, lastNodeName, required, autoConvert);
+      } else if (beanClass != null) {
+        lastMutator = PropertyMutatorFactory.getPropertyMutator(lastNodeClass, lastNodeName, required, autoConvert);
       } else {
         lastMutator = new UntypedPropertyMutator(lastNodeName, required, autoConvert);
       }
+    } else if (compiled) {
+      lastMutator = new CompiledPropertyMutator(beanClass, propertyName, required, autoConvert);
     } else {
       lastMutator = new TypedPropertyMutator(beanClass, propertyName, required, autoConvert);
     }
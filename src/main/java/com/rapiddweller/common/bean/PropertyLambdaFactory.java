@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compiles JavaBean read and write methods and default constructors to functional interface implementations
+ * using the {@link LambdaMetafactory}, so they can be called without reflection.
+ * If the bean class cannot be accessed by a lambda, a {@link MethodHandle} based implementation is used.
+ * Created: 17.10.2026 10:12:41
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+final class PropertyLambdaFactory {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /** private constructor for preventing that the class is instantiated */
+  private PropertyLambdaFactory() {
+  }
+
+  // getters ---------------------------------------------------------------------------------------------------------
+
+  static Function<Object, Object> getter(Method readMethod) {
+    Function<Object, Object> result = compile(readMethod, Function.class, "apply",
+        MethodType.methodType(Object.class, Object.class),
+        MethodType.methodType(wrap(readMethod.getReturnType()), readMethod.getDeclaringClass()));
+    if (result == null) {
+      MethodHandle handle = handle(readMethod).asType(MethodType.methodType(Object.class, Object.class));
+      result = bean -> {
+        try {
+          return (Object) handle.invokeExact(bean);
+        } catch (Error error) {
+          throw error;
+        } catch (Throwable t) {
+          throw ExceptionFactory.getInstance().accessFailed("Failed to invoke " + readMethod, t);
+        }
+      };
+    }
+    return result;
+  }
+
+  /** @return a specialized getter for int properties or null if the property type is not int */
+  static ToIntFunction<Object> intGetter(Method readMethod) {
+    if (readMethod.getReturnType() != int.class) {
+      return null;
+    }
+    return compile(readMethod, ToIntFunction.class, "applyAsInt",
+        MethodType.methodType(int.class, Object.class),
+        MethodType.methodType(int.class, readMethod.getDeclaringClass()));
+  }
+
+  /** @return a specialized getter for long properties or null if the property type is not long */
+  static ToLongFunction<Object> longGetter(Method readMethod) {
+    if (readMethod.getReturnType() != long.class) {
+      return null;
+    }
+    return compile(readMethod, ToLongFunction.class, "applyAsLong",
+        MethodType.methodType(long.class, Object.class),
+        MethodType.methodType(long.class, readMethod.getDeclaringClass()));
+  }
+
+  /** @return a specialized getter for double properties or null if the property type is not double */
+  static ToDoubleFunction<Object> doubleGetter(Method readMethod) {
+    if (readMethod.getReturnType() != double.class) {
+      return null;
+    }
+    return compile(readMethod, ToDoubleFunction.class, "applyAsDouble",
+        MethodType.methodType(double.class, Object.class),
+        MethodType.methodType(double.class, readMethod.getDeclaringClass()));
+  }
+
+  // setters ---------------------------------------------------------------------------------------------------------
+
+  static BiConsumer<Object, Object> setter(Method writeMethod) {
+    Class<?> paramType = writeMethod.getParameterTypes()[0];
+    BiConsumer<Object, Object> result = compile(writeMethod, BiConsumer.class, "accept",
+        MethodType.methodType(void.class, Object.class, Object.class),
+        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), wrap(paramType)));
+    if (result == null) {
+      MethodHandle handle = handle(writeMethod).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      result = (bean, value) -> {
+        try {
+          handle.invokeExact(bean, value);
+        } catch (Error error) {
+          throw error;
+        } catch (Throwable t) {
+          throw ExceptionFactory.getInstance().mutationFailed("Failed to invoke " + writeMethod, t);
+        }
+      };
+    }
+    return result;
+  }
+
+  /** @return a specialized setter for int properties or null if the property type is not int */
+  static ObjIntConsumer<Object> intSetter(Method writeMethod) {
+    if (writeMethod.getParameterTypes()[0] != int.class) {
+      return null;
+    }
+    return compile(writeMethod, ObjIntConsumer.class, "accept",
+        MethodType.methodType(void.class, Object.class, int.class),
+        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), int.class));
+  }
+
+  /** @return a specialized setter for long properties or null if the property type is not long */
+  static ObjLongConsumer<Object> longSetter(Method writeMethod) {
+    if (writeMethod.getParameterTypes()[0] != long.class) {
+      return null;
+    }
+    return compile(writeMethod, ObjLongConsumer.class, "accept",
+        MethodType.methodType(void.class, Object.class, long.class),
+        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), long.class));
+  }
+
+  /** @return a specialized setter for double properties or null if the property type is not double */
+  static ObjDoubleConsumer<Object> doubleSetter(Method writeMethod) {
+    if (writeMethod.getParameterTypes()[0] != double.class) {
+      return null;
+    }
+    return compile(writeMethod, ObjDoubleConsumer.class, "accept",
+        MethodType.methodType(void.class, Object.class, double.class),
+        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), double.class));
+  }
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  /** @return a supplier which invokes the public default constructor of the class */
+  static <T> Supplier<T> constructor(Class<T> type) {
+    MethodHandle handle;
+    try {
+      handle = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw ExceptionFactory.getInstance().illegalArgument("No public default constructor found for " + type, e);
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+      CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+          MethodType.methodType(Object.class), lookup.unreflectConstructor(type.getConstructor()),
+          MethodType.methodType(type));
+      return (Supplier<T>) site.getTarget().invoke();
+    } catch (LambdaConversionException | IllegalAccessException | NoSuchMethodException | IllegalArgumentException
+        | SecurityException e) {
+      // the class is not accessible for lambda creation
+      MethodHandle fallback = handle.asType(MethodType.methodType(Object.class));
+      return () -> {
+        try {
+          return (T) fallback.invokeExact();
+        } catch (Error error) {
+          throw error;
+        } catch (Throwable t) {
+          throw ExceptionFactory.getInstance().operationFailed("Failed to instantiate " + type, t);
+        }
+      };
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw ExceptionFactory.getInstance().internalError("Failed to create constructor lambda for " + type, t);
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Creates a lambda of the functional interface type which calls the method.
+   *  @return the lambda or null if the method's class is not accessible for lambda creation */
+  private static <T> T compile(Method method, Class<? super T> functionalType, String functionName,
+                               MethodType functionType, MethodType instantiatedType) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+      MethodHandle target = lookup.unreflect(method);
+      CallSite site = LambdaMetafactory.metafactory(lookup, functionName,
+          MethodType.methodType(functionalType), functionType, target, instantiatedType);
+      return (T) site.getTarget().invoke();
+    } catch (LambdaConversionException | IllegalAccessException | IllegalArgumentException | SecurityException e) {
+      return null;
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw ExceptionFactory.getInstance().internalError("Failed to create lambda for " + method, t);
+    }
+  }
+
+  private static MethodHandle handle(Method method) {
+    try {
+      method.setAccessible(true);
+      return LOOKUP.unreflect(method);
+    } catch (RuntimeException | IllegalAccessException e) {
+      throw ExceptionFactory.getInstance().accessFailed("Cannot access " + method, e);
+    }
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+}
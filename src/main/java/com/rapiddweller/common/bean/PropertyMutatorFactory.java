@@ -15,6 +15,7 @@
 
 package com.rapiddweller.common.bean;
 
+import com.rapiddweller.common.Assert;
 import com.rapiddweller.common.mutator.NamedMutator;
 
 /**
@@ -49,4 +50,16 @@ public static NamedMutator getPropertyMutator(Class<?> beanClass, String propert
     }
   }
 
+  /** Creates a mutator which calls the write method through a compiled lambda instead of reflection.
+   *  For navigated properties like 'category.name', the intermediate nodes are read by compiled accessors. */
+  public static NamedMutator getCompiledPropertyMutator(
+      Class<?> beanClass, String propertyName, boolean required, boolean autoConvert) {
+    Assert.notNull(beanClass, "beanClass");
+    if (propertyName.contains(".")) {
+      return new PropertyGraphMutator(beanClass, propertyName, required, autoConvert, true);
+    } else {
+      return new CompiledPropertyMutator(beanClass, propertyName, required, autoConvert);
+    }
+  }
+
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.mutator.NamedMutator;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the JavaBean properties of a class by name. The tables are held in a {@link ClassValue},
+ * so they can be used concurrently and are discarded together with the class.
+ * Navigated property paths like 'category.name' are resolved on first request and cached,
+ * a lookup of a known property does not allocate any objects.
+ * Accessors and mutators for a property are compiled on first use.
+ * Created: 17.10.2026 13:21:09
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class PropertyTable {
+
+  private static final ClassValue<PropertyTable> TABLES = new ClassValue<>() {
+    @Override
+    protected PropertyTable computeValue(Class<?> type) {
+      return new PropertyTable(type);
+    }
+  };
+
+  /** Marks a property path which does not exist in the bean class */
+  private static final Property MISSING = new Property(null, null, null);
+
+  private final Class<?> beanClass;
+  private final PropertyDescriptor[] descriptors;
+  private final Property[] properties;
+  private final Map<String, Property> localProperties;
+  private final ConcurrentHashMap<String, Property> navigatedProperties;
+
+  private PropertyTable(Class<?> beanClass) {
+    this.beanClass = beanClass;
+    try {
+      this.descriptors = Introspector.getBeanInfo(beanClass).getPropertyDescriptors();
+    } catch (IntrospectionException e) {
+      throw ExceptionFactory.getInstance().illegalArgument("Failed to introspect " + beanClass, e);
+    }
+    this.properties = new Property[descriptors.length];
+    this.localProperties = new HashMap<>(descriptors.length * 2);
+    for (int i = 0; i < descriptors.length; i++) {
+      PropertyDescriptor descriptor = descriptors[i];
+      properties[i] = new Property(beanClass, descriptor.getName(), descriptor);
+      localProperties.put(descriptor.getName(), properties[i]);
+    }
+    this.navigatedProperties = new ConcurrentHashMap<>();
+  }
+
+  /** @param beanClass the class of which to provide the properties
+   *  @return the property table of the class */
+  public static PropertyTable of(Class<?> beanClass) {
+    return TABLES.get(beanClass);
+  }
+
+  public Class<?> getBeanClass() {
+    return beanClass;
+  }
+
+  /** @return a copy of the property descriptors of the class as provided by the {@link Introspector} */
+  public PropertyDescriptor[] getDescriptors() {
+    return descriptors.clone();
+  }
+
+  /** @return the number of (non-navigated) properties of the class */
+  public int size() {
+    return properties.length;
+  }
+
+  /** @param index the index of the property, in the order of {@link #getDescriptors()}
+   *  @return the (non-navigated) property of the specified index */
+  public Property getProperty(int index) {
+    return properties[index];
+  }
+
+  /** @param propertyName the name of a property or a navigated property path like 'category.name'
+   *  @return the property or null if it does not exist */
+  public Property getProperty(String propertyName) {
+    Property result = localProperties.get(propertyName);
+    if (result == null && propertyName.indexOf('.') >= 0) {
+      result = navigatedProperties.get(propertyName);
+      if (result == null) {
+        result = resolveNavigatedProperty(propertyName);
+        Property previous = navigatedProperties.putIfAbsent(propertyName, result);
+        if (previous != null) {
+          result = previous;
+        }
+      }
+    }
+    return (result != MISSING ? result : null);
+  }
+
+  /** @param propertyName the name of a property or a navigated property path like 'category.name'
+   *  @return the descriptor of the (last node of the) property or null if it does not exist */
+  public PropertyDescriptor getDescriptor(String propertyName) {
+    Property property = getProperty(propertyName);
+    return (property != null ? property.descriptor : null);
+  }
+
+  private Property resolveNavigatedProperty(String path) {
+    int separatorIndex = path.indexOf('.');
+    Property localProperty = getProperty(path.substring(0, separatorIndex));
+    if (localProperty == null) {
+      return MISSING;
+    }
+    Class<?> localPropertyType = localProperty.descriptor.getPropertyType();
+    if (localPropertyType == null) {
+      return MISSING;
+    }
+    PropertyDescriptor descriptor = of(localPropertyType).getDescriptor(path.substring(separatorIndex + 1));
+    return (descriptor != null ? new Property(beanClass, path, descriptor) : MISSING);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + beanClass.getName() + ')';
+  }
+
+
+  /** Represents a (possibly navigated) property of a bean class. */
+  public static final class Property {
+
+    private final Class<?> beanClass;
+    private final String path;
+    private final PropertyDescriptor descriptor;
+    private volatile PropertyAccessor<Object, ?> accessor;
+    private volatile NamedMutator mutator;
+
+    Property(Class<?> beanClass, String path, PropertyDescriptor descriptor) {
+      this.beanClass = beanClass;
+      this.path = path;
+      this.descriptor = descriptor;
+    }
+
+    /** @return the property name, or the path for a navigated property */
+    public String getName() {
+      return path;
+    }
+
+    /** @return the descriptor of the property, for a navigated property the one of the last node */
+    public PropertyDescriptor getDescriptor() {
+      return descriptor;
+    }
+
+    public boolean isReadable() {
+      return (descriptor.getReadMethod() != null);
+    }
+
+    public boolean isWritable() {
+      return (descriptor.getWriteMethod() != null);
+    }
+
+    /** @return a compiled accessor for the property, see {@link PropertyAccessorFactory#getCompiledAccessor} */
+    @SuppressWarnings("unchecked")
+    public PropertyAccessor<Object, ?> getAccessor() {
+      PropertyAccessor<Object, ?> result = accessor;
+      if (result == null) {
+        result = PropertyAccessorFactory.getCompiledAccessor(beanClass, path, true);
+        accessor = result;
+      }
+      return result;
+    }
+
+    /** @return a compiled mutator for the property which does not perform type conversion,
+     *  see {@link PropertyMutatorFactory#getCompiledPropertyMutator} */
+    public NamedMutator getMutator() {
+      NamedMutator result = mutator;
+      if (result == null) {
+        result = PropertyMutatorFactory.getCompiledPropertyMutator(beanClass, path, true, false);
+        mutator = result;
+      }
+      return result;
+    }
+
+    public Object getValue(Object bean) {
+      return getAccessor().getValue(bean);
+    }
+
+    public void setValue(Object bean, Object value) {
+      getMutator().setValue(bean, value);
+    }
+
+    @Override
+    public String toString() {
+      return beanClass.getSimpleName() + '.' + path;
+    }
+  }
+
+}
@@ -15,9 +15,10 @@
 
 package com.rapiddweller.common.collection;
 
-import com.rapiddweller.common.NullSafeComparator;
 import com.rapiddweller.common.OrderedMap;
+import com.rapiddweller.common.StringUtil;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -32,13 +33,19 @@
 
   private static final long serialVersionUID = 5774443959123444148L;
 
+  /** Maps the case-folded form of each key to the first stored key of that form */
+  private final Map<String, String> foldedKeys;
+
   // constructors + factory methods ----------------------------------------------------------------------------------
 
   public CaseInsensitiveOrderedNameMap() {
+    this.foldedKeys = new HashMap<>();
   }
 
   public CaseInsensitiveOrderedNameMap(Map<String, E> that) {
-    super(that);
+    super(that.size());
+    this.foldedKeys = new HashMap<>(that.size());
+    putAll(that);
   }
 
   // Map interface implementation ------------------------------------------------------------------------------------
@@ -49,16 +56,7 @@ public boolean containsKey(Object key) {
   }
 
   public boolean containsKey(String key) {
-    boolean result = super.containsKey(key);
-    if (result) {
-      return result;
-    }
-    for (String tmp : super.keySet()) {
-      if (tmp.equalsIgnoreCase(key)) {
-        return true;
-      }
-    }
-    return result;
+    return (super.containsKey(key) || (key != null && foldedKeys.containsKey(StringUtil.foldCase(key))));
   }
 
   @Override
@@ -68,16 +66,11 @@ public E get(Object key) {
 
   public E get(String key) {
     E result = super.get(key);
-    if (result != null) {
+    if (result != null || key == null) {
       return result;
     }
-    for (Map.Entry<String, E> entry : super.entrySet()) {
-      String tmp = entry.getKey();
-      if ((tmp == null && key == null) || (tmp != null && tmp.equalsIgnoreCase(key))) {
-        return entry.getValue();
-      }
-    }
-    return null;
+    String storedKey = foldedKeys.get(StringUtil.foldCase(key));
+    return (storedKey != null ? super.get(storedKey) : null);
   }
 
   @Override
@@ -86,32 +79,61 @@ public Map.Entry<String, E> getEntry(String key) {
     if (value != null) {
       return new MapEntry<>(key, value);
     }
-    for (Map.Entry<String, E> entry : super.entrySet()) {
-      String tmp = entry.getKey();
-      if ((tmp == null && key == null) || (tmp != null && tmp.equalsIgnoreCase(key))) {
-        String resultKey = entry.getKey();
-        return new MapEntry<>(resultKey, entry.getValue());
-      }
+    String storedKey = (key != null ? foldedKeys.get(StringUtil.foldCase(key)) : null);
+    if (storedKey != null) {
+      return new MapEntry<>(storedKey, super.get(storedKey));
+    } else if (key == null && super.containsKey(null)) {
+      return new MapEntry<>(null, null);
+    } else {
+      return null;
     }
-    return null;
   }
 
   @Override
   public E put(String key, E value) {
+    if (key != null && !super.containsKey(key)) {
+      foldedKeys.putIfAbsent(StringUtil.foldCase(key), key);
+    }
     return super.put(key, value);
   }
 
+  @Override
+  public E remove(Object key) {
+    return remove((String) key);
+  }
+
   public E remove(String key) {
-    E result = super.remove(key);
-    if (result != null) {
-      return result;
+    if (key == null || super.containsKey(key)) {
+      return removeStoredKey(key);
     }
-    for (Map.Entry<String, E> entry : super.entrySet()) {
-      if (NullSafeComparator.equals(entry.getKey(), key)) {
-        return super.remove(entry.getKey());
+    String storedKey = foldedKeys.get(StringUtil.foldCase(key));
+    return (storedKey != null ? removeStoredKey(storedKey) : null);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    foldedKeys.clear();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private E removeStoredKey(String key) {
+    E result = super.remove(key);
+    if (key != null) {
+      String foldedKey = StringUtil.foldCase(key);
+      if (key.equals(foldedKeys.get(foldedKey))) {
+        // index the next stored key of the same folded form, if there is one
+        foldedKeys.remove(foldedKey);
+        for (String candidate : super.keySet()) {
+          if (candidate != null && foldedKey.equals(StringUtil.foldCase(candidate))) {
+            foldedKeys.put(foldedKey, candidate);
+            break;
+          }
+        }
       }
     }
-    return null;
+    return result;
   }
 
 }
@@ -23,7 +23,8 @@
 import java.util.TreeMap;
 
 /**
- * Collects int values in a compressed way.
+ * Collects int values in a compressed way by merging consecutive values to ranges.
+ * For large or scattered value sets, see {@link RoaringIntSet}.
  * Created: 05.10.2010 19:17:30
  * @author Volker Bergmann
  * @since 0.5.4
@@ -22,6 +22,7 @@
 
 /**
  * Set of {@link Long} values which stores subsequent values in a compressed format.
+ * For large or scattered value sets, see {@link RoaringLongSet}.
  * Created: 18.10.2010 08:32:15
  * @author Volker Bergmann
  * @since 0.5.4
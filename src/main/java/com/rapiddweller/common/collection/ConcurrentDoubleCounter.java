@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+/**
+ * Thread-safe counter of double values without boxing, see {@link ConcurrentLongCounter}.
+ * Values are distinguished like by {@link Double#equals(Object)}, so 0.0 and -0.0 are counted separately.<br/><br/>
+ * Created: 18.10.2026 01:20:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ConcurrentDoubleCounter {
+
+  private final ConcurrentLongCounter counter;
+
+  public ConcurrentDoubleCounter() {
+    this.counter = new ConcurrentLongCounter();
+  }
+
+  public ConcurrentDoubleCounter(int stripeCount) {
+    this.counter = new ConcurrentLongCounter(stripeCount);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public void count(double value) {
+    counter.count(toKey(value));
+  }
+
+  public void count(double value, long times) {
+    counter.count(toKey(value), times);
+  }
+
+  public void haveValue(double value) {
+    counter.haveValue(toKey(value));
+  }
+
+  public void uncount(double value) {
+    counter.uncount(toKey(value));
+  }
+
+  public long getCount(double value) {
+    return counter.getCount(toKey(value));
+  }
+
+  public int getDistinctInstanceCount() {
+    return counter.getDistinctInstanceCount();
+  }
+
+  /** @return the sum of all counts, which is exact only if no other thread is counting */
+  public long totalCount() {
+    return counter.totalCount();
+  }
+
+  public void clear() {
+    counter.clear();
+  }
+
+  /** Copies the current counts for statistical queries.
+   *  @return a snapshot of the counts */
+  public Snapshot snapshot() {
+    return new Snapshot(counter.snapshot());
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Maps a double to a long of which the signed order matches the numerical order of the doubles.
+   *  The mapping is its own inverse. */
+  static long toKey(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  static double toValue(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+
+  // Snapshot class --------------------------------------------------------------------------------------------------
+
+  /** Immutable copy of the counts of a {@link ConcurrentDoubleCounter}, sorted by value. */
+  public static final class Snapshot {
+
+    private final ConcurrentLongCounter.Snapshot keys;
+
+    Snapshot(ConcurrentLongCounter.Snapshot keys) {
+      this.keys = keys;
+    }
+
+    public int getDistinctInstanceCount() {
+      return keys.getDistinctInstanceCount();
+    }
+
+    public long totalCount() {
+      return keys.totalCount();
+    }
+
+    public double valueAt(int index) {
+      return toValue(keys.valueAt(index));
+    }
+
+    public long countAt(int index) {
+      return keys.countAt(index);
+    }
+
+    public long getCount(double value) {
+      return keys.getCount(toKey(value));
+    }
+
+    public double getRelativeCount(double value) {
+      return keys.getRelativeCount(toKey(value));
+    }
+
+    public double averageCount() {
+      return keys.averageCount();
+    }
+
+    /** @return the value with the highest count, or null if no value has a positive count */
+    public Double mostFrequentValue() {
+      int index = keys.indexOfMostFrequentValue();
+      return (index >= 0 ? valueAt(index) : null);
+    }
+
+    /** @param value the lower bound
+     *  @return the share of the counts of values which are greater than or equal to the given one,
+     *      or null if no value has been counted */
+    public Double quotaAtOrAboveValue(double value) {
+      return keys.quotaAtOrAboveValue(toKey(value));
+    }
+
+    public Double median() {
+      return percentile(50);
+    }
+
+    public Double percentile(int percentile) {
+      int index = keys.indexOfPercentile(percentile);
+      return (index >= 0 ? valueAt(index) : null);
+    }
+
+    /** @return the average of the counted values, weighted by their counts */
+    public double average() {
+      double sum = 0;
+      for (int i = 0; i < keys.getDistinctInstanceCount(); i++) {
+        sum += valueAt(i) * keys.countAt(i);
+      }
+      long totalCount = keys.totalCount();
+      return (totalCount != 0 ? sum / totalCount : Double.NaN);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder buffer = new StringBuilder("[");
+      for (int i = 0; i < keys.getDistinctInstanceCount(); i++) {
+        if (i > 0) {
+          buffer.append(", ");
+        }
+        buffer.append(valueAt(i)).append(':').append(keys.countAt(i));
+      }
+      return buffer.append(']').toString();
+    }
+  }
+
+}
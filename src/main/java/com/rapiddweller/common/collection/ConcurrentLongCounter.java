@@ -0,0 +1,387 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe counter of int or long values which stores values and counts in primitive arrays.
+ * The values are distributed over lock stripes by their hash, so threads which count different values
+ * rarely contend for the same lock. Statistical queries are performed on a consistent {@link #snapshot()}.<br/><br/>
+ * Created: 18.10.2026 00:58:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ConcurrentLongCounter {
+
+  private static final int MAX_DEFAULT_STRIPES = 64;
+
+  private final Stripe[] stripes;
+  private final int stripeMask;
+
+  public ConcurrentLongCounter() {
+    this(Math.min(4 * Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_STRIPES));
+  }
+
+  public ConcurrentLongCounter(int stripeCount) {
+    if (stripeCount <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("stripeCount must be positive, but was " + stripeCount);
+    }
+    int count = Integer.highestOneBit(stripeCount - 1) << 1;
+    count = Math.max(count, 1);
+    this.stripes = new Stripe[count];
+    for (int i = 0; i < count; i++) {
+      stripes[i] = new Stripe();
+    }
+    this.stripeMask = count - 1;
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public void count(long value) {
+    count(value, 1);
+  }
+
+  public void count(long value, long times) {
+    long hash = hash(value);
+    stripe(hash).add(value, (int) hash, times, true);
+  }
+
+  public void haveValue(long value) {
+    count(value, 0);
+  }
+
+  public void uncount(long value) {
+    long hash = hash(value);
+    if (!stripe(hash).add(value, (int) hash, -1, false)) {
+      throw ExceptionFactory.getInstance().programmerStateError("Cannot uncount: " + value);
+    }
+  }
+
+  public long getCount(long value) {
+    long hash = hash(value);
+    return stripe(hash).get(value, (int) hash);
+  }
+
+  public int getDistinctInstanceCount() {
+    int result = 0;
+    for (Stripe stripe : stripes) {
+      result += stripe.size();
+    }
+    return result;
+  }
+
+  /** @return the sum of all counts, which is exact only if no other thread is counting */
+  public long totalCount() {
+    long result = 0;
+    for (Stripe stripe : stripes) {
+      result += stripe.totalCount();
+    }
+    return result;
+  }
+
+  public void clear() {
+    for (Stripe stripe : stripes) {
+      stripe.clear();
+    }
+  }
+
+  /** Copies the current counts for statistical queries. Each stripe is copied atomically.
+   *  @return a snapshot of the counts */
+  public Snapshot snapshot() {
+    long[][] stripeValues = new long[stripes.length][];
+    long[][] stripeCounts = new long[stripes.length][];
+    int size = 0;
+    for (int i = 0; i < stripes.length; i++) {
+      synchronized (stripes[i]) {
+        stripeValues[i] = stripes[i].values();
+        stripeCounts[i] = stripes[i].counts();
+      }
+      size += stripeValues[i].length;
+    }
+    long[] values = new long[size];
+    long[] counts = new long[size];
+    int offset = 0;
+    for (int i = 0; i < stripes.length; i++) {
+      System.arraycopy(stripeValues[i], 0, values, offset, stripeValues[i].length);
+      System.arraycopy(stripeCounts[i], 0, counts, offset, stripeCounts[i].length);
+      offset += stripeValues[i].length;
+    }
+    return new Snapshot(values, counts);
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Mixes the bits of the value, the upper half selects the stripe, the lower half the slot in the stripe. */
+  private static long hash(long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    return h ^ (h >>> 29);
+  }
+
+  private Stripe stripe(long hash) {
+    return stripes[(int) (hash >>> 40) & stripeMask];
+  }
+
+  /** Open-addressing hash table of values and counts, guarded by its own monitor. */
+  private static final class Stripe {
+
+    private long[] values = new long[16];
+    private long[] counts = new long[16];
+    private boolean[] used = new boolean[16];
+    private int size;
+    private long totalCount;
+
+    synchronized boolean add(long value, int hash, long times, boolean insert) {
+      int slot = findSlot(value, hash);
+      if (!used[slot]) {
+        if (!insert) {
+          return false;
+        }
+        if (2 * (size + 1) > values.length) {
+          grow();
+          slot = findSlot(value, hash);
+        }
+        used[slot] = true;
+        values[slot] = value;
+        size++;
+      }
+      counts[slot] += times;
+      totalCount += times;
+      return true;
+    }
+
+    synchronized long get(long value, int hash) {
+      int slot = findSlot(value, hash);
+      return (used[slot] ? counts[slot] : 0);
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    synchronized long totalCount() {
+      return totalCount;
+    }
+
+    synchronized void clear() {
+      Arrays.fill(used, false);
+      Arrays.fill(counts, 0);
+      size = 0;
+      totalCount = 0;
+    }
+
+    /** Must be called while holding the monitor */
+    long[] values() {
+      long[] result = new long[size];
+      int j = 0;
+      for (int i = 0; i < used.length; i++) {
+        if (used[i]) {
+          result[j++] = values[i];
+        }
+      }
+      return result;
+    }
+
+    /** Must be called while holding the monitor, returns the counts in the order of {@link #values()} */
+    long[] counts() {
+      long[] result = new long[size];
+      int j = 0;
+      for (int i = 0; i < used.length; i++) {
+        if (used[i]) {
+          result[j++] = counts[i];
+        }
+      }
+      return result;
+    }
+
+    private int findSlot(long value, int hash) {
+      int mask = values.length - 1;
+      int slot = hash & mask;
+      while (used[slot] && values[slot] != value) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void grow() {
+      long[] oldValues = values;
+      long[] oldCounts = counts;
+      boolean[] oldUsed = used;
+      values = new long[oldValues.length * 2];
+      counts = new long[oldValues.length * 2];
+      used = new boolean[oldValues.length * 2];
+      for (int i = 0; i < oldValues.length; i++) {
+        if (oldUsed[i]) {
+          int slot = findSlot(oldValues[i], (int) hash(oldValues[i]));
+          used[slot] = true;
+          values[slot] = oldValues[i];
+          counts[slot] = oldCounts[i];
+        }
+      }
+    }
+  }
+
+  // Snapshot class --------------------------------------------------------------------------------------------------
+
+  /** Immutable copy of the counts of a {@link ConcurrentLongCounter}, sorted by value. */
+  public static final class Snapshot {
+
+    private final long[] values;
+    private final long[] counts;
+    private final long totalCount;
+
+    Snapshot(long[] values, long[] counts) {
+      int size = values.length;
+      // sort by value, carrying the counts along
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (i, j) -> Long.compare(values[i], values[j]));
+      this.values = new long[size];
+      this.counts = new long[size];
+      long total = 0;
+      for (int i = 0; i < size; i++) {
+        this.values[i] = values[order[i]];
+        this.counts[i] = counts[order[i]];
+        total += this.counts[i];
+      }
+      this.totalCount = total;
+    }
+
+    public int getDistinctInstanceCount() {
+      return values.length;
+    }
+
+    public long totalCount() {
+      return totalCount;
+    }
+
+    public long valueAt(int index) {
+      return values[index];
+    }
+
+    public long countAt(int index) {
+      return counts[index];
+    }
+
+    public long getCount(long value) {
+      int index = Arrays.binarySearch(values, value);
+      return (index >= 0 ? counts[index] : 0);
+    }
+
+    public double getRelativeCount(long value) {
+      return (double) getCount(value) / totalCount;
+    }
+
+    public double averageCount() {
+      return (values.length > 0 ? ((double) totalCount) / values.length : 0);
+    }
+
+    /** @return the index of the value with the highest count, or -1 if no value has a positive count */
+    public int indexOfMostFrequentValue() {
+      long maxCount = 0;
+      int result = -1;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > maxCount) {
+          result = i;
+          maxCount = counts[i];
+        }
+      }
+      return result;
+    }
+
+    /** @return the value with the highest count, or null if no value has a positive count */
+    public Long mostFrequentValue() {
+      int index = indexOfMostFrequentValue();
+      return (index >= 0 ? values[index] : null);
+    }
+
+    /** @param value the lower bound
+     *  @return the share of the counts of values which are greater than or equal to the given one,
+     *      or null if no value has been counted */
+    public Double quotaAtOrAboveValue(long value) {
+      if (values.length == 0) {
+        return null;
+      }
+      int index = Arrays.binarySearch(values, value);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      long count = 0;
+      for (int i = index; i < counts.length; i++) {
+        count += counts[i];
+      }
+      return (double) count / totalCount;
+    }
+
+    public Long median() {
+      return percentile(50);
+    }
+
+    public Long percentile(int percentile) {
+      int index = indexOfPercentile(percentile);
+      return (index >= 0 ? values[index] : null);
+    }
+
+    /** @param percentile the percentile
+     *  @return the index of the lowest value at which the accumulated count reaches the percentile,
+     *      or -1 if no value has been counted */
+    public int indexOfPercentile(int percentile) {
+      if (values.length == 0) {
+        return -1;
+      }
+      long percentileCount = totalCount * percentile / 100;
+      long accumulatedCount = 0;
+      for (int i = 0; i < counts.length; i++) {
+        accumulatedCount += counts[i];
+        if (accumulatedCount >= percentileCount) {
+          return i;
+        }
+      }
+      return counts.length - 1;
+    }
+
+    /** @return the average of the counted values, weighted by their counts */
+    public double average() {
+      double sum = 0;
+      for (int i = 0; i < values.length; i++) {
+        sum += (double) values[i] * counts[i];
+      }
+      return (totalCount != 0 ? sum / totalCount : Double.NaN);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder buffer = new StringBuilder("[");
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          buffer.append(", ");
+        }
+        buffer.append(values[i]).append(':').append(counts[i]);
+      }
+      return buffer.append(']').toString();
+    }
+  }
+
+}
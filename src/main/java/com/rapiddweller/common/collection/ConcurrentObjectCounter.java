@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counter of objects, which can be used concurrently by many threads with low contention,
+ * since each object's count is a {@link LongAdder}.
+ * Statistical queries are performed on a consistent {@link #snapshot()}. Null values are not supported.<br/><br/>
+ * Created: 18.10.2026 00:41:26
+ * @param <E> the type of the counted elements
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ConcurrentObjectCounter<E> {
+
+  private final ConcurrentHashMap<E, LongAdder> instances;
+
+  public ConcurrentObjectCounter() {
+    this(100);
+  }
+
+  public ConcurrentObjectCounter(int initialCapacity) {
+    this.instances = new ConcurrentHashMap<>(initialCapacity);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public void count(E instance) {
+    counter(instance).increment();
+  }
+
+  public void count(E instance, long times) {
+    counter(instance).add(times);
+  }
+
+  public void haveValue(E instance) {
+    counter(instance);
+  }
+
+  public void uncount(E instance) {
+    LongAdder counter = instances.get(instance);
+    if (counter == null) {
+      throw ExceptionFactory.getInstance().programmerStateError("Cannot uncount: " + instance);
+    }
+    counter.decrement();
+  }
+
+  public Set<E> objectSet() {
+    return instances.keySet();
+  }
+
+  public long getCount(E instance) {
+    LongAdder counter = instances.get(instance);
+    return (counter != null ? counter.sum() : 0);
+  }
+
+  public int getDistinctInstanceCount() {
+    return instances.size();
+  }
+
+  /** @return the sum of all counts, which is exact only if no other thread is counting */
+  public long totalCount() {
+    long result = 0;
+    for (LongAdder counter : instances.values()) {
+      result += counter.sum();
+    }
+    return result;
+  }
+
+  public void clear() {
+    instances.clear();
+  }
+
+  /** Creates an {@link ObjectCounter} with the current counts, which provides statistical queries
+   *  like {@link ObjectCounter#mostFrequentValue()}, {@link ObjectCounter#averageCount()}
+   *  or {@link ObjectCounter#quotaAtOrAboveValue(Object, java.util.Comparator)}.
+   *  Its total count is the sum of its counts, even if other threads continue counting.
+   *  @return a snapshot of the counts */
+  public ObjectCounter<E> snapshot() {
+    ObjectCounter<E> result = new ObjectCounter<>(Math.max(instances.size(), 1));
+    for (Map.Entry<E, LongAdder> entry : instances.entrySet()) {
+      long count = entry.getValue().sum();
+      if (count > Integer.MAX_VALUE) {
+        throw ExceptionFactory.getInstance().illegalOperation(
+            "Count of " + entry.getKey() + " exceeds the range of a snapshot: " + count);
+      }
+      result.haveValue(entry.getKey());
+      result.count(entry.getKey(), (int) count);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private LongAdder counter(E instance) {
+    LongAdder counter = instances.get(instance);
+    if (counter == null) {
+      counter = instances.computeIfAbsent(instance, k -> new LongAdder());
+    }
+    return counter;
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Parent class for bounded lock-free ring buffers which hand over objects from producer threads
+ * to a single consumer thread, e.g. from a reading thread to a converter thread ({@link SpscRingBuffer})
+ * or from converter worker threads to a writing thread ({@link MpscRingBuffer}).
+ * Producer and consumer positions are kept in {@link PaddedSequence}s, so they do not share cache lines.
+ * A full or empty buffer is handled by the non-blocking methods {@link #offer(Object)} and {@link #poll()}
+ * or by the blocking methods {@link #put(Object)} and {@link #take()} which wait with the configured
+ * {@link WaitStrategy}. null elements are not supported. The capacity is rounded up to a power of two.<br/><br/>
+ * Created: 18.10.2026 04:21:33
+ * @param <E> the type of the buffered objects
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public abstract class ConcurrentRingBuffer<E> {
+
+  static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  protected final Object[] elements;
+  protected final int mask;
+  protected final WaitStrategy waitStrategy;
+
+  /** The index of the next element to consume, only written by the consumer */
+  protected final PaddedSequence head;
+  /** The index of the next element to produce */
+  protected final PaddedSequence tail;
+
+  protected ConcurrentRingBuffer(int capacity, WaitStrategy waitStrategy) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw ExceptionFactory.getInstance().illegalArgument("Illegal capacity: " + capacity);
+    }
+    int size = (capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+    this.elements = new Object[size];
+    this.mask = size - 1;
+    this.waitStrategy = waitStrategy;
+    this.head = new PaddedSequence(0);
+    this.tail = new PaddedSequence(0);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getCapacity() {
+    return elements.length;
+  }
+
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  /** @return the number of buffered elements, which may be outdated when it is returned */
+  public int size() {
+    while (true) {
+      long before = head.get();
+      long currentTail = tail.get();
+      if (head.get() == before) {
+        return (int) Math.max(0, Math.min(currentTail - before, elements.length));
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return (tail.get() == head.get());
+  }
+
+  /** Adds an element if the buffer is not full.
+   *  @param element the element to add
+   *  @return true if the element was added, false if the buffer was full */
+  public abstract boolean offer(E element);
+
+  /** Removes the oldest element. May only be called by the consumer thread.
+   *  @return the oldest element or null if the buffer is empty */
+  public abstract E poll();
+
+  /** Removes up to limit elements in a batch and passes them to the consumer.
+   *  May only be called by the consumer thread.
+   *  @param consumer receives the removed elements in the order in which they were added
+   *  @param limit the maximum number of elements to remove
+   *  @return the number of removed elements */
+  public abstract int drain(Consumer<? super E> consumer, int limit);
+
+  public int drain(Consumer<? super E> consumer) {
+    return drain(consumer, elements.length);
+  }
+
+  public int drainTo(Collection<? super E> target, int limit) {
+    return drain(target::add, limit);
+  }
+
+  /** Adds an element, waiting while the buffer is full.
+   *  @param element the element to add
+   *  @throws InterruptedException if the thread was interrupted while waiting */
+  public void put(E element) throws InterruptedException {
+    int attempt = 0;
+    while (!offer(element)) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      waitStrategy.idle(attempt++);
+    }
+  }
+
+  /** Removes the oldest element, waiting while the buffer is empty. May only be called by the consumer thread.
+   *  @return the oldest element
+   *  @throws InterruptedException if the thread was interrupted while waiting */
+  public E take() throws InterruptedException {
+    int attempt = 0;
+    E result;
+    while ((result = poll()) == null) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      waitStrategy.idle(attempt++);
+    }
+    return result;
+  }
+
+  /** Waits until at least one element is available and then removes up to limit elements in a batch.
+   *  May only be called by the consumer thread.
+   *  @param consumer receives the removed elements
+   *  @param limit the maximum number of elements to remove
+   *  @return the number of removed elements
+   *  @throws InterruptedException if the thread was interrupted while waiting */
+  public int drainWaiting(Consumer<? super E> consumer, int limit) throws InterruptedException {
+    int attempt = 0;
+    int count;
+    while ((count = drain(consumer, limit)) == 0) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      waitStrategy.idle(attempt++);
+    }
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[size=" + size() + ", capacity=" + elements.length + ']';
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  protected static void checkElement(Object element) {
+    if (element == null) {
+      throw ExceptionFactory.getInstance().illegalArgument("null elements are not supported");
+    }
+  }
+
+}
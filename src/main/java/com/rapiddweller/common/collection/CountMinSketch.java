@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min sketch which estimates the frequency of objects in a fixed amount of memory.
+ * The estimate never underestimates the true count and with probability 1 - delta overestimates it
+ * by at most epsilon * {@link #totalCount()}, where epsilon = e / width and delta = e<sup>-depth</sup>.
+ * Sketches of equal dimensions can be merged, e.g. after counting different partitions in different threads.
+ * Objects are distinguished by their hashCode().<br/><br/>
+ * Created: 18.10.2026 02:12:30
+ * @param <E> the type of the counted elements
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CountMinSketch<E> {
+
+  private final int width;
+  private final int depth;
+  private final long[] counts;
+  private long totalCount;
+
+  public CountMinSketch(int width, int depth) {
+    if (width <= 0 || depth <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument(
+          "width and depth must be positive, but were " + width + " and " + depth);
+    }
+    this.width = width;
+    this.depth = depth;
+    this.counts = new long[width * depth];
+    this.totalCount = 0;
+  }
+
+  /** Creates a sketch with the dimensions required for the given error bounds.
+   *  @param epsilon the maximum overestimation relative to the total count
+   *  @param confidence the probability with which the estimation error stays within epsilon
+   *  @param <T> the type of the counted elements
+   *  @return a new sketch */
+  public static <T> CountMinSketch<T> withErrorBounds(double epsilon, double confidence) {
+    if (!(epsilon > 0 && epsilon < 1) || !(confidence > 0 && confidence < 1)) {
+      throw ExceptionFactory.getInstance().illegalArgument(
+          "epsilon and confidence must be between 0 and 1, but were " + epsilon + " and " + confidence);
+    }
+    int width = (int) Math.ceil(Math.E / epsilon);
+    int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+    return new CountMinSketch<>(width, depth);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  /** @return the maximum overestimation relative to the total count */
+  public double getEpsilon() {
+    return Math.E / width;
+  }
+
+  /** @return the probability with which the estimation error stays within {@link #getEpsilon()} */
+  public double getConfidence() {
+    return 1 - Math.exp(-depth);
+  }
+
+  public void count(E instance) {
+    count(instance, 1);
+  }
+
+  public void count(E instance, long times) {
+    if (times < 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("Cannot count negative times: " + times);
+    }
+    long hash = SketchHashing.hash(instance);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int row = 0; row < depth; row++) {
+      counts[row * width + index(h1, h2, row)] += times;
+    }
+    totalCount += times;
+  }
+
+  /** @param instance the object of which to estimate the count
+   *  @return an estimation of the count, which is at least the real count */
+  public long estimateCount(E instance) {
+    long hash = SketchHashing.hash(instance);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long result = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      result = Math.min(result, counts[row * width + index(h1, h2, row)]);
+    }
+    return result;
+  }
+
+  public long totalCount() {
+    return totalCount;
+  }
+
+  /** Adds the counts of another sketch of the same dimensions to this one.
+   *  @param other the sketch to merge */
+  public void merge(CountMinSketch<E> other) {
+    if (other.width != this.width || other.depth != this.depth) {
+      throw ExceptionFactory.getInstance().illegalArgument("Cannot merge sketches of different dimensions: "
+          + this.width + 'x' + this.depth + " and " + other.width + 'x' + other.depth);
+    }
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += other.counts[i];
+    }
+    totalCount += other.totalCount;
+  }
+
+  public void clear() {
+    Arrays.fill(counts, 0);
+    totalCount = 0;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[width=" + width + ", depth=" + depth + ", totalCount=" + totalCount + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Derives the row's hash function from two base hashes, see Kirsch and Mitzenmacher. */
+  private int index(int h1, int h2, int row) {
+    int combined = h1 + row * h2;
+    return Math.floorMod(combined, width);
+  }
+
+}
@@ -6,7 +6,8 @@
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * {@link ObjectCounter} that counts the frequency of double values.<br/><br/>
+ * {@link ObjectCounter} that counts the frequency of double values.
+ * For counting without boxing or in multiple threads, use {@link ConcurrentDoubleCounter}.<br/><br/>
  * Created: 19.03.2022 09:03:01
  * @author Volker Bergmann
  * @since 2.0.0
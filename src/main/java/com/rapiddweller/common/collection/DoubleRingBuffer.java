@@ -23,7 +23,8 @@
 import java.util.List;
 
 /**
- * Provides a ring buffer for double values.<br><br>
+ * Provides a ring buffer for double values.
+ * Its statistical methods scan the whole buffer, for constant-time statistics use {@link WindowedStatistics}.<br><br>
  * Created: 25.11.2017 19:27:12
  * @author Volker Bergmann
  * @since 1.0.12
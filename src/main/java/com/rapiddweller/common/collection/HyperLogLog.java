@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.Arrays;
+
+/**
+ * Estimates the number of distinct values in a stream with the HyperLogLog algorithm
+ * of Flajolet, Fusy, Gandouet and Meunier, using 2<sup>precision</sup> bytes of memory.
+ * The standard error of the estimate is about 1.04 / sqrt(2<sup>precision</sup>),
+ * e.g. 1.6% for the default precision of 12. Small cardinalities are estimated by linear counting.
+ * Estimators of equal precision can be merged, e.g. after processing different partitions in different threads.
+ * Objects are distinguished by their hashCode(), for numbers use {@link #add(long)}.<br/><br/>
+ * Created: 18.10.2026 02:58:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class HyperLogLog {
+
+  public static final int DEFAULT_PRECISION = 12;
+  public static final int MIN_PRECISION = 4;
+  public static final int MAX_PRECISION = 18;
+
+  private final int precision;
+  private final byte[] registers;
+
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  public HyperLogLog(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw ExceptionFactory.getInstance().illegalArgument("precision must be between " + MIN_PRECISION
+          + " and " + MAX_PRECISION + ", but was " + precision);
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getPrecision() {
+    return precision;
+  }
+
+  /** @return the expected relative standard error of {@link #estimate()} */
+  public double getStandardError() {
+    return 1.04 / Math.sqrt(registers.length);
+  }
+
+  public void add(Object value) {
+    addHash(SketchHashing.hash(value));
+  }
+
+  public void add(long value) {
+    addHash(SketchHashing.mix(value));
+  }
+
+  public void add(double value) {
+    add(Double.doubleToLongBits(value));
+  }
+
+  /** Adds a value by its hash, which must be uniformly distributed over all 64 bits.
+   *  @param hash the hash of the value */
+  public void addHash(long hash) {
+    int index = (int) (hash >>> (64 - precision));
+    // the bits below the index bits, with a guard bit to limit the rank
+    long rest = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /** @return an estimation of the number of distinct values which have been added */
+  public long estimate() {
+    int m = registers.length;
+    double sum = 0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double estimate = alpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  /** Merges the values of another estimator of the same precision into this one.
+   *  @param other the estimator to merge */
+  public void merge(HyperLogLog other) {
+    if (other.precision != this.precision) {
+      throw ExceptionFactory.getInstance().illegalArgument("Cannot merge estimators of different precision: "
+          + this.precision + " and " + other.precision);
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  public void clear() {
+    Arrays.fill(registers, (byte) 0);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[precision=" + precision + ", estimate=" + estimate() + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static double alpha(int m) {
+    switch (m) {
+      case 16:
+        return 0.673;
+      case 32:
+        return 0.697;
+      case 64:
+        return 0.709;
+      default:
+        return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import java.util.function.Consumer;
+
+/**
+ * Lock-free bounded ring buffer for multiple producer threads and one consumer thread.
+ * Producers claim a slot by a compare-and-set on the tail sequence and then publish the element
+ * into the slot, so the consumer recognizes published elements by a non-null slot.<br/><br/>
+ * Created: 18.10.2026 04:51:27
+ * @param <E> the type of the buffered objects
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MpscRingBuffer<E> extends ConcurrentRingBuffer<E> {
+
+  /** A head position which is known to have been reached, shared by the producers */
+  private volatile long headCache;
+
+  public MpscRingBuffer(int capacity) {
+    this(capacity, WaitStrategy.YIELD);
+  }
+
+  public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+    super(capacity, waitStrategy);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean offer(E element) {
+    checkElement(element);
+    long currentTail;
+    do {
+      currentTail = tail.get();
+      long headLimit = headCache;
+      if (currentTail - headLimit >= elements.length) {
+        headLimit = head.get();
+        if (currentTail - headLimit >= elements.length) {
+          return false;
+        }
+        headCache = headLimit;
+      }
+    } while (!tail.compareAndSet(currentTail, currentTail + 1));
+    ELEMENTS.setRelease(elements, (int) currentTail & mask, element);
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E poll() {
+    long currentHead = head.getPlain();
+    int index = (int) currentHead & mask;
+    E result = (E) ELEMENTS.getAcquire(elements, index);
+    if (result == null) {
+      if (currentHead == tail.get()) {
+        return null;
+      }
+      // a producer has claimed the slot, but not yet published its element
+      int attempt = 0;
+      while ((result = (E) ELEMENTS.getAcquire(elements, index)) == null) {
+        waitStrategy.idle(attempt++);
+      }
+    }
+    elements[index] = null;
+    head.setRelease(currentHead + 1);
+    return result;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int drain(Consumer<? super E> consumer, int limit) {
+    long currentHead = head.getPlain();
+    int count = 0;
+    while (count < limit) {
+      int index = (int) (currentHead + count) & mask;
+      E element = (E) ELEMENTS.getAcquire(elements, index);
+      if (element == null) {
+        break;
+      }
+      elements[index] = null;
+      consumer.accept(element);
+      count++;
+    }
+    if (count > 0) {
+      head.setRelease(currentHead + count);
+    }
+    return count;
+  }
+
+}
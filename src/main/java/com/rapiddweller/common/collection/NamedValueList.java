@@ -40,6 +40,8 @@
   private final List<String> names;
   private final List<E> values;
   private final Map<String, Integer> indices;
+  /** Maps case-folded names to indices, used in {@link #INSENSITIVE} mode only */
+  private final Map<String, Integer> foldedIndices;
 
   public static <T> NamedValueList<T> createCaseSensitiveList() {
     return new NamedValueList<>(SENSITIVE);
@@ -61,6 +63,7 @@ public NamedValueList(int caseHandling) {
     this.names = new ArrayList<>();
     this.values = new ArrayList<>();
     this.indices = new HashMap<>();
+    this.foldedIndices = (caseHandling == INSENSITIVE ? new HashMap<>() : null);
     this.caseHandling = caseHandling;
   }
 
@@ -80,12 +83,7 @@ public boolean containsName(String name) {
     if (contained || caseHandling == IGNORANT || caseHandling == SENSITIVE || name == null) {
       return contained;
     }
-    for (String nameCandidate : names) {
-      if (StringUtil.equalsIgnoreCase(nameCandidate, name)) {
-        return true;
-      }
-    }
-    return false;
+    return foldedIndices.containsKey(StringUtil.foldCase(name));
   }
 
   public E getValue(int index) {
@@ -114,6 +112,9 @@ public void add(String name, E value) {
     names.add(name);
     values.add(value);
     indices.put(name, values.size() - 1);
+    if (foldedIndices != null && name != null) {
+      foldedIndices.put(StringUtil.foldCase(name), values.size() - 1);
+    }
   }
 
   public void setValue(int index, E value) {
@@ -134,21 +135,20 @@ public int someIndexOfName(String name) {
     if (index != null) {
       return index;
     }
-    if (caseHandling == IGNORANT || caseHandling == SENSITIVE) {
+    if (caseHandling == IGNORANT || caseHandling == SENSITIVE || name == null) {
       return -1;
     }
-    for (Map.Entry<String, Integer> entry : indices.entrySet()) {
-      if (StringUtil.equalsIgnoreCase(entry.getKey(), name)) {
-        return entry.getValue();
-      }
-    }
-    return -1;
+    index = foldedIndices.get(StringUtil.foldCase(name));
+    return (index != null ? index : -1);
   }
 
   public void clear() {
     names.clear();
     values.clear();
     indices.clear();
+    if (foldedIndices != null) {
+      foldedIndices.clear();
+    }
   }
 
   public List<String> names() {
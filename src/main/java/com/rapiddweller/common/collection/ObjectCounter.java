@@ -30,7 +30,10 @@
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Counts objects.<br/><br/>
+ * Counts objects.
+ * This class is not thread-safe, for counting in multiple threads use {@link ConcurrentObjectCounter}.
+ * For approximate counting in bounded memory see {@link CountMinSketch}, {@link SpaceSavingCounter}
+ * and {@link HyperLogLog}.<br/><br/>
  * Created: 14.12.2006 18:03:47
  * @param <E> the type of the counted elements
  * @author Volker Bergmann
@@ -61,6 +64,19 @@ public void count(E instance) {
     totalCount++;
   }
 
+  /** Counts an instance multiple times.
+   *  @param instance the instance to count
+   *  @param times the number of occurrences to add */
+  public void count(E instance, int times) {
+    AtomicInteger counter = instances.get(instance);
+    if (counter == null) {
+      instances.put(instance, new AtomicInteger(times));
+    } else {
+      counter.addAndGet(times);
+    }
+    totalCount += times;
+  }
+
   public void haveValue(E instance) {
     instances.computeIfAbsent(instance, k -> new AtomicInteger(0));
   }
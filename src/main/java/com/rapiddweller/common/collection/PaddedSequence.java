@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counter which is read and written by different threads and padded by unused fields
+ * in order to occupy a cache line of its own. This prevents false sharing between
+ * the producer and consumer sequences of a {@link ConcurrentRingBuffer}.
+ * The padding fields are declared in superclasses and subclasses, since the JVM
+ * lays out the fields of a superclass before the ones of its subclasses.<br/><br/>
+ * Created: 18.10.2026 04:10:45
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class PaddedSequence extends SequenceValue {
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw ExceptionFactory.getInstance().internalError("Cannot access sequence value", e);
+    }
+  }
+
+  long p9, p10, p11, p12, p13, p14, p15;
+
+  PaddedSequence(long initialValue) {
+    VALUE.setRelease(this, initialValue);
+  }
+
+  long get() {
+    return (long) VALUE.getAcquire(this);
+  }
+
+  /** Reads the value without ordering guarantees, for the thread which is the only writer. */
+  long getPlain() {
+    return (long) VALUE.get(this);
+  }
+
+  /** Writes the value so that writes which precede it are visible to threads which {@link #get()} it. */
+  void setRelease(long value) {
+    VALUE.setRelease(this, value);
+  }
+
+  boolean compareAndSet(long expected, long value) {
+    return VALUE.compareAndSet(this, expected, value);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(get());
+  }
+
+}
+
+/** Padding before the value of a {@link PaddedSequence}. */
+abstract class SequenceLhsPadding {
+  protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/** Holds the value of a {@link PaddedSequence}. */
+abstract class SequenceValue extends SequenceLhsPadding {
+  protected volatile long value;
+}
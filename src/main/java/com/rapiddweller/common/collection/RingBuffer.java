@@ -18,7 +18,8 @@
 import com.rapiddweller.common.ArrayUtil;
 
 /**
- * Implements a generic ring buffer.<br><br>
+ * Implements a generic ring buffer.
+ * It is not thread-safe, for handing over objects between threads see {@link ConcurrentRingBuffer}.<br><br>
  * Created: 25.11.2017 23:34:53
  * @param <E> the type of object to be buffered
  * @author Volker Bergmann
@@ -49,7 +50,9 @@ public boolean isFilled() {
   }
 
   public boolean contains(E object) {
-    for (Object o : buffer) {
+    // the first size slots are filled, the following ones are still empty
+    for (int i = 0; i < size; i++) {
+      Object o = buffer[i];
       if (o != null && o.equals(object)) {
         return true;
       }
@@ -0,0 +1,695 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Stores the lower 16 bits of the values of a {@link RoaringIntSet} which share the same upper 16 bits.
+ * There are three implementations: A sorted array for up to {@value #MAX_ARRAY_SIZE} values,
+ * a bitmap for more values and a list of runs for values which form long sequences.
+ * Mutating operations return the container which holds the result. This may be a new one
+ * if the representation changes, so callers must replace their reference.
+ * Created: 17.10.2026 22:40:05
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+abstract class RoaringContainer {
+
+  /** Maximum cardinality of an array container */
+  static final int MAX_ARRAY_SIZE = 4096;
+
+  static final byte ARRAY_TYPE = 0;
+  static final byte BITMAP_TYPE = 1;
+  static final byte RUN_TYPE = 2;
+
+  static final int BITMAP_WORDS = 1024;
+
+  abstract int cardinality();
+
+  abstract boolean contains(int value);
+
+  abstract RoaringContainer add(int value);
+
+  abstract RoaringContainer remove(int value);
+
+  /** @return the lowest contained value which is greater than or equal to from, or -1 if there is none */
+  abstract int next(int from);
+
+  abstract RoaringContainer copy();
+
+  abstract BitmapContainer toBitmap();
+
+  /** @return the number of bytes of the serialized container, without type and key */
+  abstract int serializedSize();
+
+  abstract void write(DataOutput out) throws IOException;
+
+  RoaringContainer addRange(int from, int to) {
+    return or(RunContainer.ofRange(from, to));
+  }
+
+  /** @return a container with the values of this one and the other one, this container may be reused */
+  RoaringContainer or(RoaringContainer other) {
+    BitmapContainer result = toBitmap();
+    result.orInPlace(other);
+    return result.shrink();
+  }
+
+  /** @return a new container with the values which are contained in this and the other container */
+  RoaringContainer and(RoaringContainer other) {
+    if (other instanceof ArrayContainer) {
+      return other.and(this);
+    }
+    BitmapContainer result = toBitmap();
+    result.andInPlace(other.toBitmap());
+    return result.shrink();
+  }
+
+  /** @return the container in the representation with the smallest serialized size, this container may be reused */
+  RoaringContainer runOptimize() {
+    int runs = countRuns();
+    int runSize = 2 + 4 * runs;
+    int cardinality = cardinality();
+    int plainSize = (cardinality <= MAX_ARRAY_SIZE ? 2 + 2 * cardinality : 8 * BITMAP_WORDS);
+    if (runSize < plainSize) {
+      return (this instanceof RunContainer ? this : RunContainer.of(this, runs));
+    } else if (this instanceof RunContainer) {
+      return toBitmap().shrink();
+    } else {
+      return this;
+    }
+  }
+
+  int countRuns() {
+    int runs = 0;
+    int previous = -2;
+    for (int value = next(0); value >= 0; value = next(value + 1)) {
+      if (value != previous + 1) {
+        runs++;
+      }
+      previous = value;
+    }
+    return runs;
+  }
+
+  void writeWithType(DataOutput out) throws IOException {
+    out.writeByte(this instanceof ArrayContainer ? ARRAY_TYPE : (this instanceof BitmapContainer ? BITMAP_TYPE : RUN_TYPE));
+    write(out);
+  }
+
+  static RoaringContainer read(DataInput in) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case ARRAY_TYPE:
+        return ArrayContainer.read(in);
+      case BITMAP_TYPE:
+        return BitmapContainer.read(in);
+      case RUN_TYPE:
+        return RunContainer.read(in);
+      default:
+        throw ExceptionFactory.getInstance().illegalArgument("Illegal container type: " + type);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RoaringContainer)) {
+      return false;
+    }
+    RoaringContainer that = (RoaringContainer) o;
+    if (this.cardinality() != that.cardinality()) {
+      return false;
+    }
+    for (int a = this.next(0), b = that.next(0); a >= 0; a = this.next(a + 1), b = that.next(b + 1)) {
+      if (a != b) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (int value = next(0); value >= 0; value = next(value + 1)) {
+      result = 31 * result + value;
+    }
+    return result;
+  }
+
+
+  /** Stores up to {@value #MAX_ARRAY_SIZE} values in a sorted array. */
+  static final class ArrayContainer extends RoaringContainer {
+
+    private char[] values;
+    private int size;
+
+    ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(int value) {
+      return (Arrays.binarySearch(values, 0, size, (char) value) >= 0);
+    }
+
+    @Override
+    RoaringContainer add(int value) {
+      int index = Arrays.binarySearch(values, 0, size, (char) value);
+      if (index >= 0) {
+        return this;
+      }
+      if (size == MAX_ARRAY_SIZE) {
+        return toBitmap().add(value);
+      }
+      index = -index - 1;
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(size * 2, MAX_ARRAY_SIZE));
+      }
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = (char) value;
+      size++;
+      return this;
+    }
+
+    @Override
+    RoaringContainer remove(int value) {
+      int index = Arrays.binarySearch(values, 0, size, (char) value);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      int index = Arrays.binarySearch(values, 0, size, (char) Math.min(from, 0xFFFF));
+      if (index < 0) {
+        index = -index - 1;
+      }
+      return (index < size && values[index] >= from ? values[index] : -1);
+    }
+
+    @Override
+    RoaringContainer or(RoaringContainer other) {
+      if (other instanceof ArrayContainer && size + other.cardinality() <= MAX_ARRAY_SIZE) {
+        ArrayContainer that = (ArrayContainer) other;
+        char[] result = new char[size + that.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < that.size) {
+          char a = values[i];
+          char b = that.values[j];
+          if (a < b) {
+            result[k++] = a;
+            i++;
+          } else if (a > b) {
+            result[k++] = b;
+            j++;
+          } else {
+            result[k++] = a;
+            i++;
+            j++;
+          }
+        }
+        while (i < size) {
+          result[k++] = values[i++];
+        }
+        while (j < that.size) {
+          result[k++] = that.values[j++];
+        }
+        return new ArrayContainer(result, k);
+      }
+      return super.or(other);
+    }
+
+    @Override
+    RoaringContainer and(RoaringContainer other) {
+      char[] result = new char[size];
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        if (other.contains(values[i])) {
+          result[count++] = values[i];
+        }
+      }
+      return new ArrayContainer(result, count);
+    }
+
+    @Override
+    RoaringContainer copy() {
+      return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 4)), size);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      BitmapContainer result = new BitmapContainer();
+      for (int i = 0; i < size; i++) {
+        result.add(values[i]);
+      }
+      return result;
+    }
+
+    @Override
+    int serializedSize() {
+      return 2 + 2 * size;
+    }
+
+    @Override
+    void write(DataOutput out) throws IOException {
+      out.writeShort(size - 1);
+      for (int i = 0; i < size; i++) {
+        out.writeChar(values[i]);
+      }
+    }
+
+    static ArrayContainer read(DataInput in) throws IOException {
+      int size = in.readUnsignedShort() + 1;
+      char[] values = new char[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = in.readChar();
+      }
+      return new ArrayContainer(values, size);
+    }
+  }
+
+
+  /** Stores the values as bits of a bitmap of 2^16 bits. */
+  static final class BitmapContainer extends RoaringContainer {
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+      this(new long[BITMAP_WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    RoaringContainer add(int value) {
+      long word = words[value >>> 6];
+      long updated = word | (1L << value);
+      if (updated != word) {
+        words[value >>> 6] = updated;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    RoaringContainer remove(int value) {
+      long word = words[value >>> 6];
+      long updated = word & ~(1L << value);
+      if (updated != word) {
+        words[value >>> 6] = updated;
+        cardinality--;
+        if (cardinality <= MAX_ARRAY_SIZE / 2) {
+          return shrink();
+        }
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      if (from > 0xFFFF) {
+        return -1;
+      }
+      int index = from >>> 6;
+      long word = words[index] & (-1L << from);
+      while (word == 0) {
+        if (++index == BITMAP_WORDS) {
+          return -1;
+        }
+        word = words[index];
+      }
+      return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    void orInPlace(RoaringContainer other) {
+      if (other instanceof BitmapContainer) {
+        long[] others = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] |= others[i];
+          count += Long.bitCount(words[i]);
+        }
+        cardinality = count;
+      } else if (other instanceof RunContainer) {
+        RunContainer runs = (RunContainer) other;
+        for (int i = 0; i < runs.runCount; i++) {
+          setRange(runs.starts[i], runs.ends[i]);
+        }
+      } else {
+        for (int value = other.next(0); value >= 0; value = other.next(value + 1)) {
+          add(value);
+        }
+      }
+    }
+
+    void andInPlace(BitmapContainer other) {
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        words[i] &= other.words[i];
+        count += Long.bitCount(words[i]);
+      }
+      cardinality = count;
+    }
+
+    private void setRange(int from, int to) {
+      int fromIndex = from >>> 6;
+      int toIndex = to >>> 6;
+      for (int i = fromIndex; i <= toIndex; i++) {
+        long mask = -1L;
+        if (i == fromIndex) {
+          mask &= -1L << from;
+        }
+        if (i == toIndex) {
+          mask &= -1L >>> (63 - (to & 63));
+        }
+        cardinality += Long.bitCount(mask & ~words[i]);
+        words[i] |= mask;
+      }
+    }
+
+    /** @return an array container with the values if they fit, otherwise this */
+    RoaringContainer shrink() {
+      if (cardinality > MAX_ARRAY_SIZE) {
+        return this;
+      }
+      char[] values = new char[Math.max(cardinality, 4)];
+      int count = 0;
+      for (int value = next(0); value >= 0; value = next(value + 1)) {
+        values[count++] = (char) value;
+      }
+      return new ArrayContainer(values, count);
+    }
+
+    @Override
+    RoaringContainer copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    int serializedSize() {
+      return 8 * BITMAP_WORDS;
+    }
+
+    @Override
+    void write(DataOutput out) throws IOException {
+      for (long word : words) {
+        out.writeLong(word);
+      }
+    }
+
+    static BitmapContainer read(DataInput in) throws IOException {
+      long[] words = new long[BITMAP_WORDS];
+      int cardinality = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        words[i] = in.readLong();
+        cardinality += Long.bitCount(words[i]);
+      }
+      return new BitmapContainer(words, cardinality);
+    }
+  }
+
+
+  /** Stores the values as sorted list of runs of consecutive values. */
+  static final class RunContainer extends RoaringContainer {
+
+    /** Beyond this number of runs, a bitmap is smaller */
+    private static final int MAX_RUNS = 2047;
+
+    private char[] starts;
+    private char[] ends;
+    private int runCount;
+    private int cardinality;
+
+    private RunContainer(char[] starts, char[] ends, int runCount) {
+      this.starts = starts;
+      this.ends = ends;
+      this.runCount = runCount;
+      for (int i = 0; i < runCount; i++) {
+        cardinality += ends[i] - starts[i] + 1;
+      }
+    }
+
+    static RunContainer ofRange(int from, int to) {
+      return new RunContainer(new char[] { (char) from }, new char[] { (char) to }, 1);
+    }
+
+    static RunContainer of(RoaringContainer container, int runs) {
+      char[] starts = new char[runs];
+      char[] ends = new char[runs];
+      int run = -1;
+      int previous = -2;
+      for (int value = container.next(0); value >= 0; value = container.next(value + 1)) {
+        if (value != previous + 1) {
+          starts[++run] = (char) value;
+        }
+        ends[run] = (char) value;
+        previous = value;
+      }
+      return new RunContainer(starts, ends, runs);
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int value) {
+      return (findRun(value) >= 0);
+    }
+
+    @Override
+    RoaringContainer add(int value) {
+      int index = findRun(value);
+      if (index >= 0) {
+        return this;
+      }
+      index = -index - 1; // index of the first run after the value
+      boolean extendsPrevious = (index > 0 && ends[index - 1] + 1 == value);
+      boolean extendsNext = (index < runCount && starts[index] - 1 == value);
+      cardinality++;
+      if (extendsPrevious && extendsNext) {
+        ends[index - 1] = ends[index];
+        removeRun(index);
+      } else if (extendsPrevious) {
+        ends[index - 1] = (char) value;
+      } else if (extendsNext) {
+        starts[index] = (char) value;
+      } else {
+        if (runCount == MAX_RUNS) {
+          cardinality--;
+          return toBitmap().add(value);
+        }
+        insertRun(index, value, value);
+      }
+      return this;
+    }
+
+    @Override
+    RoaringContainer remove(int value) {
+      int index = findRun(value);
+      if (index < 0) {
+        return this;
+      }
+      cardinality--;
+      if (starts[index] == ends[index]) {
+        removeRun(index);
+      } else if (starts[index] == value) {
+        starts[index]++;
+      } else if (ends[index] == value) {
+        ends[index]--;
+      } else {
+        if (runCount == MAX_RUNS) {
+          cardinality++;
+          return toBitmap().remove(value);
+        }
+        insertRun(index + 1, value + 1, ends[index]);
+        ends[index] = (char) (value - 1);
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      if (from > 0xFFFF) {
+        return -1;
+      }
+      int index = findRun(from);
+      if (index >= 0) {
+        return from;
+      }
+      index = -index - 1;
+      return (index < runCount ? starts[index] : -1);
+    }
+
+    @Override
+    RoaringContainer or(RoaringContainer other) {
+      if (!(other instanceof RunContainer)) {
+        return super.or(other);
+      }
+      RunContainer that = (RunContainer) other;
+      char[] newStarts = new char[runCount + that.runCount];
+      char[] newEnds = new char[runCount + that.runCount];
+      int count = 0;
+      int i = 0;
+      int j = 0;
+      while (i < runCount || j < that.runCount) {
+        char start;
+        char end;
+        if (j == that.runCount || (i < runCount && starts[i] <= that.starts[j])) {
+          start = starts[i];
+          end = ends[i++];
+        } else {
+          start = that.starts[j];
+          end = that.ends[j++];
+        }
+        if (count > 0 && start <= newEnds[count - 1] + 1) {
+          newEnds[count - 1] = (char) Math.max(newEnds[count - 1], end);
+        } else {
+          newStarts[count] = start;
+          newEnds[count++] = end;
+        }
+      }
+      RunContainer result = new RunContainer(newStarts, newEnds, count);
+      return (count <= MAX_RUNS ? result : result.toBitmap());
+    }
+
+    @Override
+    RoaringContainer copy() {
+      return new RunContainer(starts.clone(), ends.clone(), runCount);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      BitmapContainer result = new BitmapContainer();
+      for (int i = 0; i < runCount; i++) {
+        result.setRange(starts[i], ends[i]);
+      }
+      return result;
+    }
+
+    @Override
+    int countRuns() {
+      return runCount;
+    }
+
+    @Override
+    int serializedSize() {
+      return 2 + 4 * runCount;
+    }
+
+    @Override
+    void write(DataOutput out) throws IOException {
+      out.writeShort(runCount);
+      for (int i = 0; i < runCount; i++) {
+        out.writeChar(starts[i]);
+        out.writeChar(ends[i]);
+      }
+    }
+
+    static RunContainer read(DataInput in) throws IOException {
+      int runCount = in.readUnsignedShort();
+      char[] starts = new char[runCount];
+      char[] ends = new char[runCount];
+      for (int i = 0; i < runCount; i++) {
+        starts[i] = in.readChar();
+        ends[i] = in.readChar();
+      }
+      return new RunContainer(starts, ends, runCount);
+    }
+
+    /** @return the index of the run which contains the value or (-(insertion point) - 1) */
+    private int findRun(int value) {
+      int low = 0;
+      int high = runCount - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (value < starts[mid]) {
+          high = mid - 1;
+        } else if (value > ends[mid]) {
+          low = mid + 1;
+        } else {
+          return mid;
+        }
+      }
+      return -low - 1;
+    }
+
+    private void insertRun(int index, int start, int end) {
+      if (runCount == starts.length) {
+        int capacity = Math.max(4, runCount * 2);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+      }
+      System.arraycopy(starts, index, starts, index + 1, runCount - index);
+      System.arraycopy(ends, index, ends, index + 1, runCount - index);
+      starts[index] = (char) start;
+      ends[index] = (char) end;
+      runCount++;
+    }
+
+    private void removeRun(int index) {
+      System.arraycopy(starts, index + 1, starts, index, runCount - index - 1);
+      System.arraycopy(ends, index + 1, ends, index, runCount - index - 1);
+      runCount--;
+    }
+  }
+
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Collects int values in a compressed bitmap.
+ * The values are partitioned by their upper 16 bits and the lower 16 bits of each partition
+ * are stored in a container which is a sorted array for sparse values, a bitmap for dense values
+ * or a list of runs for sequences of consecutive values.
+ * Compared to {@link CompressedIntSet}, memory consumption and lookup time are independent
+ * of the distribution of the values and bulk operations work container by container.
+ * Created: 17.10.2026 22:38:47
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class RoaringIntSet {
+
+  private static final int MAGIC = 0x52495331; // 'RIS1'
+
+  private char[] keys;
+  private RoaringContainer[] containers;
+  private int containerCount;
+  private long size;
+
+  public RoaringIntSet() {
+    this.keys = new char[4];
+    this.containers = new RoaringContainer[4];
+    this.containerCount = 0;
+    this.size = 0;
+  }
+
+  public static RoaringIntSet of(int... values) {
+    RoaringIntSet result = new RoaringIntSet();
+    result.addAll(values);
+    return result;
+  }
+
+  // single value operations -----------------------------------------------------------------------------------------
+
+  public void clear() {
+    Arrays.fill(containers, 0, containerCount, null);
+    this.containerCount = 0;
+    this.size = 0;
+  }
+
+  public void addAll(int... values) {
+    for (int value : values) {
+      add(value);
+    }
+  }
+
+  /** Adds a value.
+   *  @param value the value to add
+   *  @return true if the set did not already contain the value */
+  public boolean add(int value) {
+    int key = key(value);
+    int index = indexOf(key);
+    if (index < 0) {
+      index = -index - 1;
+      insertContainer(index, key, new RoaringContainer.ArrayContainer());
+    }
+    RoaringContainer container = containers[index];
+    int oldCardinality = container.cardinality();
+    container = container.add(low(value));
+    containers[index] = container;
+    int diff = container.cardinality() - oldCardinality;
+    size += diff;
+    return (diff != 0);
+  }
+
+  /** Adds all values from min to max, both inclusive.
+   *  @param min the first value to add
+   *  @param max the last value to add */
+  public void addRange(int min, int max) {
+    if (min > max) {
+      throw ExceptionFactory.getInstance().illegalArgument("min (" + min + ") is greater than max (" + max + ")");
+    }
+    for (int key = key(min); key <= key(max); key++) {
+      int from = (key == key(min) ? low(min) : 0);
+      int to = (key == key(max) ? low(max) : 0xFFFF);
+      int index = indexOf(key);
+      if (index < 0) {
+        index = -index - 1;
+        RoaringContainer container = RoaringContainer.RunContainer.ofRange(from, to);
+        insertContainer(index, key, container);
+        size += container.cardinality();
+      } else {
+        RoaringContainer container = containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.addRange(from, to);
+        containers[index] = container;
+        size += container.cardinality() - oldCardinality;
+      }
+    }
+  }
+
+  public boolean contains(int value) {
+    int index = indexOf(key(value));
+    return (index >= 0 && containers[index].contains(low(value)));
+  }
+
+  /** Removes a value.
+   *  @param value the value to remove
+   *  @return true if the set contained the value */
+  public boolean remove(int value) {
+    int index = indexOf(key(value));
+    if (index < 0) {
+      return false;
+    }
+    RoaringContainer container = containers[index];
+    int oldCardinality = container.cardinality();
+    container = container.remove(low(value));
+    if (container.cardinality() == oldCardinality) {
+      return false;
+    }
+    size--;
+    if (container.cardinality() == 0) {
+      removeContainer(index);
+    } else {
+      containers[index] = container;
+    }
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return (size == 0);
+  }
+
+  public long size() {
+    return size;
+  }
+
+  // bulk operations -------------------------------------------------------------------------------------------------
+
+  /** Adds all values of another set to this one.
+   *  @param other the set of which to add the values */
+  public void addAll(RoaringIntSet other) {
+    for (int j = 0; j < other.containerCount; j++) {
+      int index = indexOf(other.keys[j]);
+      if (index < 0) {
+        RoaringContainer container = other.containers[j].copy();
+        insertContainer(-index - 1, other.keys[j], container);
+        size += container.cardinality();
+      } else {
+        RoaringContainer container = containers[index];
+        int oldCardinality = container.cardinality();
+        container = container.or(other.containers[j]);
+        containers[index] = container;
+        size += container.cardinality() - oldCardinality;
+      }
+    }
+  }
+
+  /** Removes all values which are not contained in the other set.
+   *  @param other the set of which to keep the values */
+  public void retainAll(RoaringIntSet other) {
+    RoaringIntSet intersection = intersect(this, other);
+    this.keys = intersection.keys;
+    this.containers = intersection.containers;
+    this.containerCount = intersection.containerCount;
+    this.size = intersection.size;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return a new set with the values which are contained in one or both of the sets */
+  public static RoaringIntSet union(RoaringIntSet a, RoaringIntSet b) {
+    RoaringIntSet result = new RoaringIntSet();
+    int i = 0;
+    int j = 0;
+    while (i < a.containerCount || j < b.containerCount) {
+      RoaringContainer container;
+      char key;
+      if (j == b.containerCount || (i < a.containerCount && a.keys[i] < b.keys[j])) {
+        key = a.keys[i];
+        container = a.containers[i++].copy();
+      } else if (i == a.containerCount || b.keys[j] < a.keys[i]) {
+        key = b.keys[j];
+        container = b.containers[j++].copy();
+      } else {
+        key = a.keys[i];
+        container = a.containers[i++].or(b.containers[j++]);
+      }
+      result.appendContainer(key, container);
+    }
+    return result;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return a new set with the values which are contained in both sets */
+  public static RoaringIntSet intersect(RoaringIntSet a, RoaringIntSet b) {
+    RoaringIntSet result = new RoaringIntSet();
+    int i = 0;
+    int j = 0;
+    while (i < a.containerCount && j < b.containerCount) {
+      if (a.keys[i] < b.keys[j]) {
+        i++;
+      } else if (a.keys[i] > b.keys[j]) {
+        j++;
+      } else {
+        RoaringContainer container = a.containers[i].and(b.containers[j]);
+        if (container.cardinality() > 0) {
+          result.appendContainer(a.keys[i], container);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return the number of values which are contained in both sets */
+  public static long intersectionSize(RoaringIntSet a, RoaringIntSet b) {
+    long result = 0;
+    int i = 0;
+    int j = 0;
+    while (i < a.containerCount && j < b.containerCount) {
+      if (a.keys[i] < b.keys[j]) {
+        i++;
+      } else if (a.keys[i] > b.keys[j]) {
+        j++;
+      } else {
+        result += a.containers[i++].and(b.containers[j++]).cardinality();
+      }
+    }
+    return result;
+  }
+
+  /** Converts each container to the representation which needs the least memory,
+   *  which is useful after sequences of consecutive values have been added one by one. */
+  public void runOptimize() {
+    for (int i = 0; i < containerCount; i++) {
+      containers[i] = containers[i].runOptimize();
+    }
+  }
+
+  // iteration -------------------------------------------------------------------------------------------------------
+
+  public void forEach(IntConsumer action) {
+    for (int i = 0; i < containerCount; i++) {
+      int high = high(keys[i]);
+      RoaringContainer container = containers[i];
+      for (int low = container.next(0); low >= 0; low = container.next(low + 1)) {
+        action.accept(high | low);
+      }
+    }
+  }
+
+  public PrimitiveIterator.OfInt iterator() {
+    return new RoaringIterator();
+  }
+
+  // serialization ---------------------------------------------------------------------------------------------------
+
+  /** Writes the set in a compact binary format, using for each container the representation
+   *  with the smallest size.
+   *  @param out the output to write to
+   *  @throws IOException if writing fails */
+  public void writeTo(DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(containerCount);
+    for (int i = 0; i < containerCount; i++) {
+      out.writeChar(keys[i]);
+      containers[i].runOptimize().writeWithType(out);
+    }
+  }
+
+  /** Reads a set which has been written by {@link #writeTo(DataOutput)}.
+   *  @param in the input to read from
+   *  @return the set which has been read
+   *  @throws IOException if reading fails */
+  public static RoaringIntSet readFrom(DataInput in) throws IOException {
+    int magic = in.readInt();
+    if (magic != MAGIC) {
+      throw ExceptionFactory.getInstance().parsingError("Not a serialized " + RoaringIntSet.class.getSimpleName());
+    }
+    int count = in.readInt();
+    RoaringIntSet result = new RoaringIntSet();
+    for (int i = 0; i < count; i++) {
+      char key = in.readChar();
+      result.appendContainer(key, RoaringContainer.read(in));
+    }
+    return result;
+  }
+
+  public byte[] toByteArray() {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(serializedSize());
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      writeTo(out);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Failed to serialize " + getClass().getSimpleName(), e);
+    }
+    return buffer.toByteArray();
+  }
+
+  public static RoaringIntSet fromByteArray(byte[] bytes) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      return readFrom(in);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().parsingError("Failed to deserialize " + RoaringIntSet.class.getSimpleName(), e);
+    }
+  }
+
+  /** @return the number of bytes written by {@link #writeTo(DataOutput)} */
+  public int serializedSize() {
+    int result = 8;
+    for (int i = 0; i < containerCount; i++) {
+      result += 3 + containers[i].runOptimize().serializedSize();
+    }
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Maps the upper 16 bits to a key of which the unsigned order matches the signed order of the values. */
+  private static int key(int value) {
+    return (value >>> 16) ^ 0x8000;
+  }
+
+  private static int high(int key) {
+    return (key ^ 0x8000) << 16;
+  }
+
+  private static int low(int value) {
+    return value & 0xFFFF;
+  }
+
+  private int indexOf(int key) {
+    return Arrays.binarySearch(keys, 0, containerCount, (char) key);
+  }
+
+  private void insertContainer(int index, int key, RoaringContainer container) {
+    ensureCapacity();
+    System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+    System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+    keys[index] = (char) key;
+    containers[index] = container;
+    containerCount++;
+  }
+
+  private void appendContainer(char key, RoaringContainer container) {
+    ensureCapacity();
+    keys[containerCount] = key;
+    containers[containerCount++] = container;
+    size += container.cardinality();
+  }
+
+  private void removeContainer(int index) {
+    System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+    containers[--containerCount] = null;
+  }
+
+  private void ensureCapacity() {
+    if (containerCount == keys.length) {
+      keys = Arrays.copyOf(keys, containerCount * 2);
+      containers = Arrays.copyOf(containers, containerCount * 2);
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    RoaringIntSet that = (RoaringIntSet) obj;
+    if (this.size != that.size || this.containerCount != that.containerCount) {
+      return false;
+    }
+    for (int i = 0; i < containerCount; i++) {
+      if (this.keys[i] != that.keys[i] || !this.containers[i].equals(that.containers[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (int i = 0; i < containerCount; i++) {
+      result = 31 * result + keys[i];
+      result = 31 * result + containers[i].hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    forEach(value -> {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append(value);
+    });
+    return builder.append(']').toString();
+  }
+
+  // Iterator class --------------------------------------------------------------------------------------------------
+
+  class RoaringIterator implements PrimitiveIterator.OfInt {
+
+    private int containerIndex;
+    private int nextLow;
+    private int lastValue;
+    private boolean removable;
+
+    RoaringIterator() {
+      this.containerIndex = 0;
+      this.nextLow = (containerCount > 0 ? containers[0].next(0) : -1);
+      this.removable = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextLow < 0) {
+        if (++containerIndex >= containerCount) {
+          containerIndex = containerCount;
+          return false;
+        }
+        nextLow = containers[containerIndex].next(0);
+      }
+      return true;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No 'next' value available. Check hasNext() before calling next().");
+      }
+      lastValue = high(keys[containerIndex]) | nextLow;
+      nextLow = containers[containerIndex].next(nextLow + 1);
+      removable = true;
+      return lastValue;
+    }
+
+    @Override
+    public void remove() {
+      if (!removable) {
+        throw ExceptionFactory.getInstance().illegalOperation("remove() must be preceded by next()");
+      }
+      RoaringIntSet.this.remove(lastValue);
+      removable = false;
+      int index = indexOf(key(lastValue));
+      if (index >= 0) {
+        containerIndex = index;
+        nextLow = containers[index].next(low(lastValue) + 1);
+      } else {
+        // the container has been removed, so hasNext() continues with the one which took its place
+        containerIndex = -index - 2;
+        nextLow = -1;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Collects long values in a compressed bitmap.
+ * The values are partitioned by their upper 32 bits and the lower 32 bits of each partition
+ * are stored in a {@link RoaringIntSet}.
+ * Compared to {@link CompressedLongSet}, memory consumption and lookup time are independent
+ * of the distribution of the values and bulk operations work partition by partition.
+ * Created: 17.10.2026 23:02:31
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class RoaringLongSet {
+
+  private static final int MAGIC = 0x524C5331; // 'RLS1'
+
+  private int[] highs;
+  private RoaringIntSet[] parts;
+  private int partCount;
+
+  public RoaringLongSet() {
+    this.highs = new int[2];
+    this.parts = new RoaringIntSet[2];
+    this.partCount = 0;
+  }
+
+  public static RoaringLongSet of(long... values) {
+    RoaringLongSet result = new RoaringLongSet();
+    result.addAll(values);
+    return result;
+  }
+
+  // single value operations -----------------------------------------------------------------------------------------
+
+  public void clear() {
+    Arrays.fill(parts, 0, partCount, null);
+    this.partCount = 0;
+  }
+
+  public void addAll(long... values) {
+    for (long value : values) {
+      add(value);
+    }
+  }
+
+  /** Adds a value.
+   *  @param value the value to add
+   *  @return true if the set did not already contain the value */
+  public boolean add(long value) {
+    return getOrCreatePart(high(value)).add(low(value));
+  }
+
+  /** Adds all values from min to max, both inclusive.
+   *  @param min the first value to add
+   *  @param max the last value to add */
+  public void addRange(long min, long max) {
+    if (min > max) {
+      throw ExceptionFactory.getInstance().illegalArgument("min (" + min + ") is greater than max (" + max + ")");
+    }
+    for (long high = high(min); high <= high(max); high++) {
+      int from = (high == high(min) ? low(min) : Integer.MIN_VALUE);
+      int to = (high == high(max) ? low(max) : Integer.MAX_VALUE);
+      getOrCreatePart((int) high).addRange(from, to);
+    }
+  }
+
+  public boolean contains(long value) {
+    int index = indexOf(high(value));
+    return (index >= 0 && parts[index].contains(low(value)));
+  }
+
+  /** Removes a value.
+   *  @param value the value to remove
+   *  @return true if the set contained the value */
+  public boolean remove(long value) {
+    int index = indexOf(high(value));
+    if (index < 0 || !parts[index].remove(low(value))) {
+      return false;
+    }
+    if (parts[index].isEmpty()) {
+      removePart(index);
+    }
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return (partCount == 0);
+  }
+
+  public long size() {
+    long result = 0;
+    for (int i = 0; i < partCount; i++) {
+      result += parts[i].size();
+    }
+    return result;
+  }
+
+  // bulk operations -------------------------------------------------------------------------------------------------
+
+  /** Adds all values of another set to this one.
+   *  @param other the set of which to add the values */
+  public void addAll(RoaringLongSet other) {
+    for (int j = 0; j < other.partCount; j++) {
+      getOrCreatePart(other.highs[j]).addAll(other.parts[j]);
+    }
+  }
+
+  /** Removes all values which are not contained in the other set.
+   *  @param other the set of which to keep the values */
+  public void retainAll(RoaringLongSet other) {
+    RoaringLongSet intersection = intersect(this, other);
+    this.highs = intersection.highs;
+    this.parts = intersection.parts;
+    this.partCount = intersection.partCount;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return a new set with the values which are contained in one or both of the sets */
+  public static RoaringLongSet union(RoaringLongSet a, RoaringLongSet b) {
+    RoaringLongSet result = new RoaringLongSet();
+    int i = 0;
+    int j = 0;
+    while (i < a.partCount || j < b.partCount) {
+      if (j == b.partCount || (i < a.partCount && a.highs[i] < b.highs[j])) {
+        result.appendPart(a.highs[i], RoaringIntSet.union(a.parts[i++], new RoaringIntSet()));
+      } else if (i == a.partCount || b.highs[j] < a.highs[i]) {
+        result.appendPart(b.highs[j], RoaringIntSet.union(b.parts[j++], new RoaringIntSet()));
+      } else {
+        result.appendPart(a.highs[i], RoaringIntSet.union(a.parts[i++], b.parts[j++]));
+      }
+    }
+    return result;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return a new set with the values which are contained in both sets */
+  public static RoaringLongSet intersect(RoaringLongSet a, RoaringLongSet b) {
+    RoaringLongSet result = new RoaringLongSet();
+    int i = 0;
+    int j = 0;
+    while (i < a.partCount && j < b.partCount) {
+      if (a.highs[i] < b.highs[j]) {
+        i++;
+      } else if (a.highs[i] > b.highs[j]) {
+        j++;
+      } else {
+        RoaringIntSet part = RoaringIntSet.intersect(a.parts[i], b.parts[j]);
+        if (!part.isEmpty()) {
+          result.appendPart(a.highs[i], part);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /** @param a the first set
+   *  @param b the second set
+   *  @return the number of values which are contained in both sets */
+  public static long intersectionSize(RoaringLongSet a, RoaringLongSet b) {
+    long result = 0;
+    int i = 0;
+    int j = 0;
+    while (i < a.partCount && j < b.partCount) {
+      if (a.highs[i] < b.highs[j]) {
+        i++;
+      } else if (a.highs[i] > b.highs[j]) {
+        j++;
+      } else {
+        result += RoaringIntSet.intersectionSize(a.parts[i++], b.parts[j++]);
+      }
+    }
+    return result;
+  }
+
+  /** Converts each container to the representation which needs the least memory,
+   *  see {@link RoaringIntSet#runOptimize()}. */
+  public void runOptimize() {
+    for (int i = 0; i < partCount; i++) {
+      parts[i].runOptimize();
+    }
+  }
+
+  // iteration -------------------------------------------------------------------------------------------------------
+
+  public void forEach(LongConsumer action) {
+    for (int i = 0; i < partCount; i++) {
+      long high = ((long) highs[i]) << 32;
+      parts[i].forEach(low -> action.accept(high | ((low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL)));
+    }
+  }
+
+  public PrimitiveIterator.OfLong iterator() {
+    return new RoaringLongIterator();
+  }
+
+  // serialization ---------------------------------------------------------------------------------------------------
+
+  /** Writes the set in a compact binary format, see {@link RoaringIntSet#writeTo(DataOutput)}.
+   *  @param out the output to write to
+   *  @throws IOException if writing fails */
+  public void writeTo(DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(partCount);
+    for (int i = 0; i < partCount; i++) {
+      out.writeInt(highs[i]);
+      parts[i].writeTo(out);
+    }
+  }
+
+  /** Reads a set which has been written by {@link #writeTo(DataOutput)}.
+   *  @param in the input to read from
+   *  @return the set which has been read
+   *  @throws IOException if reading fails */
+  public static RoaringLongSet readFrom(DataInput in) throws IOException {
+    int magic = in.readInt();
+    if (magic != MAGIC) {
+      throw ExceptionFactory.getInstance().parsingError("Not a serialized " + RoaringLongSet.class.getSimpleName());
+    }
+    int count = in.readInt();
+    RoaringLongSet result = new RoaringLongSet();
+    for (int i = 0; i < count; i++) {
+      int high = in.readInt();
+      result.appendPart(high, RoaringIntSet.readFrom(in));
+    }
+    return result;
+  }
+
+  public byte[] toByteArray() {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(serializedSize());
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      writeTo(out);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Failed to serialize " + getClass().getSimpleName(), e);
+    }
+    return buffer.toByteArray();
+  }
+
+  public static RoaringLongSet fromByteArray(byte[] bytes) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      return readFrom(in);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().parsingError("Failed to deserialize " + RoaringLongSet.class.getSimpleName(), e);
+    }
+  }
+
+  /** @return the number of bytes written by {@link #writeTo(DataOutput)} */
+  public int serializedSize() {
+    int result = 8;
+    for (int i = 0; i < partCount; i++) {
+      result += 4 + parts[i].serializedSize();
+    }
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int high(long value) {
+    return (int) (value >> 32);
+  }
+
+  /** Maps the lower 32 bits to an int of which the signed order matches the unsigned order of the bits. */
+  private static int low(long value) {
+    return ((int) value) ^ Integer.MIN_VALUE;
+  }
+
+  private int indexOf(int high) {
+    return Arrays.binarySearch(highs, 0, partCount, high);
+  }
+
+  private RoaringIntSet getOrCreatePart(int high) {
+    int index = indexOf(high);
+    if (index >= 0) {
+      return parts[index];
+    }
+    index = -index - 1;
+    ensureCapacity();
+    System.arraycopy(highs, index, highs, index + 1, partCount - index);
+    System.arraycopy(parts, index, parts, index + 1, partCount - index);
+    highs[index] = high;
+    parts[index] = new RoaringIntSet();
+    partCount++;
+    return parts[index];
+  }
+
+  private void appendPart(int high, RoaringIntSet part) {
+    ensureCapacity();
+    highs[partCount] = high;
+    parts[partCount++] = part;
+  }
+
+  private void removePart(int index) {
+    System.arraycopy(highs, index + 1, highs, index, partCount - index - 1);
+    System.arraycopy(parts, index + 1, parts, index, partCount - index - 1);
+    parts[--partCount] = null;
+  }
+
+  private void ensureCapacity() {
+    if (partCount == highs.length) {
+      highs = Arrays.copyOf(highs, partCount * 2);
+      parts = Arrays.copyOf(parts, partCount * 2);
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    RoaringLongSet that = (RoaringLongSet) obj;
+    if (this.partCount != that.partCount) {
+      return false;
+    }
+    for (int i = 0; i < partCount; i++) {
+      if (this.highs[i] != that.highs[i] || !this.parts[i].equals(that.parts[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (int i = 0; i < partCount; i++) {
+      result = 31 * result + highs[i];
+      result = 31 * result + parts[i].hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    forEach(value -> {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append(value);
+    });
+    return builder.append(']').toString();
+  }
+
+  // Iterator class --------------------------------------------------------------------------------------------------
+
+  class RoaringLongIterator implements PrimitiveIterator.OfLong {
+
+    private int partIndex;
+    private PrimitiveIterator.OfInt partIterator;
+
+    RoaringLongIterator() {
+      this.partIndex = -1;
+      this.partIterator = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (partIterator == null || !partIterator.hasNext()) {
+        if (partIndex + 1 >= partCount) {
+          return false;
+        }
+        partIterator = parts[++partIndex].iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public long nextLong() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No 'next' value available. Check hasNext() before calling next().");
+      }
+      int low = partIterator.nextInt();
+      return (((long) highs[partIndex]) << 32) | ((low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void remove() {
+      if (partIterator == null) {
+        throw ExceptionFactory.getInstance().illegalOperation("remove() must be preceded by next()");
+      }
+      partIterator.remove();
+      if (parts[partIndex].isEmpty()) {
+        removePart(partIndex--);
+        partIterator = null;
+      }
+    }
+  }
+
+}
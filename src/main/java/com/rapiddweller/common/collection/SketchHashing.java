@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+/**
+ * Provides the well-distributed 64-bit hashes needed by {@link CountMinSketch} and {@link HyperLogLog}.
+ * Created: 18.10.2026 02:05:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class SketchHashing {
+
+  private SketchHashing() {
+    // prevents instantiation of this utility class
+  }
+
+  /** @return a 64-bit hash of the object's hashCode(), 0 for null */
+  static long hash(Object object) {
+    return (object != null ? mix(object.hashCode()) : 0);
+  }
+
+  /** Applies the finalization step of MurmurHash3, which makes each input bit affect all output bits. */
+  static long mix(long value) {
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+}
@@ -15,187 +15,493 @@
 
 package com.rapiddweller.common.collection;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.NoSuchElementException;
 
 /**
- * {@link List} implementation which takes wraps another given list
- * and assures that the list is sorted before any read access.
+ * {@link List} implementation which keeps its elements sorted by a {@link Comparator}.
+ * The elements are stored in a sequence of small sorted arrays ('blocks'), so an element is inserted
+ * by a binary search for the block and the position in it, and only the elements of one block are moved.
+ * A Fenwick tree over the block sizes provides indexed access in logarithmic time.
+ * Larger collections which are added with {@link #addAll(Collection)} are merged in by sorting once.
+ * Elements which are equal by the comparator remain in the order in which they were added.
+ * If the comparator is null, the elements are sorted by their natural order.
+ * Since the order is defined by the comparator, the index of positional insertions
+ * ({@link #add(int, Object)}, {@link #set(int, Object)}) is ignored.<br/><br/>
  * Created: 19.06.2012 07:55:42
  * @param <E> the type of the collection's elements
  * @author Volker Bergmann
  * @since 0.5.16
  */
-public class SortedList<E> implements List<E> {
+public class SortedList<E> extends AbstractList<E> {
+
+  private static final int INITIAL_BLOCK_SIZE = 16;
+  private static final int MAX_BLOCK_SIZE = 512;
+  private static final int BULK_LOAD_BLOCK_SIZE = MAX_BLOCK_SIZE * 3 / 4;
 
-  private boolean sorted;
-  private final List<E> baseList;
   private final Comparator<? super E> comparator;
+  private final List<Object[]> blocks;
+  private int[] blockSizes;
+  /** Fenwick tree of the block sizes, 1-based */
+  private int[] tree;
+  private int size;
+
+  /** @param comparator the comparator which defines the order of the elements,
+   *      or null for sorting them by their natural order */
+  @SuppressWarnings("unchecked")
+  public SortedList(Comparator<? super E> comparator) {
+    this.comparator = (comparator != null ? comparator : (Comparator<? super E>) Comparator.naturalOrder());
+    this.blocks = new ArrayList<>();
+    this.blockSizes = new int[0];
+    this.tree = new int[1];
+    this.size = 0;
+  }
 
+  /** Creates a sorted list with the elements of the base list. They are sorted once and copied,
+   *  later changes of the base list are not reflected by this list.
+   *  @param baseList the initial elements
+   *  @param comparator the comparator which defines the order of the elements,
+   *      or null for sorting them by their natural order */
   public SortedList(List<E> baseList, Comparator<? super E> comparator) {
-    this.baseList = baseList;
-    this.comparator = comparator;
-    sorted = false;
+    this(comparator);
+    addAll(baseList);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public Comparator<? super E> comparator() {
+    return comparator;
   }
 
   @Override
-  public boolean add(E e) {
-    sorted = false;
-    return baseList.add(e);
+  public int size() {
+    return size;
   }
 
   @Override
-  public void add(int index, E element) {
-    sorted = false;
-    baseList.add(index, element);
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    checkIndex(index);
+    int block = blockOf(index);
+    return (E) blocks.get(block)[index - offsetOf(block)];
   }
 
   @Override
-  public boolean addAll(Collection<? extends E> c) {
-    sorted = false;
-    return baseList.addAll(c);
+  public boolean add(E element) {
+    insert(element);
+    return true;
   }
 
+  /** Adds the element at its sorted position. The index is ignored, since the comparator defines
+   *  the position, so the element is not necessarily found at the index afterwards.
+   *  @param index ignored
+   *  @param element the element to add */
   @Override
-  public boolean addAll(int index, Collection<? extends E> c) {
-    sorted = false;
-    return baseList.addAll(index, c);
+  public void add(int index, E element) {
+    insert(element);
   }
 
+  /** Adds the elements. If there are many, compared to the current size, all elements are sorted once
+   *  instead of inserting them one by one. */
   @Override
-  public void clear() {
-    sorted = true;
-    baseList.clear();
+  @SuppressWarnings("unchecked")
+  public boolean addAll(Collection<? extends E> c) {
+    if (c.isEmpty()) {
+      return false;
+    }
+    if (c.size() < 16 || c.size() < size / 8) {
+      for (E element : c) {
+        insert(element);
+      }
+    } else {
+      Object[] all = Arrays.copyOf(toArray(), size + c.size());
+      Object[] added = c.toArray();
+      System.arraycopy(added, 0, all, size, added.length);
+      // the existing elements are one sorted run, so the stable sort merges the new ones in efficiently
+      Arrays.sort(all, (Comparator<Object>) comparator);
+      bulkLoad(all);
+    }
+    return true;
   }
 
+  /** Adds the elements at their sorted positions. The index is ignored, since the comparator defines
+   *  the positions.
+   *  @param index ignored
+   *  @param c the elements to add
+   *  @return true if elements were added */
   @Override
-  public boolean contains(Object o) {
-    return baseList.contains(o);
+  public boolean addAll(int index, Collection<? extends E> c) {
+    return addAll(c);
   }
 
+  /** Removes the element at the index and adds the new element at its sorted position,
+   *  which is not necessarily the given index.
+   *  @param index the index of the element to replace
+   *  @param element the element to add
+   *  @return the removed element */
   @Override
-  public boolean containsAll(Collection<?> c) {
-    return baseList.containsAll(c);
+  public E set(int index, E element) {
+    E result = remove(index);
+    insert(element);
+    return result;
   }
 
   @Override
-  public E get(int index) {
-    validate();
-    return baseList.get(index);
+  @SuppressWarnings("unchecked")
+  public E remove(int index) {
+    checkIndex(index);
+    int block = blockOf(index);
+    Object[] array = blocks.get(block);
+    int offset = index - offsetOf(block);
+    E result = (E) array[offset];
+    int blockSize = blockSizes[block];
+    System.arraycopy(array, offset + 1, array, offset, blockSize - offset - 1);
+    array[blockSize - 1] = null;
+    size--;
+    modCount++;
+    if (blockSize == 1) {
+      blocks.remove(block);
+      System.arraycopy(blockSizes, block + 1, blockSizes, block, blocks.size() - block);
+      rebuildTree();
+    } else {
+      blockSizes[block]--;
+      updateTree(block, -1);
+    }
+    return result;
   }
 
   @Override
-  public int indexOf(Object o) {
-    validate();
-    return baseList.indexOf(o);
+  public boolean remove(Object o) {
+    int index = indexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    remove(index);
+    return true;
   }
 
   @Override
-  public boolean isEmpty() {
-    return baseList.isEmpty();
+  public boolean contains(Object o) {
+    return (indexOf(o) >= 0);
   }
 
+  /** Finds the element by binary search, then checks the elements which are equal by the comparator. */
   @Override
-  public Iterator<E> iterator() {
-    validate();
-    return baseList.iterator();
+  @SuppressWarnings("unchecked")
+  public int indexOf(Object o) {
+    E element;
+    int index;
+    try {
+      element = (E) o;
+      index = lowerBound(element);
+    } catch (ClassCastException e) {
+      return -1;
+    }
+    for (Iterator<E> iterator = iterator(index); iterator.hasNext(); index++) {
+      E candidate = iterator.next();
+      if (comparator.compare(candidate, element) != 0) {
+        break;
+      }
+      if (o == null ? candidate == null : o.equals(candidate)) {
+        return index;
+      }
+    }
+    return -1;
   }
 
   @Override
   public int lastIndexOf(Object o) {
-    validate();
-    return baseList.lastIndexOf(o);
+    int index = indexOf(o);
+    if (index < 0) {
+      return -1;
+    }
+    while (index + 1 < size && (o == null ? get(index + 1) == null : o.equals(get(index + 1)))) {
+      index++;
+    }
+    return index;
   }
 
   @Override
-  public ListIterator<E> listIterator() {
-    validate();
-    return baseList.listIterator();
+  public void clear() {
+    blocks.clear();
+    blockSizes = new int[0];
+    tree = new int[1];
+    size = 0;
+    modCount++;
   }
 
   @Override
-  public ListIterator<E> listIterator(int index) {
-    validate();
-    return baseList.listIterator(index);
+  public Iterator<E> iterator() {
+    return iterator(0);
   }
 
   @Override
-  public E remove(int index) {
-    validate();
-    return baseList.remove(index);
+  public Object[] toArray() {
+    Object[] result = new Object[size];
+    int offset = 0;
+    for (int i = 0; i < blocks.size(); i++) {
+      System.arraycopy(blocks.get(i), 0, result, offset, blockSizes[i]);
+      offset += blockSizes[i];
+    }
+    return result;
   }
 
-  @Override
-  public boolean remove(Object o) {
-    return baseList.remove(o);
+  /** @param fromElement the lowest element of the range, inclusive
+   *  @param toElement the highest element of the range, exclusive
+   *  @return a view of the elements in the range, which is valid until this list is changed */
+  public List<E> range(E fromElement, E toElement) {
+    int from = lowerBound(fromElement);
+    return subList(from, Math.max(from, lowerBound(toElement)));
   }
 
-  @Override
-  public boolean removeAll(Collection<?> c) {
-    return baseList.removeAll(c);
+  /** @param toElement the upper bound, exclusive
+   *  @return a view of the elements which are less than toElement, which is valid until this list is changed */
+  public List<E> headList(E toElement) {
+    return subList(0, lowerBound(toElement));
   }
 
-  @Override
-  public boolean retainAll(Collection<?> c) {
-    return baseList.retainAll(c);
+  /** @param fromElement the lower bound, inclusive
+   *  @return a view of the elements which are greater than or equal to fromElement,
+   *      which is valid until this list is changed */
+  public List<E> tailList(E fromElement) {
+    return subList(lowerBound(fromElement), size);
   }
 
-  @Override
-  public E set(int index, E element) {
-    validate();
-    return baseList.set(index, element);
+  /** @param element the element to look up
+   *  @return the index of the first element which is not less than the given one */
+  @SuppressWarnings("unchecked")
+  public int lowerBound(E element) {
+    // find the first block whose last element is not less than the element
+    int lo = 0;
+    int hi = blocks.size();
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (comparator.compare((E) blocks.get(mid)[blockSizes[mid] - 1], element) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    if (lo == blocks.size()) {
+      return size;
+    }
+    return offsetOf(lo) + searchBlock(lo, element, false);
   }
 
-  @Override
-  public int size() {
-    return baseList.size();
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  @SuppressWarnings("unchecked")
+  private void insert(E element) {
+    modCount++;
+    if (blocks.isEmpty()) {
+      Object[] array = new Object[INITIAL_BLOCK_SIZE];
+      array[0] = element;
+      blocks.add(array);
+      blockSizes = new int[] { 1 };
+      size = 1;
+      rebuildTree();
+      return;
+    }
+    // find the last block whose first element is not greater than the element
+    int lo = 0;
+    int hi = blocks.size();
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (comparator.compare((E) blocks.get(mid)[0], element) <= 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    int block = Math.max(lo - 1, 0);
+    Object[] array = blocks.get(block);
+    int blockSize = blockSizes[block];
+    if (blockSize == array.length) {
+      // blocks of small lists start small and grow up to the maximum size
+      array = Arrays.copyOf(array, Math.min(array.length * 2, MAX_BLOCK_SIZE));
+      blocks.set(block, array);
+    }
+    int offset = searchBlock(block, element, true);
+    System.arraycopy(array, offset, array, offset + 1, blockSize - offset);
+    array[offset] = element;
+    size++;
+    if (++blockSizes[block] == MAX_BLOCK_SIZE) {
+      splitBlock(block);
+    } else {
+      updateTree(block, 1);
+    }
   }
 
-  @Override
-  public List<E> subList(int fromIndex, int toIndex) {
-    validate();
-    return baseList.subList(fromIndex, toIndex);
+  /** Binary search in a block.
+   *  @param after if false, the position of the first element which is not less than the given one is returned,
+   *      otherwise the position after all elements which are not greater than the given one */
+  @SuppressWarnings("unchecked")
+  private int searchBlock(int block, E element, boolean after) {
+    Object[] array = blocks.get(block);
+    int lo = 0;
+    int hi = blockSizes[block];
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      int comp = comparator.compare((E) array[mid], element);
+      if (comp < 0 || (after && comp == 0)) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
   }
 
-  @Override
-  public Object[] toArray() {
-    validate();
-    return baseList.toArray();
+  private void splitBlock(int block) {
+    Object[] array = blocks.get(block);
+    int half = MAX_BLOCK_SIZE / 2;
+    Object[] upper = new Object[MAX_BLOCK_SIZE];
+    System.arraycopy(array, half, upper, 0, MAX_BLOCK_SIZE - half);
+    Arrays.fill(array, half, MAX_BLOCK_SIZE, null);
+    blocks.add(block + 1, upper);
+    if (blockSizes.length < blocks.size()) {
+      blockSizes = Arrays.copyOf(blockSizes, blocks.size() * 2);
+    }
+    System.arraycopy(blockSizes, block + 1, blockSizes, block + 2, blocks.size() - block - 2);
+    blockSizes[block] = half;
+    blockSizes[block + 1] = MAX_BLOCK_SIZE - half;
+    rebuildTree();
   }
 
-  @Override
-  public <T> T[] toArray(T[] a) {
-    validate();
-    return baseList.toArray(a);
+  private void bulkLoad(Object[] sorted) {
+    blocks.clear();
+    int blockCount = (sorted.length + BULK_LOAD_BLOCK_SIZE - 1) / BULK_LOAD_BLOCK_SIZE;
+    blockSizes = new int[blockCount];
+    for (int i = 0; i < blockCount; i++) {
+      int from = i * BULK_LOAD_BLOCK_SIZE;
+      int length = Math.min(BULK_LOAD_BLOCK_SIZE, sorted.length - from);
+      Object[] array = new Object[Math.min(Math.max(length * 2, INITIAL_BLOCK_SIZE), MAX_BLOCK_SIZE)];
+      System.arraycopy(sorted, from, array, 0, length);
+      blocks.add(array);
+      blockSizes[i] = length;
+    }
+    size = sorted.length;
+    modCount++;
+    rebuildTree();
   }
 
-  // private helpers -------------------------------------------------------------------------------------------------
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+  }
 
-  private void validate() {
-    if (!sorted) {
-      baseList.sort(comparator);
+  private void rebuildTree() {
+    int n = blocks.size();
+    tree = new int[n + 1];
+    for (int i = 0; i < n; i++) {
+      tree[i + 1] += blockSizes[i];
+      int parent = (i + 1) + ((i + 1) & -(i + 1));
+      if (parent <= n) {
+        tree[parent] += tree[i + 1];
+      }
     }
   }
 
-  // java.lang.Object overrides --------------------------------------------------------------------------------------
+  private void updateTree(int block, int delta) {
+    for (int i = block + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
 
-  @Override
-  public boolean equals(Object o) {
-    validate();
-    return baseList.equals(o);
+  /** @return the number of elements in the blocks before the given one */
+  private int offsetOf(int block) {
+    int result = 0;
+    for (int i = block; i > 0; i -= i & -i) {
+      result += tree[i];
+    }
+    return result;
   }
 
-  @Override
-  public int hashCode() {
-    return baseList.hashCode();
+  /** @return the index of the block which contains the element with the given index */
+  private int blockOf(int index) {
+    int pos = 0;
+    int remaining = index;
+    for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+      int next = pos + step;
+      if (next < tree.length && tree[next] <= remaining) {
+        pos = next;
+        remaining -= tree[next];
+      }
+    }
+    return pos;
   }
 
-  @Override
-  public String toString() {
-    return baseList.toString();
+  private Iterator<E> iterator(int startIndex) {
+    return new BlockIterator(startIndex);
+  }
+
+  /** Iterates the blocks sequentially, instead of looking up each index. */
+  private class BlockIterator implements Iterator<E> {
+
+    private int index;
+    private int block;
+    private int offset;
+    private int expectedModCount;
+    private int lastReturned = -1;
+
+    BlockIterator(int startIndex) {
+      position(startIndex);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (index >= size) {
+        throw new NoSuchElementException();
+      }
+      while (offset >= blockSizes[block]) {
+        block++;
+        offset = 0;
+      }
+      lastReturned = index++;
+      return (E) blocks.get(block)[offset++];
+    }
+
+    @Override
+    public void remove() {
+      if (lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      SortedList.this.remove(lastReturned);
+      position(lastReturned);
+      lastReturned = -1;
+    }
+
+    private void position(int index) {
+      this.index = index;
+      this.expectedModCount = modCount;
+      if (index < size) {
+        this.block = blockOf(index);
+        this.offset = index - offsetOf(block);
+      } else {
+        this.block = Math.max(blocks.size() - 1, 0);
+        this.offset = (blocks.isEmpty() ? 0 : blockSizes[block]);
+      }
+    }
   }
 
 }
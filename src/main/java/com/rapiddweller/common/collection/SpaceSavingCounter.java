@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the most frequent objects of a stream in bounded memory with the Space-Saving algorithm
+ * of Metwally, Agrawal and El Abbadi. At most {@link #getCapacity()} objects are tracked.
+ * When an untracked object arrives and the capacity is exhausted, the object with the lowest count is replaced
+ * and the new object inherits its count as overestimation error.
+ * So the count of each tracked object overestimates its true count by at most its {@link Entry#getError()},
+ * which is at most {@link #totalCount()} / capacity, and every object which occurs more often than that is tracked.
+ * Counters can be merged, e.g. after counting different partitions in different threads.<br/><br/>
+ * Created: 18.10.2026 02:31:17
+ * @param <E> the type of the counted elements
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class SpaceSavingCounter<E> {
+
+  private final int capacity;
+  private final Map<E, Entry<E>> entries;
+  /** Min-heap of the entries by count */
+  private final Entry<E>[] heap;
+  private int size;
+  private long totalCount;
+
+  @SuppressWarnings("unchecked")
+  public SpaceSavingCounter(int capacity) {
+    if (capacity <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("capacity must be positive, but was " + capacity);
+    }
+    this.capacity = capacity;
+    this.entries = new HashMap<>(capacity * 2);
+    this.heap = new Entry[capacity];
+    this.size = 0;
+    this.totalCount = 0;
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void count(E instance) {
+    count(instance, 1);
+  }
+
+  public void count(E instance, long times) {
+    if (times < 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("Cannot count negative times: " + times);
+    }
+    totalCount += times;
+    Entry<E> entry = entries.get(instance);
+    if (entry != null) {
+      entry.count += times;
+      siftDown(entry.heapIndex);
+    } else if (size < capacity) {
+      entry = new Entry<>(instance, times, 0);
+      entries.put(instance, entry);
+      entry.heapIndex = size;
+      heap[size++] = entry;
+      siftUp(entry.heapIndex);
+    } else {
+      // replace the entry with the lowest count
+      entry = heap[0];
+      entries.remove(entry.element);
+      entry.element = instance;
+      entry.error = entry.count;
+      entry.count += times;
+      entries.put(instance, entry);
+      siftDown(0);
+    }
+  }
+
+  /** @param instance the object of which to estimate the count
+   *  @return an upper bound of the object's count */
+  public long estimateCount(E instance) {
+    Entry<E> entry = entries.get(instance);
+    if (entry != null) {
+      return entry.count;
+    }
+    return (size < capacity ? 0 : heap[0].count);
+  }
+
+  public boolean isTracked(E instance) {
+    return entries.containsKey(instance);
+  }
+
+  public long totalCount() {
+    return totalCount;
+  }
+
+  /** @return the tracked entries, ordered by decreasing count */
+  public List<Entry<E>> entries() {
+    List<Entry<E>> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Entry<E> entry = heap[i];
+      result.add(new Entry<>(entry.element, entry.count, entry.error));
+    }
+    result.sort(Comparator.comparingLong((Entry<E> entry) -> entry.count).reversed());
+    return result;
+  }
+
+  /** @param k the maximum number of entries to return
+   *  @return the k entries with the highest counts, ordered by decreasing count */
+  public List<Entry<E>> topK(int k) {
+    List<Entry<E>> result = entries();
+    return (result.size() > k ? new ArrayList<>(result.subList(0, k)) : result);
+  }
+
+  /** @param threshold the minimum share of the total count
+   *  @return the entries of which the guaranteed count, i.e. count minus error, exceeds the share of the total count */
+  public List<Entry<E>> heavyHitters(double threshold) {
+    List<Entry<E>> result = new ArrayList<>();
+    for (Entry<E> entry : entries()) {
+      if (entry.getGuaranteedCount() > threshold * totalCount) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  /** Adds the counts of another counter to this one. Objects which are not tracked by one of the counters
+   *  are assumed to have that counter's minimum count there, so the merged counts remain upper bounds.
+   *  @param other the counter to merge */
+  public void merge(SpaceSavingCounter<E> other) {
+    long thisMin = (this.size < this.capacity ? 0 : this.heap[0].count);
+    long otherMin = (other.size < other.capacity ? 0 : other.heap[0].count);
+    Set<E> elements = new LinkedHashSet<>(this.entries.keySet());
+    elements.addAll(other.entries.keySet());
+    List<Entry<E>> merged = new ArrayList<>(elements.size());
+    for (E element : elements) {
+      Entry<E> a = this.entries.get(element);
+      Entry<E> b = other.entries.get(element);
+      long count = (a != null ? a.count : thisMin) + (b != null ? b.count : otherMin);
+      long error = (a != null ? a.error : thisMin) + (b != null ? b.error : otherMin);
+      merged.add(new Entry<>(element, count, error));
+    }
+    merged.sort(Comparator.comparingLong((Entry<E> entry) -> entry.count).reversed());
+    long newTotal = this.totalCount + other.totalCount;
+    clear();
+    for (int i = 0; i < merged.size() && i < capacity; i++) {
+      Entry<E> entry = merged.get(i);
+      entry.heapIndex = size;
+      heap[size++] = entry;
+      entries.put(entry.element, entry);
+      siftUp(entry.heapIndex);
+    }
+    totalCount = newTotal;
+  }
+
+  public void clear() {
+    entries.clear();
+    Arrays.fill(heap, null);
+    size = 0;
+    totalCount = 0;
+  }
+
+  @Override
+  public String toString() {
+    return entries().toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void siftUp(int index) {
+    Entry<E> entry = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent].count <= entry.count) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(entry, index);
+  }
+
+  private void siftDown(int index) {
+    Entry<E> entry = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+        child++;
+      }
+      if (entry.count <= heap[child].count) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(entry, index);
+  }
+
+  private void place(Entry<E> entry, int index) {
+    heap[index] = entry;
+    entry.heapIndex = index;
+  }
+
+  // Entry class -----------------------------------------------------------------------------------------------------
+
+  /** A tracked object with its estimated count and the maximum overestimation of the count. */
+  public static final class Entry<E> {
+
+    private E element;
+    private long count;
+    private long error;
+    private int heapIndex;
+
+    Entry(E element, long count, long error) {
+      this.element = element;
+      this.count = count;
+      this.error = error;
+    }
+
+    public E getElement() {
+      return element;
+    }
+
+    /** @return an upper bound of the element's count */
+    public long getCount() {
+      return count;
+    }
+
+    /** @return the maximum overestimation of the count */
+    public long getError() {
+      return error;
+    }
+
+    /** @return a lower bound of the element's count */
+    public long getGuaranteedCount() {
+      return count - error;
+    }
+
+    @Override
+    public String toString() {
+      return element + ":" + count + (error > 0 ? "(-" + error + ")" : "");
+    }
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import java.util.function.Consumer;
+
+/**
+ * Lock-free bounded ring buffer for exactly one producer thread and one consumer thread.
+ * Each side caches the last seen position of the other side and only reads the other side's
+ * sequence when the cached value indicates a full or empty buffer.<br/><br/>
+ * Created: 18.10.2026 04:38:09
+ * @param <E> the type of the buffered objects
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class SpscRingBuffer<E> extends ConcurrentRingBuffer<E> {
+
+  /** The producer's copy of the head, only accessed by the producer */
+  private long headCache;
+  /** The consumer's copy of the tail, only accessed by the consumer */
+  private long tailCache;
+
+  public SpscRingBuffer(int capacity) {
+    this(capacity, WaitStrategy.YIELD);
+  }
+
+  public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+    super(capacity, waitStrategy);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  @Override
+  public boolean offer(E element) {
+    checkElement(element);
+    long currentTail = tail.getPlain();
+    if (currentTail - headCache >= elements.length) {
+      headCache = head.get();
+      if (currentTail - headCache >= elements.length) {
+        return false;
+      }
+    }
+    elements[(int) currentTail & mask] = element;
+    tail.setRelease(currentTail + 1);
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E poll() {
+    long currentHead = head.getPlain();
+    if (currentHead >= tailCache) {
+      tailCache = tail.get();
+      if (currentHead >= tailCache) {
+        return null;
+      }
+    }
+    int index = (int) currentHead & mask;
+    E result = (E) elements[index];
+    elements[index] = null;
+    head.setRelease(currentHead + 1);
+    return result;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int drain(Consumer<? super E> consumer, int limit) {
+    long currentHead = head.getPlain();
+    long available = tailCache - currentHead;
+    if (available < limit) {
+      tailCache = tail.get();
+      available = tailCache - currentHead;
+    }
+    int count = (int) Math.min(available, limit);
+    for (int i = 0; i < count; i++) {
+      int index = (int) (currentHead + i) & mask;
+      E element = (E) elements[index];
+      elements[index] = null;
+      consumer.accept(element);
+    }
+    if (count > 0) {
+      head.setRelease(currentHead + count);
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategies for waiting on a {@link ConcurrentRingBuffer} which is full or empty.
+ * They trade latency for CPU usage: {@link #SPIN} reacts fastest, but occupies a core,
+ * {@link #PARK} frees the core after a short spin phase, but reacts with a delay of some microseconds.<br/><br/>
+ * Created: 18.10.2026 04:02:11
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public enum WaitStrategy {
+
+  /** Busy-spins, for threads which have a dedicated core. */
+  SPIN {
+    @Override
+    public void idle(int attempt) {
+      Thread.onSpinWait();
+    }
+  },
+
+  /** Spins for some attempts, then yields the processor to other threads. */
+  YIELD {
+    @Override
+    public void idle(int attempt) {
+      if (attempt < SPIN_ATTEMPTS) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    }
+  },
+
+  /** Spins, then yields and finally parks the thread for short periods. */
+  PARK {
+    @Override
+    public void idle(int attempt) {
+      if (attempt < SPIN_ATTEMPTS) {
+        Thread.onSpinWait();
+      } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(PARK_NANOS);
+      }
+    }
+  };
+
+  static final int SPIN_ATTEMPTS = 100;
+  static final int YIELD_ATTEMPTS = 100;
+  static final long PARK_NANOS = 50_000;
+
+  /** Is called repeatedly while waiting.
+   *  @param attempt the number of preceding calls in the current wait */
+  public abstract void idle(int attempt);
+
+}
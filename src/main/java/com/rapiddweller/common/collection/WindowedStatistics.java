@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+/**
+ * Maintains statistics over the latest values added to a {@link DoubleRingBuffer}, e.g. for monitoring latencies.
+ * Each {@link #add(double)} takes constant time (amortized) and all statistics except percentiles
+ * are queried in constant time: sum, average and variance are updated incrementally with Welford's method
+ * and recalculated from the buffer each time it has been overwritten completely, in order to limit rounding errors.
+ * Minimum and maximum are tracked in monotonic deques. Percentiles are estimated from logarithmic buckets
+ * (like in the DDSketch of Masson, Rim and Lee), so their relative error is at most the relative accuracy.
+ * This class is not thread-safe.<br/><br/>
+ * Created: 18.10.2026 05:44:02
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class WindowedStatistics {
+
+  public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+  private final DoubleRingBuffer buffer;
+  private final int capacity;
+  private final double relativeAccuracy;
+
+  private long sequence;
+  private int size;
+  private double mean;
+  private double m2;
+
+  private final MonotonicDeque minDeque;
+  private final MonotonicDeque maxDeque;
+
+  private final double logGamma;
+  private final double minIndexableValue;
+  private final BucketStore positiveBuckets;
+  private final BucketStore negativeBuckets;
+  private int zeroCount;
+
+  public WindowedStatistics(int capacity) {
+    this(capacity, DEFAULT_RELATIVE_ACCURACY);
+  }
+
+  public WindowedStatistics(int capacity, double relativeAccuracy) {
+    if (capacity <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("capacity must be positive, but was " + capacity);
+    }
+    if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+      throw ExceptionFactory.getInstance().illegalArgument(
+          "relativeAccuracy must be between 0 and 1, but was " + relativeAccuracy);
+    }
+    this.buffer = new DoubleRingBuffer(capacity);
+    this.capacity = capacity;
+    this.relativeAccuracy = relativeAccuracy;
+    this.minDeque = new MonotonicDeque(capacity, false);
+    this.maxDeque = new MonotonicDeque(capacity, true);
+    double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    this.logGamma = Math.log(gamma);
+    this.minIndexableValue = Double.MIN_NORMAL * gamma;
+    this.positiveBuckets = new BucketStore();
+    this.negativeBuckets = new BucketStore();
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  /** @return the number of values in the window */
+  public int size() {
+    return size;
+  }
+
+  /** @return the number of values which have been added in total */
+  public long getSampleCount() {
+    return sequence;
+  }
+
+  public boolean isFilled() {
+    return buffer.isFilled();
+  }
+
+  public void add(double value) {
+    if (!Double.isFinite(value)) {
+      throw ExceptionFactory.getInstance().illegalArgument("Cannot add " + value);
+    }
+    if (buffer.isFilled()) {
+      double evicted = buffer.first();
+      buffer.add(value);
+      removeFromBuckets(evicted);
+      if (sequence % capacity == capacity - 1) {
+        recalculateMoments();
+      } else {
+        double oldMean = mean;
+        mean += (value - evicted) / size;
+        m2 += (value - evicted) * (value - mean + evicted - oldMean);
+      }
+    } else {
+      buffer.add(value);
+      size++;
+      double delta = value - mean;
+      mean += delta / size;
+      m2 += delta * (value - mean);
+    }
+    long oldestSequence = sequence + 1 - size;
+    minDeque.add(sequence, value, oldestSequence);
+    maxDeque.add(sequence, value, oldestSequence);
+    addToBuckets(value);
+    sequence++;
+  }
+
+  public double last() {
+    return (size > 0 ? buffer.last() : Double.NaN);
+  }
+
+  public double sum() {
+    return mean * size;
+  }
+
+  public double average() {
+    return (size > 0 ? mean : Double.NaN);
+  }
+
+  public double variance() {
+    return (size > 0 ? Math.max(0, m2) / size : Double.NaN);
+  }
+
+  public double standardDeviation() {
+    return Math.sqrt(variance());
+  }
+
+  public double correctedStandardDeviation() {
+    return (size > 1 ? Math.sqrt(Math.max(0, m2) / (size - 1)) : Double.NaN);
+  }
+
+  public double min() {
+    return minDeque.first();
+  }
+
+  public double max() {
+    return maxDeque.first();
+  }
+
+  public double median() {
+    return percentile(50);
+  }
+
+  /** Estimates a percentile of the values in the window with a relative error of at most
+   *  {@link #getRelativeAccuracy()}. The time needed is proportional to the number of buckets in use.
+   *  @param percentile the percentile, between 0 and 100
+   *  @return the estimated value at the percentile or NaN if the window is empty */
+  public double percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw ExceptionFactory.getInstance().illegalArgument("Illegal percentile: " + percentile);
+    }
+    if (size == 0) {
+      return Double.NaN;
+    }
+    long rank = (long) (percentile / 100 * (size - 1));
+    double result;
+    if (rank < negativeBuckets.total) {
+      result = -bucketValue(negativeBuckets.indexAtRank(negativeBuckets.total - 1 - rank));
+    } else if (rank < negativeBuckets.total + zeroCount) {
+      result = 0;
+    } else {
+      result = bucketValue(positiveBuckets.indexAtRank(rank - negativeBuckets.total - zeroCount));
+    }
+    return Math.max(min(), Math.min(max(), result));
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[size=" + size + ", average=" + average()
+        + ", min=" + min() + ", max=" + max() + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void recalculateMoments() {
+    double[] values = buffer.getContent();
+    double sum = 0;
+    for (double value : values) {
+      sum += value;
+    }
+    mean = sum / values.length;
+    m2 = 0;
+    for (double value : values) {
+      m2 += (value - mean) * (value - mean);
+    }
+  }
+
+  private void addToBuckets(double value) {
+    if (value >= minIndexableValue) {
+      positiveBuckets.add(bucketIndex(value), 1);
+    } else if (value <= -minIndexableValue) {
+      negativeBuckets.add(bucketIndex(-value), 1);
+    } else {
+      zeroCount++;
+    }
+  }
+
+  private void removeFromBuckets(double value) {
+    if (value >= minIndexableValue) {
+      positiveBuckets.add(bucketIndex(value), -1);
+    } else if (value <= -minIndexableValue) {
+      negativeBuckets.add(bucketIndex(-value), -1);
+    } else {
+      zeroCount--;
+    }
+  }
+
+  /** Maps a positive value to the bucket which covers the interval (gamma^(index-1), gamma^index]. */
+  private int bucketIndex(double value) {
+    return (int) Math.ceil(Math.log(value) / logGamma);
+  }
+
+  /** @return the value with the lowest maximum relative error in the bucket */
+  private double bucketValue(int index) {
+    return 2 * Math.exp(index * logGamma) / (1 + Math.exp(logGamma));
+  }
+
+  /** Deque of the values which may become the minimum (or maximum) of the window,
+   *  ordered by their sequence number and by their value. */
+  private static final class MonotonicDeque {
+
+    private final long[] sequences;
+    private final double[] values;
+    private final boolean max;
+    private int head;
+    private int count;
+
+    MonotonicDeque(int capacity, boolean max) {
+      this.sequences = new long[capacity];
+      this.values = new double[capacity];
+      this.max = max;
+    }
+
+    void add(long sequence, double value, long oldestSequence) {
+      // drop values which left the window
+      while (count > 0 && sequences[head] < oldestSequence) {
+        head = (head + 1) % sequences.length;
+        count--;
+      }
+      // drop values which cannot become the extreme value any more
+      while (count > 0 && !dominates(values[(head + count - 1) % values.length], value)) {
+        count--;
+      }
+      int tail = (head + count) % sequences.length;
+      sequences[tail] = sequence;
+      values[tail] = value;
+      count++;
+    }
+
+    double first() {
+      return (count > 0 ? values[head] : Double.NaN);
+    }
+
+    private boolean dominates(double older, double newer) {
+      return (max ? older > newer : older < newer);
+    }
+  }
+
+  /** Counts of the values per bucket index, in an array which grows to cover the used indices. */
+  private static final class BucketStore {
+
+    private int[] counts = new int[0];
+    private int offset;
+    private long total;
+
+    void add(int index, int delta) {
+      if (counts.length == 0) {
+        counts = new int[64];
+        offset = index - 32;
+      } else if (index < offset || index >= offset + counts.length) {
+        grow(index);
+      }
+      counts[index - offset] += delta;
+      total += delta;
+    }
+
+    int indexAtRank(long rank) {
+      long accumulated = 0;
+      for (int i = 0; i < counts.length; i++) {
+        accumulated += counts[i];
+        if (accumulated > rank) {
+          return i + offset;
+        }
+      }
+      throw ExceptionFactory.getInstance().programmerStateError("Rank out of range: " + rank);
+    }
+
+    private void grow(int index) {
+      int newOffset = Math.min(offset, index);
+      int newEnd = Math.max(offset + counts.length, index + 1);
+      int length = Math.max(newEnd - newOffset, counts.length * 2);
+      if (index < offset) {
+        newOffset = newEnd - length;
+      }
+      int[] newCounts = new int[length];
+      System.arraycopy(counts, 0, newCounts, offset - newOffset, counts.length);
+      counts = newCounts;
+      offset = newOffset;
+    }
+  }
+
+}
@@ -75,6 +75,18 @@ public static <TT> TT convert(Object source, Class<TT> targetType) throws Conver
   @SuppressWarnings({"unchecked", "rawtypes"})
   public static <TT> TT convert(Object source, Class<TT> targetType, String datePattern,
                                 String timePattern, String timestampPattern) throws ConversionException {
+    return convert(source, targetType, null);
+  }
+
+  /** Converts an object to the target type like {@link #convert(Object, Class)},
+   *  but with a converter which has been looked up in advance for the object's class.
+   *  @param source the object to convert
+   *  @param targetType the type to convert to
+   *  @param converter the converter to apply, or null for looking it up
+   *  @param <TT> the target type
+   *  @return the converted object */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <TT> TT convert(Object source, Class<TT> targetType, Converter converter) throws ConversionException {
     if (logger.isDebugEnabled()) {
       logger.debug("Converting " + source + (source != null ? " (" + source.getClass().getName() + ")" : "") + " to " + targetType);
     }
@@ -90,7 +102,9 @@ public static <TT> TT convert(Object source, Class<TT> targetType, String datePa
         return null;
       }
     }
-    Converter converter = ConverterManager.getInstance().createConverter(source.getClass(), targetType);
+    if (converter == null) {
+      converter = ConverterManager.getInstance().getConverterForImmediateUse(source.getClass(), targetType);
+    }
     return (TT) converter.convert(source);
   }
 
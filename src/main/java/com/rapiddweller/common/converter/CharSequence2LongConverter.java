@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.converter;
+
+import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+/**
+ * Parses {@link CharSequence}s or ranges of them as long values without creating intermediate Strings.
+ * Leading and trailing white space is ignored. Empty texts are converted to null by {@link #convert(CharSequence)}
+ * and cause a {@link ConversionException} in the primitive variants.
+ * Created: 17.10.2026 16:52:04
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CharSequence2LongConverter extends ThreadSafeConverter<CharSequence, Long>
+    implements ToLongConverter<CharSequence> {
+
+  public CharSequence2LongConverter() {
+    super(CharSequence.class, Long.class);
+  }
+
+  @Override
+  public Long convert(CharSequence sourceValue) throws ConversionException {
+    if (sourceValue == null || CharSequenceRange.isBlank(sourceValue, 0, sourceValue.length())) {
+      return null;
+    }
+    return convertToLong(sourceValue, 0, sourceValue.length());
+  }
+
+  @Override
+  public long convertToLong(CharSequence sourceValue) throws ConversionException {
+    if (sourceValue == null) {
+      throw ExceptionFactory.getInstance().conversionFailed("Cannot convert null to long", null);
+    }
+    return convertToLong(sourceValue, 0, sourceValue.length());
+  }
+
+  /** Parses the characters from index start (inclusive) to index end (exclusive) of the text.
+   *  @param text  the text to parse
+   *  @param start the index of the first character to parse
+   *  @param end   the index after the last character to parse
+   *  @return the parsed value */
+  public long convertToLong(CharSequence text, int start, int end) throws ConversionException {
+    int first = CharSequenceRange.trimStart(text, start, end);
+    int last = CharSequenceRange.trimEnd(text, first, end);
+    try {
+      return Long.parseLong(text, first, last, 10);
+    } catch (NumberFormatException e) {
+      throw ExceptionFactory.getInstance().conversionFailed(
+          "Cannot parse '" + text.subSequence(start, end) + "' as long", e);
+    }
+  }
+
+}
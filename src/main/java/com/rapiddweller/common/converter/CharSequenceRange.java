@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.converter;
+
+/**
+ * Provides trimming of {@link CharSequence} ranges without creating new objects,
+ * treating characters like {@link String#trim()} does.
+ * Created: 17.10.2026 16:45:19
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class CharSequenceRange {
+
+  /** private constructor for preventing that the class is instantiated */
+  private CharSequenceRange() {
+  }
+
+  /** @return the index of the first non-white space character in the range, or end */
+  static int trimStart(CharSequence text, int start, int end) {
+    while (start < end && text.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  /** @return the index after the last non-white space character in the range, or start */
+  static int trimEnd(CharSequence text, int start, int end) {
+    while (end > start && text.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  static boolean isBlank(CharSequence text, int start, int end) {
+    return (trimStart(text, start, end) == end);
+  }
+
+}
@@ -43,10 +43,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages converters. A default configuration is provided and can be overwritten by a local file 'converters.txt',
@@ -55,6 +56,12 @@
  *     com.my.MyString2ThingConverter
  *     com.my.MyString2ComplexConverter
  * </pre>
+ * Resolved converters are cached in a two-level map (source type -&gt; target type),
+ * so repeated lookups are lock-free and do not allocate. Failed lookups are cached as well.
+ * The configuration and the cache are replaced as a whole by {@link #reset()} and when a converter class
+ * is registered, so a lookup which overlaps a change never caches its result for the new configuration.
+ * Other caches which hold converters of this manager can register for being cleared with it
+ * by {@link #addCacheInvalidationListener(Runnable)}.
  * Created: 04.08.2007 19:43:17
  * @author Volker Bergmann
  */
@@ -68,12 +75,14 @@ public class ConverterManager implements ContextAware, Resettable {
   private static final String DEFAULT_SETUP_FILENAME = "com/rapiddweller/common/converter/converters.txt";
   private static final String CUSTOM_SETUP_FILENAME = "converters.txt";
 
-  private static ConverterManager instance;
-  private Context context;
+  private static volatile ConverterManager instance;
+  private volatile Context context;
 
-  private OrderedMap<ConversionTypes, Class<? extends Converter>> configuredConverterClasses;
+  /** The configuration and lookup cache, which is replaced as a whole when the configuration changes */
+  private volatile Setup setup;
 
-  private Map<ConversionTypes, Converter> converterPrototypes;
+  /** Static, so that the listeners survive {@link #removeInstance()} */
+  private static final List<Runnable> cacheInvalidationListeners = new CopyOnWriteArrayList<>();
 
 
   // static methods --------------------------------------------------------------------------------------------------
@@ -115,14 +124,22 @@ public static <S, T> Converter<S, T> cloneIfSupported(Converter<S, T> prototype)
   }
 
   public static ConverterManager getInstance() {
-    if (instance == null) {
-      instance = new ConverterManager();
+    ConverterManager result = instance;
+    if (result == null) {
+      synchronized (ConverterManager.class) {
+        result = instance;
+        if (result == null) {
+          result = new ConverterManager();
+          instance = result;
+        }
+      }
     }
-    return instance;
+    return result;
   }
 
   public static void removeInstance() {
     instance = null;
+    notifyCacheInvalidationListeners();
   }
 
   @SuppressWarnings("cast")
@@ -170,11 +187,21 @@ private ConverterManager() {
   // interface -------------------------------------------------------------------------------------------------------
 
   @Override
-  public void setContext(Context context) {
+  public synchronized void setContext(Context context) {
     this.context = context;
-    for (Converter converter : converterPrototypes.values()) {
+    Setup current = setup;
+    for (Converter converter : current.prototypes.values()) {
       injectContext(converter);
     }
+    publish(new Setup(current.converterClasses, new ConcurrentHashMap<>(current.prototypes)));
+  }
+
+  /** Registers a callback which is invoked whenever converters provided before may be outdated,
+   *  i.e. on {@link #reset()}, {@link #setContext(Context)}, {@link #registerConverterClass(Class)}
+   *  and {@link #removeInstance()}. The listeners apply to all instances.
+   *  @param listener the callback which clears a cache */
+  public static void addCacheInvalidationListener(Runnable listener) {
+    cacheInvalidationListeners.add(listener);
   }
 
   public <S, T> Converter<S, T> createConverter(Class<S> sourceType, Class<T> targetType) {
@@ -182,26 +209,105 @@ public <S, T> Converter<S, T> createConverter(Class<S> sourceType, Class<T> targ
     Assert.notNull(targetType, "targetType");
 
     // check if we already know how to do this conversion
-    ConversionTypes conversionTypes = new ConversionTypes(sourceType, targetType);
-    Converter result = converterPrototypes.get(conversionTypes);
-    if (result != null) {
-      return cloneIfSupported(result);
-    }
-
-    // we need to investigate...
-    result = searchAppropriateConverter(sourceType, targetType);
-    // ...and cache the result for future requests
-    if (result != null && result.isParallelizable()) {
-      converterPrototypes.put(conversionTypes, result);
+    Converter prototype = lookupPrototype(sourceType, targetType);
+    if (prototype != null) {
+      return cloneIfSupported(prototype);
     }
 
-    // inject context if appropriate
+    // the converter cannot be shared, so we need to create a new one
+    Converter result = searchAppropriateConverter(sourceType, targetType);
     injectContext(result);
+    return result;
+  }
 
-    // done
+  /** Provides a converter for immediate use by the calling thread. Unlike {@link #createConverter(Class, Class)},
+   *  this shares thread-safe prototypes instead of cloning them, so the result must not be kept or reconfigured. */
+  <S, T> Converter<S, T> getConverterForImmediateUse(Class<S> sourceType, Class<T> targetType) {
+    Assert.notNull(targetType, "targetType");
+    Converter prototype = lookupPrototype(sourceType, targetType);
+    if (prototype != null) {
+      return (prototype.isThreadSafe() ? prototype : cloneIfSupported(prototype));
+    }
+    Converter result = searchAppropriateConverter(sourceType, targetType);
+    injectContext(result);
     return result;
   }
 
+  /** Creates a converter which converts objects of the source type to int values without boxing,
+   *  if the source type is a {@link CharSequence} or {@link Number}.
+   *  For other source types, the result wraps the boxed {@link #createConverter(Class, Class)} result. */
+  public <S> ToIntConverter<S> createToIntConverter(Class<S> sourceType) {
+    if (CharSequence.class.isAssignableFrom(sourceType)) {
+      return (ToIntConverter<S>) new CharSequence2IntConverter();
+    } else if (Number.class.isAssignableFrom(sourceType)) {
+      return (ToIntConverter<S>) new Number2IntegerConverter();
+    }
+    Converter<S, Integer> converter = threadSafe(createConverter(sourceType, Integer.class));
+    if (converter instanceof ToIntConverter) {
+      return (ToIntConverter<S>) converter;
+    }
+    return new ToIntConverter<>() {
+      @Override
+      public Class<S> getSourceType() {
+        return sourceType;
+      }
+      @Override
+      public int convertToInt(S sourceValue) throws ConversionException {
+        return unbox(converter.convert(sourceValue), int.class).intValue();
+      }
+    };
+  }
+
+  /** Creates a converter which converts objects of the source type to long values without boxing,
+   *  if the source type is a {@link CharSequence} or {@link Number}.
+   *  For other source types, the result wraps the boxed {@link #createConverter(Class, Class)} result. */
+  public <S> ToLongConverter<S> createToLongConverter(Class<S> sourceType) {
+    if (CharSequence.class.isAssignableFrom(sourceType)) {
+      return (ToLongConverter<S>) new CharSequence2LongConverter();
+    } else if (Number.class.isAssignableFrom(sourceType)) {
+      return (ToLongConverter<S>) new Number2LongConverter();
+    }
+    Converter<S, Long> converter = threadSafe(createConverter(sourceType, Long.class));
+    if (converter instanceof ToLongConverter) {
+      return (ToLongConverter<S>) converter;
+    }
+    return new ToLongConverter<>() {
+      @Override
+      public Class<S> getSourceType() {
+        return sourceType;
+      }
+      @Override
+      public long convertToLong(S sourceValue) throws ConversionException {
+        return unbox(converter.convert(sourceValue), long.class).longValue();
+      }
+    };
+  }
+
+  /** Creates a converter which converts objects of the source type to double values without boxing,
+   *  if the source type is a {@link CharSequence} or {@link Number}.
+   *  For other source types, the result wraps the boxed {@link #createConverter(Class, Class)} result. */
+  public <S> ToDoubleConverter<S> createToDoubleConverter(Class<S> sourceType) {
+    if (CharSequence.class.isAssignableFrom(sourceType)) {
+      return (ToDoubleConverter<S>) new CharSequence2DoubleConverter();
+    } else if (Number.class.isAssignableFrom(sourceType)) {
+      return (ToDoubleConverter<S>) new Number2DoubleConverter();
+    }
+    Converter<S, Double> converter = threadSafe(createConverter(sourceType, Double.class));
+    if (converter instanceof ToDoubleConverter) {
+      return (ToDoubleConverter<S>) converter;
+    }
+    return new ToDoubleConverter<>() {
+      @Override
+      public Class<S> getSourceType() {
+        return sourceType;
+      }
+      @Override
+      public double convertToDouble(S sourceValue) throws ConversionException {
+        return unbox(converter.convert(sourceValue), double.class).doubleValue();
+      }
+    };
+  }
+
   @Override
   public void reset() {
     init();
@@ -210,18 +316,85 @@ public void reset() {
 
   // non-public helper methods ---------------------------------------------------------------------------------------
 
-  protected void init() {
-    this.configuredConverterClasses = new OrderedMap<>();
-    this.converterPrototypes = new HashMap<>();
+  protected synchronized void init() {
+    // the new setup is completed before it replaces the current one, so concurrent lookups never see a partial one
+    Setup newSetup = new Setup(new OrderedMap<>(), new ConcurrentHashMap<>());
     try {
       if (IOUtil.isURIAvailable(CUSTOM_SETUP_FILENAME)) {
         configLogger.debug("Reading custom converter config: {}", CUSTOM_SETUP_FILENAME);
-        readConfigFile(CUSTOM_SETUP_FILENAME);
+        readConfigFile(CUSTOM_SETUP_FILENAME, newSetup);
       }
-      readConfigFile(DEFAULT_SETUP_FILENAME);
+      readConfigFile(DEFAULT_SETUP_FILENAME, newSetup);
     } catch (Exception e) {
       throw ExceptionFactory.getInstance().componentInitializationFailed(COMPONENT_NAME, e);
     }
+    publish(newSetup);
+  }
+
+  /** Returns the cached converter prototype for the conversion, or null if each conversion requires
+   *  a new converter instance. Throws a {@link ConversionException} if the conversion is not supported. */
+  private Converter lookupPrototype(Class<?> sourceType, Class<?> targetType) {
+    if (sourceType == null) {
+      return null;
+    }
+    // a lookup which overlaps a configuration change fills the cache of the replaced setup
+    Setup setup = this.setup;
+    Map<Class<?>, CachedLookup> targetLookups = setup.lookupCache.get(sourceType);
+    if (targetLookups == null) {
+      targetLookups = new ConcurrentHashMap<>();
+      Map<Class<?>, CachedLookup> existing = setup.lookupCache.putIfAbsent(sourceType, targetLookups);
+      if (existing != null) {
+        targetLookups = existing;
+      }
+    }
+    CachedLookup lookup = targetLookups.get(targetType);
+    if (lookup == null) {
+      // not computeIfAbsent(), since resolving may look up other conversions recursively
+      lookup = resolve(sourceType, targetType, setup);
+      CachedLookup existing = targetLookups.putIfAbsent(targetType, lookup);
+      if (existing != null) {
+        lookup = existing;
+      }
+    }
+    if (lookup.failure != null) {
+      throw ExceptionFactory.getInstance().conversionFailed(lookup.failure.getMessage(), lookup.failure);
+    }
+    return lookup.prototype;
+  }
+
+  private CachedLookup resolve(Class<?> sourceType, Class<?> targetType, Setup setup) {
+    ConversionTypes conversionTypes = new ConversionTypes(sourceType, targetType);
+    Converter prototype = setup.prototypes.get(conversionTypes);
+    if (prototype != null) {
+      return new CachedLookup(prototype, null);
+    }
+    Converter result;
+    try {
+      result = searchAppropriateConverter(sourceType, targetType);
+    } catch (ConversionException e) {
+      return new CachedLookup(null, e);
+    }
+    if (result == null || !result.isParallelizable()) {
+      return CachedLookup.NOT_SHARABLE;
+    }
+    injectContext(result);
+    prototype = setup.prototypes.putIfAbsent(conversionTypes, result);
+    return new CachedLookup(prototype != null ? prototype : result, null);
+  }
+
+  /** Synchronizes a converter which is not thread-safe, since primitive converters are expected to be. */
+  private static <S, T> Converter<S, T> threadSafe(Converter<S, T> converter) {
+    if (converter.isThreadSafe() || converter instanceof SynchronizedConverterProxy) {
+      return converter;
+    }
+    return new SynchronizedConverterProxy<>(converter);
+  }
+
+  private static Number unbox(Number value, Class<?> primitiveType) {
+    if (value == null) {
+      throw ExceptionFactory.getInstance().conversionFailed("Cannot convert null to " + primitiveType, null);
+    }
+    return value;
   }
 
   private void injectContext(Converter converter) {
@@ -348,7 +521,7 @@ private Converter findPoorConfiguredMatch(Class<?> srcType, Class dstType) {
     if (srcType == dstType || (dstType.isAssignableFrom(srcType) && !dstType.isPrimitive())) {
       return new NoOpConverter();
     }
-    for (Map.Entry<ConversionTypes, Class<? extends Converter>> entry : configuredConverterClasses.entrySet()) {
+    for (Map.Entry<ConversionTypes, Class<? extends Converter>> entry : setup.converterClasses.entrySet()) {
       ConversionTypes types = entry.getKey();
       if (types.sourceType == srcType && dstType.isAssignableFrom(types.targetType)) {
         return BeanUtil.newInstance(entry.getValue());
@@ -357,22 +530,74 @@ private Converter findPoorConfiguredMatch(Class<?> srcType, Class dstType) {
     return null;
   }
 
-  public void registerConverterClass(Class<? extends Converter> converterClass) {
+  public synchronized void registerConverterClass(Class<? extends Converter> converterClass) {
+    Setup current = setup;
+    Setup newSetup = new Setup(new OrderedMap<>(current.converterClasses), new ConcurrentHashMap<>(current.prototypes));
+    register(converterClass, newSetup);
+    // previous lookup results may be outdated now
+    publish(newSetup);
+  }
+
+  private static void register(Class<? extends Converter> converterClass, Setup setup) {
     Converter converter = BeanUtil.newInstance(converterClass);
     ConversionTypes types = new ConversionTypes(converter);
-    configuredConverterClasses.put(types, converterClass);
+    setup.converterClasses.put(types, converterClass);
     if (converter.isParallelizable()) {
-      converterPrototypes.put(types, converter);
+      setup.prototypes.put(types, converter);
     }
   }
 
-  private void readConfigFile(String filename) throws ClassNotFoundException {
+  /** Replaces the setup, which discards all cached lookups, and notifies the cache invalidation listeners. */
+  private void publish(Setup newSetup) {
+    this.setup = newSetup;
+    notifyCacheInvalidationListeners();
+  }
+
+  private static void notifyCacheInvalidationListeners() {
+    for (Runnable listener : cacheInvalidationListeners) {
+      listener.run();
+    }
+  }
+
+  private static void readConfigFile(String filename, Setup setup) throws ClassNotFoundException {
     try (ReaderLineIterator iterator = new ReaderLineIterator(IOUtil.getReaderForURI(filename))) {
       while (iterator.hasNext()) {
         String className = iterator.next();
-        registerConverterClass((Class<? extends Converter>) Class.forName(className));
+        register((Class<? extends Converter>) Class.forName(className), setup);
       }
     }
   }
 
+
+  /** The configured converter classes, the converter prototypes and the lookup results derived from them.
+   *  The converter classes are not changed after the setup has been published. */
+  private static final class Setup {
+
+    final OrderedMap<ConversionTypes, Class<? extends Converter>> converterClasses;
+    final Map<ConversionTypes, Converter> prototypes;
+    final Map<Class<?>, Map<Class<?>, CachedLookup>> lookupCache = new ConcurrentHashMap<>();
+
+    Setup(OrderedMap<ConversionTypes, Class<? extends Converter>> converterClasses,
+          Map<ConversionTypes, Converter> prototypes) {
+      this.converterClasses = converterClasses;
+      this.prototypes = prototypes;
+    }
+  }
+
+
+  /** Cached result of a converter lookup: a sharable prototype, the exception of a failed lookup,
+   *  or neither if a new converter needs to be created for each request. */
+  private static final class CachedLookup {
+
+    static final CachedLookup NOT_SHARABLE = new CachedLookup(null, null);
+
+    final Converter prototype;
+    final ConversionException failure;
+
+    CachedLookup(Converter prototype, ConversionException failure) {
+      this.prototype = prototype;
+      this.failure = failure;
+    }
+  }
+
 }
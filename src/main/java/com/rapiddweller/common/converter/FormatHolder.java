@@ -18,9 +18,14 @@
 import com.rapiddweller.common.Capitalization;
 import com.rapiddweller.common.Patterns;
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.FormatterCache;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 
 /**
- * Holds format strings for date and number objects.<br/><br/>
+ * Holds format strings for date and number objects.
+ * The formats for the patterns are obtained from the {@link FormatterCache}.<br/><br/>
  * Created at 01.10.2009 12:18:59
  * @author Volker Bergmann
  * @since 0.5.0
@@ -46,6 +51,9 @@ public abstract class FormatHolder implements Patterns {
 
   protected Capitalization timestampCapitalization;
 
+  /** The formatter for the timestampPattern, created on first use */
+  private volatile TimestampFormatter timestampFormatter;
+
   protected NumberFormatter decimalConverter;
 
   protected NumberFormatter integralConverter;
@@ -138,6 +146,7 @@ public String getTimestampPattern() {
 
   public void setTimestampPattern(String pattern) {
     this.timestampPattern = pattern;
+    this.timestampFormatter = null;
   }
 
   public Capitalization getTimestampCapitalization() {
@@ -209,6 +218,26 @@ public void setStringQuote(String stringQuote) {
     this.stringQuote = stringQuote;
   }
 
+  // format access ---------------------------------------------------------------------------------------------------
+
+  /** @param pattern a SimpleDateFormat pattern or null for the default format
+   *  @return a thread-safe format for the pattern */
+  protected static DateFormat dateFormat(String pattern) {
+    return (pattern != null ? FormatterCache.getInstance().getDateFormat(pattern) : new SimpleDateFormat());
+  }
+
+  /** @return the formatter for the timestampPattern, which is created once and reused */
+  protected TimestampFormatter timestampFormatter() {
+    TimestampFormatter result = timestampFormatter;
+    if (result == null) {
+      result = (timestampPattern != null ? new TimestampFormatter(timestampPattern) : new TimestampFormatter());
+      timestampFormatter = result;
+    }
+    return result;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
   @Override
   public Object clone() {
     try {
@@ -16,6 +16,7 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.exception.ExceptionFactory;
 
 /**
  * Converts arbitrary {@link Number}s to {@link Double}s.
@@ -23,7 +24,7 @@
  * @author Volker Bergmann
  * @since 0.5.20
  */
-public class Number2DoubleConverter extends ThreadSafeConverter<Number, Double> {
+public class Number2DoubleConverter extends ThreadSafeConverter<Number, Double> implements ToDoubleConverter<Number> {
 
   protected Number2DoubleConverter() {
     super(Number.class, Double.class);
@@ -34,4 +35,12 @@ public Double convert(Number sourceValue) throws ConversionException {
     return (sourceValue != null ? sourceValue.doubleValue() : null);
   }
 
+  @Override
+  public double convertToDouble(Number sourceValue) throws ConversionException {
+    if (sourceValue == null) {
+      throw ExceptionFactory.getInstance().conversionFailed("Cannot convert null to double", null);
+    }
+    return sourceValue.doubleValue();
+  }
+
 }
@@ -16,6 +16,7 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.exception.ExceptionFactory;
 
 /**
  * Converts {@link Number} objects to {@link Integer}s.
@@ -23,7 +24,7 @@
  * @author Volker Bergmann
  * @since 0.4.2
  */
-public class Number2IntegerConverter extends ThreadSafeConverter<Number, Integer> {
+public class Number2IntegerConverter extends ThreadSafeConverter<Number, Integer> implements ToIntConverter<Number> {
 
   public Number2IntegerConverter() {
     super(Number.class, Integer.class);
@@ -34,4 +35,12 @@ public Integer convert(Number sourceValue) throws ConversionException {
     return (sourceValue != null ? sourceValue.intValue() : null);
   }
 
+  @Override
+  public int convertToInt(Number sourceValue) throws ConversionException {
+    if (sourceValue == null) {
+      throw ExceptionFactory.getInstance().conversionFailed("Cannot convert null to int", null);
+    }
+    return sourceValue.intValue();
+  }
+
 }
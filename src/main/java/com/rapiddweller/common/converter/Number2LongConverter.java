@@ -16,6 +16,7 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.exception.ExceptionFactory;
 
 /**
  * Converts arbitrary {@link Number}s to {@link Long}s.
@@ -23,7 +24,7 @@
  * @author Volker Bergmann
  * @since 0.5.20
  */
-public class Number2LongConverter extends ThreadSafeConverter<Number, Long> {
+public class Number2LongConverter extends ThreadSafeConverter<Number, Long> implements ToLongConverter<Number> {
 
   protected Number2LongConverter() {
     super(Number.class, Long.class);
@@ -34,4 +35,12 @@ public Long convert(Number sourceValue) throws ConversionException {
     return (sourceValue != null ? sourceValue.longValue() : null);
   }
 
+  @Override
+  public long convertToLong(Number sourceValue) throws ConversionException {
+    if (sourceValue == null) {
+      throw ExceptionFactory.getInstance().conversionFailed("Cannot convert null to long", null);
+    }
+    return sourceValue.longValue();
+  }
+
 }
@@ -18,7 +18,10 @@
 import com.rapiddweller.common.ConversionException;
 import com.rapiddweller.common.NullSafeComparator;
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.DecimalLayout;
+import com.rapiddweller.common.format.FormatterCache;
 
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
@@ -26,6 +29,7 @@
 
 /**
  * Holds a {@link NumberFormat} and exhibits properties for its configuration.
+ * The format is copied from a compiled prototype of the {@link FormatterCache}.
  * Created: 26.02.2010 08:37:23
  * @param <S> the object type to convert from
  * @param <T> the object type to convert to
@@ -47,6 +51,8 @@
   private char decimalSeparator;
   private char groupingSeparator;
   protected DecimalFormat format;
+  private DecimalLayout layout;
+  private char layoutGroupingSeparator;
 
   private String nullString;
 
@@ -58,9 +64,10 @@ protected NumberFormatBasedConverter(Class<S> sourceType, Class<T> targetType) {
 
   protected NumberFormatBasedConverter(Class<S> sourceType, Class<T> targetType, String pattern) {
     super(sourceType, targetType);
-    setPattern(pattern);
-    setDecimalSeparator(DEFAULT_DECIMAL_SEPARATOR);
-    setGroupingSeparator(DEFAULT_GROUPING_SEPARATOR);
+    this.pattern = pattern;
+    this.decimalSeparator = DEFAULT_DECIMAL_SEPARATOR;
+    this.groupingSeparator = DEFAULT_GROUPING_SEPARATOR;
+    updateFormat();
     setNullString(DEFAULT_NULL_STRING);
   }
 
@@ -72,8 +79,7 @@ public String getPattern() {
 
   public void setPattern(String pattern) {
     this.pattern = pattern;
-    this.format = new DecimalFormat(pattern);
-    setDecimalSeparator(decimalSeparator);
+    updateFormat();
   }
 
   public char getDecimalSeparator() {
@@ -95,12 +101,13 @@ public void setDecimalSeparator(char decimalSeparator) {
   }
 
   private void updateFormat() {
-    DecimalFormatSymbols newSymbols = new DecimalFormatSymbols();
-    if (groupingSeparator != 0) {
-      newSymbols.setGroupingSeparator(groupingSeparator);
-    }
-    newSymbols.setDecimalSeparator(this.decimalSeparator);
-    format.setDecimalFormatSymbols(newSymbols);
+    this.format = FormatterCache.getInstance().getDecimalFormat(pattern, decimalSeparator, groupingSeparator)
+        .toDecimalFormat();
+    DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+    // the DecimalLayout writes ASCII digits and minus signs only
+    boolean asciiDigits = (symbols.getMinusSign() == '-' && symbols.getZeroDigit() == '0');
+    this.layout = (asciiDigits ? DecimalLayout.of(pattern) : null);
+    this.layoutGroupingSeparator = (groupingSeparator != 0 ? groupingSeparator : symbols.getGroupingSeparator());
   }
 
   public String getNullString() {
@@ -115,6 +122,19 @@ protected String format(Number input) {
     return (input != null ? format.format(input) : nullString);
   }
 
+  /** Writes a number into an {@link Appendable}. Primitive wrappers in a simple pattern like '#,##0.00'
+   *  are written directly by the {@link DecimalLayout}, other numbers and patterns with the DecimalFormat.
+   *  @param input the number to format
+   *  @param out the target to write to
+   *  @throws IOException if writing fails */
+  protected void appendFormatted(Number input, Appendable out) throws IOException {
+    if (input == null) {
+      out.append(nullString);
+    } else if (layout == null || !layout.formatTo(input, decimalSeparator, layoutGroupingSeparator, out)) {
+      out.append(format.format(input));
+    }
+  }
+
   protected Number parse(String input) throws ConversionException {
     if (input == null || NullSafeComparator.equals(input, nullString)) {
       return null;
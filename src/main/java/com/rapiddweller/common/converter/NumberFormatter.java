@@ -16,7 +16,9 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.io.IOException;
 import java.text.NumberFormat;
 
 /**
@@ -44,4 +46,21 @@ public String convert(Number value) throws ConversionException {
     return format(value);
   }
 
+  // Appendable support ----------------------------------------------------------------------------------------------
+
+  /** Writes a number into an {@link Appendable} without creating an intermediate String
+   *  for primitive wrappers in simple patterns like '#,##0.00'.
+   *  @param value the number to format
+   *  @param out the target to write to
+   *  @param <A> the type of the target
+   *  @return the target */
+  public <A extends Appendable> A formatTo(Number value, A out) {
+    try {
+      appendFormatted(value, out);
+      return out;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting " + value, e);
+    }
+  }
+
 }
@@ -18,15 +18,20 @@
 import com.rapiddweller.common.Patterns;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.FormatterCache;
+import com.rapiddweller.common.time.IsoDateTimeParser;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * Converts Strings of standard date(time) format (yyyy-MM-dd[Thh:mm[:ss[.SSS]]]) to dates.
+ * Texts in the standard layouts are decoded by the {@link IsoDateTimeParser},
+ * other texts and custom patterns are parsed with a cached {@link SimpleDateFormat}.
  * Created: 07.09.2007 09:07:12
  * @param <E> the {@link Date} type to convert to
  * @author Volker Bergmann
@@ -69,24 +74,31 @@ public static <T extends Date> Date convert(String sourceValue, String pattern,
     try {
       DateFormat format;
       sourceValue = sourceValue.replace(' ', 'T');
+      if (pattern == null || isIsoLayout(pattern, sourceValue)) {
+        Date result = parseIso(sourceValue, targetType);
+        if (result != null) {
+          return result;
+        }
+      }
+      FormatterCache cache = FormatterCache.getInstance();
       if (pattern != null) {
-        format = new SimpleDateFormat(pattern, locale);
+        format = cache.getDateFormat(pattern, locale);
       } else if (sourceValue.indexOf('T') >= 0) {
         switch (sourceValue.length()) {
           case 16:
-            format = new SimpleDateFormat(DEFAULT_DATETIME_MINUTES_PATTERN);
+            format = cache.getDateFormat(DEFAULT_DATETIME_MINUTES_PATTERN);
             break;
           case 19:
-            format = new SimpleDateFormat(DEFAULT_DATETIME_SECONDS_PATTERN);
+            format = cache.getDateFormat(DEFAULT_DATETIME_SECONDS_PATTERN);
             break;
           case 23:
-            format = new SimpleDateFormat(DEFAULT_DATETIME_MILLIS_PATTERN);
+            format = cache.getDateFormat(DEFAULT_DATETIME_MILLIS_PATTERN);
             break;
           default:
             throw ExceptionFactory.getInstance().illegalArgument("Not a supported date format: " + sourceValue);
         }
       } else {
-        format = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
+        format = cache.getDateFormat(DEFAULT_DATE_PATTERN);
       }
       java.util.Date simpleDate = format.parse(sourceValue);
       if (targetType == java.util.Date.class) {
@@ -103,4 +115,36 @@ public static <T extends Date> Date convert(String sourceValue, String pattern,
     }
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** SimpleDateFormat reads 'SSSSSS' as a number of milliseconds,
+   *  so only the layouts up to milliseconds are interpreted equally by the {@link IsoDateTimeParser}. */
+  private static boolean isIsoLayout(String pattern, String text) {
+    switch (pattern) {
+      case DEFAULT_DATE_PATTERN:
+      case DEFAULT_DATETIME_MINUTES_PATTERN:
+      case DEFAULT_DATETIME_SECONDS_PATTERN:
+      case DEFAULT_DATETIME_MILLIS_PATTERN:
+        return (IsoDateTimeParser.layoutLength(pattern) == text.length());
+      default:
+        return false;
+    }
+  }
+
+  private static Date parseIso(String text, Class<?> targetType) {
+    if (targetType == java.sql.Timestamp.class) {
+      return IsoDateTimeParser.parseTimestamp(text);
+    }
+    long millis = IsoDateTimeParser.parseEpochMillis(text, TimeZone.getDefault());
+    if (millis == IsoDateTimeParser.NO_MATCH) {
+      return null;
+    } else if (targetType == java.util.Date.class) {
+      return new Date(millis);
+    } else if (targetType == java.sql.Date.class) {
+      return new java.sql.Date(millis);
+    } else {
+      return null;
+    }
+  }
+
 }
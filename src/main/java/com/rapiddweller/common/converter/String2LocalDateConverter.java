@@ -16,6 +16,7 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.time.IsoDateTimeParser;
 
 import java.time.LocalDate;
 
@@ -33,7 +34,8 @@ public String2LocalDateConverter() {
 
   @Override
   public LocalDate convert(String target) throws ConversionException {
-    return LocalDate.parse(target);
+    LocalDate result = IsoDateTimeParser.parseLocalDate(target);
+    return (result != null ? result : LocalDate.parse(target));
   }
 
 }
@@ -16,6 +16,7 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.time.IsoDateTimeParser;
 
 import java.time.LocalDateTime;
 
@@ -33,7 +34,8 @@ public String2LocalDateTimeConverter() {
 
   @Override
   public LocalDateTime convert(String target) throws ConversionException {
-    return LocalDateTime.parse(target);
+    LocalDateTime result = IsoDateTimeParser.parseLocalDateTime(target);
+    return (result != null ? result : LocalDateTime.parse(target));
   }
 
 }
@@ -18,6 +18,10 @@
 import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.ConversionException;
 import com.rapiddweller.common.StringUtil;
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * Converts {@link String}s to {@link Number}s.
@@ -37,8 +41,36 @@ public T convert(String sourceValue) throws ConversionException {
     if (StringUtil.isEmpty(sourceValue)) {
       return null;
     } else {
-      return super.convert(sourceValue.trim());
+      return parse(sourceValue.trim());
+    }
+  }
+
+  /** Parses the standard number types directly, using the target type's String constructor only for others. */
+  @SuppressWarnings("unchecked")
+  private T parse(String text) {
+    try {
+      if (targetType == Integer.class) {
+        return (T) Integer.valueOf(text);
+      } else if (targetType == Long.class) {
+        return (T) Long.valueOf(text);
+      } else if (targetType == Double.class) {
+        return (T) Double.valueOf(text);
+      } else if (targetType == BigDecimal.class) {
+        return (T) new BigDecimal(text);
+      } else if (targetType == Short.class) {
+        return (T) Short.valueOf(text);
+      } else if (targetType == Byte.class) {
+        return (T) Byte.valueOf(text);
+      } else if (targetType == Float.class) {
+        return (T) Float.valueOf(text);
+      } else if (targetType == BigInteger.class) {
+        return (T) new BigInteger(text);
+      }
+    } catch (NumberFormatException e) {
+      throw ExceptionFactory.getInstance().illegalArgument(
+          "Cannot parse '" + text + "' as " + targetType.getSimpleName(), e);
     }
+    return super.convert(text);
   }
 
 }
@@ -17,24 +17,36 @@
 
 import com.rapiddweller.common.ConversionException;
 import com.rapiddweller.common.Patterns;
-import com.rapiddweller.common.StringUtil;
-import com.rapiddweller.common.format.ConcurrentDateFormat;
-import com.rapiddweller.common.format.ConcurrentDecimalFormat;
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.DigitWriter;
+import com.rapiddweller.common.format.FormatterCache;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.text.DateFormat;
+import java.time.LocalDate;
+import java.util.TimeZone;
 
 /**
  * Formats a {@link Timestamp} as {@link String}.
+ * Timestamps in ISO layout (yyyy-MM-dd'T'HH:mm:ss or yyyy-MM-dd HH:mm:ss with optional fraction)
+ * are written digit by digit by the {@link DigitWriter}.
  * Created: 18.02.2010 17:46:14
  * @author Volker Bergmann
  * @since 0.5.0
  */
 public class TimestampFormatter extends ThreadSafeConverter<Timestamp, String> {
 
+  /** Range of timestamps which can be written in ISO layout without the Julian calendar and with four year digits */
+  private static final long MIN_ISO_MILLIS = LocalDate.of(1583, 1, 2).toEpochDay() * 86400000L;
+  private static final long MAX_ISO_MILLIS = LocalDate.of(9999, 12, 30).toEpochDay() * 86400000L;
+
   private final DateFormat prefixFormat;
-  private final ConcurrentDecimalFormat postfixFormat;
+  private final int postfixDigits;
   private long nanoDivisor;
+  /** The separator of date and time if the prefix pattern is an ISO layout, otherwise 0 */
+  private final char isoSeparator;
+  private final TimeZone timeZone;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -55,14 +67,18 @@ public TimestampFormatter(String pattern) {
     // define prefix and postfix patterns
     String prefixPattern;
     prefixPattern = (sepPos < lastPos ? pattern.substring(0, sepPos) : pattern);
-    this.prefixFormat = new ConcurrentDateFormat(prefixPattern);
-    int postfixDigits = lastPos - sepPos;
+    this.prefixFormat = FormatterCache.getInstance().getDateFormat(prefixPattern);
+    this.timeZone = TimeZone.getDefault();
+    if (Patterns.DEFAULT_DATETIME_SECONDS_PATTERN.equals(prefixPattern)) {
+      this.isoSeparator = 'T';
+    } else if (Patterns.SQL_DATETIME_SECONDS_PATTERN.equals(prefixPattern)) {
+      this.isoSeparator = ' ';
+    } else {
+      this.isoSeparator = 0;
+    }
+    this.postfixDigits = lastPos - sepPos;
     if (postfixDigits > 0) {
-      String postfixPattern = new String(StringUtil.fill(new char[postfixDigits], 0, postfixDigits, '0'));
-      this.postfixFormat = new ConcurrentDecimalFormat(postfixPattern);
       this.nanoDivisor = (long) Math.pow(10, Math.round(9. - postfixDigits));
-    } else {
-      this.postfixFormat = null;
     }
   }
 
@@ -79,12 +95,33 @@ public String format(Timestamp timestamp) {
     if (timestamp == null) {
       return null;
     }
-    String result = prefixFormat.format(timestamp);
-    if (postfixFormat != null) {
-      long postfixDigits = timestamp.getNanos() / nanoDivisor;
-      result += '.' + postfixFormat.format(postfixDigits);
+    return formatTo(timestamp, new StringBuilder()).toString();
+  }
+
+  /** Writes a timestamp into an {@link Appendable}, in ISO layout without creating intermediate Strings.
+   *  @param timestamp the timestamp to format, if it is null, nothing is written
+   *  @param out the target to write to
+   *  @param <A> the type of the target
+   *  @return the target */
+  public <A extends Appendable> A formatTo(Timestamp timestamp, A out) {
+    if (timestamp == null) {
+      return out;
+    }
+    try {
+      long millis = timestamp.getTime();
+      if (isoSeparator != 0 && millis >= MIN_ISO_MILLIS && millis < MAX_ISO_MILLIS) {
+        DigitWriter.appendIsoDateTime(out, millis + timeZone.getOffset(millis), isoSeparator);
+      } else {
+        out.append(prefixFormat.format(timestamp));
+      }
+      if (postfixDigits > 0) {
+        out.append('.');
+        DigitWriter.appendLong(out, timestamp.getNanos() / nanoDivisor, postfixDigits);
+      }
+      return out;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting " + timestamp, e);
     }
-    return result;
   }
 
 }
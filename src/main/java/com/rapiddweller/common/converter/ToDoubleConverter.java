@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.converter;
+
+import com.rapiddweller.common.ConversionException;
+
+/**
+ * Converts objects of type S to primitive double values without creating a wrapper object.
+ * Implementations are expected to be thread-safe.
+ * Created: 17.10.2026 16:40:12
+ * @param <S> the object type to convert from
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public interface ToDoubleConverter<S> {
+
+  Class<S> getSourceType();
+
+  double convertToDouble(S sourceValue) throws ConversionException;
+
+}
@@ -18,12 +18,15 @@
 import com.rapiddweller.common.Capitalization;
 import com.rapiddweller.common.ConversionException;
 import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.exception.ExceptionFactory;
+import com.rapiddweller.common.format.DigitWriter;
 import org.w3c.dom.Node;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -111,34 +114,15 @@ public String convert(Object source) throws ConversionException {
         }
       }
     } else if (source instanceof Timestamp) {
-      String result;
-      if (timestampPattern != null) {
-        result = new TimestampFormatter(timestampPattern).format((Timestamp) source);
-      } else {
-        result = new TimestampFormatter().format((Timestamp) source);
-      }
+      String result = timestampFormatter().format((Timestamp) source);
       return applyCapitalization(timestampCapitalization, result);
     } else if (source instanceof Time) {
-      if (timePattern != null) {
-        return new SimpleDateFormat(timePattern).format((Date) source);
-      } else {
-        return new SimpleDateFormat().format((Date) source);
-      }
+      return dateFormat(timePattern).format((Date) source);
     } else if (source instanceof Date) {
-      String result;
-      if (datePattern != null) {
-        result = new SimpleDateFormat(datePattern).format((Date) source);
-      } else {
-        result = new SimpleDateFormat().format((Date) source);
-      }
+      String result = dateFormat(datePattern).format((Date) source);
       return applyCapitalization(dateCapitalization, result);
     } else if (source instanceof Calendar) {
-      String result;
-      if (datePattern != null) {
-        result = new SimpleDateFormat(datePattern).format(((Calendar) source).getTime());
-      } else {
-        result = new SimpleDateFormat().format(((Calendar) source).getTime());
-      }
+      String result = dateFormat(datePattern).format(((Calendar) source).getTime());
       return applyCapitalization(dateCapitalization, result);
     } else if (source instanceof Node) {
       return XMLNode2StringConverter.format(source);
@@ -149,6 +133,44 @@ public String convert(Object source) throws ConversionException {
     }
   }
 
+  /** Writes the String representation of an object into an {@link Appendable}.
+   *  Integral numbers, numbers in simple patterns and timestamps in ISO layout are written
+   *  without creating intermediate Strings, all other objects as by {@link #convert(Object)}.
+   *  @param source the object to format
+   *  @param out the target to write to
+   *  @param <A> the type of the target
+   *  @return the target */
+  public <A extends Appendable> A formatTo(Object source, A out) {
+    try {
+      if (source == null || source instanceof String || source instanceof Character) {
+        out.append(convert(source));
+        return out;
+      }
+      Class<?> sourceType = source.getClass();
+      if (JavaType.isIntegralType(sourceType)) {
+        if (integralConverter != null) {
+          integralConverter.formatTo((Number) source, out);
+        } else if (source instanceof BigInteger) {
+          out.append(source.toString());
+        } else {
+          DigitWriter.appendLong(out, ((Number) source).longValue());
+        }
+      } else if (JavaType.isDecimalType(sourceType) && decimalConverter != null) {
+        decimalConverter.formatTo((Number) source, out);
+      } else if ((source instanceof Double || source instanceof Float)
+          && ((Number) source).doubleValue() == Math.floor(((Number) source).doubleValue())) {
+        DigitWriter.appendLong(out, ((Number) source).longValue());
+      } else if (source instanceof Timestamp && timestampCapitalization == Capitalization.mixed) {
+        timestampFormatter().formatTo((Timestamp) source, out);
+      } else {
+        out.append(convert(source));
+      }
+      return out;
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().internalError("Error formatting " + source, e);
+    }
+  }
+
   private static String applyCapitalization(Capitalization capitalization, String text) {
     if (text == null) {
       return null;
@@ -20,9 +20,12 @@
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 
 /**
  * Concurrent implementation of the {@link SimpleDateFormat} features.
+ * The underlying SimpleDateFormats are borrowed from a bounded pool for each operation,
+ * shared instances for frequently used patterns are provided by the {@link FormatterCache}.
  * Created: 26.02.2010 15:27:23
  *
  * @author Volker Bergmann
@@ -30,7 +33,8 @@
  */
 public class ConcurrentDateFormat extends DateFormat {
 
-  private final ThreadLocal<SimpleDateFormat> format;
+  private final String pattern;
+  private final FormatPool<SimpleDateFormat> formats;
 
   /**
    * Instantiates a new Concurrent date format.
@@ -38,20 +42,45 @@ public class ConcurrentDateFormat extends DateFormat {
    * @param pattern the pattern
    */
   public ConcurrentDateFormat(final String pattern) {
-    format = ThreadLocal.withInitial(() -> new SimpleDateFormat(pattern));
+    this.pattern = pattern;
+    this.formats = new FormatPool<>(() -> new SimpleDateFormat(pattern));
+  }
+
+  /**
+   * Instantiates a new Concurrent date format for a locale.
+   *
+   * @param pattern the pattern
+   * @param locale  the locale
+   */
+  public ConcurrentDateFormat(final String pattern, final Locale locale) {
+    this.pattern = pattern;
+    this.formats = new FormatPool<>(() -> new SimpleDateFormat(pattern, locale));
+  }
+
+  public String toPattern() {
+    return pattern;
   }
 
   @Override
   public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
-    return format.get().format(date, toAppendTo, fieldPosition);
+    SimpleDateFormat format = formats.borrow();
+    try {
+      return format.format(date, toAppendTo, fieldPosition);
+    } finally {
+      formats.release(format);
+    }
   }
 
   @Override
   public Date parse(String source, ParsePosition pos) {
-    return format.get().parse(source, pos);
+    SimpleDateFormat format = formats.borrow();
+    try {
+      return format.parse(source, pos);
+    } finally {
+      formats.release(format);
+    }
   }
 
   private static final long serialVersionUID = -1665638058197198209L;
 
 }
-
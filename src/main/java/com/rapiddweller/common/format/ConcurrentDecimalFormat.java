@@ -16,12 +16,15 @@
 package com.rapiddweller.common.format;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
 
 /**
  * Thread-safe, concurrent wrapper of Java's {@link DecimalFormat} class.
+ * The underlying DecimalFormats are borrowed from a bounded pool for each operation,
+ * shared instances for frequently used patterns are provided by the {@link FormatterCache}.
  * Created: 12.10.2010 17:47:35
  *
  * @author Volker Bergmann
@@ -31,7 +34,7 @@ public class ConcurrentDecimalFormat extends Format {
 
   private static final long serialVersionUID = 7100542444272244206L;
 
-  private final ThreadLocal<DecimalFormat> format;
+  private final FormatPool<DecimalFormat> formats;
 
   /**
    * Instantiates a new Concurrent decimal format.
@@ -39,17 +42,48 @@ public class ConcurrentDecimalFormat extends Format {
    * @param pattern the pattern
    */
   public ConcurrentDecimalFormat(final String pattern) {
-    format = ThreadLocal.withInitial(() -> new DecimalFormat(pattern));
+    this.formats = new FormatPool<>(() -> new DecimalFormat(pattern));
+  }
+
+  /**
+   * Instantiates a new Concurrent decimal format with individual symbols.
+   *
+   * @param pattern the pattern
+   * @param symbols the symbols, which are copied
+   */
+  public ConcurrentDecimalFormat(final String pattern, DecimalFormatSymbols symbols) {
+    final DecimalFormatSymbols copy = (DecimalFormatSymbols) symbols.clone();
+    this.formats = new FormatPool<>(() -> new DecimalFormat(pattern, copy));
+  }
+
+  /** @return a new {@link DecimalFormat} with the configuration of this format for exclusive use by the caller */
+  public DecimalFormat toDecimalFormat() {
+    DecimalFormat format = formats.borrow();
+    try {
+      return (DecimalFormat) format.clone();
+    } finally {
+      formats.release(format);
+    }
   }
 
   @Override
   public StringBuffer format(Object number, StringBuffer toAppendTo, FieldPosition pos) {
-    return format.get().format(number, toAppendTo, pos);
+    DecimalFormat format = formats.borrow();
+    try {
+      return format.format(number, toAppendTo, pos);
+    } finally {
+      formats.release(format);
+    }
   }
 
   @Override
   public Object parseObject(String source, ParsePosition pos) {
-    return format.get().parseObject(source, pos);
+    DecimalFormat format = formats.borrow();
+    try {
+      return format.parseObject(source, pos);
+    } finally {
+      formats.release(format);
+    }
   }
 
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import java.io.IOException;
+
+/**
+ * Compiled form of a simple {@link java.text.DecimalFormat} pattern like '0', '#,##0', '0.00', '0.#' or '#,##0.0##',
+ * which formats numbers with the {@link DigitWriter} into an {@link Appendable}.
+ * Patterns with other features like prefixes, suffixes, exponents or percentages are not supported.<br/><br/>
+ * Created: 18.10.2026 12:20:41
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class DecimalLayout {
+
+  private final boolean grouping;
+  private final int minFractionDigits;
+  private final int maxFractionDigits;
+
+  private DecimalLayout(boolean grouping, int minFractionDigits, int maxFractionDigits) {
+    this.grouping = grouping;
+    this.minFractionDigits = minFractionDigits;
+    this.maxFractionDigits = maxFractionDigits;
+  }
+
+  /** @param pattern a DecimalFormat pattern
+   *  @return the layout of the pattern, or null if the pattern is not a supported simple pattern */
+  public static DecimalLayout of(String pattern) {
+    if (pattern == null) {
+      return null;
+    }
+    int separatorIndex = pattern.indexOf('.');
+    String integerPart = (separatorIndex >= 0 ? pattern.substring(0, separatorIndex) : pattern);
+    boolean grouping;
+    if ("0".equals(integerPart)) {
+      grouping = false;
+    } else if ("#,##0".equals(integerPart)) {
+      grouping = true;
+    } else {
+      return null;
+    }
+    int minFractionDigits = 0;
+    int maxFractionDigits = 0;
+    if (separatorIndex >= 0) {
+      int i = separatorIndex + 1;
+      while (i < pattern.length() && pattern.charAt(i) == '0') {
+        minFractionDigits++;
+        i++;
+      }
+      maxFractionDigits = minFractionDigits;
+      while (i < pattern.length() && pattern.charAt(i) == '#') {
+        maxFractionDigits++;
+        i++;
+      }
+      if (i < pattern.length() || maxFractionDigits == 0) {
+        return null;
+      }
+    }
+    return new DecimalLayout(grouping, minFractionDigits, maxFractionDigits);
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public boolean isGrouping() {
+    return grouping;
+  }
+
+  public int getMinFractionDigits() {
+    return minFractionDigits;
+  }
+
+  public int getMaxFractionDigits() {
+    return maxFractionDigits;
+  }
+
+  // formatting ------------------------------------------------------------------------------------------------------
+
+  /** Writes a number in this layout.
+   *  @param value the number to write, which must be a primitive wrapper
+   *  @param decimalSeparator the decimal separator
+   *  @param groupingSeparator the separator of digit groups, which is ignored if the layout has no grouping
+   *  @param out the target to write to
+   *  @return true if the number has been written, false if it is not of a primitive wrapper type
+   *  @throws IOException if writing fails */
+  public boolean formatTo(Number value, char decimalSeparator, char groupingSeparator, Appendable out)
+      throws IOException {
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      formatTo(value.longValue(), decimalSeparator, groupingSeparator, out);
+      return true;
+    } else if (value instanceof Double || value instanceof Float) {
+      formatTo(value.doubleValue(), decimalSeparator, groupingSeparator, out);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  public void formatTo(long value, char decimalSeparator, char groupingSeparator, Appendable out) throws IOException {
+    DigitWriter.appendGrouped(out, value, (grouping ? groupingSeparator : 0));
+    if (minFractionDigits > 0) {
+      out.append(decimalSeparator);
+      for (int i = 0; i < minFractionDigits; i++) {
+        out.append('0');
+      }
+    }
+  }
+
+  public void formatTo(double value, char decimalSeparator, char groupingSeparator, Appendable out)
+      throws IOException {
+    DigitWriter.appendDecimal(out, value, minFractionDigits, maxFractionDigits, decimalSeparator,
+        (grouping ? groupingSeparator : 0));
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[grouping=" + grouping
+        + ", fractionDigits=" + minFractionDigits + ".." + maxFractionDigits + ']';
+  }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Writes integers, fixed-point decimals and ISO dates directly into an {@link Appendable}
+ * without creating intermediate Strings or buffers, for exports which write many values into a reused buffer.
+ * Decimals are rounded half-even and rendered like by a {@link java.text.DecimalFormat}
+ * with the same number of fraction digits.<br/><br/>
+ * Created: 18.10.2026 11:52:16
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class DigitWriter {
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+  private static final double MAX_FAST_DECIMAL = 1E15;
+  private static final int MAX_FAST_FRACTION_DIGITS = 15;
+  private static final String LONG_MIN_VALUE_DIGITS = "9223372036854775808";
+  private static final char INFINITY = '\u221E';
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private DigitWriter() {
+    // private constructor to prevent instantiation of this utility class
+  }
+
+  // integers --------------------------------------------------------------------------------------------------------
+
+  public static void appendLong(Appendable out, long value) throws IOException {
+    appendLong(out, value, 1, (char) 0);
+  }
+
+  /** Writes an integer, padded with leading zeros to a minimum number of digits.
+   *  @param out the target to write to
+   *  @param value the value to write
+   *  @param minDigits the minimum number of digits
+   *  @throws IOException if writing fails */
+  public static void appendLong(Appendable out, long value, int minDigits) throws IOException {
+    appendLong(out, value, minDigits, (char) 0);
+  }
+
+  /** Writes an integer with digit groups of three.
+   *  @param out the target to write to
+   *  @param value the value to write
+   *  @param groupingSeparator the separator of digit groups, or 0 for no grouping
+   *  @throws IOException if writing fails */
+  public static void appendGrouped(Appendable out, long value, char groupingSeparator) throws IOException {
+    appendLong(out, value, 1, groupingSeparator);
+  }
+
+  // decimals --------------------------------------------------------------------------------------------------------
+
+  /** Writes a decimal number with a fixed number of fraction digits.
+   *  @param out the target to write to
+   *  @param value the value to write
+   *  @param fractionDigits the number of fraction digits
+   *  @param decimalSeparator the decimal separator
+   *  @param groupingSeparator the separator of integer digit groups, or 0 for no grouping
+   *  @throws IOException if writing fails */
+  public static void appendDecimal(Appendable out, double value, int fractionDigits,
+                                   char decimalSeparator, char groupingSeparator) throws IOException {
+    appendDecimal(out, value, fractionDigits, fractionDigits, decimalSeparator, groupingSeparator);
+  }
+
+  /** Writes a decimal number, rounded to a maximum number of fraction digits,
+   *  of which trailing zeros are omitted down to the minimum number of fraction digits.
+   *  @param out the target to write to
+   *  @param value the value to write
+   *  @param minFractionDigits the minimum number of fraction digits
+   *  @param maxFractionDigits the maximum number of fraction digits
+   *  @param decimalSeparator the decimal separator
+   *  @param groupingSeparator the separator of integer digit groups, or 0 for no grouping
+   *  @throws IOException if writing fails */
+  public static void appendDecimal(Appendable out, double value, int minFractionDigits, int maxFractionDigits,
+                                   char decimalSeparator, char groupingSeparator) throws IOException {
+    if (Double.isNaN(value)) {
+      out.append("NaN");
+      return;
+    }
+    // like DecimalFormat, write the sign of negative values which are rounded to zero, even of -0.0
+    if (Double.doubleToRawLongBits(value) < 0) {
+      out.append('-');
+    }
+    double abs = Math.abs(value);
+    if (Double.isInfinite(abs)) {
+      out.append(INFINITY);
+      return;
+    }
+    double scaled = (maxFractionDigits <= MAX_FAST_FRACTION_DIGITS ? abs * POWERS_OF_TEN[maxFractionDigits] : 0);
+    if (maxFractionDigits > MAX_FAST_FRACTION_DIGITS || scaled >= MAX_FAST_DECIMAL) {
+      appendBigDecimal(out, abs, minFractionDigits, maxFractionDigits, decimalSeparator, groupingSeparator);
+      return;
+    }
+    long unscaled;
+    if (scaled - Math.floor(scaled) == 0.5) {
+      // the product may be a rounded tie, so decide by the exact binary value
+      unscaled = new BigDecimal(abs).setScale(maxFractionDigits, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+    } else {
+      unscaled = (long) Math.rint(scaled);
+    }
+    long divisor = POWERS_OF_TEN[maxFractionDigits];
+    long fraction = unscaled % divisor;
+    int fractionDigits = maxFractionDigits;
+    while (fractionDigits > minFractionDigits && fraction % 10 == 0) {
+      fraction /= 10;
+      fractionDigits--;
+    }
+    appendLong(out, unscaled / divisor, 1, groupingSeparator);
+    if (fractionDigits > 0) {
+      out.append(decimalSeparator);
+      appendLong(out, fraction, fractionDigits, (char) 0);
+    }
+  }
+
+  // dates -----------------------------------------------------------------------------------------------------------
+
+  /** Writes a date in yyyy-MM-dd format.
+   *  @param out the target to write to
+   *  @param epochDay the days since 1970-01-01 in the proleptic Gregorian calendar
+   *  @throws IOException if writing fails */
+  public static void appendIsoDate(Appendable out, long epochDay) throws IOException {
+    // civil from days, see Howard Hinnant's date algorithms
+    long z = epochDay + 719468;
+    long era = Math.floorDiv(z, 146097);
+    long dayOfEra = z - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long shiftedMonth = (5 * dayOfYear + 2) / 153;
+    long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    long month = (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    appendLong(out, year, 4);
+    out.append('-');
+    appendLong(out, month, 2);
+    out.append('-');
+    appendLong(out, day, 2);
+  }
+
+  /** Writes a date and time in yyyy-MM-dd'T'HH:mm:ss format, with a configurable separator instead of 'T'.
+   *  @param out the target to write to
+   *  @param localEpochMillis the milliseconds from 1970-01-01T00:00 to the local date and time
+   *  @param separator the separator of date and time
+   *  @throws IOException if writing fails */
+  public static void appendIsoDateTime(Appendable out, long localEpochMillis, char separator) throws IOException {
+    long epochSecond = Math.floorDiv(localEpochMillis, 1000);
+    long epochDay = Math.floorDiv(epochSecond, 86400);
+    int secondOfDay = (int) (epochSecond - epochDay * 86400);
+    appendIsoDate(out, epochDay);
+    out.append(separator);
+    appendLong(out, secondOfDay / 3600, 2);
+    out.append(':');
+    appendLong(out, (secondOfDay / 60) % 60, 2);
+    out.append(':');
+    appendLong(out, secondOfDay % 60, 2);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void appendLong(Appendable out, long value, int minDigits, char groupingSeparator)
+      throws IOException {
+    if (value < 0) {
+      out.append('-');
+      if (value == Long.MIN_VALUE) {
+        appendDigits(out, LONG_MIN_VALUE_DIGITS, groupingSeparator);
+        return;
+      }
+      value = -value;
+    }
+    int digits = Math.max(digitCount(value), minDigits);
+    for (int i = digits - 1; i >= 0; i--) {
+      long digit = (i < POWERS_OF_TEN.length ? (value / POWERS_OF_TEN[i]) % 10 : 0);
+      out.append((char) ('0' + digit));
+      if (groupingSeparator != 0 && i > 0 && i % 3 == 0) {
+        out.append(groupingSeparator);
+      }
+    }
+  }
+
+  private static int digitCount(long value) {
+    int count = 1;
+    while (count < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[count]) {
+      count++;
+    }
+    return count;
+  }
+
+  /** Renders the shortest decimal representation of the value if it fits into the fraction digits,
+   *  like a DecimalFormat does, otherwise rounds the exact binary value. */
+  private static void appendBigDecimal(Appendable out, double value, int minFractionDigits, int maxFractionDigits,
+                                       char decimalSeparator, char groupingSeparator) throws IOException {
+    BigDecimal decimal = BigDecimal.valueOf(value);
+    if (decimal.scale() > maxFractionDigits) {
+      decimal = new BigDecimal(value);
+    }
+    String digits = decimal.setScale(maxFractionDigits, RoundingMode.HALF_EVEN).toPlainString();
+    int separatorIndex = digits.indexOf('.');
+    int integerEnd = (separatorIndex >= 0 ? separatorIndex : digits.length());
+    appendDigits(out, digits.substring(0, integerEnd), groupingSeparator);
+    int fractionEnd = digits.length();
+    while (fractionEnd - integerEnd - 1 > minFractionDigits && digits.charAt(fractionEnd - 1) == '0') {
+      fractionEnd--;
+    }
+    if (fractionEnd > integerEnd + 1) {
+      out.append(decimalSeparator).append(digits, integerEnd + 1, fractionEnd);
+    }
+  }
+
+  private static void appendDigits(Appendable out, String digits, char groupingSeparator) throws IOException {
+    int length = digits.length();
+    for (int i = 0; i < length; i++) {
+      out.append(digits.charAt(i));
+      int remaining = length - i - 1;
+      if (groupingSeparator != 0 && remaining > 0 && remaining % 3 == 0) {
+        out.append(groupingSeparator);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of idle instances of a non-thread-safe format. Instead of binding an instance to each thread
+ * like a ThreadLocal, which keeps one instance per thread alive as long as the thread exists,
+ * a thread borrows an instance for a single operation and returns it afterwards.
+ * The pool keeps at most one idle instance per slot, if all slots are taken, a returned instance is dropped.<br/><br/>
+ * Created: 18.10.2026 10:21:35
+ * @param <F> the type of the pooled formats
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class FormatPool<F> implements Serializable {
+
+  private static final long serialVersionUID = 4208514613487208331L;
+
+  private static final int MAX_SLOTS = 16;
+
+  private final Factory<F> factory;
+  private final AtomicReferenceArray<F> idle;
+  private final int mask;
+
+  FormatPool(Factory<F> factory) {
+    this.factory = factory;
+    int slots = Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), MAX_SLOTS);
+    this.idle = new AtomicReferenceArray<>(slots);
+    this.mask = slots - 1;
+  }
+
+  /** @return an idle instance, or a new one if none is idle */
+  F borrow() {
+    int start = slot();
+    for (int i = 0; i <= mask; i++) {
+      int index = (start + i) & mask;
+      F format = idle.get(index);
+      if (format != null && idle.compareAndSet(index, format, null)) {
+        return format;
+      }
+    }
+    return factory.create();
+  }
+
+  /** Returns an instance which has been obtained by {@link #borrow()} and is not used any more.
+   *  @param format the instance to return */
+  void release(F format) {
+    int start = slot();
+    for (int i = 0; i <= mask; i++) {
+      if (idle.compareAndSet((start + i) & mask, null, format)) {
+        return;
+      }
+    }
+  }
+
+  private int slot() {
+    return (int) Thread.currentThread().getId() & mask;
+  }
+
+  /** Creates the pooled instances. */
+  interface Factory<F> extends Serializable {
+    F create();
+  }
+
+}
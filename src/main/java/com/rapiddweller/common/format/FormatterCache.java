@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.text.DecimalFormatSymbols;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache of formatters by pattern. It serves immutable {@link DateTimeFormatter}s
+ * and thread-safe {@link ConcurrentDateFormat}s and {@link ConcurrentDecimalFormat}s,
+ * so that a pattern is compiled once and not for each formatted or parsed value.
+ * Since SimpleDateFormats and DecimalFormats depend on the default locale and SimpleDateFormats
+ * on the default time zone at creation time, these are part of the cache key.
+ * When the cache exceeds its maximum size, arbitrary entries are evicted.
+ * Hits, misses and evictions are counted for monitoring.<br/><br/>
+ * Created: 18.10.2026 10:43:08
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FormatterCache {
+
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private static final FormatterCache instance = new FormatterCache(DEFAULT_MAX_SIZE);
+
+  private final int maxSize;
+  private final ConcurrentHashMap<Key, Object> entries;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  public FormatterCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("maxSize must be positive, but was " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.entries = new ConcurrentHashMap<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  public static FormatterCache getInstance() {
+    return instance;
+  }
+
+  // formatters ------------------------------------------------------------------------------------------------------
+
+  public DateTimeFormatter getDateTimeFormatter(String pattern) {
+    return getDateTimeFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  public DateTimeFormatter getDateTimeFormatter(String pattern, Locale locale) {
+    return get(new Key(DateTimeFormatter.class, pattern, locale, null),
+        key -> DateTimeFormatter.ofPattern(key.pattern, key.locale));
+  }
+
+  public ConcurrentDateFormat getDateFormat(String pattern) {
+    return getDateFormat(pattern, Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  public ConcurrentDateFormat getDateFormat(String pattern, Locale locale) {
+    return get(new Key(ConcurrentDateFormat.class, pattern, locale, TimeZone.getDefault().getID()),
+        key -> new ConcurrentDateFormat(key.pattern, key.locale));
+  }
+
+  public ConcurrentDecimalFormat getDecimalFormat(String pattern) {
+    return get(new Key(ConcurrentDecimalFormat.class, pattern, Locale.getDefault(Locale.Category.FORMAT), null),
+        key -> new ConcurrentDecimalFormat(key.pattern));
+  }
+
+  /** @param pattern the DecimalFormat pattern
+   *  @param decimalSeparator the decimal separator to use
+   *  @param groupingSeparator the grouping separator to use, or 0 for the one of the default locale
+   *  @return a format with the pattern and the default locale's symbols, modified by the separators */
+  public ConcurrentDecimalFormat getDecimalFormat(String pattern, char decimalSeparator, char groupingSeparator) {
+    Integer separators = (decimalSeparator << 16) | groupingSeparator;
+    return get(new Key(ConcurrentDecimalFormat.class, pattern, Locale.getDefault(Locale.Category.FORMAT), separators),
+        key -> {
+          DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(key.locale);
+          int variant = (Integer) key.variant;
+          if ((char) variant != 0) {
+            symbols.setGroupingSeparator((char) variant);
+          }
+          symbols.setDecimalSeparator((char) (variant >>> 16));
+          return new ConcurrentDecimalFormat(key.pattern, symbols);
+        });
+  }
+
+  // metrics ---------------------------------------------------------------------------------------------------------
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /** @return the share of lookups which have been served from the cache, or 0 if there was no lookup yet */
+  public double getHitRatio() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return (total > 0 ? (double) hitCount / total : 0);
+  }
+
+  /** Removes all cached formatters and resets the metrics. */
+  public void clear() {
+    entries.clear();
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[size=" + size() + ", hits=" + getHitCount()
+        + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ']';
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(Key key, Function<Key, T> factory) {
+    if (key.pattern == null) {
+      throw ExceptionFactory.getInstance().illegalArgument("pattern is null");
+    }
+    Object result = entries.get(key);
+    if (result != null) {
+      hits.increment();
+      return (T) result;
+    }
+    misses.increment();
+    result = entries.computeIfAbsent(key, factory);
+    if (entries.size() > maxSize) {
+      evict();
+    }
+    return (T) result;
+  }
+
+  private void evict() {
+    Iterator<Key> iterator = entries.keySet().iterator();
+    while (entries.size() > maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      evictions.increment();
+    }
+  }
+
+  /** Identifies a formatter by its type, pattern, locale and a type-specific variant. */
+  private static final class Key {
+
+    final Class<?> type;
+    final String pattern;
+    final Locale locale;
+    final Object variant;
+    private final int hash;
+
+    Key(Class<?> type, String pattern, Locale locale, Object variant) {
+      this.type = type;
+      this.pattern = pattern;
+      this.locale = locale;
+      this.variant = variant;
+      this.hash = Objects.hash(type, pattern, locale, variant);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key that = (Key) o;
+      return this.type == that.type && this.pattern.equals(that.pattern)
+          && Objects.equals(this.locale, that.locale) && Objects.equals(this.variant, that.variant);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.iterator;
+
+import com.rapiddweller.common.Assert;
+import com.rapiddweller.common.HeavyweightIterable;
+import com.rapiddweller.common.HeavyweightIterator;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.exception.ExceptionFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads the elements of a sequential source like a {@link TextLineIterable} in chunks
+ * and processes the chunks concurrently in a {@link ForkJoinPool}.
+ * The results of the chunks are provided to the result consumer in the order of the chunks
+ * and in the calling thread, so the consumer does not need to be thread-safe.
+ * The number of chunks which are in process at the same time is limited to twice the pool's parallelism,
+ * so a fast source does not cause the whole input to be loaded into memory.
+ * The elements of the source must not be reused by its iterator, since they are processed
+ * after the iterator has been advanced.
+ * Created: 17.10.2026 19:48:12
+ * @param <E> the type of the elements to process
+ * @param <R> the type of the chunks' results
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ParallelChunkProcessor<E, R> {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  private final Function<? super List<E>, ? extends R> chunkFunction;
+  private final int chunkSize;
+  private final ForkJoinPool pool;
+  private final int maxPendingChunks;
+
+  public ParallelChunkProcessor(Function<? super List<E>, ? extends R> chunkFunction) {
+    this(chunkFunction, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+  }
+
+  public ParallelChunkProcessor(Function<? super List<E>, ? extends R> chunkFunction, int chunkSize, ForkJoinPool pool) {
+    Assert.notNull(chunkFunction, "chunkFunction");
+    Assert.notNull(pool, "pool");
+    if (chunkSize <= 0) {
+      throw ExceptionFactory.getInstance().illegalArgument("chunkSize must be positive, but was " + chunkSize);
+    }
+    this.chunkFunction = chunkFunction;
+    this.chunkSize = chunkSize;
+    this.pool = pool;
+    this.maxPendingChunks = 2 * pool.getParallelism();
+  }
+
+  /** Processes all elements of the source and closes its iterator.
+   *  @param source the elements to process
+   *  @param resultConsumer receives the result of each chunk in the order of the chunks */
+  public void process(HeavyweightIterable<E> source, Consumer<? super R> resultConsumer) {
+    HeavyweightIterator<E> iterator = source.iterator();
+    try {
+      process(iterator, resultConsumer);
+    } finally {
+      IOUtil.close(iterator);
+    }
+  }
+
+  /** Processes all remaining elements of the iterator.
+   *  @param source the elements to process
+   *  @param resultConsumer receives the result of each chunk in the order of the chunks */
+  public void process(Iterator<E> source, Consumer<? super R> resultConsumer) {
+    ArrayDeque<ForkJoinTask<? extends R>> pendingChunks = new ArrayDeque<>(maxPendingChunks);
+    try {
+      while (source.hasNext()) {
+        List<E> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && source.hasNext()) {
+          chunk.add(source.next());
+        }
+        pendingChunks.add(pool.submit(() -> chunkFunction.apply(chunk)));
+        if (pendingChunks.size() >= maxPendingChunks) {
+          resultConsumer.accept(pendingChunks.poll().join());
+        }
+      }
+      while (!pendingChunks.isEmpty()) {
+        resultConsumer.accept(pendingChunks.poll().join());
+      }
+    } finally {
+      // only in case of an exception
+      for (ForkJoinTask<? extends R> task : pendingChunks) {
+        task.cancel(false);
+      }
+    }
+  }
+
+}
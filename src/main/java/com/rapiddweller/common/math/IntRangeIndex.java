@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable index of ranges with primitive int bounds, see {@link IntervalIndex}.
+ * The bounds are copied into int arrays, so queries neither box values nor call a comparator.
+ * Since {@link IntRange}s are mutable, they must not be changed after being indexed.<br/><br/>
+ * Created: 18.10.2026 08:23:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class IntRangeIndex {
+
+  /** The ranges, sorted by lower bound */
+  private final IntRange[] ranges;
+  /** The inclusive lower bounds */
+  private final int[] starts;
+  /** The inclusive upper bounds */
+  private final int[] ends;
+  /** The highest upper bound in the subtree rooted at the same index */
+  private final int[] maxEnds;
+
+  public IntRangeIndex(Collection<? extends IntRange> ranges) {
+    this.ranges = ranges.toArray(new IntRange[0]);
+    Arrays.sort(this.ranges, Comparator.comparingInt(IntRangeIndex::start));
+    int n = this.ranges.length;
+    this.starts = new int[n];
+    this.ends = new int[n];
+    for (int i = 0; i < n; i++) {
+      starts[i] = start(this.ranges[i]);
+      ends[i] = end(this.ranges[i]);
+    }
+    this.maxEnds = new int[n];
+    buildMaxEnds(0, n);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int size() {
+    return ranges.length;
+  }
+
+  public boolean contains(int x) {
+    return anyOverlapping(0, ranges.length, x, x);
+  }
+
+  /** @param x the value to look up
+   *  @return all ranges which contain the value, ordered by their lower bound */
+  public List<IntRange> stab(int x) {
+    return overlapping(x, x);
+  }
+
+  /** @param min the lower bound of the range, inclusive
+   *  @param max the upper bound of the range, inclusive
+   *  @return all ranges which have at least one value in common with the range, ordered by their lower bound */
+  public List<IntRange> overlapping(int min, int max) {
+    List<IntRange> result = new ArrayList<>();
+    collectOverlapping(0, ranges.length, min, max, result);
+    return result;
+  }
+
+  /** Merges overlapping and adjoining ranges.
+   *  @param ranges the ranges to merge
+   *  @return disjoint ranges, ordered by their lower bound, which contain the same values as the given ones */
+  public static List<IntRange> merge(Collection<? extends IntRange> ranges) {
+    IntRangeIndex index = new IntRangeIndex(ranges);
+    List<IntRange> result = new ArrayList<>();
+    int n = index.ranges.length;
+    int i = 0;
+    while (i < n) {
+      int start = index.starts[i];
+      int end = index.ends[i];
+      // an upper bound of MAX_VALUE cannot be followed by a separate range
+      while (++i < n && (end == Integer.MAX_VALUE || index.starts[i] <= end + 1)) {
+        end = Math.max(end, index.ends[i]);
+      }
+      if (start <= end) {
+        result.add(new IntRange(start, end));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(ranges);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int start(IntRange range) {
+    return range.getMin();
+  }
+
+  private static int end(IntRange range) {
+    return range.getMax();
+  }
+
+  private int buildMaxEnds(int from, int to) {
+    if (from >= to) {
+      return Integer.MIN_VALUE;
+    }
+    int mid = (from + to) >>> 1;
+    int result = Math.max(ends[mid], Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+    maxEnds[mid] = result;
+    return result;
+  }
+
+  private void collectOverlapping(int from, int to, int min, int max, List<IntRange> result) {
+    if (from >= to || maxEnds[(from + to) >>> 1] < min) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    collectOverlapping(from, mid, min, max, result);
+    if (starts[mid] > max) {
+      return;
+    }
+    if (ends[mid] >= min && starts[mid] <= ends[mid]) {
+      result.add(ranges[mid]);
+    }
+    collectOverlapping(mid + 1, to, min, max, result);
+  }
+
+  private boolean anyOverlapping(int from, int to, int min, int max) {
+    if (from >= to || maxEnds[(from + to) >>> 1] < min) {
+      return false;
+    }
+    int mid = (from + to) >>> 1;
+    if (anyOverlapping(from, mid, min, max)) {
+      return true;
+    }
+    if (starts[mid] > max) {
+      return false;
+    }
+    return (ends[mid] >= min && starts[mid] <= ends[mid]) || anyOverlapping(mid + 1, to, min, max);
+  }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable index of {@link Interval}s which finds the intervals containing a value ('stabbing query')
+ * or overlapping a range in O(log n) time per result for n intervals, instead of scanning all intervals.
+ * The intervals are sorted by their lower bound and arranged as an implicit balanced search tree,
+ * in which each node knows the highest upper bound of its subtree, so subtrees which end
+ * before the queried range are skipped. null bounds are treated as infinite.
+ * For long and int bounds see {@link LongIntervalIndex} and {@link IntRangeIndex}.<br/><br/>
+ * Created: 18.10.2026 07:52:40
+ * @param <E> the type of the interval bounds
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class IntervalIndex<E> {
+
+  private final Comparator<E> comparator;
+  /** The intervals, sorted by lower bound */
+  private final Interval<E>[] intervals;
+  /** The interval with the highest upper bound in the subtree rooted at the same index */
+  private final Interval<E>[] maxEnds;
+
+  @SuppressWarnings("unchecked")
+  public IntervalIndex(Collection<? extends Interval<E>> intervals, Comparator<E> comparator) {
+    this.comparator = comparator;
+    this.intervals = intervals.toArray(new Interval[0]);
+    Arrays.sort(this.intervals, this::compareLowerBounds);
+    this.maxEnds = new Interval[this.intervals.length];
+    buildMaxEnds(0, this.intervals.length);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int size() {
+    return intervals.length;
+  }
+
+  public boolean contains(E x) {
+    return anyOverlapping(0, intervals.length, x, true, x, true);
+  }
+
+  /** @param x the value to look up
+   *  @return all intervals which contain the value, ordered by their lower bound */
+  public List<Interval<E>> stab(E x) {
+    return overlapping(x, true, x, true);
+  }
+
+  /** @param min the lower bound of the range, inclusive
+   *  @param max the upper bound of the range, inclusive
+   *  @return all intervals which have at least one value in common with the range, ordered by their lower bound */
+  public List<Interval<E>> overlapping(E min, E max) {
+    return overlapping(min, true, max, true);
+  }
+
+  public List<Interval<E>> overlapping(Interval<E> range) {
+    return overlapping(range.min, range.minInclusive, range.max, range.maxInclusive);
+  }
+
+  public List<Interval<E>> overlapping(E min, boolean minInclusive, E max, boolean maxInclusive) {
+    List<Interval<E>> result = new ArrayList<>();
+    collectOverlapping(0, intervals.length, min, minInclusive, max, maxInclusive, result);
+    return result;
+  }
+
+  /** Merges overlapping and adjoining intervals.
+   *  @param intervals the intervals to merge
+   *  @param comparator the comparator for the interval bounds
+   *  @param <T> the type of the interval bounds
+   *  @return disjoint intervals, ordered by their lower bound, which contain the same values as the given ones */
+  public static <T> List<Interval<T>> merge(Collection<? extends Interval<T>> intervals, Comparator<T> comparator) {
+    IntervalIndex<T> index = new IntervalIndex<>(intervals, comparator);
+    List<Interval<T>> result = new ArrayList<>();
+    Interval<T> current = null;
+    for (Interval<T> interval : index.intervals) {
+      if (current == null) {
+        current = interval;
+      } else if (index.joins(current, interval)) {
+        if (index.compareUpperBounds(interval, current) > 0) {
+          current = new Interval<>(current.min, current.minInclusive, interval.max, interval.maxInclusive, comparator);
+        }
+      } else {
+        result.add(current);
+        current = interval;
+      }
+    }
+    if (current != null) {
+      result.add(current);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(intervals);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Interval<E> buildMaxEnds(int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+    int mid = (from + to) >>> 1;
+    Interval<E> result = intervals[mid];
+    Interval<E> left = buildMaxEnds(from, mid);
+    if (left != null && compareUpperBounds(left, result) > 0) {
+      result = left;
+    }
+    Interval<E> right = buildMaxEnds(mid + 1, to);
+    if (right != null && compareUpperBounds(right, result) > 0) {
+      result = right;
+    }
+    maxEnds[mid] = result;
+    return result;
+  }
+
+  private void collectOverlapping(int from, int to, E min, boolean minInclusive, E max, boolean maxInclusive,
+                                  List<Interval<E>> result) {
+    if (from >= to) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    if (endsBefore(maxEnds[mid], min, minInclusive)) {
+      return; // no interval in this subtree reaches the range
+    }
+    collectOverlapping(from, mid, min, minInclusive, max, maxInclusive, result);
+    Interval<E> interval = intervals[mid];
+    if (startsAfter(interval, max, maxInclusive)) {
+      return; // this interval and the ones of the right subtree begin after the range
+    }
+    if (!endsBefore(interval, min, minInclusive)) {
+      result.add(interval);
+    }
+    collectOverlapping(mid + 1, to, min, minInclusive, max, maxInclusive, result);
+  }
+
+  private boolean anyOverlapping(int from, int to, E min, boolean minInclusive, E max, boolean maxInclusive) {
+    if (from >= to) {
+      return false;
+    }
+    int mid = (from + to) >>> 1;
+    if (endsBefore(maxEnds[mid], min, minInclusive)) {
+      return false;
+    }
+    if (anyOverlapping(from, mid, min, minInclusive, max, maxInclusive)) {
+      return true;
+    }
+    Interval<E> interval = intervals[mid];
+    if (startsAfter(interval, max, maxInclusive)) {
+      return false;
+    }
+    return !endsBefore(interval, min, minInclusive)
+        || anyOverlapping(mid + 1, to, min, minInclusive, max, maxInclusive);
+  }
+
+  /** Tells if the interval ends before a lower bound, a null bound meaning minus infinity. */
+  private boolean endsBefore(Interval<E> interval, E min, boolean minInclusive) {
+    if (interval.max == null || min == null) {
+      return false;
+    }
+    int comp = comparator.compare(interval.max, min);
+    return (comp < 0 || (comp == 0 && !(interval.maxInclusive && minInclusive)));
+  }
+
+  /** Tells if the interval starts after an upper bound, a null bound meaning infinity. */
+  private boolean startsAfter(Interval<E> interval, E max, boolean maxInclusive) {
+    if (interval.min == null || max == null) {
+      return false;
+    }
+    int comp = comparator.compare(interval.min, max);
+    return (comp > 0 || (comp == 0 && !(interval.minInclusive && maxInclusive)));
+  }
+
+  /** Tells if the second interval, which does not start before the first one, overlaps or adjoins it. */
+  private boolean joins(Interval<E> first, Interval<E> second) {
+    if (first.max == null || second.min == null) {
+      return true;
+    }
+    int comp = comparator.compare(first.max, second.min);
+    return (comp > 0 || (comp == 0 && (first.maxInclusive || second.minInclusive)));
+  }
+
+  /** Orders by lower bound, null meaning minus infinity and an inclusive bound being lower than an exclusive one. */
+  private int compareLowerBounds(Interval<E> i1, Interval<E> i2) {
+    if (i1.min == null || i2.min == null) {
+      return (i1.min == null ? (i2.min == null ? 0 : -1) : 1);
+    }
+    int comp = comparator.compare(i1.min, i2.min);
+    if (comp != 0) {
+      return comp;
+    }
+    return Boolean.compare(i2.minInclusive, i1.minInclusive);
+  }
+
+  /** Orders by upper bound, null meaning infinity and an inclusive bound being higher than an exclusive one. */
+  private int compareUpperBounds(Interval<E> i1, Interval<E> i2) {
+    if (i1.max == null || i2.max == null) {
+      return (i1.max == null ? (i2.max == null ? 0 : 1) : -1);
+    }
+    int comp = comparator.compare(i1.max, i2.max);
+    if (comp != 0) {
+      return comp;
+    }
+    return Boolean.compare(i1.maxInclusive, i2.maxInclusive);
+  }
+
+}
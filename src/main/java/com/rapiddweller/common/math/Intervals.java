@@ -17,11 +17,13 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Represents a collection of intervals and provides a {@link #contains(Object)}
  * method for checking if one of them contains a certain value.
+ * Collections of more than a few intervals are looked up in an {@link IntervalIndex}.
  * Created: 10.03.2011 17:28:50
  *
  * @param <E> the type of the bounds that define the interval
@@ -32,7 +34,11 @@
 
   private static final long serialVersionUID = 8528001196553630862L;
 
+  /** The interval count above which lookups use an index */
+  private static final int INDEX_THRESHOLD = 8;
+
   private final List<Interval<E>> intervals;
+  private transient IntervalIndex<E> index;
 
   /**
    * Instantiates a new Intervals.
@@ -48,6 +54,7 @@ public Intervals() {
    */
   public void add(Interval<E> interval) {
     intervals.add(interval);
+    index = null;
   }
 
   /**
@@ -57,6 +64,10 @@ public void add(Interval<E> interval) {
    * @return the boolean
    */
   public boolean contains(E x) {
+    IntervalIndex<E> index = getIndex();
+    if (index != null) {
+      return index.contains(x);
+    }
     for (Interval<E> interval : intervals) {
       if (interval.contains(x)) {
         return true;
@@ -65,6 +76,57 @@ public boolean contains(E x) {
     return false;
   }
 
+  /**
+   * Finds the intervals which contain a value.
+   *
+   * @param x the value to look up
+   * @return the intervals which contain the value
+   */
+  public List<Interval<E>> stab(E x) {
+    IntervalIndex<E> index = getIndex();
+    if (index != null) {
+      return index.stab(x);
+    }
+    List<Interval<E>> result = new ArrayList<>();
+    for (Interval<E> interval : intervals) {
+      if (interval.contains(x)) {
+        result.add(interval);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds the intervals which have at least one value in common with a range.
+   *
+   * @param min the lower bound of the range, inclusive
+   * @param max the upper bound of the range, inclusive
+   * @return the overlapping intervals, ordered by their lower bound
+   */
+  public List<Interval<E>> overlapping(E min, E max) {
+    return createIndex().overlapping(min, max);
+  }
+
+  /**
+   * Merges overlapping and adjoining intervals.
+   *
+   * @return a new Intervals object with disjoint intervals which contain the same values as this one
+   */
+  public Intervals<E> normalize() {
+    Intervals<E> result = new Intervals<>();
+    Comparator<E> comparator = comparator();
+    if (comparator == null) { // only infinite intervals
+      if (!intervals.isEmpty()) {
+        result.add(intervals.get(0));
+      }
+      return result;
+    }
+    for (Interval<E> interval : IntervalIndex.merge(intervals, comparator)) {
+      result.add(interval);
+    }
+    return result;
+  }
+
   /**
    * Interval count int.
    *
@@ -84,6 +146,33 @@ public Interval<E> getInterval(int i) {
     return intervals.get(i);
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private IntervalIndex<E> getIndex() {
+    if (index == null && intervals.size() > INDEX_THRESHOLD) {
+      index = createIndex();
+    }
+    return index;
+  }
+
+  private IntervalIndex<E> createIndex() {
+    if (index == null) {
+      Comparator<E> comparator = comparator();
+      // if all intervals are infinite, any comparator will do
+      index = new IntervalIndex<>(intervals, comparator != null ? comparator : (a, b) -> 0);
+    }
+    return index;
+  }
+
+  private Comparator<E> comparator() {
+    for (Interval<E> interval : intervals) {
+      if (interval.comparator != null) {
+        return interval.comparator;
+      }
+    }
+    return null;
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder();
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2004-2015 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable index of intervals with primitive long bounds, see {@link IntervalIndex}.
+ * The bounds are copied into long arrays, so queries neither box values nor call a comparator.
+ * Exclusive bounds are converted to inclusive ones and null bounds to Long.MIN_VALUE or Long.MAX_VALUE.<br/><br/>
+ * Created: 18.10.2026 08:14:26
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class LongIntervalIndex {
+
+  /** The intervals, sorted by lower bound */
+  private final Interval<Long>[] intervals;
+  /** The inclusive lower bounds */
+  private final long[] starts;
+  /** The inclusive upper bounds */
+  private final long[] ends;
+  /** The highest upper bound in the subtree rooted at the same index */
+  private final long[] maxEnds;
+
+  @SuppressWarnings("unchecked")
+  public LongIntervalIndex(Collection<? extends Interval<Long>> intervals) {
+    this.intervals = intervals.toArray(new Interval[0]);
+    Arrays.sort(this.intervals, Comparator.comparingLong(LongIntervalIndex::start));
+    int n = this.intervals.length;
+    this.starts = new long[n];
+    this.ends = new long[n];
+    for (int i = 0; i < n; i++) {
+      starts[i] = start(this.intervals[i]);
+      ends[i] = end(this.intervals[i]);
+    }
+    this.maxEnds = new long[n];
+    buildMaxEnds(0, n);
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public int size() {
+    return intervals.length;
+  }
+
+  public boolean contains(long x) {
+    return anyOverlapping(0, intervals.length, x, x);
+  }
+
+  /** @param x the value to look up
+   *  @return all intervals which contain the value, ordered by their lower bound */
+  public List<Interval<Long>> stab(long x) {
+    return overlapping(x, x);
+  }
+
+  /** @param min the lower bound of the range, inclusive
+   *  @param max the upper bound of the range, inclusive
+   *  @return all intervals which have at least one value in common with the range, ordered by their lower bound */
+  public List<Interval<Long>> overlapping(long min, long max) {
+    List<Interval<Long>> result = new ArrayList<>();
+    collectOverlapping(0, intervals.length, min, max, result);
+    return result;
+  }
+
+  /** Merges overlapping and adjoining intervals.
+   *  @param intervals the intervals to merge
+   *  @return disjoint intervals, ordered by their lower bound, which contain the same values as the given ones */
+  public static List<LongInterval> merge(Collection<? extends Interval<Long>> intervals) {
+    LongIntervalIndex index = new LongIntervalIndex(intervals);
+    List<LongInterval> result = new ArrayList<>();
+    int n = index.intervals.length;
+    int i = 0;
+    while (i < n) {
+      long start = index.starts[i];
+      long end = index.ends[i];
+      // an upper bound of MAX_VALUE cannot be followed by a separate range
+      while (++i < n && (end == Long.MAX_VALUE || index.starts[i] <= end + 1)) {
+        end = Math.max(end, index.ends[i]);
+      }
+      if (start <= end) {
+        result.add(new LongInterval(start, end));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(intervals);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Converts the lower bound to an inclusive one, null meaning Long.MIN_VALUE. */
+  private static long start(Interval<Long> interval) {
+    if (interval.min == null) {
+      return Long.MIN_VALUE;
+    }
+    return (interval.minInclusive || interval.min == Long.MAX_VALUE ? interval.min : interval.min + 1);
+  }
+
+  /** Converts the upper bound to an inclusive one, null meaning Long.MAX_VALUE. */
+  private static long end(Interval<Long> interval) {
+    if (interval.max == null) {
+      return Long.MAX_VALUE;
+    }
+    return (interval.maxInclusive || interval.max == Long.MIN_VALUE ? interval.max : interval.max - 1);
+  }
+
+  private long buildMaxEnds(int from, int to) {
+    if (from >= to) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (from + to) >>> 1;
+    long result = Math.max(ends[mid], Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+    maxEnds[mid] = result;
+    return result;
+  }
+
+  private void collectOverlapping(int from, int to, long min, long max, List<Interval<Long>> result) {
+    if (from >= to || maxEnds[(from + to) >>> 1] < min) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    collectOverlapping(from, mid, min, max, result);
+    if (starts[mid] > max) {
+      return;
+    }
+    if (ends[mid] >= min && starts[mid] <= ends[mid]) {
+      result.add(intervals[mid]);
+    }
+    collectOverlapping(mid + 1, to, min, max, result);
+  }
+
+  private boolean anyOverlapping(int from, int to, long min, long max) {
+    if (from >= to || maxEnds[(from + to) >>> 1] < min) {
+      return false;
+    }
+    int mid = (from + to) >>> 1;
+    if (anyOverlapping(from, mid, min, max)) {
+      return true;
+    }
+    if (starts[mid] > max) {
+      return false;
+    }
+    return (ends[mid] >= min && starts[mid] <= ends[mid]) || anyOverlapping(mid + 1, to, min, max);
+  }
+
+}
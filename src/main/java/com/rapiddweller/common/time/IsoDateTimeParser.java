@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.time;
+
+import com.rapiddweller.common.Patterns;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Parses the fixed ISO layouts of the {@link Patterns} DEFAULT_DATE and DEFAULT_DATETIME patterns,
+ * i.e. yyyy-MM-dd[THH:mm[:ss[.S{1,9}]]], by decoding the digits directly into epoch values,
+ * without creating a SimpleDateFormat or DateTimeFormatter.
+ * The parser is strict: Texts which do not match a layout exactly or which contain invalid field values
+ * are not parsed, but signaled with null or {@link #NO_MATCH}, so that callers can fall back
+ * to their pattern-based parser, which reproduces its own leniency and error reporting.<br/><br/>
+ * Created: 18.10.2026 09:12:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public final class IsoDateTimeParser {
+
+  /** Returned by {@link #parseEpochMillis(CharSequence, TimeZone)} for a text which cannot be parsed */
+  public static final long NO_MATCH = Long.MIN_VALUE;
+
+  private static final int DATE_LENGTH = 10;
+  private static final int MINUTES_LENGTH = 16;
+  private static final int SECONDS_LENGTH = 19;
+  private static final int MILLIS_LENGTH = 23;
+  private static final int MICROS_LENGTH = 26;
+  private static final int NANOS_LENGTH = 29;
+  private static final int MAX_LENGTH = NANOS_LENGTH;
+
+  private static final int SECONDS_PER_DAY = 86400;
+  private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000L;
+  private static final long DAYS_0000_TO_1970 = 719528L;
+
+  /** java.util.Date uses the Julian calendar before 1582, so the epoch methods only support later dates */
+  private static final long FIRST_GREGORIAN_SECOND = epochDay(1583, 1, 1) * SECONDS_PER_DAY;
+
+  private IsoDateTimeParser() {
+    // private constructor to prevent instantiation of this utility class
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  /** @param pattern a date or date/time pattern
+   *  @return the length of the texts in the layout of the pattern
+   *      if it is one of the {@link Patterns} DEFAULT_DATE or DEFAULT_DATETIME patterns, otherwise -1 */
+  public static int layoutLength(String pattern) {
+    if (pattern == null) {
+      return -1;
+    }
+    switch (pattern) {
+      case Patterns.DEFAULT_DATE_PATTERN:
+        return DATE_LENGTH;
+      case Patterns.DEFAULT_DATETIME_MINUTES_PATTERN:
+        return MINUTES_LENGTH;
+      case Patterns.DEFAULT_DATETIME_SECONDS_PATTERN:
+        return SECONDS_LENGTH;
+      case Patterns.DEFAULT_DATETIME_MILLIS_PATTERN:
+        return MILLIS_LENGTH;
+      case Patterns.DEFAULT_DATETIME_MICROS_PATTERN:
+        return MICROS_LENGTH;
+      case Patterns.DEFAULT_DATETIME_NANOS_PATTERN:
+        return NANOS_LENGTH;
+      default:
+        return -1;
+    }
+  }
+
+  /** @param text the text to parse
+   *  @return the date in yyyy-MM-dd layout, or null if the text does not match */
+  public static LocalDate parseLocalDate(CharSequence text) {
+    if (text == null || text.length() != DATE_LENGTH) {
+      return null;
+    }
+    long localSecond = localEpochSecond(text, DATE_LENGTH);
+    return (localSecond != NO_MATCH ? LocalDate.ofEpochDay(localSecond / SECONDS_PER_DAY) : null);
+  }
+
+  /** @param text the text to parse
+   *  @return the date and time in one of the DEFAULT_DATETIME layouts, or null if the text does not match */
+  public static LocalDateTime parseLocalDateTime(CharSequence text) {
+    if (text == null || text.length() <= DATE_LENGTH) {
+      return null;
+    }
+    int length = text.length();
+    long localSecond = localEpochSecond(text, length);
+    int nanos = nanos(text, length);
+    if (localSecond == NO_MATCH || nanos < 0) {
+      return null;
+    }
+    return LocalDateTime.ofEpochSecond(localSecond, nanos, ZoneOffset.UTC);
+  }
+
+  /** @param text the text to parse
+   *  @param zone the time zone in which to interpret the text
+   *  @return the milliseconds since the epoch of the date or date/time in one of the ISO layouts,
+   *      or {@link #NO_MATCH} if the text does not match, is before 1583 or falls into a daylight saving gap or overlap */
+  public static long parseEpochMillis(CharSequence text, TimeZone zone) {
+    if (text == null) {
+      return NO_MATCH;
+    }
+    int length = text.length();
+    long epochSecond = epochSecond(text, length, zone);
+    int nanos = nanos(text, length);
+    if (epochSecond == NO_MATCH || nanos < 0) {
+      return NO_MATCH;
+    }
+    return epochSecond * 1000 + nanos / 1000000;
+  }
+
+  /** @param text the text to parse
+   *  @return the date or date/time in the default time zone, or null if the text cannot be parsed,
+   *      see {@link #parseEpochMillis(CharSequence, TimeZone)} */
+  public static Date parseDate(CharSequence text) {
+    long millis = parseEpochMillis(text, TimeZone.getDefault());
+    return (millis != NO_MATCH ? new Date(millis) : null);
+  }
+
+  /** @param text the text to parse
+   *  @return the date or date/time in the default time zone with the full precision of the fraction,
+   *      or null if the text cannot be parsed, see {@link #parseEpochMillis(CharSequence, TimeZone)} */
+  public static Timestamp parseTimestamp(CharSequence text) {
+    if (text == null) {
+      return null;
+    }
+    int length = text.length();
+    long epochSecond = epochSecond(text, length, TimeZone.getDefault());
+    int nanos = nanos(text, length);
+    if (epochSecond == NO_MATCH || nanos < 0) {
+      return null;
+    }
+    Timestamp result = new Timestamp(epochSecond * 1000);
+    result.setNanos(nanos);
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Resolves the local time with the offsets of the {@link TimeZone}, which are used by java.util.Date
+   *  and may differ from the ones of java.time for historic dates. */
+  private static long epochSecond(CharSequence text, int length, TimeZone zone) {
+    long localSecond = localEpochSecond(text, length);
+    if (localSecond == NO_MATCH || localSecond < FIRST_GREGORIAN_SECOND) {
+      return NO_MATCH;
+    }
+    long localMillis = localSecond * 1000;
+    int offset = zone.getOffset(localMillis - zone.getOffset(localMillis));
+    if (zone.getOffset(localMillis - offset) != offset) {
+      return NO_MATCH; // the local time is skipped by a daylight saving gap
+    }
+    // check if the local time is repeated by an overlap with one of the neighbouring offsets
+    long epochMillis = localMillis - offset;
+    int before = zone.getOffset(epochMillis - MILLIS_PER_DAY);
+    int after = zone.getOffset(epochMillis + MILLIS_PER_DAY);
+    if ((before != offset && zone.getOffset(localMillis - before) == before)
+        || (after != offset && zone.getOffset(localMillis - after) == after)) {
+      return NO_MATCH;
+    }
+    return localSecond - offset / 1000;
+  }
+
+  /** @return the seconds from 1970-01-01T00:00 to the date and time of the text,
+   *      ignoring a fraction, or {@link #NO_MATCH} if the text does not match */
+  private static long localEpochSecond(CharSequence text, int length) {
+    if ((length != DATE_LENGTH && length != MINUTES_LENGTH && length != SECONDS_LENGTH
+        && length < SECONDS_LENGTH + 2) || length > MAX_LENGTH) {
+      return NO_MATCH;
+    }
+    int year = digits(text, 0, 4);
+    int month = digits(text, 5, 2);
+    int day = digits(text, 8, 2);
+    if (text.charAt(4) != '-' || text.charAt(7) != '-' || year < 1 || month < 1 || month > 12
+        || day < 1 || day > lengthOfMonth(year, month)) {
+      return NO_MATCH;
+    }
+    int secondOfDay = 0;
+    if (length > DATE_LENGTH) {
+      int hour = digits(text, 11, 2);
+      int minute = digits(text, 14, 2);
+      int second = 0;
+      if (length >= SECONDS_LENGTH) {
+        if (text.charAt(16) != ':') {
+          return NO_MATCH;
+        }
+        second = digits(text, 17, 2);
+      }
+      if (text.charAt(10) != 'T' || text.charAt(13) != ':' || hour < 0 || hour > 23
+          || minute < 0 || minute > 59 || second < 0 || second > 59) {
+        return NO_MATCH;
+      }
+      secondOfDay = hour * 3600 + minute * 60 + second;
+    }
+    return epochDay(year, month, day) * SECONDS_PER_DAY + secondOfDay;
+  }
+
+  /** @return the nanoseconds of the fraction, 0 if the text has none, or -1 if it is malformed */
+  private static int nanos(CharSequence text, int length) {
+    if (length <= SECONDS_LENGTH) {
+      return 0;
+    }
+    if (text.charAt(SECONDS_LENGTH) != '.') {
+      return -1;
+    }
+    int result = 0;
+    for (int i = SECONDS_LENGTH + 1; i < MAX_LENGTH; i++) {
+      int digit = (i < length ? text.charAt(i) - '0' : 0);
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  /** @return the value of the decimal digits, or -1 if one of the characters is not a digit */
+  private static int digits(CharSequence text, int offset, int count) {
+    int result = 0;
+    for (int i = offset; i < offset + count; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (isLeapYear(year) ? 29 : 28);
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /** Calculates the days since 1970-01-01 in the proleptic Gregorian calendar, like {@link LocalDate#toEpochDay()}. */
+  private static long epochDay(int year, int month, int day) {
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12 + day - 1;
+    if (month > 2) {
+      total -= (isLeapYear(year) ? 1 : 2);
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+}
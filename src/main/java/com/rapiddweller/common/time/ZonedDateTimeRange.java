@@ -15,7 +15,11 @@
 
 package com.rapiddweller.common.time;
 
+import com.rapiddweller.common.math.Interval;
+import com.rapiddweller.common.math.IntervalIndex;
+
 import java.time.ZonedDateTime;
+import java.util.Comparator;
 
 /**
  * Represents a time range between to {@link ZonedDateTime} instances.<br><br>
@@ -53,6 +57,13 @@ public boolean isIntraday() {
     return min.toLocalDate().equals(max.toLocalDate());
   }
 
+  /** Creates an {@link Interval} which includes both endpoints and compares by instant,
+   *  e.g. for looking up ranges in an {@link IntervalIndex}. A null endpoint means an unbounded interval side.
+   *  @return an interval with the same endpoints */
+  public Interval<ZonedDateTime> toInterval() {
+    return new Interval<>(min, true, max, true, Comparator.comparing(ZonedDateTime::toInstant));
+  }
+
   public void include(ZonedDateTime dateTime) {
     if (this.min == null || dateTime.isBefore(this.min))
       this.min = dateTime;
@@ -79,4 +79,18 @@ public void testFormatPartWithFormatAndSeparator() {
   public void testFormatIntArray() {
     assertEquals("1.2.3", ArrayFormat.formatInts(".", 1, 2, 3));
   }
+
+  @Test
+  public void testFormatIntsTo() {
+    StringBuilder builder = new StringBuilder("[");
+    assertEquals("[-1, 0, 2147483647", ArrayFormat.formatIntsTo(builder, ", ", -1, 0, Integer.MAX_VALUE).toString());
+    assertEquals("", ArrayFormat.formatIntsTo(new StringBuilder(), ", ").toString());
+  }
+
+  @Test
+  public void testFormatLongsTo() {
+    assertEquals("-9223372036854775808/42",
+        ArrayFormat.formatLongsTo(new StringBuilder(), "/", Long.MIN_VALUE, 42L).toString());
+  }
+
 }
@@ -17,7 +17,9 @@
 
 import org.junit.Test;
 
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -69,4 +71,34 @@ public void testEqualsAndHashCode() {
     assertTrue(sg.hashCode() != se.hashCode());
   }
 
+  @Test
+  public void testSetOperations() {
+    CharSet letters = new CharSet('a', 'z');
+    CharSet vowels = new CharSet().add('a').add('e').add('i').add('o').add('u').add('1');
+    assertEquals(27, letters.union(vowels).size());
+    assertEquals(5, letters.intersection(vowels).size());
+    CharSet complement = letters.complement();
+    assertEquals(65536 - 26, complement.size());
+    assertFalse(complement.contains('x'));
+    assertTrue(complement.contains('X'));
+    letters.removeAll(vowels);
+    assertEquals(21, letters.size());
+    assertFalse(letters.contains('e'));
+  }
+
+  @Test
+  public void testIteratorAndClone() {
+    CharSet set = new CharSet('a', 'c');
+    CharSet clone = set.clone();
+    Iterator<Character> iterator = set.iterator();
+    assertEquals('a', (char) iterator.next());
+    iterator.remove();
+    assertEquals('b', (char) iterator.next());
+    assertEquals('c', (char) iterator.next());
+    assertFalse(iterator.hasNext());
+    assertEquals("[b, c]", set.toString());
+    assertEquals(3, clone.size());
+    assertEquals(Set.of('a', 'b', 'c'), clone.getSet());
+  }
+
 }
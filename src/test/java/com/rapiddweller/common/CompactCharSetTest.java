@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.IllegalOperationError;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CompactCharSet}.
+ * Created: 17.10.2026 22:14:52
+ * @author Volker Bergmann
+ */
+public class CompactCharSetTest {
+
+  @Test
+  public void testAddAndRemove() {
+    CompactCharSet set = new CompactCharSet();
+    assertTrue(set.isEmpty());
+    set.add('x').addRange('0', '9').addRange((char) 60, (char) 200);
+    assertEquals(10 + 141, set.size());
+    assertTrue(set.contains('x'));
+    assertTrue(set.contains('5'));
+    assertTrue(set.contains((char) 63));
+    assertTrue(set.contains((char) 64));
+    assertTrue(set.contains((char) 200));
+    assertFalse(set.contains((char) 201));
+    assertFalse(set.contains('￿'));
+    set.removeRange((char) 62, (char) 130).remove('5');
+    assertFalse(set.contains('x'));
+    assertFalse(set.contains('5'));
+    assertTrue(set.contains((char) 61));
+    assertTrue(set.contains((char) 131));
+    assertEquals(9 + 2 + 70, set.size());
+  }
+
+  @Test
+  public void testNextChar() {
+    CompactCharSet set = CompactCharSet.of("az一");
+    assertEquals('a', set.nextChar(0));
+    assertEquals('z', set.nextChar('b'));
+    assertEquals('一', set.nextChar('z' + 1));
+    assertEquals(-1, set.nextChar('丁'));
+    CompactCharSet immutable = CompactCharSet.ofRange('一', '鿿').add('a').toImmutable();
+    assertEquals('a', immutable.nextChar(0));
+    assertEquals('一', immutable.nextChar('b'));
+    assertEquals('倀', immutable.nextChar('倀'));
+    assertEquals(-1, immutable.nextChar('ꀀ'));
+  }
+
+  @Test
+  public void testImmutable() {
+    CompactCharSet mutable = CompactCharSet.ofRange('a', 'z');
+    CompactCharSet immutable = mutable.toImmutable();
+    assertTrue(immutable.isImmutable());
+    assertSame(immutable, immutable.toImmutable());
+    assertEquals(mutable, immutable);
+    assertThrows(IllegalOperationError.class, () -> immutable.add('1'));
+    CompactCharSet copy = immutable.copy();
+    assertNotSame(immutable, copy);
+    assertFalse(copy.isImmutable());
+    copy.add('1');
+    assertEquals(27, copy.size());
+  }
+
+  @Test
+  public void testSparseRangeTable() {
+    // spread over a wide range with few gaps: represented as range table
+    CompactCharSet mutable = CompactCharSet.ofRange('A', 'Z').addRange('぀', 'ヿ').addRange('一', '鿿');
+    CompactCharSet sparse = mutable.toImmutable();
+    assertEquals(mutable, sparse);
+    assertEquals(mutable.hashCode(), sparse.hashCode());
+    assertEquals(mutable.size(), sparse.size());
+    for (int c = 0; c <= Character.MAX_VALUE; c++) {
+      assertEquals(mutable.contains((char) c), sparse.contains((char) c));
+    }
+    assertTrue(sparse.containsAll(CompactCharSet.of("AZ一鿿")));
+    assertFalse(sparse.containsAll(CompactCharSet.of("a")));
+    assertEquals(26, sparse.intersection(CompactCharSet.ofRange('0', 'z')).size());
+  }
+
+  @Test
+  public void testSetOperations() {
+    CompactCharSet digits = CompactCharSet.ofRange('0', '9');
+    CompactCharSet hex = CompactCharSet.ofRange('0', '9').addRange('a', 'f');
+    assertEquals(hex, digits.union(CompactCharSet.ofRange('a', 'f')));
+    assertEquals(digits, hex.intersection(digits));
+    CompactCharSet complement = digits.complement();
+    assertEquals(65536 - 10, complement.size());
+    assertFalse(complement.contains('5'));
+    assertTrue(complement.contains('￿'));
+    assertEquals(digits, complement.complement());
+    assertTrue(hex.containsAll(digits));
+    assertFalse(digits.containsAll(hex));
+  }
+
+  @Test
+  public void testObjectMethods() {
+    CompactCharSet set = CompactCharSet.of("cab");
+    assertEquals("[a, b, c]", set.toString());
+    assertEquals(Set.of('a', 'b', 'c'), set.toSet());
+    assertEquals(Set.of('a', 'b', 'c').hashCode(), set.hashCode());
+    assertEquals(set, CompactCharSet.of("abc").add('一').remove('一'));
+  }
+
+}
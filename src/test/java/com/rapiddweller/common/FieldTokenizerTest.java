@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link FieldTokenizer}.
+ * Created: 18.10.2026 14:40:18
+ * @author Volker Bergmann
+ */
+public class FieldTokenizerTest {
+
+  @Test
+  public void testSimple() {
+    checkFields(new FieldTokenizer(','), "a,bc,,d", "a", "bc", "", "d");
+    checkFields(new FieldTokenizer(','), "", "");
+    checkFields(new FieldTokenizer(','), ",", "", "");
+    checkFields(new FieldTokenizer(','), " a , b ", " a ", " b ");
+    checkFields(new FieldTokenizer(','), "\"a,b\"", "\"a", "b\"");
+  }
+
+  @Test
+  public void testConsistentWithTokenize() {
+    FieldTokenizer tokenizer = new FieldTokenizer('.');
+    for (String text : new String[] { "", ".", "a.b", ".a.", "java.lang.String", "..x.." }) {
+      assertArrayEquals(text, StringUtil.tokenize(text, '.'), fields(tokenizer, text));
+    }
+  }
+
+  @Test
+  public void testNull() {
+    FieldTokenizer tokenizer = new FieldTokenizer(',');
+    assertFalse(tokenizer.reset(null).next());
+  }
+
+  @Test
+  public void testOffsets() {
+    String line = "12;-345;6";
+    FieldTokenizer tokenizer = new FieldTokenizer(';').reset(line);
+    int sum = 0;
+    while (tokenizer.next()) {
+      sum += ParseUtil.parseInt(line, tokenizer.start(), tokenizer.length());
+    }
+    assertEquals(-327, sum);
+    tokenizer.reset(line);
+    assertTrue(tokenizer.next());
+    assertTrue(tokenizer.next());
+    assertEquals(3, tokenizer.start());
+    assertEquals(7, tokenizer.end());
+    CharSequence view = tokenizer.fieldView();
+    assertEquals(4, view.length());
+    assertEquals('3', view.charAt(1));
+    assertEquals("45", view.subSequence(2, 4).toString());
+    assertEquals("-345", view.toString());
+  }
+
+  @Test
+  public void testQuotes() {
+    FieldTokenizer tokenizer = new FieldTokenizer(',', '"', FieldTokenizer.NONE, false);
+    checkFields(tokenizer, "\"a,b\",c", "a,b", "c");
+    checkFields(tokenizer, "\"say \"\"hi\"\"\",\"\"", "say \"hi\"", "");
+    checkFields(tokenizer, "a\"b,\"c", "a\"b", "c");
+    checkFields(tokenizer, "\"open,end", "open,end");
+    checkFields(tokenizer, "\"x\"ignored,y", "x", "y");
+    tokenizer.reset("\"a\"\"b\",c");
+    assertTrue(tokenizer.next());
+    assertTrue(tokenizer.isQuoted());
+    assertTrue(tokenizer.isEscaped());
+    assertEquals("a\"\"b", tokenizer.fieldView().toString());
+    assertEquals("a\"b", tokenizer.field());
+    assertTrue(tokenizer.next());
+    assertFalse(tokenizer.isQuoted());
+    assertFalse(tokenizer.isEscaped());
+  }
+
+  @Test
+  public void testEscape() {
+    FieldTokenizer tokenizer = new FieldTokenizer(',', '\'', '\\', false);
+    checkFields(tokenizer, "a\\,b,c\\\\", "a,b", "c\\");
+    checkFields(tokenizer, "'it\\'s',x", "it's", "x");
+    checkFields(tokenizer, "end\\", "end\\");
+  }
+
+  @Test
+  public void testTrim() {
+    FieldTokenizer tokenizer = new FieldTokenizer(',', '"', '\\', true);
+    checkFields(tokenizer, " a , b b ,\t,  ", "a", "b b", "", "");
+    checkFields(tokenizer, "  \" a \"  , b", " a ", "b");
+    checkFields(tokenizer, "a\\ , b", "a ", "b");
+    checkFields(new FieldTokenizer('\t', FieldTokenizer.NONE, FieldTokenizer.NONE, true), " a \t b ", "a", "b");
+  }
+
+  @Test
+  public void testSplit() {
+    FieldTokenizer tokenizer = new FieldTokenizer(',', '"', FieldTokenizer.NONE, true);
+    String[] target = new String[2];
+    assertEquals(2, tokenizer.split("\"a,b\", c", target));
+    assertArrayEquals(new String[] {"a,b", "c"}, target);
+    assertEquals(3, tokenizer.split("x,y,z", target));
+    assertArrayEquals(new String[] {"x", "y"}, target);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalConfiguration() {
+    new FieldTokenizer(',', ',', FieldTokenizer.NONE, false);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void checkFields(FieldTokenizer tokenizer, String text, String... expectedFields) {
+    assertArrayEquals(text, expectedFields, fields(tokenizer, text));
+  }
+
+  private static String[] fields(FieldTokenizer tokenizer, String text) {
+    List<String> fields = new ArrayList<>();
+    tokenizer.reset(text);
+    while (tokenizer.next()) {
+      fields.add(tokenizer.field());
+    }
+    return fields.toArray(new String[0]);
+  }
+
+}
@@ -64,6 +64,19 @@ public void testFormat() {
     assertEquals("null", Formatter.format(null, "Pattern"));
   }
 
+  @Test
+  public void testFormatTo() {
+    for (Locale locale : new Locale[] { Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH") }) {
+      for (double value : new double[] { 0., -0.005, 1234567.891, -98.765, Double.NaN }) {
+        assertEquals(Formatter.format(value, locale), Formatter.formatTo(value, locale, new StringBuilder()).toString());
+      }
+    }
+    StringBuilder builder = new StringBuilder();
+    Formatter.formatTo(LocalDate.of(2026, 10, 18), builder).append('|');
+    Formatter.formatTo(LocalDate.of(12, 3, 4), builder);
+    assertEquals("2026-10-18|0012-03-04", builder.toString());
+  }
+
   @Test
   public void testFormat2() {
     LocalDateTime localDateTime = LocalDateTime.of(1, 1, 1, 1, 1);
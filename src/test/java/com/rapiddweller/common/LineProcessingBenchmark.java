@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.iterator.ParallelChunkProcessor;
+import com.rapiddweller.common.iterator.TextLineIterable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Measures the throughput of parallel text file processing with {@link LineSpliterator}
+ * and {@link ParallelChunkProcessor} for an increasing number of threads,
+ * compared to sequential processing with {@link TextLineIterable}.
+ * Each line is a comma-separated record of which the numbers are parsed and summed up.
+ * Usage: LineProcessingBenchmark [file size in MB, default 200]
+ * Created: 17.10.2026 20:36:18
+ * @author Volker Bergmann
+ */
+public class LineProcessingBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int megabytes = (args.length > 0 ? Integer.parseInt(args[0]) : 200);
+    File file = createFile(megabytes);
+    try {
+      System.out.println("File size: " + file.length() / 1024 / 1024 + " MB");
+      run("TextLineIterable (sequential)", 1, file.length(), () -> sequentialSum(file));
+      for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+          run("LineSpliterator", threads, file.length(),
+              () -> pool.submit(() -> spliteratorSum(file)).get());
+          run("ParallelChunkProcessor", threads, file.length(), () -> chunkProcessorSum(file, pool));
+        } finally {
+          pool.shutdown();
+        }
+      }
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  // implementations -------------------------------------------------------------------------------------------------
+
+  private static long sequentialSum(File file) {
+    long sum = 0;
+    for (String line : new TextLineIterable(file.getAbsolutePath())) {
+      sum += sumOfLine(line);
+    }
+    return sum;
+  }
+
+  private static long spliteratorSum(File file) {
+    try (Stream<String> lines = LineSpliterator.lines(file, StandardCharsets.UTF_8, true)) {
+      return lines.mapToLong(LineProcessingBenchmark::sumOfLine).sum();
+    }
+  }
+
+  private static long chunkProcessorSum(File file, ForkJoinPool pool) {
+    AtomicLong sum = new AtomicLong();
+    new ParallelChunkProcessor<String, Long>(
+        chunk -> chunk.stream().mapToLong(LineProcessingBenchmark::sumOfLine).sum(),
+        ParallelChunkProcessor.DEFAULT_CHUNK_SIZE, pool)
+        .process(new TextLineIterable(file.getAbsolutePath()), sum::addAndGet);
+    return sum.get();
+  }
+
+  private static long sumOfLine(CharSequence line) {
+    long sum = 0;
+    int start = 0;
+    for (int i = 0; i <= line.length(); i++) {
+      if (i == line.length() || line.charAt(i) == ',') {
+        sum += (long) ParseUtil.parseDouble(line, start, i - start);
+        start = i + 1;
+      }
+    }
+    return sum;
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static void run(String name, int threads, long bytes, Task task) throws Exception {
+    task.call(); // warm-up
+    long startTime = System.nanoTime();
+    long result = task.call();
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.out.printf("%-30s %2d threads: %8.1f MB/s (checksum %d)%n",
+        name, threads, bytes / 1024. / 1024. / seconds, result);
+  }
+
+  private static File createFile(int megabytes) throws IOException {
+    File file = File.createTempFile(LineProcessingBenchmark.class.getSimpleName(), ".csv");
+    Random random = new Random(0);
+    long targetSize = megabytes * 1024L * 1024L;
+    long size = 0;
+    try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      while (size < targetSize) {
+        String line = random.nextInt(100000) + "," + random.nextInt(1000) + '.' + random.nextInt(100)
+            + ',' + random.nextLong() / 1000 + ',' + random.nextInt(10) + "e3";
+        out.write(line);
+        out.write('\n');
+        size += line.length() + 1;
+      }
+    }
+    return file;
+  }
+
+  private interface Task {
+    long call() throws Exception;
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LineSpliterator}.
+ * Created: 17.10.2026 20:04:31
+ * @author Volker Bergmann
+ */
+public class LineSpliteratorTest {
+
+  @Test
+  public void testSplitAtLineBoundaries() throws IOException {
+    List<String> expected = createLines(1000);
+    File file = createFile(expected);
+    try {
+      LineSpliterator spliterator = new LineSpliterator(
+          file, StandardCharsets.UTF_8, 0, file.length(), 100, new ConcurrentLinkedQueue<>());
+      Spliterator<String> prefix = spliterator.trySplit();
+      assertNotNull(prefix);
+      List<String> actual = new ArrayList<>();
+      prefix.forEachRemaining(actual::add);
+      int prefixSize = actual.size();
+      assertTrue(prefixSize > 0 && prefixSize < expected.size());
+      assertTrue(spliterator.tryAdvance(actual::add));
+      assertNull(spliterator.trySplit());
+      spliterator.forEachRemaining(actual::add);
+      assertEquals(expected, actual);
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testParallelStream() throws IOException {
+    List<String> expected = createLines(20000);
+    File file = createFile(expected);
+    try {
+      LineSpliterator spliterator = new LineSpliterator(
+          file, StandardCharsets.UTF_8, 0, file.length(), 1000, new ConcurrentLinkedQueue<>());
+      try (Stream<String> lines = StreamSupport.stream(spliterator, true)) {
+        assertEquals(expected, lines.collect(Collectors.toList()));
+      }
+      try (Stream<String> lines = LineSpliterator.lines(file, StandardCharsets.UTF_8, true)) {
+        assertEquals(expected.size(), lines.count());
+      }
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testSmallFile() throws IOException {
+    File file = createFile(List.of("a", "b"));
+    try {
+      LineSpliterator spliterator = new LineSpliterator(file, StandardCharsets.UTF_8);
+      assertNull(spliterator.trySplit());
+      try (Stream<String> lines = LineSpliterator.lines(file, StandardCharsets.UTF_8, false)) {
+        assertEquals(List.of("a", "b"), lines.collect(Collectors.toList()));
+      }
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static List<String> createLines(int count) {
+    List<String> lines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add("line " + i + " ä");
+    }
+    return lines;
+  }
+
+  private static File createFile(List<String> lines) throws IOException {
+    File file = File.createTempFile(LineSpliteratorTest.class.getSimpleName(), ".txt");
+    Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    return file;
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MappedLineIterator}.
+ * Created: 17.10.2026 18:51:03
+ * @author Volker Bergmann
+ */
+public class MappedLineIteratorTest {
+
+  @Test
+  public void testDefaultIteration() throws IOException {
+    File file = createFile("alpha \n beta\n");
+    try (MappedLineIterator iterator = new MappedLineIterator(file)) {
+      assertTrue(iterator.hasNext());
+      MappedLine line = iterator.next();
+      assertEquals("alpha ", line.toString());
+      assertEquals(6, line.length());
+      assertEquals('a', line.charAt(0));
+      assertEquals(1, line.getLineNumber());
+      assertTrue(iterator.hasNext());
+      assertEquals(" beta", iterator.nextString());
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::next);
+      assertEquals(2, iterator.lineCount());
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testCrLfAndMissingLastSeparator() throws IOException {
+    File file = createFile("one\r\n\r\nthree");
+    try {
+      assertEquals(List.of("one", "", "three"), readAll(file, false, MappedLineIterator.DEFAULT_WINDOW_SIZE));
+      assertEquals(List.of("one", "three"), readAll(file, true, MappedLineIterator.DEFAULT_WINDOW_SIZE));
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testEmptyFile() throws IOException {
+    File file = createFile("");
+    try {
+      assertEquals(List.of(), readAll(file, false, MappedLineIterator.DEFAULT_WINDOW_SIZE));
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testNonAscii() throws IOException {
+    File file = createFile("Grüße\nplain\n日本語\n");
+    try (MappedLineIterator iterator = new MappedLineIterator(file)) {
+      MappedLine line = iterator.next();
+      assertEquals(5, line.length());
+      assertEquals(7, line.byteLength());
+      assertEquals('ü', line.charAt(2));
+      assertEquals("Grüße", line.toString());
+      assertEquals("plain", iterator.nextString());
+      assertEquals("日本語", iterator.nextString());
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testSmallWindows() throws IOException {
+    StringBuilder content = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      String text = "line " + i + " " + "x".repeat(i % 37);
+      expected.add(text);
+      content.append(text).append('\n');
+    }
+    File file = createFile(content.toString());
+    try {
+      // the window is smaller than some lines, so it needs to be remapped and enlarged
+      assertEquals(expected, readAll(file, false, 16));
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testParseFromLine() throws IOException {
+    File file = createFile("4711,3.5\n");
+    try (MappedLineIterator iterator = new MappedLineIterator(file)) {
+      MappedLine line = iterator.next();
+      assertEquals(4711, ParseUtil.parseInt(line, 0, 4));
+      assertEquals(3.5, ParseUtil.parseDouble(line, 5, 3), 0.);
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testIndexOfLineFeed() {
+    for (int length = 0; length < 40; length++) {
+      for (int lineFeed = -1; lineFeed < length; lineFeed++) {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < length; i++) {
+          buffer.put(i, (byte) (i == lineFeed ? '\n' : (i % 2 == 0 ? 0x0B : 0x8A)));
+        }
+        assertEquals(lineFeed, MappedLineIterator.indexOfLineFeed(buffer, 0, length));
+      }
+    }
+  }
+
+  @Test
+  public void testUnsupportedCharset() throws IOException {
+    File file = createFile("x");
+    try {
+      assertThrows(IllegalArgumentError.class,
+          () -> new MappedLineIterator(file, StandardCharsets.UTF_16, false));
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static File createFile(String content) throws IOException {
+    File file = File.createTempFile(MappedLineIteratorTest.class.getSimpleName(), ".txt");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static List<String> readAll(File file, boolean skipEmptyLines, int windowSize) {
+    List<String> result = new ArrayList<>();
+    try (MappedLineIterator iterator = new MappedLineIterator(
+        file, StandardCharsets.UTF_8, skipEmptyLines, 0, Long.MAX_VALUE, windowSize)) {
+      while (iterator.hasNext()) {
+        result.add(iterator.nextString());
+      }
+    }
+    return result;
+  }
+
+}
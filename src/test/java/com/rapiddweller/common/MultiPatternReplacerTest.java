@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MultiPatternReplacer}.
+ * Created: 18.10.2026 15:58:41
+ * @author Volker Bergmann
+ */
+public class MultiPatternReplacerTest {
+
+  @Test
+  public void testSimple() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(
+        CollectionUtil.buildMap("${name}", "Alice", "${city}", "Munich"));
+    assertEquals(2, replacer.getPatternCount());
+    assertEquals("Alice lives in Munich, Alice likes Munich",
+        replacer.replace("${name} lives in ${city}, ${name} likes ${city}"));
+    assertEquals("Bob", replacer.replace("Bob"));
+    assertEquals("", replacer.replace(""));
+    assertNull(replacer.replace(null));
+  }
+
+  @Test
+  public void testUnchangedTextIsReturned() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("x", "y"));
+    String text = "abc";
+    assertSame(text, replacer.replace(text));
+  }
+
+  @Test
+  public void testReplaceToAppendsEveryText() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("x", "y"));
+    StringBuilder builder = new StringBuilder();
+    assertFalse(replacer.replaceTo("abc", builder));
+    assertEquals("abc", builder.toString());
+    assertTrue(replacer.replaceTo("axc", builder));
+    assertEquals("abcayc", builder.toString());
+    assertFalse(replacer.replaceTo("", builder));
+    assertEquals("abcayc", builder.toString());
+  }
+
+  @Test
+  public void testOverlaps() {
+    Map<String, String> replacements = new LinkedHashMap<>();
+    replacements.put("he", "1");
+    replacements.put("she", "2");
+    replacements.put("hers", "3");
+    replacements.put("his", "4");
+    MultiPatternReplacer replacer = new MultiPatternReplacer(replacements);
+    // leftmost match wins, then the longest one
+    assertEquals("u2rs", replacer.replace("ushers"));
+    assertEquals("3", replacer.replace("hers"));
+    assertEquals("1r", replacer.replace("her"));
+    assertEquals("41", replacer.replace("hishe"));
+  }
+
+  @Test
+  public void testPrefixesOfLongerPatterns() {
+    Map<String, String> replacements = new LinkedHashMap<>();
+    replacements.put("abcd", "X");
+    replacements.put("ab", "Y");
+    replacements.put("c", "Z");
+    MultiPatternReplacer replacer = new MultiPatternReplacer(replacements);
+    assertEquals("YZx", replacer.replace("abcx"));
+    assertEquals("XYZ", replacer.replace("abcdabc"));
+  }
+
+  @Test
+  public void testReplacementsAreNotSearched() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("a", "b", "b", "a"));
+    assertEquals("baab", replacer.replace("abba"));
+  }
+
+  @Test
+  public void testIgnoreCase() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("BoB", "Bertie"), true, false);
+    assertEquals("Bertie, Bertie and Bertie", replacer.replace("Bob, BOB and bob"));
+  }
+
+  @Test
+  public void testKeepCaps() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("bob", "Bertie"), true, true);
+    assertEquals("bertie and alice", replacer.replace("bob and alice"));
+    assertEquals("BERTIE AND ALICE", replacer.replace("BOB AND ALICE"));
+    assertEquals("Bertie and Alice", replacer.replace("Bob and Alice"));
+    assertEquals("bertie 42", replacer.replace("bob 42"));
+  }
+
+  @Test
+  public void testCaseFoldingLikeStringUtil() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(CollectionUtil.buildMap("ss", "ß"), true, false);
+    // the long s folds to 's', like in String.equalsIgnoreCase() and StringUtil.foldCase()
+    assertEquals("maße", replacer.replace("maſSe"));
+    assertEquals(StringUtil.foldCase("maſSe"), StringUtil.foldCase("masse"));
+  }
+
+  @Test
+  public void testEmptyMap() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(Collections.emptyMap());
+    assertEquals("abc", replacer.replace("abc"));
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testEmptyPattern() {
+    new MultiPatternReplacer(CollectionUtil.buildMap("", "x"));
+  }
+
+  @Test
+  public void testConsistentWithNaiveReplacement() {
+    Random random = new Random(42);
+    for (int n = 0; n < 300; n++) {
+      Map<String, String> replacements = new LinkedHashMap<>();
+      int patternCount = 1 + random.nextInt(6);
+      for (int i = 0; i < patternCount; i++) {
+        replacements.putIfAbsent(randomText(random, 1 + random.nextInt(4)), "<" + i + ">");
+      }
+      MultiPatternReplacer replacer = new MultiPatternReplacer(replacements);
+      for (int i = 0; i < 20; i++) {
+        String text = randomText(random, random.nextInt(30));
+        assertEquals(replacements + " " + text, naiveReplace(text, replacements), replacer.replace(text));
+      }
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static String randomText(Random random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(3));
+    }
+    return new String(chars);
+  }
+
+  /** Replaces the leftmost-longest matches by checking each pattern at each position. */
+  private static String naiveReplace(String text, Map<String, String> replacements) {
+    StringBuilder builder = new StringBuilder();
+    int i = 0;
+    while (i < text.length()) {
+      String match = null;
+      for (String pattern : replacements.keySet()) {
+        if (text.startsWith(pattern, i) && (match == null || pattern.length() > match.length())) {
+          match = pattern;
+        }
+      }
+      if (match != null) {
+        builder.append(replacements.get(match));
+        i += match.length();
+      } else {
+        builder.append(text.charAt(i++));
+      }
+    }
+    return builder.toString();
+  }
+
+}
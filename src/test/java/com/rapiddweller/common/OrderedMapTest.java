@@ -17,10 +17,17 @@
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
@@ -96,6 +103,99 @@ public void testRemoveAtEnd() {
     check(map, 1, 11, 2, 22);
   }
 
+  @Test
+  public void testRemoveAndReinsert() {
+    OrderedMap<Integer, Integer> map = createMap123();
+    map.remove(1);
+    map.put(1, 111);
+    check(map, 2, 22, 3, 33, 1, 111);
+    assertEquals(1, map.indexOfValue(33));
+  }
+
+  @Test
+  public void testRepeatedRemovalAtEnd() {
+    OrderedMap<Integer, Integer> map = new OrderedMap<>();
+    map.put(0, 0);
+    for (int i = 1; i < 10000; i++) {
+      map.put(i, i);
+      assertEquals(i, (int) map.remove(i));
+    }
+    check(map, 0, 0);
+  }
+
+  @Test
+  public void testNullKeyAndValue() {
+    OrderedMap<Integer, Integer> map = new OrderedMap<>();
+    map.put(null, 1);
+    map.put(2, null);
+    check(map, null, 1, 2, null);
+    assertEquals(1, (int) map.remove(null));
+    assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  public void testRandomOperations() {
+    Random random = new Random(7);
+    OrderedMap<Integer, Integer> map = new OrderedMap<>();
+    Map<Integer, Integer> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 20000; i++) {
+      Integer key = random.nextInt(500);
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(key), map.remove(key));
+      } else {
+        assertEquals(expected.put(key, i), map.put(key, i));
+      }
+      if (i % 1000 == 0) {
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+      }
+    }
+    assertEquals(expected.size(), map.size());
+    int index = 0;
+    for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), map.get(entry.getKey()));
+      assertEquals(entry.getValue(), map.valueAt(index++));
+    }
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    OrderedMap<Integer, Integer> map = createMap123();
+    map.remove(2);
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+      out.writeObject(map);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      OrderedMap<Integer, Integer> copy = (OrderedMap<Integer, Integer>) in.readObject();
+      check(copy, 1, 11, 3, 33);
+      assertEquals(map, copy);
+      copy.put(4, 44);
+      check(copy, 1, 11, 3, 33, 4, 44);
+    }
+  }
+
+  @Test
+  public void testReadAccessWithRemovedEntries() {
+    OrderedMap<Integer, Integer> map = new OrderedMap<>();
+    for (int i = 1; i <= 8; i++) {
+      map.put(i, i * 11);
+    }
+    map.remove(2);
+    OrderedMap<Integer, Integer> copy = new OrderedMap<>(map);
+    assertEquals(copy, map);
+    assertEquals(map, copy);
+    assertEquals(copy.hashCode(), map.hashCode());
+    assertEquals(33, (int) map.valueAt(1));
+    assertEquals(88, (int) map.valueAt(6));
+    assertEquals(2, map.indexOfValue(44));
+    assertEquals(Arrays.asList(11, 33, 44, 55, 66, 77, 88), map.values());
+    assertEquals(Arrays.asList(11, 33, 44, 55, 66, 77, 88), new ArrayList<>(map.internalValues()));
+    assertEquals(33, (int) map.internalValues().set(1, 333));
+    assertEquals(333, (int) map.get(3));
+  }
+
   @Test
   public void testPutAll() {
     OrderedMap<Integer, Integer> map = createMap123();
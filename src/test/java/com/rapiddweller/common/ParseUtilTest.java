@@ -23,9 +23,12 @@
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.text.ParsePosition;
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -365,4 +368,77 @@ private static void checkNonHexChars() {
       assertFalse(ParseUtil.isHex("gG!%-.".charAt(i)));
     }
   }
+
+  @Test
+  public void testParseIntRange() {
+    assertEquals(123, ParseUtil.parseInt("x123y", 1, 3));
+    assertEquals(-42, ParseUtil.parseInt("-42".toCharArray(), 0, 3));
+    assertEquals(7, ParseUtil.parseInt("a,+7,b".getBytes(StandardCharsets.US_ASCII), 2, 2));
+    assertEquals(Integer.MIN_VALUE, ParseUtil.parseInt("-2147483648", 0, 11));
+    assertEquals(Integer.MAX_VALUE, ParseUtil.parseInt("2147483647", 0, 10));
+    assertThrows(ParseException.class, () -> ParseUtil.parseInt("2147483648", 0, 10));
+    assertThrows(ParseException.class, () -> ParseUtil.parseInt("12a", 0, 3));
+    assertThrows(ParseException.class, () -> ParseUtil.parseInt(" 12", 0, 3));
+    assertThrows(ParseException.class, () -> ParseUtil.parseInt("-", 0, 1));
+    assertThrows(ParseException.class, () -> ParseUtil.parseInt("1", 0, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> ParseUtil.parseInt("12", 1, 2));
+  }
+
+  @Test
+  public void testParseLongRange() {
+    assertEquals(Long.MAX_VALUE, ParseUtil.parseLong("9223372036854775807", 0, 19));
+    assertEquals(Long.MIN_VALUE, ParseUtil.parseLong("-9223372036854775808".toCharArray(), 0, 20));
+    assertEquals(12345678901L, ParseUtil.parseLong("[12345678901]".getBytes(StandardCharsets.US_ASCII), 1, 11));
+    assertThrows(ParseException.class, () -> ParseUtil.parseLong("9223372036854775808", 0, 19));
+    assertThrows(ParseException.class, () -> ParseUtil.parseLong("-9223372036854775809", 0, 20));
+  }
+
+  @Test
+  public void testParseDoubleRange() {
+    assertEquals(1.5, ParseUtil.parseDouble("x1.5", 1, 3), 0.);
+    assertEquals(-0.001, ParseUtil.parseDouble("-0.001".toCharArray(), 0, 6), 0.);
+    assertEquals(12e3, ParseUtil.parseDouble(";12E3;".getBytes(StandardCharsets.US_ASCII), 1, 4), 0.);
+    assertEquals(0.5, ParseUtil.parseDouble(".5", 0, 2), 0.);
+    assertEquals(1., ParseUtil.parseDouble("1.", 0, 2), 0.);
+    assertEquals(Double.doubleToLongBits(-0.), Double.doubleToLongBits(ParseUtil.parseDouble("-0.0", 0, 4)));
+    assertEquals(Double.NaN, ParseUtil.parseDouble("NaN", 0, 3), 0.);
+    assertEquals(Double.NEGATIVE_INFINITY, ParseUtil.parseDouble("-Infinity", 0, 9), 0.);
+    assertThrows(ParseException.class, () -> ParseUtil.parseDouble("1.2.3", 0, 5));
+    assertThrows(ParseException.class, () -> ParseUtil.parseDouble("1e", 0, 2));
+    assertThrows(ParseException.class, () -> ParseUtil.parseDouble(".", 0, 1));
+    assertThrows(ParseException.class, () -> ParseUtil.parseDouble(" 1", 0, 2));
+    assertThrows(ParseException.class, () -> ParseUtil.parseDouble("", 0, 0));
+  }
+
+  @Test
+  public void testParseDoubleExactRounding() {
+    String[] texts = {
+        "0.1", "0.3", "3.141592653589793", "2.718281828459045", "123456789012345", "1234567890123456789",
+        "9007199254740993", "1e22", "1e23", "1.7976931348623157e308", "4.9e-324", "2.2250738585072014E-308",
+        "0.000000000000000000000001", "123.456e-10", "-98765.4321e5", "1.00000000000000000001"
+    };
+    for (String text : texts) {
+      assertEquals(text, Double.doubleToLongBits(Double.parseDouble(text)),
+          Double.doubleToLongBits(ParseUtil.parseDouble(text, 0, text.length())));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      String text = String.valueOf(random.nextInt(2000000) - 1000000) + '.' + random.nextInt(1000000);
+      assertEquals(text, Double.parseDouble(text), ParseUtil.parseDouble(text, 0, text.length()), 0.);
+    }
+  }
+
+  @Test
+  public void testParseBigDecimalRange() {
+    assertEquals(new BigDecimal("1.50"), ParseUtil.parseBigDecimal("x1.50", 1, 4));
+    assertEquals(new BigDecimal("-0.001"), ParseUtil.parseBigDecimal("-0.001".toCharArray(), 0, 6));
+    assertEquals(new BigDecimal("12E+3"), ParseUtil.parseBigDecimal(";12E+3;".getBytes(StandardCharsets.US_ASCII), 1, 5));
+    assertEquals(new BigDecimal("12345678901234567890.123"),
+        ParseUtil.parseBigDecimal("12345678901234567890.123", 0, 24));
+    assertEquals(new BigDecimal(".5"), ParseUtil.parseBigDecimal(".5", 0, 2));
+    assertThrows(ParseException.class, () -> ParseUtil.parseBigDecimal("1.2.3", 0, 5));
+    assertThrows(ParseException.class, () -> ParseUtil.parseBigDecimal("1e", 0, 2));
+    assertThrows(ParseException.class, () -> ParseUtil.parseBigDecimal("-", 0, 1));
+  }
+
 }
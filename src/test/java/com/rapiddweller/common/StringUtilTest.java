@@ -23,11 +23,15 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -118,6 +122,39 @@ public void testSplitAndTrim() {
   public void testSplit() {
     assertEquals(1, StringUtil.split("List", 'A').length);
     assertEquals(1, StringUtil.split("List", '*').length);
+    assertArrayEquals(new String[] {""}, StringUtil.split("", ','));
+    assertArrayEquals(new String[0], StringUtil.split(",,", ','));
+    assertArrayEquals(new String[] {"", "a", "", "b"}, StringUtil.split(",a,,b,,", ','));
+    assertArrayEquals(new String[] {"1", "2"}, StringUtil.split("1+2", '+'));
+  }
+
+  @Test
+  public void testSplit_consistentWithStringSplit() {
+    Random random = new Random(42);
+    char[] chars = { 'a', 'b', '.', '|', '*', '\\' };
+    for (char separator : chars) {
+      for (int i = 0; i < 500; i++) {
+        char[] text = new char[random.nextInt(8)];
+        for (int j = 0; j < text.length; j++) {
+          text[j] = chars[random.nextInt(chars.length)];
+        }
+        String s = new String(text);
+        assertArrayEquals(s, s.split(Pattern.quote(String.valueOf(separator))), StringUtil.split(s, separator));
+      }
+    }
+  }
+
+  @Test
+  public void testSplit_intoArray() {
+    String[] target = new String[3];
+    assertEquals(3, StringUtil.split("a,,c", ',', target));
+    assertArrayEquals(new String[] {"a", "", "c"}, target);
+    assertEquals(2, StringUtil.split(new StringBuilder("x,"), ',', target));
+    assertArrayEquals(new String[] {"x", "", "c"}, target);
+    assertEquals(4, StringUtil.split("1,2,3,4", ',', target));
+    assertArrayEquals(new String[] {"1", "2", "3"}, target);
+    assertEquals(1, StringUtil.split("", ',', target));
+    assertEquals("", target[0]);
   }
 
   @Test
@@ -622,6 +659,17 @@ public void testEqualsIgnoreCase() {
     assertTrue(StringUtil.equalsIgnoreCase(new String[] {null}, new String[] {null}));
   }
 
+  @Test
+  public void testFoldCase() {
+    assertNull(StringUtil.foldCase(null));
+    String folded = "abc_1";
+    assertSame(folded, StringUtil.foldCase(folded));
+    assertEquals("abc_1", StringUtil.foldCase("AbC_1"));
+    assertEquals(StringUtil.foldCase("straße"), StringUtil.foldCase("STRAßE"));
+    assertEquals(StringUtil.foldCase("ÄÖÜ"), StringUtil.foldCase("äöü"));
+    assertNotEquals(StringUtil.foldCase("a"), StringUtil.foldCase("b"));
+  }
+
   @Test
   public void testEqualsIgnoreCase2() {
     HashSet<String> set1 = new HashSet<>();
@@ -1002,6 +1050,8 @@ public void testReplace() {
     // test other caps
     Map<String, String> lcReplacements = CollectionUtil.buildMap("alice", "Annabell", "bob", "bertie", "charly", "Curt");
     assertEquals("Alice, bertie and Charly", StringUtil.replace(text, lcReplacements));
+    // test multiple occurrences
+    assertEquals("Annabell and Annabell", StringUtil.replace("Alice and Alice", replacements));
   }
 
   @Test
@@ -1016,6 +1066,8 @@ public void testReplaceIgnoreCase() {
     assertEquals("annabell, bertie and curt", StringUtil.replaceIgnoreCase(text.toLowerCase(), replacements, true));
     // test upper case
     assertEquals("ANNABELL, BERTIE AND CURT", StringUtil.replaceIgnoreCase(text.toUpperCase(), replacements, true));
+    // test multiple occurrences
+    assertEquals("bertie and bertie", StringUtil.replaceIgnoreCase("Bob and bob", replacements, true));
   }
 
   @Test(expected = IllegalArgumentError.class)
@@ -2,6 +2,10 @@
 
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -55,5 +59,29 @@ public void testToString3() {
     byteArrayBuilder.add((byte) 0);
     assertEquals("65, 0", byteArrayBuilder.toString());
   }
-}
 
+  @Test
+  public void testToByteBuffer() {
+    ByteArrayBuilder byteArrayBuilder = new ByteArrayBuilder();
+    byteArrayBuilder.add((byte) 65);
+    byteArrayBuilder.add((byte) 66);
+    ByteBuffer buffer = byteArrayBuilder.toByteBuffer();
+    assertEquals(2, buffer.remaining());
+    assertEquals(65, buffer.get());
+    assertEquals(66, buffer.get());
+    assertNull(byteArrayBuilder.buffer);
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    ByteArrayBuilder byteArrayBuilder = new ByteArrayBuilder();
+    byteArrayBuilder.add((byte) 65);
+    byteArrayBuilder.add((byte) 66);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byteArrayBuilder.writeTo(out);
+    assertEquals("AB", out.toString());
+    ByteBuffer buffer = ByteBuffer.allocate(3);
+    byteArrayBuilder.writeTo(buffer);
+    assertEquals(2, buffer.position());
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.array;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link ChunkedByteArrayBuilder}.
+ * Created: 18.10.2026 07:38:27
+ * @author Volker Bergmann
+ */
+public class ChunkedByteArrayBuilderTest {
+
+  @Test
+  public void testAddAndExport() throws IOException {
+    ChunkedByteArrayBuilder builder = new ChunkedByteArrayBuilder(8);
+    byte[] expected = new byte[100];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = (byte) i;
+    }
+    builder.add((byte) 0);
+    builder.addAll(expected, 1, 100);
+    assertEquals(100, builder.length());
+    assertEquals(99, builder.get(99));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    builder.writeTo(out);
+    assertArrayEquals(expected, out.toByteArray());
+    ByteBuffer buffer = ByteBuffer.allocate(100);
+    builder.writeTo(buffer);
+    assertArrayEquals(expected, buffer.array());
+    assertArrayEquals(expected, builder.toArray());
+  }
+
+  @Test
+  public void testToString() {
+    ChunkedByteArrayBuilder builder = new ChunkedByteArrayBuilder(2);
+    builder.add((byte) 65).add((byte) 0).add((byte) -1);
+    assertEquals("65, 0, -1", builder.toString());
+  }
+
+}
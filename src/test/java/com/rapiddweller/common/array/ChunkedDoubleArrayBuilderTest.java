@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.array;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link ChunkedDoubleArrayBuilder}.
+ * Created: 18.10.2026 07:34:52
+ * @author Volker Bergmann
+ */
+public class ChunkedDoubleArrayBuilderTest {
+
+  @Test
+  public void testAddAndExport() {
+    ChunkedDoubleArrayBuilder builder = new ChunkedDoubleArrayBuilder(4);
+    for (int i = 0; i < 9; i++) {
+      builder.add(i / 2.);
+    }
+    assertEquals(9, builder.length());
+    assertEquals(4., builder.get(8), 0);
+    assertEquals("0.0, 0.5, 1.0, 1.5, 2.0, 2.5, 3.0, 3.5, 4.0", builder.toString());
+    DoubleBuffer doubleBuffer = DoubleBuffer.allocate(9);
+    builder.writeTo(doubleBuffer);
+    assertEquals(3.5, doubleBuffer.get(7), 0);
+    ByteBuffer byteBuffer = ByteBuffer.allocateDirect(72);
+    builder.writeTo(byteBuffer);
+    assertEquals(72, byteBuffer.position());
+    assertEquals(2.5, byteBuffer.getDouble(40), 0);
+    double[] array = builder.toArray();
+    assertArrayEquals(doubleBuffer.array(), array, 0);
+  }
+
+  @Test
+  public void testPool() {
+    PrimitiveArrayPool pool = new PrimitiveArrayPool(4, 10);
+    ChunkedDoubleArrayBuilder builder1 = new ChunkedDoubleArrayBuilder(pool);
+    builder1.addAll(new double[] { 1, 2, 3, 4, 5 });
+    builder1.clear();
+    assertEquals(2, pool.pooledArrayCount());
+    // a second builder reuses the chunks
+    ChunkedDoubleArrayBuilder builder2 = new ChunkedDoubleArrayBuilder(pool);
+    builder2.addAll(new double[] { 6, 7 });
+    assertEquals(1, pool.pooledArrayCount());
+    assertArrayEquals(new double[] { 6, 7 }, builder2.toArray(), 0);
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.array;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link ChunkedIntArrayBuilder}.
+ * Created: 18.10.2026 07:24:36
+ * @author Volker Bergmann
+ */
+public class ChunkedIntArrayBuilderTest {
+
+  @Test
+  public void testAddAndGet() {
+    ChunkedIntArrayBuilder builder = new ChunkedIntArrayBuilder(4);
+    assertEquals(0, builder.length());
+    assertEquals(0, builder.toArray().length);
+    for (int i = 0; i < 10; i++) {
+      assertSame(builder, builder.add(i * 10));
+    }
+    assertEquals(10, builder.length());
+    assertEquals(90, builder.get(9));
+    builder.set(5, -1);
+    assertEquals(-1, builder.get(5));
+    assertEquals("0, 10, 20, 30, 40, -1, 60, 70, 80, 90", builder.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> builder.get(10));
+    assertArrayEquals(new int[] { 0, 10, 20, 30, 40, -1, 60, 70, 80, 90 }, builder.toArray());
+    // the builder is cleared by toArray() and can be reused
+    assertEquals(0, builder.length());
+    builder.add(7);
+    assertArrayEquals(new int[] { 7 }, builder.toArray());
+  }
+
+  @Test
+  public void testAddAll() {
+    ChunkedIntArrayBuilder builder = new ChunkedIntArrayBuilder(8);
+    int[] values = new int[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    builder.add(-1);
+    builder.addAll(values, 1, 100);
+    builder.addAll(new int[] { 100, 101 });
+    assertEquals(102, builder.length());
+    int[] result = builder.toArray();
+    assertEquals(-1, result[0]);
+    for (int i = 1; i < 102; i++) {
+      assertEquals(i, result[i]);
+    }
+  }
+
+  @Test
+  public void testForEach() {
+    ChunkedIntArrayBuilder builder = new ChunkedIntArrayBuilder(2);
+    builder.addAll(new int[] { 1, 2, 3, 4, 5 });
+    int[] sum = new int[1];
+    builder.forEach(value -> sum[0] += value);
+    assertEquals(15, sum[0]);
+  }
+
+  @Test
+  public void testWriteToBuffers() {
+    ChunkedIntArrayBuilder builder = new ChunkedIntArrayBuilder(2);
+    builder.addAll(new int[] { 1, 2, 3, 0x01020304, 5 });
+    IntBuffer intBuffer = IntBuffer.allocate(6);
+    intBuffer.put(9);
+    builder.writeTo(intBuffer);
+    assertArrayEquals(new int[] { 9, 1, 2, 3, 0x01020304, 5 }, intBuffer.array());
+    ByteBuffer byteBuffer = ByteBuffer.allocate(21).order(ByteOrder.LITTLE_ENDIAN);
+    byteBuffer.put((byte) 9);
+    builder.writeTo(byteBuffer);
+    assertEquals(21, byteBuffer.position());
+    assertEquals(0x01020304, byteBuffer.getInt(13));
+    assertEquals(4, byteBuffer.get(13));
+    assertThrows(BufferOverflowException.class, () -> builder.writeTo(IntBuffer.allocate(4)));
+  }
+
+  @Test
+  public void testPool() {
+    PrimitiveArrayPool pool = new PrimitiveArrayPool(4, 10);
+    ChunkedIntArrayBuilder builder = new ChunkedIntArrayBuilder(pool);
+    assertEquals(4, builder.getChunkSize());
+    builder.addAll(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+    assertEquals(0, pool.pooledArrayCount());
+    builder.toArray();
+    assertEquals(3, pool.pooledArrayCount());
+    builder.addAll(new int[] { 1, 2, 3, 4, 5 });
+    assertEquals(1, pool.pooledArrayCount());
+    builder.clear();
+    assertEquals(3, pool.pooledArrayCount());
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalChunkSize() {
+    new ChunkedIntArrayBuilder(100);
+  }
+
+}
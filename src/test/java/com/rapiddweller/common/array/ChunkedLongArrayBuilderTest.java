@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.array;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link ChunkedLongArrayBuilder}.
+ * Created: 18.10.2026 07:31:09
+ * @author Volker Bergmann
+ */
+public class ChunkedLongArrayBuilderTest {
+
+  @Test
+  public void testAddAndExport() {
+    ChunkedLongArrayBuilder builder = new ChunkedLongArrayBuilder(2);
+    builder.add(Long.MIN_VALUE).add(0);
+    builder.addAll(new long[] { 1, 2, Long.MAX_VALUE });
+    assertEquals(5, builder.length());
+    assertEquals(Long.MAX_VALUE, builder.get(4));
+    LongBuffer longBuffer = LongBuffer.allocate(5);
+    builder.writeTo(longBuffer);
+    assertArrayEquals(new long[] { Long.MIN_VALUE, 0, 1, 2, Long.MAX_VALUE }, longBuffer.array());
+    ByteBuffer byteBuffer = ByteBuffer.allocate(40);
+    builder.writeTo(byteBuffer);
+    assertEquals(40, byteBuffer.position());
+    assertEquals(Long.MIN_VALUE, byteBuffer.getLong(0));
+    assertEquals(2, byteBuffer.getLong(24));
+    long[] sum = new long[1];
+    builder.forEach(value -> sum[0] += value);
+    assertEquals(Long.MIN_VALUE + 3 + Long.MAX_VALUE, sum[0]);
+    assertArrayEquals(new long[] { Long.MIN_VALUE, 0, 1, 2, Long.MAX_VALUE }, builder.toArray());
+    assertEquals(0, builder.length());
+  }
+
+  @Test
+  public void testPool() {
+    PrimitiveArrayPool pool = new PrimitiveArrayPool(2, 1);
+    ChunkedLongArrayBuilder builder = new ChunkedLongArrayBuilder(pool);
+    builder.addAll(new long[] { 1, 2, 3 });
+    builder.clear();
+    // the pool keeps only one array
+    assertEquals(1, pool.pooledArrayCount());
+  }
+
+}
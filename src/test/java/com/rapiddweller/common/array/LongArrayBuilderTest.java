@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.array;
+
+import com.rapiddweller.common.exception.IllegalOperationError;
+import org.junit.Test;
+
+import java.nio.LongBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link LongArrayBuilder}.
+ * Created: 18.10.2026 07:42:14
+ * @author Volker Bergmann
+ */
+public class LongArrayBuilderTest {
+
+  @Test
+  public void testAdd() {
+    LongArrayBuilder builder = new LongArrayBuilder(0);
+    for (long i = 0; i < 25; i++) {
+      builder.add(i * 1000000000000L);
+    }
+    assertEquals(25, builder.length());
+    assertEquals(24000000000000L, builder.get(24));
+    assertThrows(IndexOutOfBoundsException.class, () -> builder.get(25));
+  }
+
+  @Test
+  public void testAddAll() {
+    LongArrayBuilder builder = new LongArrayBuilder(2);
+    builder.add(1);
+    builder.addAll(new long[] { 2, 3, 4, 5 });
+    builder.addAll(new long[] { 5, 6, 7 }, 1, 3);
+    assertArrayEquals(new long[] { 1, 2, 3, 4, 5, 6, 7 }, builder.toArray());
+  }
+
+  @Test
+  public void testSet() {
+    LongArrayBuilder builder = new LongArrayBuilder();
+    builder.add(1);
+    builder.set(0, 2);
+    builder.set(3, 42);
+    assertEquals("2, 0, 0, 42", builder.toString());
+  }
+
+  @Test
+  public void testWriteTo() {
+    LongArrayBuilder builder = new LongArrayBuilder();
+    builder.add(3).add(-4);
+    LongBuffer buffer = LongBuffer.allocate(2);
+    builder.writeTo(buffer);
+    assertArrayEquals(new long[] { 3, -4 }, buffer.array());
+  }
+
+  @Test
+  public void testReuseAfterToArray() {
+    LongArrayBuilder builder = new LongArrayBuilder();
+    builder.toArray();
+    assertThrows(IllegalOperationError.class, () -> builder.add(1));
+  }
+
+}
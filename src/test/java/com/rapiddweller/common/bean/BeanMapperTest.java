@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.converter.ConverterManager;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link BeanMapper}.
+ * Created: 17.10.2026 15:58:21
+ * @author Volker Bergmann
+ */
+public class BeanMapperTest {
+
+  @Test
+  public void testSameTypes() {
+    BeanMapper<Bean, IntBean> mapper = BeanMapper.of(Bean.class, IntBean.class);
+    assertSame(mapper, BeanMapper.of(Bean.class, IntBean.class));
+    assertArrayEquals(new String[] { "number", "text" }, mapper.getMappedPropertyNames());
+    IntBean target = mapper.map(new Bean(42, "Alice"));
+    assertEquals(42, target.getNumber());
+    assertEquals("Alice", target.getText());
+  }
+
+  @Test
+  public void testCacheInvalidation() {
+    BeanMapper<Bean, LongBean> mapper = BeanMapper.of(Bean.class, LongBean.class);
+    ConverterManager.getInstance().reset();
+    BeanMapper<Bean, LongBean> newMapper = BeanMapper.of(Bean.class, LongBean.class);
+    assertNotSame(mapper, newMapper);
+    assertEquals(42L, newMapper.map(new Bean(42, "Alice")).getNumber());
+    BeanMapper.clearCache();
+    assertNotSame(newMapper, BeanMapper.of(Bean.class, LongBean.class));
+  }
+
+  @Test
+  public void testCacheInvalidationByNewManager() {
+    BeanMapper<Bean, LongBean> mapper = BeanMapper.of(Bean.class, LongBean.class);
+    ConverterManager.removeInstance();
+    assertNotSame(mapper, BeanMapper.of(Bean.class, LongBean.class));
+    mapper = BeanMapper.of(Bean.class, LongBean.class);
+    ConverterManager.getInstance().reset();
+    assertNotSame(mapper, BeanMapper.of(Bean.class, LongBean.class));
+  }
+
+  @Test
+  public void testConversion() {
+    LongBean longBean = BeanMapper.of(Bean.class, LongBean.class).map(new Bean(42, "Alice"));
+    assertEquals(42L, longBean.getNumber());
+    StringBean stringBean = BeanMapper.of(Bean.class, StringBean.class).map(new Bean(42, "Alice"));
+    assertEquals("42", stringBean.getNumber());
+    Bean bean = new Bean(0, null);
+    BeanMapper.of(StringBean.class, Bean.class).copy(stringBean, bean);
+    assertEquals(42, bean.getNumber());
+  }
+
+  @Test
+  public void testNullValue() {
+    IntBean target = new IntBean();
+    target.setText("x");
+    BeanMapper.of(Bean.class, IntBean.class).copy(new Bean(1, null), target);
+    assertNull(target.getText());
+    assertNull(BeanMapper.of(Bean.class, IntBean.class).map(null));
+  }
+
+  @Test
+  public void testArrays() {
+    Bean[] sources = { new Bean(1, "A"), new Bean(2, "B") };
+    LongBean[] targets = BeanMapper.of(Bean.class, LongBean.class).mapAll(sources);
+    assertEquals(2, targets.length);
+    assertEquals(2L, targets[1].getNumber());
+    LongBean[] existing = { new LongBean(), new LongBean() };
+    BeanMapper.of(Bean.class, LongBean.class).copyAll(sources, existing);
+    assertEquals("B", existing[1].getText());
+  }
+
+  @Test
+  public void testParallelStream() {
+    BeanMapper<Bean, LongBean> mapper = BeanMapper.of(Bean.class, LongBean.class);
+    List<LongBean> result = mapper.mapAll(IntStream.range(0, 1000).parallel().mapToObj(i -> new Bean(i, "T" + i)))
+        .collect(Collectors.toList());
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals(i, result.get(i).getNumber());
+      assertEquals("T" + i, result.get(i).getText());
+    }
+    assertEquals(2, mapper.mapAll(Arrays.asList(new Bean(1, "A"), new Bean(2, "B"))).size());
+  }
+
+  @Test
+  public void testBeanUtilCopyPropertyValues() {
+    LongBean target = new LongBean();
+    BeanUtil.copyPropertyValues(new Bean(7, "Bob"), target);
+    assertEquals(7L, target.getNumber());
+    assertEquals("Bob", target.getText());
+  }
+
+
+  // test beans ------------------------------------------------------------------------------------------------------
+
+  public static class IntBean {
+    private int number;
+    private Object text;
+    public int getNumber() { return number; }
+    public void setNumber(int number) { this.number = number; }
+    public Object getText() { return text; }
+    public void setText(Object text) { this.text = text; }
+  }
+
+  public static class LongBean {
+    private long number;
+    private String text;
+    public long getNumber() { return number; }
+    public void setNumber(long number) { this.number = number; }
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+  }
+
+  public static class StringBean {
+    private String number;
+    public String getNumber() { return number; }
+    public void setNumber(String number) { this.number = number; }
+  }
+
+}
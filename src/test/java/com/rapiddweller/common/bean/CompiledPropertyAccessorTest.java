@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.exception.AccessFailed;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link CompiledPropertyAccessor}.
+ * Created: 17.10.2026 11:32:05
+ * @author Volker Bergmann
+ */
+public class CompiledPropertyAccessorTest {
+
+  @Test
+  public void testObjectProperty() {
+    CompiledPropertyAccessor<Bean> accessor = new CompiledPropertyAccessor<>(Bean.class, "text", true);
+    assertEquals("text", accessor.getPropertyName());
+    assertEquals(String.class, accessor.getValueType());
+    assertEquals("Alice", accessor.getValue(new Bean(1, "Alice")));
+    assertNull(accessor.getValue(new Bean(1, null)));
+  }
+
+  @Test
+  public void testIntProperty() {
+    CompiledPropertyAccessor<Bean> accessor = new CompiledPropertyAccessor<>(Bean.class, "number", true);
+    assertEquals(int.class, accessor.getValueType());
+    Bean bean = new Bean(42, "Alice");
+    assertEquals(42, accessor.getValue(bean));
+    assertEquals(42, accessor.getInt(bean));
+    assertEquals(42L, accessor.getLong(bean));
+    assertEquals(42., accessor.getDouble(bean), 0.);
+  }
+
+  @Test
+  public void testNavigatedProperty() {
+    ABean a = new ABean();
+    a.b = new BBean();
+    a.b.c = new CBean();
+    a.b.c.name = "cName";
+    assertEquals("cName", PropertyAccessorFactory.getCompiledAccessor(ABean.class, "b.c.name", true).getValue(a));
+    assertNull(PropertyAccessorFactory.getCompiledAccessor(ABean.class, "b.c.doesntExist", false).getValue(a));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testMissingPropertyStrict() {
+    new CompiledPropertyAccessor<>(Bean.class, "doesntExist", true);
+  }
+
+  @Test
+  public void testMissingPropertyNonStrict() {
+    CompiledPropertyAccessor<Bean> accessor = new CompiledPropertyAccessor<>(Bean.class, "doesntExist", false);
+    assertNull(accessor.getValue(new Bean(1, "Alice")));
+    assertNull(accessor.getValue(null));
+  }
+
+  @Test(expected = AccessFailed.class)
+  public void testNullBeanStrict() {
+    new CompiledPropertyAccessor<>(Bean.class, "number", true).getInt(null);
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link CompiledPropertyMutator}.
+ * Created: 17.10.2026 11:47:51
+ * @author Volker Bergmann
+ */
+public class CompiledPropertyMutatorTest {
+
+  @Test
+  public void testObjectProperty() {
+    CompiledPropertyMutator mutator = new CompiledPropertyMutator(ABean.class, "name", true, false);
+    ABean a = new ABean();
+    mutator.setValue(a, "aName");
+    assertEquals("aName", a.name);
+    mutator.setValue(a, null);
+    assertNull(a.name);
+  }
+
+  @Test
+  public void testIntProperty() {
+    CompiledPropertyMutator mutator = new CompiledPropertyMutator(Bean.class, "number", true, false);
+    assertEquals(int.class, mutator.getPropertyType());
+    Bean bean = new Bean(0, null);
+    mutator.setInt(bean, 42);
+    assertEquals(42, bean.getNumber());
+    mutator.setValue(bean, 43);
+    assertEquals(43, bean.getNumber());
+  }
+
+  @Test
+  public void testAutoConvert() {
+    CompiledPropertyMutator mutator = new CompiledPropertyMutator(Bean.class, "number", true, true);
+    Bean bean = new Bean(0, null);
+    mutator.setValue(bean, "42");
+    assertEquals(42, bean.getNumber());
+    mutator.setDouble(bean, 43.);
+    assertEquals(43, bean.getNumber());
+  }
+
+  @Test
+  public void testNavigatedProperty() {
+    ABean a = new ABean();
+    a.b = new BBean();
+    PropertyMutatorFactory.getCompiledPropertyMutator(ABean.class, "b.name", true, false).setValue(a, "bName");
+    assertEquals("bName", a.b.name);
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testMissingPropertyRequired() {
+    new CompiledPropertyMutator(Bean.class, "doesntExist", true, false);
+  }
+
+  @Test
+  public void testMissingPropertyNotRequired() {
+    CompiledPropertyMutator mutator = new CompiledPropertyMutator(Bean.class, "doesntExist", false, false);
+    mutator.setValue(new Bean(1, "Alice"), "x");
+    mutator.setValue(null, "x");
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNullBeanRequired() {
+    new CompiledPropertyMutator(Bean.class, "number", true, false).setInt(null, 1);
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.bean;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link PropertyTable}.
+ * Created: 17.10.2026 14:02:37
+ * @author Volker Bergmann
+ */
+public class PropertyTableTest {
+
+  @Test
+  public void testLocalProperty() {
+    PropertyTable table = PropertyTable.of(Bean.class);
+    assertSame(table, PropertyTable.of(Bean.class));
+    PropertyTable.Property property = table.getProperty("number");
+    assertSame(property, table.getProperty("number"));
+    assertEquals(int.class, property.getDescriptor().getPropertyType());
+    Bean bean = new Bean(1, "Alice");
+    property.setValue(bean, 42);
+    assertEquals(42, property.getValue(bean));
+    assertNull(table.getProperty("doesntExist"));
+  }
+
+  @Test
+  public void testNavigatedProperty() {
+    PropertyTable table = PropertyTable.of(ABean.class);
+    PropertyTable.Property property = table.getProperty("b.c.name");
+    assertNotNull(property);
+    assertSame(property, table.getProperty("b.c.name"));
+    assertEquals(CBean.class, property.getDescriptor().getReadMethod().getDeclaringClass());
+    ABean a = new ABean();
+    a.b = new BBean();
+    a.b.c = new CBean();
+    property.setValue(a, "cName");
+    assertEquals("cName", a.b.c.name);
+    assertEquals("cName", property.getValue(a));
+    assertNull(table.getProperty("b.doesntExist"));
+    assertNull(table.getProperty("b.doesntExist"));
+  }
+
+  @Test
+  public void testPropertyOrder() {
+    PropertyTable table = PropertyTable.of(Bean.class);
+    assertEquals(3, table.size());
+    for (int i = 0; i < table.size(); i++) {
+      assertEquals(table.getDescriptors()[i].getName(), table.getProperty(i).getName());
+    }
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        Bean bean = new Bean(i, null);
+        futures.add(executor.submit(() -> PropertyTable.of(Bean.class).getProperty("number").getValue(bean)));
+      }
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, futures.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
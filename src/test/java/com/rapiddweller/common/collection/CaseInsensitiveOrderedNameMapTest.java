@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CaseInsensitiveOrderedNameMap}.
+ * Created: 17.10.2026 23:58:14
+ * @author Volker Bergmann
+ */
+public class CaseInsensitiveOrderedNameMapTest {
+
+  @Test
+  public void testLookup() {
+    CaseInsensitiveOrderedNameMap<Integer> map = new CaseInsensitiveOrderedNameMap<>();
+    map.put("Name", 1);
+    map.put("AGE", 2);
+    assertTrue(map.containsKey("name"));
+    assertTrue(map.containsKey("Age"));
+    assertFalse(map.containsKey("nam"));
+    assertEquals(1, (int) map.get("NAME"));
+    assertEquals(2, (int) map.get("age"));
+    assertNull(map.get("other"));
+    assertEquals(new MapEntry<>("AGE", 2), map.getEntry("aGe"));
+    assertNull(map.getEntry("other"));
+    assertEquals(List.of("Name", "AGE"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test
+  public void testExactMatchFirst() {
+    CaseInsensitiveOrderedNameMap<Integer> map = new CaseInsensitiveOrderedNameMap<>();
+    map.put("ID", 1);
+    map.put("id", 2);
+    assertEquals(2, map.size());
+    assertEquals(1, (int) map.get("ID"));
+    assertEquals(2, (int) map.get("id"));
+    assertEquals(1, (int) map.get("Id"));
+    assertEquals(1, (int) map.remove("iD"));
+    assertEquals(2, (int) map.get("Id"));
+    assertEquals(2, (int) map.remove("ID"));
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey("id"));
+  }
+
+  @Test
+  public void testNullKeyAndValue() {
+    CaseInsensitiveOrderedNameMap<Integer> map = new CaseInsensitiveOrderedNameMap<>();
+    map.put(null, 1);
+    map.put("x", null);
+    assertTrue(map.containsKey(null));
+    assertEquals(1, (int) map.get(null));
+    assertTrue(map.containsKey("X"));
+    assertNull(map.get("X"));
+    assertEquals(new MapEntry<>("x", null), map.getEntry("X"));
+  }
+
+  @Test
+  public void testCopyAndClear() {
+    CaseInsensitiveOrderedNameMap<Integer> map = new CaseInsensitiveOrderedNameMap<>(Map.of("A", 1));
+    assertEquals(1, (int) map.get("a"));
+    map.clear();
+    assertFalse(map.containsKey("a"));
+    assertNull(map.get("a"));
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ConcurrentDoubleCounter}.
+ * Created: 18.10.2026 01:46:19
+ * @author Volker Bergmann
+ */
+public class ConcurrentDoubleCounterTest {
+
+  @Test
+  public void testKeyMapping() {
+    double[] values = { Double.NEGATIVE_INFINITY, -1e300, -1.5, -0.0, 0.0, Double.MIN_VALUE, 2.5, Double.POSITIVE_INFINITY };
+    for (int i = 0; i < values.length; i++) {
+      long key = ConcurrentDoubleCounter.toKey(values[i]);
+      assertEquals(Double.doubleToLongBits(values[i]), Double.doubleToLongBits(ConcurrentDoubleCounter.toValue(key)));
+      if (i > 0) {
+        assertTrue(ConcurrentDoubleCounter.toKey(values[i - 1]) < key);
+      }
+    }
+  }
+
+  @Test
+  public void testCountAndSnapshot() {
+    ConcurrentDoubleCounter counter = new ConcurrentDoubleCounter();
+    counter.count(1.5);
+    counter.count(-3., 2);
+    counter.count(10.);
+    counter.count(1.5);
+    assertEquals(2, counter.getCount(1.5));
+    assertEquals(3, counter.getDistinctInstanceCount());
+    assertEquals(5, counter.totalCount());
+    ConcurrentDoubleCounter.Snapshot snapshot = counter.snapshot();
+    assertEquals("[-3.0:2, 1.5:2, 10.0:1]", snapshot.toString());
+    assertEquals(-3., snapshot.mostFrequentValue(), 0);
+    assertEquals(-3., snapshot.median(), 0);
+    assertEquals(1.5, snapshot.percentile(80), 0);
+    assertEquals(0.6, snapshot.quotaAtOrAboveValue(0), 1e-9);
+    assertEquals((-6 + 3 + 10) / 5., snapshot.average(), 1e-9);
+    assertEquals(5. / 3, snapshot.averageCount(), 1e-9);
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ProgrammerStateError;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ConcurrentLongCounter}.
+ * Created: 18.10.2026 01:38:52
+ * @author Volker Bergmann
+ */
+public class ConcurrentLongCounterTest {
+
+  @Test
+  public void testCountAndSnapshot() {
+    ConcurrentLongCounter counter = new ConcurrentLongCounter(4);
+    counter.count(5);
+    counter.count(-2, 3);
+    counter.count(Long.MAX_VALUE);
+    counter.haveValue(7);
+    counter.count(5);
+    counter.uncount(5);
+    assertEquals(1, counter.getCount(5));
+    assertEquals(3, counter.getCount(-2));
+    assertEquals(0, counter.getCount(7));
+    assertEquals(4, counter.getDistinctInstanceCount());
+    assertEquals(5, counter.totalCount());
+    ConcurrentLongCounter.Snapshot snapshot = counter.snapshot();
+    assertEquals("[-2:3, 5:1, 7:0, 9223372036854775807:1]", snapshot.toString());
+    assertEquals(-2L, (long) snapshot.mostFrequentValue());
+    assertEquals(1.25, snapshot.averageCount(), 1e-9);
+    assertEquals(0.2, snapshot.quotaAtOrAboveValue(6), 1e-9);
+    assertEquals(0.4, snapshot.quotaAtOrAboveValue(5), 1e-9);
+    assertEquals(-2L, (long) snapshot.median());
+    assertEquals(Long.MAX_VALUE, (long) snapshot.percentile(100));
+    assertEquals(3, snapshot.getCount(-2));
+    assertEquals(0, snapshot.getCount(3));
+    counter.clear();
+    assertEquals(0, counter.getDistinctInstanceCount());
+    assertNull(counter.snapshot().mostFrequentValue());
+    assertNull(counter.snapshot().median());
+  }
+
+  @Test
+  public void testAverage() {
+    ConcurrentLongCounter counter = new ConcurrentLongCounter();
+    counter.count(1, 3);
+    counter.count(5);
+    assertEquals(2., counter.snapshot().average(), 1e-9);
+    assertTrue(Double.isNaN(new ConcurrentLongCounter().snapshot().average()));
+  }
+
+  @Test(expected = ProgrammerStateError.class)
+  public void testUncountUnknown() {
+    new ConcurrentLongCounter().uncount(1);
+  }
+
+  @Test
+  public void testConcurrentCounting() throws Exception {
+    ConcurrentLongCounter counter = new ConcurrentLongCounter();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < 100000; i++) {
+          counter.count(i % 1000);
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    assertEquals(400000, counter.totalCount());
+    assertEquals(1000, counter.getDistinctInstanceCount());
+    ConcurrentLongCounter.Snapshot snapshot = counter.snapshot();
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, snapshot.valueAt(i));
+      assertEquals(400, snapshot.countAt(i));
+    }
+  }
+
+}
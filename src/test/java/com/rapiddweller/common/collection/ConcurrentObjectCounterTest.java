@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ProgrammerStateError;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ConcurrentObjectCounter}.
+ * Created: 18.10.2026 01:31:05
+ * @author Volker Bergmann
+ */
+public class ConcurrentObjectCounterTest {
+
+  @Test
+  public void testCountAndSnapshot() {
+    ConcurrentObjectCounter<String> counter = new ConcurrentObjectCounter<>();
+    counter.count("a");
+    counter.count("b", 3);
+    counter.haveValue("c");
+    counter.count("a");
+    counter.uncount("a");
+    assertEquals(1, counter.getCount("a"));
+    assertEquals(3, counter.getCount("b"));
+    assertEquals(0, counter.getCount("c"));
+    assertEquals(0, counter.getCount("d"));
+    assertEquals(3, counter.getDistinctInstanceCount());
+    assertEquals(4, counter.totalCount());
+    ObjectCounter<String> snapshot = counter.snapshot();
+    assertEquals("b", snapshot.mostFrequentValue());
+    assertEquals(4. / 3, snapshot.averageCount(), 1e-9);
+    assertEquals(4, snapshot.totalCount(), 0);
+    assertEquals(0.75, snapshot.quotaAtOrAboveValue("b", Comparator.naturalOrder()), 1e-9);
+    counter.clear();
+    assertEquals(0, counter.totalCount());
+  }
+
+  @Test(expected = ProgrammerStateError.class)
+  public void testUncountUnknown() {
+    new ConcurrentObjectCounter<String>().uncount("x");
+  }
+
+  @Test
+  public void testConcurrentCounting() throws Exception {
+    ConcurrentObjectCounter<Integer> counter = new ConcurrentObjectCounter<>();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < 10000; i++) {
+          counter.count(i % 10);
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    assertEquals(40000, counter.totalCount());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(4000, counter.getCount(i));
+    }
+    assertTrue(counter.snapshot().equalDistribution(0));
+  }
+
+}
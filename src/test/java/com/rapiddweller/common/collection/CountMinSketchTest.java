@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CountMinSketch}.
+ * Created: 18.10.2026 03:14:52
+ * @author Volker Bergmann
+ */
+public class CountMinSketchTest {
+
+  @Test
+  public void testDimensions() {
+    CountMinSketch<String> sketch = CountMinSketch.withErrorBounds(0.001, 0.99);
+    assertEquals(2719, sketch.getWidth());
+    assertEquals(5, sketch.getDepth());
+    assertTrue(sketch.getEpsilon() <= 0.001);
+    assertTrue(sketch.getConfidence() >= 0.99);
+  }
+
+  @Test
+  public void testExactForFewElements() {
+    CountMinSketch<String> sketch = new CountMinSketch<>(1000, 5);
+    sketch.count("a");
+    sketch.count("b", 3);
+    sketch.count("a");
+    assertEquals(2, sketch.estimateCount("a"));
+    assertEquals(3, sketch.estimateCount("b"));
+    assertEquals(0, sketch.estimateCount("c"));
+    assertEquals(5, sketch.totalCount());
+    sketch.clear();
+    assertEquals(0, sketch.estimateCount("b"));
+    assertEquals(0, sketch.totalCount());
+  }
+
+  @Test
+  public void testErrorBounds() {
+    CountMinSketch<Integer> sketch = CountMinSketch.withErrorBounds(0.001, 0.99);
+    long[] trueCounts = countZipfian(sketch, 10000, 200000, new Random(42));
+    long maxError = (long) (sketch.getEpsilon() * sketch.totalCount());
+    int violations = 0;
+    for (int i = 0; i < trueCounts.length; i++) {
+      long estimate = sketch.estimateCount(i);
+      assertTrue(estimate >= trueCounts[i]);
+      if (estimate - trueCounts[i] > maxError) {
+        violations++;
+      }
+    }
+    // the error bound may be exceeded with a probability of 1%
+    assertTrue("Too many violations: " + violations, violations <= trueCounts.length / 100);
+  }
+
+  @Test
+  public void testMerge() {
+    CountMinSketch<Integer> sketch1 = new CountMinSketch<>(2000, 5);
+    CountMinSketch<Integer> sketch2 = new CountMinSketch<>(2000, 5);
+    long[] counts1 = countZipfian(sketch1, 1000, 50000, new Random(1));
+    long[] counts2 = countZipfian(sketch2, 1000, 50000, new Random(2));
+    sketch1.merge(sketch2);
+    assertEquals(100000, sketch1.totalCount());
+    long maxError = (long) (sketch1.getEpsilon() * sketch1.totalCount());
+    for (int i = 0; i < counts1.length; i++) {
+      long trueCount = counts1[i] + counts2[i];
+      long estimate = sketch1.estimateCount(i);
+      assertTrue(estimate >= trueCount);
+      assertTrue(estimate - trueCount <= 2 * maxError);
+    }
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testMergeDifferentDimensions() {
+    new CountMinSketch<String>(100, 3).merge(new CountMinSketch<>(100, 4));
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalWidth() {
+    new CountMinSketch<String>(0, 3);
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  /** Counts random integers from 0 to range - 1 where small numbers are much more frequent than big ones. */
+  static long[] countZipfian(CountMinSketch<Integer> sketch, int range, int n, Random random) {
+    long[] trueCounts = new long[range];
+    for (int i = 0; i < n; i++) {
+      int value = zipfian(range, random);
+      sketch.count(value);
+      trueCounts[value]++;
+    }
+    return trueCounts;
+  }
+
+  static int zipfian(int range, Random random) {
+    return (int) Math.min(range - 1, Math.floor(Math.pow(range + 1, random.nextDouble())) - 1);
+  }
+
+}
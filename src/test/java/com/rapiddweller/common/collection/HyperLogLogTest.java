@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link HyperLogLog} estimator.
+ * Created: 18.10.2026 03:41:16
+ * @author Volker Bergmann
+ */
+public class HyperLogLogTest {
+
+  @Test
+  public void testEmpty() {
+    assertEquals(0, new HyperLogLog().estimate());
+  }
+
+  @Test
+  public void testSmallCardinalities() {
+    HyperLogLog hll = new HyperLogLog();
+    for (int i = 0; i < 100; i++) {
+      hll.add("value" + i);
+      hll.add("value" + i);
+    }
+    // linear counting is nearly exact for cardinalities far below the number of registers
+    assertEquals(100, hll.estimate(), 3);
+  }
+
+  @Test
+  public void testErrorBounds() {
+    for (int precision : new int[] { 10, 12, 14 }) {
+      HyperLogLog hll = new HyperLogLog(precision);
+      double maxError = 3 * hll.getStandardError();
+      for (long n = 1; n <= 1000000; n++) {
+        hll.add(n);
+        if (n == 1000 || n == 10000 || n == 100000 || n == 1000000) {
+          double error = Math.abs(hll.estimate() - n) / (double) n;
+          assertTrue("precision " + precision + ", n=" + n + ", error " + error, error <= maxError);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testObjects() {
+    HyperLogLog hll = new HyperLogLog(14);
+    for (int i = 0; i < 50000; i++) {
+      hll.add("object" + i);
+    }
+    assertEquals(50000, hll.estimate(), 50000 * 3 * hll.getStandardError());
+  }
+
+  @Test
+  public void testMerge() {
+    HyperLogLog hll1 = new HyperLogLog();
+    HyperLogLog hll2 = new HyperLogLog();
+    for (long i = 0; i < 60000; i++) {
+      hll1.add(i);
+    }
+    for (long i = 40000; i < 100000; i++) {
+      hll2.add(i);
+    }
+    hll1.merge(hll2);
+    assertEquals(100000, hll1.estimate(), 100000 * 3 * hll1.getStandardError());
+    hll1.clear();
+    assertEquals(0, hll1.estimate());
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testMergeDifferentPrecision() {
+    new HyperLogLog(10).merge(new HyperLogLog(11));
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalPrecision() {
+    new HyperLogLog(3);
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MpscRingBuffer}.
+ * Created: 18.10.2026 05:19:58
+ * @author Volker Bergmann
+ */
+public class MpscRingBufferTest {
+
+  @Test
+  public void testOfferAndPoll() {
+    MpscRingBuffer<String> buffer = new MpscRingBuffer<>(2);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+    assertTrue(buffer.offer("a"));
+    assertTrue(buffer.offer("b"));
+    assertFalse(buffer.offer("c"));
+    assertEquals(2, buffer.size());
+    assertEquals("a", buffer.poll());
+    assertTrue(buffer.offer("c"));
+    assertEquals("b", buffer.poll());
+    assertEquals("c", buffer.poll());
+    assertNull(buffer.poll());
+  }
+
+  @Test
+  public void testDrain() {
+    MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      buffer.offer(i);
+    }
+    List<Integer> target = new ArrayList<>();
+    assertEquals(3, buffer.drainTo(target, 3));
+    for (int i = 4; i < 7; i++) {
+      assertTrue(buffer.offer(i));
+    }
+    assertFalse(buffer.offer(7));
+    assertEquals(4, buffer.drain(target::add));
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), target);
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNull() {
+    new MpscRingBuffer<String>(2).offer(null);
+  }
+
+  @Test
+  public void testConcurrentProducers() throws InterruptedException {
+    for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+      if (waitStrategy == WaitStrategy.SPIN && Runtime.getRuntime().availableProcessors() == 1) {
+        continue; // spinning threads would have to wait for the end of each other's time slices
+      }
+      checkProducers(new MpscRingBuffer<>(128, waitStrategy), 4, 10000);
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  /** Lets each producer add its id and a sequence number and checks that each producer's elements
+   *  arrive completely and in order. */
+  private static void checkProducers(MpscRingBuffer<long[]> buffer, int producerCount, int n)
+      throws InterruptedException {
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread[] producers = new Thread[producerCount];
+    for (int p = 0; p < producerCount; p++) {
+      long id = p;
+      producers[p] = new Thread(() -> {
+        try {
+          for (int i = 0; i < n; i++) {
+            buffer.put(new long[] { id, i });
+          }
+        } catch (Throwable t) {
+          error.set(t);
+        }
+      });
+      producers[p].start();
+    }
+    long[] expected = new long[producerCount];
+    int received = 0;
+    while (received < producerCount * n) {
+      received += buffer.drainWaiting(element -> assertEquals(expected[(int) element[0]]++, element[1]), 32);
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    assertNull(error.get());
+    for (long count : expected) {
+      assertEquals(n, count);
+    }
+    assertNull(buffer.poll());
+  }
+
+}
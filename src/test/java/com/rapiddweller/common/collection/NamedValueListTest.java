@@ -18,6 +18,7 @@
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -62,6 +63,22 @@ public void testCaseInsensitiveList() {
     assertTrue(index == 11 || index == 1);
   }
 
+  @Test
+  public void testCaseInsensitiveLookup() {
+    NamedValueList<Integer> list = NamedValueList.createCaseInsensitiveList();
+    for (int i = 0; i < 100; i++) {
+      list.add("Column" + i, i);
+    }
+    assertTrue(list.containsName("COLUMN42"));
+    assertFalse(list.containsName("COLUMN100"));
+    assertEquals(42, list.someIndexOfName("column42"));
+    assertEquals(-1, list.someIndexOfName("column100"));
+    assertEquals(42, list.someValueOfName("cOLUMN42").intValue());
+    list.clear();
+    assertFalse(list.containsName("column42"));
+    assertEquals(-1, list.someIndexOfName("column42"));
+  }
+
   @Test
   public void testCaseSensitiveList() {
     NamedValueList<Integer> list = NamedValueList.createCaseSensitiveList();
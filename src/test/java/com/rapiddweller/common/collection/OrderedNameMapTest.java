@@ -17,6 +17,14 @@
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -70,4 +78,41 @@ public void testCaseIgnorant() {
     assertEquals(1, (int) map.remove("a"));
   }
 
+
+  @Test
+  public void testSerialization() throws Exception {
+    CaseSensitiveOrderedNameMap<Integer> sensitive = roundTrip(populate(new CaseSensitiveOrderedNameMap<>()));
+    assertEquals(List.of("Name", "Age", "City"), List.copyOf(sensitive.keySet()));
+    assertEquals(2, (int) sensitive.get("Age"));
+    assertNull(sensitive.get("age"));
+    CaseInsensitiveOrderedNameMap<Integer> insensitive = roundTrip(populate(new CaseInsensitiveOrderedNameMap<>()));
+    assertEquals(List.of("Name", "Age", "City"), List.copyOf(insensitive.keySet()));
+    assertEquals(2, (int) insensitive.get("AGE"));
+    insensitive.put("Zip", 4);
+    assertEquals(4, (int) insensitive.get("zip"));
+    CaseIgnorantOrderedNameMap<Integer> ignorant = roundTrip(populate(new CaseIgnorantOrderedNameMap<>()));
+    assertEquals(List.of("name", "age", "city"), List.copyOf(ignorant.keySet()));
+    assertEquals(3, (int) ignorant.get("CITY"));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static <M extends Map<String, Integer>> M populate(M map) {
+    map.put("Name", 1);
+    map.put("Age", 2);
+    map.put("City", 3);
+    return map;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T object) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+      out.writeObject(object);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
 }
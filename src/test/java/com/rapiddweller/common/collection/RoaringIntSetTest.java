@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.ParseException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link RoaringIntSet}.
+ * Created: 17.10.2026 23:15:42
+ * @author Volker Bergmann
+ */
+public class RoaringIntSetTest {
+
+  @Test
+  public void testAddContainsRemove() {
+    RoaringIntSet set = new RoaringIntSet();
+    assertTrue(set.isEmpty());
+    assertTrue(set.add(3));
+    assertFalse(set.add(3));
+    assertTrue(set.add(-5));
+    assertTrue(set.add(70000));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(3));
+    assertTrue(set.contains(-5));
+    assertTrue(set.contains(70000));
+    assertFalse(set.contains(4));
+    assertEquals("[-5, 3, 70000]", set.toString());
+    assertTrue(set.remove(-5));
+    assertFalse(set.remove(-5));
+    assertFalse(set.remove(12345678));
+    assertEquals(2, set.size());
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(3));
+  }
+
+  @Test
+  public void testSignedOrder() {
+    RoaringIntSet set = RoaringIntSet.of(Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1);
+    assertEquals(List.of(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE), toList(set));
+  }
+
+  @Test
+  public void testArrayToBitmapAndBack() {
+    RoaringIntSet set = new RoaringIntSet();
+    for (int i = 0; i < 20000; i += 2) {
+      set.add(i);
+    }
+    assertEquals(10000, set.size());
+    assertTrue(set.contains(19998));
+    assertFalse(set.contains(19999));
+    for (int i = 0; i < 20000; i += 4) {
+      set.remove(i);
+    }
+    assertEquals(5000, set.size());
+    assertTrue(set.contains(2));
+    assertFalse(set.contains(4));
+  }
+
+  @Test
+  public void testAddRange() {
+    RoaringIntSet set = new RoaringIntSet();
+    set.addRange(-10, 200000);
+    assertEquals(200011, set.size());
+    assertTrue(set.contains(-10));
+    assertTrue(set.contains(65536));
+    assertTrue(set.contains(200000));
+    assertFalse(set.contains(-11));
+    assertFalse(set.contains(200001));
+    set.add(300000);
+    set.addRange(199990, 300000);
+    assertEquals(300011, set.size());
+    assertTrue(set.remove(100000));
+    assertFalse(set.contains(100000));
+    assertTrue(set.contains(100001));
+    assertEquals(300010, set.size());
+  }
+
+  @Test
+  public void testRunContainerAdd() {
+    RoaringIntSet set = new RoaringIntSet();
+    set.addRange(10, 20);
+    set.addRange(30, 40);
+    set.add(21);
+    set.add(29);
+    set.add(25);
+    set.add(9);
+    assertEquals(26, set.size());
+    for (int i = 22; i <= 28; i++) {
+      set.add(i);
+    }
+    assertEquals(32, set.size());
+    assertEquals(rangeList(9, 40), toList(set));
+  }
+
+  @Test
+  public void testRunOptimize() {
+    RoaringIntSet set = new RoaringIntSet();
+    for (int i = 0; i < 100000; i++) {
+      set.add(i);
+    }
+    int before = set.serializedSize();
+    set.runOptimize();
+    assertEquals(before, set.serializedSize());
+    assertEquals(100000, set.size());
+    assertTrue(set.contains(99999));
+    assertTrue(set.serializedSize() < 50);
+    set.add(-1);
+    set.remove(50000);
+    assertEquals(100000, set.size());
+    assertFalse(set.contains(50000));
+  }
+
+  @Test
+  public void testUnionAndIntersect() {
+    RoaringIntSet a = RoaringIntSet.of(1, 2, 3, 100000);
+    a.addRange(200000, 210000);
+    RoaringIntSet b = RoaringIntSet.of(3, 4, 100000, -7);
+    b.addRange(205000, 300000);
+    RoaringIntSet union = RoaringIntSet.union(a, b);
+    assertEquals(10005 + 2 + 90000, union.size());
+    RoaringIntSet intersection = RoaringIntSet.intersect(a, b);
+    assertEquals(2 + 5001, intersection.size());
+    assertEquals(intersection.size(), RoaringIntSet.intersectionSize(a, b));
+    assertTrue(intersection.contains(3));
+    assertTrue(intersection.contains(205000));
+    assertFalse(intersection.contains(204999));
+    // the operands have not been changed
+    assertEquals(10005, a.size());
+    assertEquals(95005, b.size());
+    a.addAll(b);
+    assertEquals(union, a);
+    a.retainAll(intersection);
+    assertEquals(intersection, a);
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    RoaringIntSet set = RoaringIntSet.of(1, 2, 70000, 140000, 140001);
+    PrimitiveIterator.OfInt iterator = set.iterator();
+    List<Integer> visited = new ArrayList<>();
+    while (iterator.hasNext()) {
+      int value = iterator.nextInt();
+      visited.add(value);
+      if (value != 140001) {
+        iterator.remove();
+      }
+    }
+    assertEquals(List.of(1, 2, 70000, 140000, 140001), visited);
+    assertEquals("[140001]", set.toString());
+  }
+
+  @Test
+  public void testSerialization() {
+    RoaringIntSet set = RoaringIntSet.of(-1000, 5, 7);
+    for (int i = 100000; i < 120000; i += 3) {
+      set.add(i);
+    }
+    set.addRange(1000000, 1500000);
+    byte[] bytes = set.toByteArray();
+    assertEquals(set.serializedSize(), bytes.length);
+    RoaringIntSet copy = RoaringIntSet.fromByteArray(bytes);
+    assertEquals(set, copy);
+    assertEquals(set.hashCode(), copy.hashCode());
+    assertEquals(set.size(), copy.size());
+    copy.add(6);
+    assertNotEquals(set, copy);
+  }
+
+  @Test(expected = ParseException.class)
+  public void testDeserializeIllegalData() {
+    RoaringIntSet.fromByteArray(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+  }
+
+  @Test
+  public void testRandomOperations() {
+    Random random = new Random(42);
+    RoaringIntSet set = new RoaringIntSet();
+    TreeSet<Integer> expected = new TreeSet<>();
+    for (int i = 0; i < 50000; i++) {
+      int value = random.nextInt(300000) - 100000;
+      switch (random.nextInt(5)) {
+        case 0:
+          assertEquals(expected.remove(value), set.remove(value));
+          break;
+        case 1:
+          int max = value + random.nextInt(100);
+          set.addRange(value, max);
+          for (int j = value; j <= max; j++) {
+            expected.add(j);
+          }
+          break;
+        default:
+          assertEquals(expected.add(value), set.add(value));
+      }
+      if (i % 10000 == 0) {
+        set.runOptimize();
+      }
+    }
+    assertEquals(expected.size(), set.size());
+    assertEquals(new ArrayList<>(expected), toList(set));
+    assertEquals(set, RoaringIntSet.fromByteArray(set.toByteArray()));
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static List<Integer> toList(RoaringIntSet set) {
+    List<Integer> result = new ArrayList<>();
+    PrimitiveIterator.OfInt iterator = set.iterator();
+    while (iterator.hasNext()) {
+      result.add(iterator.nextInt());
+    }
+    return result;
+  }
+
+  private static List<Integer> rangeList(int min, int max) {
+    List<Integer> result = new ArrayList<>();
+    for (int i = min; i <= max; i++) {
+      result.add(i);
+    }
+    return result;
+  }
+
+}
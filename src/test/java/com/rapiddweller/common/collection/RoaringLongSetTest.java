@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link RoaringLongSet}.
+ * Created: 17.10.2026 23:31:08
+ * @author Volker Bergmann
+ */
+public class RoaringLongSetTest {
+
+  @Test
+  public void testAddContainsRemove() {
+    RoaringLongSet set = new RoaringLongSet();
+    assertTrue(set.isEmpty());
+    assertTrue(set.add(1L << 40));
+    assertFalse(set.add(1L << 40));
+    assertTrue(set.add(-3));
+    assertTrue(set.add(0xFFFFFFFFL));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(1L << 40));
+    assertTrue(set.contains(-3));
+    assertFalse(set.contains(3));
+    assertTrue(set.remove(-3));
+    assertFalse(set.remove(-3));
+    assertEquals(2, set.size());
+    set.clear();
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void testOrder() {
+    RoaringLongSet set = RoaringLongSet.of(Long.MAX_VALUE, 0xFFFFFFFFL, 0x80000000L, 0, -1, Long.MIN_VALUE, 1);
+    assertEquals(List.of(Long.MIN_VALUE, -1L, 0L, 1L, 0x80000000L, 0xFFFFFFFFL, Long.MAX_VALUE), toList(set));
+    assertEquals("[-9223372036854775808, -1, 0, 1, 2147483648, 4294967295, 9223372036854775807]", set.toString());
+  }
+
+  @Test
+  public void testAddRange() {
+    RoaringLongSet set = new RoaringLongSet();
+    set.addRange(0xFFFFFF00L, 0x1000000FFL);
+    assertEquals(512, set.size());
+    assertTrue(set.contains(0xFFFFFFFFL));
+    assertTrue(set.contains(0x100000000L));
+    assertFalse(set.contains(0x100000100L));
+    assertEquals(0xFFFFFF00L, set.iterator().nextLong());
+  }
+
+  @Test
+  public void testUnionAndIntersect() {
+    RoaringLongSet a = RoaringLongSet.of(1, 2, 1L << 33);
+    RoaringLongSet b = RoaringLongSet.of(2, 3, 1L << 34);
+    assertEquals(List.of(1L, 2L, 3L, 1L << 33, 1L << 34), toList(RoaringLongSet.union(a, b)));
+    assertEquals(List.of(2L), toList(RoaringLongSet.intersect(a, b)));
+    assertEquals(1, RoaringLongSet.intersectionSize(a, b));
+    a.addAll(b);
+    assertEquals(5, a.size());
+    a.retainAll(RoaringLongSet.of(3, 1L << 34, 7));
+    assertEquals(List.of(3L, 1L << 34), toList(a));
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    RoaringLongSet set = RoaringLongSet.of(1, 1L << 33, (1L << 33) + 1, 1L << 34);
+    PrimitiveIterator.OfLong iterator = set.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.nextLong() != 1L << 34) {
+        iterator.remove();
+      }
+    }
+    assertEquals(List.of(1L << 34), toList(set));
+  }
+
+  @Test
+  public void testSerialization() {
+    RoaringLongSet set = RoaringLongSet.of(-1, 5, 1L << 50);
+    set.addRange(1000000, 1100000);
+    byte[] bytes = set.toByteArray();
+    assertEquals(set.serializedSize(), bytes.length);
+    RoaringLongSet copy = RoaringLongSet.fromByteArray(bytes);
+    assertEquals(set, copy);
+    assertEquals(set.hashCode(), copy.hashCode());
+    assertEquals(100004, copy.size());
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static List<Long> toList(RoaringLongSet set) {
+    List<Long> result = new ArrayList<>();
+    PrimitiveIterator.OfLong iterator = set.iterator();
+    while (iterator.hasNext()) {
+      result.add(iterator.nextLong());
+    }
+    return result;
+  }
+
+}
@@ -4,6 +4,12 @@
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -195,5 +201,125 @@ public void testToString() {
     ArrayList<Object> baseList = new ArrayList<>();
     assertEquals("[]", (new SortedList<>(baseList, new NullSafeComparator<>())).toString());
   }
-}
 
+  @Test
+  public void testSortedInsertion() {
+    SortedList<Integer> list = new SortedList<>(new ArrayList<>(Arrays.asList(5, 1, 3)), Comparator.naturalOrder());
+    assertEquals(Arrays.asList(1, 3, 5), list);
+    list.add(4);
+    list.add(0, 0);
+    list.add(6);
+    assertEquals(Arrays.asList(0, 1, 3, 4, 5, 6), list);
+    assertEquals(Integer.valueOf(1), list.set(1, 7));
+    assertEquals(Arrays.asList(0, 3, 4, 5, 6, 7), list);
+    assertEquals(3, list.indexOf(5));
+    assertEquals(-1, list.indexOf(2));
+    assertTrue(list.contains(7));
+    assertFalse(list.contains("x"));
+  }
+
+  @Test
+  public void testNaturalOrderForNullComparator() {
+    SortedList<String> list = new SortedList<>(new ArrayList<>(Arrays.asList("c", "a")), null);
+    list.add("b");
+    assertEquals(Arrays.asList("a", "b", "c"), list);
+    assertEquals(1, list.indexOf("b"));
+  }
+
+  @Test
+  public void testGrowingBlocks() {
+    SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+    for (int i = 999; i >= 0; i--) {
+      list.add(i);
+    }
+    assertEquals(1000, list.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(Integer.valueOf(i), list.get(i));
+    }
+  }
+
+  @Test
+  public void testRangeViews() {
+    SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+    list.addAll(Arrays.asList(10, 20, 20, 30, 40));
+    assertEquals(Arrays.asList(20, 20, 30), list.range(15, 40));
+    assertEquals(Arrays.asList(10, 20, 20), list.headList(30));
+    assertEquals(Arrays.asList(30, 40), list.tailList(25));
+    assertTrue(list.range(41, 50).isEmpty());
+    assertTrue(list.range(30, 20).isEmpty());
+    assertEquals(1, list.lowerBound(20));
+    assertEquals(5, list.lowerBound(50));
+  }
+
+  @Test
+  public void testStableOrderOfEqualElements() {
+    SortedList<String> list = new SortedList<>(Comparator.comparing(String::length));
+    list.add("bb");
+    list.add("a");
+    list.add("cc");
+    list.add("d");
+    list.add("aa");
+    assertEquals(Arrays.asList("a", "d", "bb", "cc", "aa"), list);
+    assertEquals(4, list.indexOf("aa"));
+  }
+
+  @Test
+  public void testRandomOperations() {
+    Random random = new Random(42);
+    SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      int op = random.nextInt(10);
+      if (op < 6 || expected.isEmpty()) {
+        int value = random.nextInt(5000);
+        list.add(value);
+        int index = Collections.binarySearch(expected, value);
+        expected.add(index < 0 ? -index - 1 : index, value);
+      } else if (op < 8) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      } else if (op < 9) {
+        Integer value = random.nextInt(5000);
+        assertEquals(expected.remove(value), list.remove(value));
+      } else {
+        List<Integer> batch = new ArrayList<>();
+        for (int j = random.nextInt(500); j > 0; j--) {
+          batch.add(random.nextInt(5000));
+        }
+        list.addAll(batch);
+        expected.addAll(batch);
+        expected.sort(null);
+      }
+      assertEquals(expected.size(), list.size());
+      if (!expected.isEmpty()) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.get(index), list.get(index));
+      }
+    }
+    assertEquals(expected, list);
+    assertEquals(expected, Arrays.asList(list.toArray()));
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+    for (int i = 2000; i > 0; i--) {
+      list.add(i);
+    }
+    for (Iterator<Integer> iterator = list.iterator(); iterator.hasNext(); ) {
+      if (iterator.next() % 2 == 0) {
+        iterator.remove();
+      }
+    }
+    assertEquals(1000, list.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(2 * i + 1, (int) list.get(i));
+    }
+    list.removeAll(Arrays.asList(1, 3, 5));
+    assertEquals(7, (int) list.get(0));
+    list.clear();
+    assertTrue(list.isEmpty());
+    assertFalse(list.iterator().hasNext());
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SpaceSavingCounter}.
+ * Created: 18.10.2026 03:27:40
+ * @author Volker Bergmann
+ */
+public class SpaceSavingCounterTest {
+
+  @Test
+  public void testExactBelowCapacity() {
+    SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(4);
+    counter.count("a");
+    counter.count("b", 3);
+    counter.count("a");
+    counter.count("c");
+    assertEquals(2, counter.estimateCount("a"));
+    assertEquals(3, counter.estimateCount("b"));
+    assertEquals(0, counter.estimateCount("d"));
+    assertEquals(6, counter.totalCount());
+    List<SpaceSavingCounter.Entry<String>> top = counter.topK(2);
+    assertEquals(2, top.size());
+    assertEquals("b", top.get(0).getElement());
+    assertEquals("a", top.get(1).getElement());
+    assertEquals(0, top.get(0).getError());
+  }
+
+  @Test
+  public void testReplacement() {
+    SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(2);
+    counter.count("a", 5);
+    counter.count("b", 2);
+    counter.count("c");
+    assertFalse(counter.isTracked("b"));
+    assertTrue(counter.isTracked("c"));
+    assertEquals(3, counter.estimateCount("c"));
+    SpaceSavingCounter.Entry<String> entry = counter.topK(2).get(1);
+    assertEquals("c", entry.getElement());
+    assertEquals(2, entry.getError());
+    assertEquals(1, entry.getGuaranteedCount());
+    // untracked elements are estimated with the minimum count
+    assertEquals(3, counter.estimateCount("b"));
+  }
+
+  @Test
+  public void testErrorBounds() {
+    int capacity = 100;
+    SpaceSavingCounter<Integer> counter = new SpaceSavingCounter<>(capacity);
+    Map<Integer, Long> trueCounts = count(counter, 10000, 200000, new Random(42));
+    assertEquals(200000, counter.totalCount());
+    checkBounds(counter, trueCounts);
+    // the most frequent elements are found
+    List<SpaceSavingCounter.Entry<Integer>> top = counter.topK(3);
+    assertEquals(Arrays.asList(0, 1, 2),
+        Arrays.asList(top.get(0).getElement(), top.get(1).getElement(), top.get(2).getElement()));
+    for (SpaceSavingCounter.Entry<Integer> entry : counter.heavyHitters(0.02)) {
+      assertTrue(trueCounts.get(entry.getElement()) > 0.02 * counter.totalCount());
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    SpaceSavingCounter<Integer> counter1 = new SpaceSavingCounter<>(100);
+    SpaceSavingCounter<Integer> counter2 = new SpaceSavingCounter<>(100);
+    Map<Integer, Long> trueCounts = count(counter1, 5000, 50000, new Random(1));
+    count(counter2, 5000, 50000, new Random(2)).forEach((key, value) -> trueCounts.merge(key, value, Long::sum));
+    counter1.merge(counter2);
+    assertEquals(100000, counter1.totalCount());
+    assertTrue(counter1.entries().size() <= 100);
+    checkBounds(counter1, trueCounts);
+    assertEquals(0, (int) counter1.topK(1).get(0).getElement());
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalCapacity() {
+    new SpaceSavingCounter<String>(0);
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static Map<Integer, Long> count(SpaceSavingCounter<Integer> counter, int range, int n, Random random) {
+    Map<Integer, Long> trueCounts = new HashMap<>();
+    for (int i = 0; i < n; i++) {
+      int value = CountMinSketchTest.zipfian(range, random);
+      counter.count(value);
+      trueCounts.merge(value, 1L, Long::sum);
+    }
+    return trueCounts;
+  }
+
+  /** Checks that the true count of each element is between the guaranteed and the estimated count
+   *  and that the error is at most totalCount / capacity */
+  private static void checkBounds(SpaceSavingCounter<Integer> counter, Map<Integer, Long> trueCounts) {
+    long maxError = counter.totalCount() / counter.getCapacity();
+    for (SpaceSavingCounter.Entry<Integer> entry : counter.entries()) {
+      long trueCount = trueCounts.getOrDefault(entry.getElement(), 0L);
+      assertTrue(entry.getGuaranteedCount() <= trueCount);
+      assertTrue(entry.getCount() >= trueCount);
+      assertTrue(entry.getError() <= maxError);
+    }
+    for (Map.Entry<Integer, Long> entry : trueCounts.entrySet()) {
+      long estimate = counter.estimateCount(entry.getKey());
+      assertTrue(estimate >= entry.getValue());
+      assertTrue(estimate <= entry.getValue() + maxError);
+      if (entry.getValue() > maxError) {
+        assertTrue(counter.isTracked(entry.getKey()));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SpscRingBuffer}.
+ * Created: 18.10.2026 05:06:40
+ * @author Volker Bergmann
+ */
+public class SpscRingBufferTest {
+
+  @Test
+  public void testCapacity() {
+    assertEquals(1, new SpscRingBuffer<String>(1).getCapacity());
+    assertEquals(4, new SpscRingBuffer<String>(3).getCapacity());
+    assertEquals(8, new SpscRingBuffer<String>(8).getCapacity());
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalCapacity() {
+    new SpscRingBuffer<String>(0);
+  }
+
+  @Test
+  public void testOfferAndPoll() {
+    SpscRingBuffer<String> buffer = new SpscRingBuffer<>(2);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+    assertTrue(buffer.offer("a"));
+    assertTrue(buffer.offer("b"));
+    assertFalse(buffer.offer("c"));
+    assertEquals(2, buffer.size());
+    assertEquals("a", buffer.poll());
+    assertTrue(buffer.offer("c"));
+    assertEquals("b", buffer.poll());
+    assertEquals("c", buffer.poll());
+    assertNull(buffer.poll());
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  public void testDrain() {
+    SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+    for (int i = 0; i < 3; i++) {
+      buffer.offer(i);
+    }
+    List<Integer> target = new ArrayList<>();
+    assertEquals(2, buffer.drainTo(target, 2));
+    assertEquals(Arrays.asList(0, 1), target);
+    for (int i = 3; i < 6; i++) {
+      assertTrue(buffer.offer(i));
+    }
+    assertEquals(4, buffer.drain(target::add));
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), target);
+    assertEquals(0, buffer.drain(target::add));
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNull() {
+    new SpscRingBuffer<String>(2).offer(null);
+  }
+
+  @Test(expected = InterruptedException.class)
+  public void testTakeInterrupted() throws InterruptedException {
+    Thread.currentThread().interrupt();
+    new SpscRingBuffer<String>(2, WaitStrategy.PARK).take();
+  }
+
+  @Test
+  public void testConcurrentHandOver() throws InterruptedException {
+    for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+      if (waitStrategy == WaitStrategy.SPIN && Runtime.getRuntime().availableProcessors() == 1) {
+        continue; // spinning threads would have to wait for the end of each other's time slices
+      }
+      checkHandOver(new SpscRingBuffer<>(64, waitStrategy), 50000);
+    }
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static void checkHandOver(SpscRingBuffer<Integer> buffer, int n) throws InterruptedException {
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread producer = new Thread(() -> {
+      try {
+        for (int i = 0; i < n; i++) {
+          buffer.put(i);
+        }
+      } catch (Throwable t) {
+        error.set(t);
+      }
+    });
+    producer.start();
+    int[] expected = new int[1];
+    while (expected[0] < n) {
+      if (expected[0] % 2 == 0) {
+        assertEquals(expected[0]++, (int) buffer.take());
+      } else {
+        buffer.drainWaiting(element -> assertEquals(expected[0]++, (int) element), 16);
+      }
+    }
+    producer.join();
+    assertNull(error.get());
+    assertTrue(buffer.isEmpty());
+  }
+
+}
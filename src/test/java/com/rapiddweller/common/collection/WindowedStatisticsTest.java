@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.common.collection;
+
+import com.rapiddweller.common.MathUtil;
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link WindowedStatistics}.
+ * Created: 18.10.2026 06:03:18
+ * @author Volker Bergmann
+ */
+public class WindowedStatisticsTest {
+
+  @Test
+  public void testEmpty() {
+    WindowedStatistics stats = new WindowedStatistics(3);
+    assertEquals(0, stats.size());
+    assertEquals(0, stats.sum(), 0);
+    assertTrue(Double.isNaN(stats.average()));
+    assertTrue(Double.isNaN(stats.variance()));
+    assertTrue(Double.isNaN(stats.min()));
+    assertTrue(Double.isNaN(stats.max()));
+    assertTrue(Double.isNaN(stats.median()));
+    assertTrue(Double.isNaN(stats.last()));
+  }
+
+  @Test
+  public void testWindow() {
+    WindowedStatistics stats = new WindowedStatistics(3);
+    stats.add(4);
+    stats.add(1);
+    assertFalse(stats.isFilled());
+    assertEquals(2, stats.size());
+    assertEquals(5, stats.sum(), 1e-12);
+    assertEquals(2.5, stats.average(), 1e-12);
+    assertEquals(2.25, stats.variance(), 1e-12);
+    assertEquals(1, stats.min(), 0);
+    assertEquals(4, stats.max(), 0);
+    stats.add(7);
+    stats.add(2);
+    // the window contains 1, 7, 2
+    assertTrue(stats.isFilled());
+    assertEquals(3, stats.size());
+    assertEquals(4, stats.getSampleCount());
+    assertEquals(10, stats.sum(), 1e-12);
+    assertEquals(MathUtil.variance(new double[] { 1, 7, 2 }), stats.variance(), 1e-12);
+    assertEquals(MathUtil.correctedStandardDeviation(new double[] { 1, 7, 2 }),
+        stats.correctedStandardDeviation(), 1e-12);
+    assertEquals(1, stats.min(), 0);
+    assertEquals(7, stats.max(), 0);
+    assertEquals(2, stats.last(), 0);
+    stats.add(3);
+    stats.add(3);
+    // the window contains 2, 3, 3
+    assertEquals(2, stats.min(), 0);
+    assertEquals(3, stats.max(), 0);
+    assertEquals(8, stats.sum(), 1e-12);
+  }
+
+  @Test
+  public void testSampleCountBeyondIntRange() throws Exception {
+    WindowedStatistics stats = new WindowedStatistics(4);
+    Field sequence = WindowedStatistics.class.getDeclaredField("sequence");
+    sequence.setAccessible(true);
+    sequence.setLong(stats, Integer.MAX_VALUE - 3L);
+    for (int i = 0; i <= 4; i++) {
+      stats.add(i);
+    }
+    // the window contains 1, 2, 3, 4
+    assertEquals(Integer.MAX_VALUE + 2L, stats.getSampleCount());
+    assertEquals(4, stats.size());
+    assertEquals(1, stats.min(), 0);
+    assertEquals(4, stats.max(), 0);
+    assertEquals(2.5, stats.average(), 1e-12);
+  }
+
+  @Test
+  public void testRandomAgainstFullScan() {
+    int capacity = 100;
+    WindowedStatistics stats = new WindowedStatistics(capacity);
+    DoubleRingBuffer reference = new DoubleRingBuffer(capacity);
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      // log-normal values similar to latencies, with some negative values and zeros
+      double value = (i % 50 == 0 ? 0 : Math.exp(random.nextGaussian() * 2 + 5));
+      if (i % 77 == 0) {
+        value = -value;
+      }
+      stats.add(value);
+      reference.add(value);
+      if (reference.isFilled()) {
+        assertEquals(reference.sum(), stats.sum(), 1e-9 * Math.abs(reference.sum()) + 1e-6);
+        assertEquals(reference.average(), stats.average(), 1e-9 * Math.abs(reference.average()) + 1e-6);
+        assertEquals(reference.variance(), stats.variance(), 1e-6 * reference.variance());
+        assertEquals(reference.min(), stats.min(), 0);
+        assertEquals(reference.max(), stats.max(), 0);
+        if (i % 10 == 0) {
+          checkPercentiles(stats, reference.getContent());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPercentileAccuracy() {
+    WindowedStatistics stats = new WindowedStatistics(1000, 0.001);
+    Random random = new Random(7);
+    for (int i = 0; i < 5000; i++) {
+      stats.add(random.nextDouble() * 1000);
+    }
+    double[] sorted = new double[1000];
+    int n = 0;
+    // rebuild the window contents from the same random sequence
+    random = new Random(7);
+    for (int i = 0; i < 5000; i++) {
+      double value = random.nextDouble() * 1000;
+      if (i >= 4000) {
+        sorted[n++] = value;
+      }
+    }
+    Arrays.sort(sorted);
+    for (int p = 0; p <= 100; p += 5) {
+      double expected = sorted[(int) (p / 100. * 999)];
+      assertEquals(expected, stats.percentile(p), expected * 0.001);
+    }
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNaN() {
+    new WindowedStatistics(3).add(Double.NaN);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalCapacity() {
+    new WindowedStatistics(0);
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static void checkPercentiles(WindowedStatistics stats, double[] content) {
+    double[] sorted = content.clone();
+    Arrays.sort(sorted);
+    for (int p : new int[] { 0, 10, 50, 90, 99, 100 }) {
+      double expected = sorted[(int) (p / 100. * (sorted.length - 1))];
+      double actual = stats.percentile(p);
+      assertEquals("percentile " + p, expected, actual, Math.abs(expected) * stats.getRelativeAccuracy());
+    }
+  }
+
+}
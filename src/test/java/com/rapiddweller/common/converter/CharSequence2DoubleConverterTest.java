@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.converter;
+
+import com.rapiddweller.common.ConversionException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link CharSequence2DoubleConverter}.
+ * Created: 17.10.2026 17:26:13
+ * @author Volker Bergmann
+ */
+public class CharSequence2DoubleConverterTest {
+
+  private final CharSequence2DoubleConverter converter = new CharSequence2DoubleConverter();
+
+  @Test
+  public void testConvert() {
+    assertNull(converter.convert(null));
+    assertNull(converter.convert(""));
+    assertEquals(Double.valueOf(1.5), converter.convert(" 1.5 "));
+    assertEquals(-2.5e3, converter.convertToDouble(new StringBuilder("-2.5e3")), 0.);
+  }
+
+  @Test
+  public void testRange() {
+    assertEquals(3.25, converter.convertToDouble("x;3.25;y", 2, 6), 0.);
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testIllegalNumber() {
+    converter.convertToDouble("x;y", 2, 3);
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.converter;
+
+import com.rapiddweller.common.ConversionException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link CharSequence2IntConverter}.
+ * Created: 17.10.2026 17:21:40
+ * @author Volker Bergmann
+ */
+public class CharSequence2IntConverterTest {
+
+  private final CharSequence2IntConverter converter = new CharSequence2IntConverter();
+
+  @Test
+  public void testConvert() {
+    assertNull(converter.convert(null));
+    assertNull(converter.convert(" "));
+    assertEquals(Integer.valueOf(42), converter.convert(" 42 "));
+    assertEquals(-7, converter.convertToInt(new StringBuilder("-7")));
+  }
+
+  @Test
+  public void testRange() {
+    String line = "abc,1234, -56 ,x";
+    assertEquals(1234, converter.convertToInt(line, 4, 8));
+    assertEquals(-56, converter.convertToInt(line, 9, 14));
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testIllegalNumber() {
+    converter.convertToInt("abc,x", 4, 5);
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testEmptyRange() {
+    converter.convertToInt("abc, ,", 4, 5);
+  }
+
+}
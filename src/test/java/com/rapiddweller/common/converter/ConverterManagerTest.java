@@ -31,17 +31,25 @@
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests the {@link ConverterManager}.
@@ -302,8 +310,102 @@ public void testString2UUID() {
     }
   }
 
+  // primitive conversion tests ------------------------------------------------------------------------------------
+
+  @Test
+  public void testToIntConverter() {
+    assertEquals(42, mgr.createToIntConverter(String.class).convertToInt("42"));
+    assertEquals(42, mgr.createToIntConverter(Double.class).convertToInt(42.3));
+    assertEquals(1, mgr.createToIntConverter(Boolean.class).convertToInt(true));
+  }
+
+  @Test
+  public void testToLongConverter() {
+    assertEquals(12345678901L, mgr.createToLongConverter(String.class).convertToLong("12345678901"));
+    assertEquals(42L, mgr.createToLongConverter(Integer.class).convertToLong(42));
+  }
+
+  @Test
+  public void testToDoubleConverter() {
+    assertEquals(1.5, mgr.createToDoubleConverter(String.class).convertToDouble("1.5"), 0.);
+    assertEquals(42., mgr.createToDoubleConverter(Integer.class).convertToDouble(42), 0.);
+  }
+
+  @Test
+  public void testToIntConverterSynchronizesUnsafeConverter() {
+    mgr.registerConverterClass(UnsafeLocale2IntegerConverter.class);
+    try {
+      assertEquals(2, mgr.createToIntConverter(Locale.class).convertToInt(Locale.GERMAN));
+    } finally {
+      mgr.reset();
+    }
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testToIntConverterNull() {
+    mgr.createToIntConverter(Integer.class).convertToInt(null);
+  }
+
+  // cache tests ---------------------------------------------------------------------------------------------------
+
+  @Test
+  public void testCachedFailure() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        mgr.createConverter(Locale.class, Thread.class);
+        fail(ConversionException.class.getSimpleName() + " expected");
+      } catch (ConversionException e) {
+        assertEquals("Cannot convert java.util.Locale to java.lang.Thread", e.getMessage());
+        if (i > 0) {
+          // the cached failure is reported as cause
+          assertNotNull(e.getCause());
+          assertEquals(e.getMessage(), e.getCause().getMessage());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentLookup() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        String text = String.valueOf(i);
+        futures.add(executor.submit(() -> AnyConverter.convert(text, Integer.class)));
+      }
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, futures.get(i).get().intValue());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSingletonAfterReset() {
+    ConverterManager manager = ConverterManager.getInstance();
+    assertSame(manager, ConverterManager.getInstance());
+    manager.reset();
+    assertEquals(Integer.valueOf(42), AnyConverter.convert("42", Integer.class));
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
+  /** Converts a Locale to the length of its language code and checks that it is called synchronized. */
+  public static class UnsafeLocale2IntegerConverter extends UnsafeConverter<Locale, Integer> {
+
+    public UnsafeLocale2IntegerConverter() {
+      super(Locale.class, Integer.class);
+    }
+
+    @Override
+    public Integer convert(Locale sourceValue) throws ConversionException {
+      assertTrue("converter is not synchronized", Thread.holdsLock(this));
+      return sourceValue.getLanguage().length();
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private <S, T> void check(T expected, S source, Class<T> targetType) {
     Converter<S, T> converter = mgr.createConverter((Class<S>) source.getClass(), targetType);
@@ -18,7 +18,9 @@
 import com.rapiddweller.common.LocaleUtil;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Locale;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -79,4 +81,27 @@ void checkConversions() {
     assertEquals("1.000,00", converter.convert(1000.));
   }
 
+  @Test
+  public void testFormatTo() {
+    NumberFormatter converter = new NumberFormatter("#,##0.0#");
+    StringBuilder builder = new StringBuilder();
+    converter.formatTo(1234567, builder).append('|');
+    converter.formatTo(-1234.567, builder).append('|');
+    converter.formatTo(null, builder).append('|');
+    converter.formatTo(new BigDecimal("0.125"), builder);
+    assertEquals("1,234,567.0|-1,234.57||0.12", builder.toString());
+  }
+
+  @Test
+  public void testFormatTo_consistentWithConvert() {
+    NumberFormatter converter = new NumberFormatter("#,##0.00");
+    converter.setDecimalSeparator(',');
+    converter.setGroupingSeparator('.');
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+      assertEquals(converter.convert(value), converter.formatTo(value, new StringBuilder()).toString());
+    }
+  }
+
 }
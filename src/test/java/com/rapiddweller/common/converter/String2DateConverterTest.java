@@ -18,9 +18,11 @@
 import com.rapiddweller.common.TimeUtil;
 import org.junit.Test;
 
+import java.sql.Timestamp;
 import java.util.Date;
 import java.util.Locale;
 
+import static com.rapiddweller.common.Patterns.DEFAULT_DATETIME_SECONDS_PATTERN;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -52,6 +54,23 @@ public void testStandardDates() {
     assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 123), convert("2007-09-06T13:28:56.123"));
   }
 
+  @Test
+  public void testStandardDatesWithSpaceAndPattern() {
+    assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 0), convert("2007-09-06 13:28:56"));
+    String2DateConverter<Date> converter = new String2DateConverter<>(DEFAULT_DATETIME_SECONDS_PATTERN);
+    assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 0), converter.convert("2007-09-06T13:28:56"));
+    // lenient fallback for invalid field values
+    assertEquals(TimeUtil.date(2007, 9, 1), convert("2007-09-31"));
+  }
+
+  @Test
+  public void testTimestamp() {
+    String2DateConverter<Timestamp> converter = new String2DateConverter<>(null, Locale.US, Timestamp.class);
+    Timestamp timestamp = converter.convert("2007-09-06T13:28:56.123456789");
+    assertEquals(TimeUtil.date(2007, 8, 6, 13, 28, 56, 123).getTime(), timestamp.getTime());
+    assertEquals(123456789, timestamp.getNanos());
+  }
+
   @Test
   public void testStrangeDates() {
     assertEquals(null, convert(null));
@@ -16,11 +16,16 @@
 package com.rapiddweller.common.converter;
 
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.common.Patterns;
 import com.rapiddweller.common.TimeUtil;
 import org.junit.Test;
 
 import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Random;
+import java.util.TimeZone;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -114,6 +119,29 @@ public void testSecondsFormat() {
     assertNotNull(new TimestampFormatter("yyyy-MM-dd HH:mm:ss").format(timestamp));
   }
 
+  @Test
+  public void testFormatTo() {
+    StringBuilder builder = new StringBuilder();
+    new TimestampFormatter(Patterns.DEFAULT_DATETIME_NANOS_PATTERN).formatTo(timestamp, builder).append('|');
+    new TimestampFormatter("yyyy-MM-dd HH:mm:ss.SSS").formatTo(timestamp, builder).append('|');
+    new TimestampFormatter("yyyy-MM-dd HH:mm:ss").formatTo(null, builder).append('|');
+    new TimestampFormatter("dd.MM.yyyy HH:mm:ss.SS").formatTo(timestamp, builder);
+    assertEquals("1971-02-03T13:14:15.123456789|1971-02-03 13:14:15.123||03.02.1971 13:14:15.12", builder.toString());
+  }
+
+  @Test
+  public void testFormatTo_consistentWithDateFormat() {
+    TimeUtil.runInTimeZone(TimeZone.getTimeZone("Europe/Berlin"), () -> {
+      TimestampFormatter formatter = new TimestampFormatter(Patterns.DEFAULT_DATETIME_SECONDS_PATTERN);
+      SimpleDateFormat format = new SimpleDateFormat(Patterns.DEFAULT_DATETIME_SECONDS_PATTERN);
+      Random random = new Random(42);
+      for (int i = 0; i < 1000; i++) {
+        Timestamp timestamp = new Timestamp(random.nextLong() % (200L * 365 * 86400000));
+        assertEquals(format.format(timestamp), formatter.formatTo(timestamp, new StringBuilder()).toString());
+      }
+    });
+  }
+
   @Test
   public void testNull() {
     assertNull(new TimestampFormatter().format(null));
@@ -20,10 +20,13 @@
 import com.rapiddweller.common.LocaleUtil;
 import org.junit.Test;
 
+import java.math.BigInteger;
+import java.sql.Timestamp;
 import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -86,6 +89,32 @@ void checkDecimalConversions() {
     assertEquals("1.000,50", converter.convert(1000.5));
   }
 
+  @Test
+  public void testFormatTo() {
+    ToStringConverter converter = new ToStringConverter("null");
+    StringBuilder builder = new StringBuilder();
+    converter.formatTo(null, builder).append('|');
+    converter.formatTo("text", builder).append('|');
+    converter.formatTo(-11L, builder).append('|');
+    converter.formatTo(new BigInteger("123456789012345678901234567890"), builder).append('|');
+    converter.formatTo(1000., builder).append('|');
+    converter.formatTo(1000.5, builder);
+    assertEquals("null|text|-11|123456789012345678901234567890|1000|1000.5", builder.toString());
+  }
+
+  @Test
+  public void testFormatTo_pattern() {
+    ToStringConverter converter = new ToStringConverter();
+    converter.setDecimalPattern("#,##0.00");
+    converter.setDecimalSeparator(',');
+    converter.setGroupingSeparator('.');
+    converter.setIntegralPattern("#,##0");
+    StringBuilder builder = new StringBuilder();
+    converter.formatTo(1000.5, builder).append('|');
+    converter.formatTo(1234567, builder);
+    assertEquals("1.000,50|" + converter.convert(1234567), builder.toString());
+  }
+
   @Test
   public void testConstructor() {
     ToStringConverter actualToStringConverter = new ToStringConverter();
@@ -158,4 +187,16 @@ public void testConvert2() throws ConversionException {
     toStringConverter.setStringQuote("String Quote");
     assertEquals("String QuotesourceString Quote", toStringConverter.convert("source"));
   }
+
+  @Test
+  public void testTimestampFormatterReuse() {
+    Timestamp timestamp = Timestamp.valueOf("2026-10-17 12:34:56.123456789");
+    ToStringConverter converter = new ToStringConverter();
+    assertEquals("2026-10-17T12:34:56.", converter.convert(timestamp));
+    assertSame(converter.timestampFormatter(), converter.timestampFormatter());
+    converter.setTimestampPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    assertEquals("2026-10-17 12:34:56.123", converter.convert(timestamp));
+    assertEquals("2026-10-17 12:34:56.123", converter.formatTo(timestamp, new StringBuilder()).toString());
+  }
+
 }
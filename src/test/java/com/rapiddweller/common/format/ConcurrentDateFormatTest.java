@@ -1,7 +1,13 @@
 package com.rapiddweller.common.format;
 
+import com.rapiddweller.common.TimeUtil;
 import org.junit.Test;
 
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 public class ConcurrentDateFormatTest {
@@ -11,5 +17,32 @@ public void testConstructor() {
     assertNull(actualConcurrentDateFormat.getCalendar());
     assertNull(actualConcurrentDateFormat.getNumberFormat());
   }
-}
 
+  @Test
+  public void testConcurrentUse() throws InterruptedException {
+    ConcurrentDateFormat format = new ConcurrentDateFormat("yyyy-MM-dd HH:mm:ss");
+    AtomicInteger errors = new AtomicInteger();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final int day = t + 1;
+      threads[t] = new Thread(() -> {
+        Date date = TimeUtil.date(2020, 0, day, 12, 30, 15, 0);
+        for (int i = 0; i < 2000; i++) {
+          try {
+            String text = format.format(date);
+            if (!text.equals("2020-01-0" + day + " 12:30:15") || !format.parse(text).equals(date)) {
+              errors.incrementAndGet();
+            }
+          } catch (ParseException e) {
+            errors.incrementAndGet();
+          }
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(0, errors.get());
+  }
+}
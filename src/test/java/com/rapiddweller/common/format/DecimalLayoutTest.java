@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link DecimalLayout}.
+ * Created: 18.10.2026 12:58:14
+ * @author Volker Bergmann
+ */
+public class DecimalLayoutTest {
+
+  @Test
+  public void testOf() {
+    checkLayout("0", false, 0, 0);
+    checkLayout("#,##0", true, 0, 0);
+    checkLayout("0.00", false, 2, 2);
+    checkLayout("0.#", false, 0, 1);
+    checkLayout("#,##0.0##", true, 1, 3);
+  }
+
+  @Test
+  public void testUnsupported() {
+    assertNull(DecimalLayout.of(null));
+    assertNull(DecimalLayout.of("#.##"));
+    assertNull(DecimalLayout.of("00"));
+    assertNull(DecimalLayout.of("0."));
+    assertNull(DecimalLayout.of("0.#0"));
+    assertNull(DecimalLayout.of("0.00%"));
+    assertNull(DecimalLayout.of("0.0E0"));
+    assertNull(DecimalLayout.of("#,###"));
+  }
+
+  @Test
+  public void testFormatTo() throws IOException {
+    DecimalLayout layout = DecimalLayout.of("#,##0.0#");
+    StringBuilder builder = new StringBuilder();
+    assertTrue(layout.formatTo(Integer.valueOf(1234567), ',', '.', builder));
+    assertTrue(layout.formatTo(Double.valueOf(1234.567), ',', '.', builder.append('|')));
+    assertTrue(layout.formatTo(Float.valueOf(-0.5f), ',', '.', builder.append('|')));
+    assertFalse(layout.formatTo(new BigDecimal("1.5"), ',', '.', builder.append('|')));
+    assertEquals("1.234.567,0|1.234,57|-0,5|", builder.toString());
+  }
+
+  private static void checkLayout(String pattern, boolean grouping, int minFractionDigits, int maxFractionDigits) {
+    DecimalLayout layout = DecimalLayout.of(pattern);
+    assertEquals(grouping, layout.isGrouping());
+    assertEquals(minFractionDigits, layout.getMinFractionDigits());
+    assertEquals(maxFractionDigits, layout.getMaxFractionDigits());
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link DigitWriter}.
+ * Created: 18.10.2026 12:41:30
+ * @author Volker Bergmann
+ */
+public class DigitWriterTest {
+
+  @Test
+  public void testAppendLong() throws IOException {
+    assertEquals("0", longText(0));
+    assertEquals("7", longText(7));
+    assertEquals("-42", longText(-42));
+    assertEquals("1234567890123", longText(1234567890123L));
+    assertEquals(String.valueOf(Long.MAX_VALUE), longText(Long.MAX_VALUE));
+    assertEquals(String.valueOf(Long.MIN_VALUE), longText(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void testAppendLong_padded() throws IOException {
+    StringBuilder builder = new StringBuilder();
+    DigitWriter.appendLong(builder, 7, 3);
+    DigitWriter.appendLong(builder.append('|'), 1234, 3);
+    DigitWriter.appendLong(builder.append('|'), -5, 2);
+    DigitWriter.appendLong(builder.append('|'), 1, 21);
+    assertEquals("007|1234|-05|000000000000000000001", builder.toString());
+  }
+
+  @Test
+  public void testAppendGrouped() throws IOException {
+    assertEquals("0", groupedText(0));
+    assertEquals("999", groupedText(999));
+    assertEquals("1,000", groupedText(1000));
+    assertEquals("-1,234,567", groupedText(-1234567));
+    assertEquals("-9,223,372,036,854,775,808", groupedText(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void testAppendDecimal_specialValues() throws IOException {
+    assertEquals("NaN", decimalText(Double.NaN, 2));
+    assertEquals("∞", decimalText(Double.POSITIVE_INFINITY, 2));
+    assertEquals("-∞", decimalText(Double.NEGATIVE_INFINITY, 2));
+    assertEquals("0.00", decimalText(0., 2));
+    assertEquals("-0.00", decimalText(-0., 2));
+    assertEquals("-0.00", decimalText(-0.001, 2));
+    assertEquals("0.12", decimalText(0.125, 2));
+    assertEquals("1.00", decimalText(1.005, 2));
+    assertEquals("100,000,000,000,000,000,000.00", decimalText(1E20, 2));
+  }
+
+  @Test
+  public void testAppendDecimal_optionalFractionDigits() throws IOException {
+    StringBuilder builder = new StringBuilder();
+    DigitWriter.appendDecimal(builder, 2.5, 0, 2, ',', (char) 0);
+    DigitWriter.appendDecimal(builder.append('|'), 3., 0, 2, ',', (char) 0);
+    DigitWriter.appendDecimal(builder.append('|'), 3.1, 1, 3, ',', (char) 0);
+    DigitWriter.appendDecimal(builder.append('|'), 3.14159, 1, 3, ',', (char) 0);
+    assertEquals("2,5|3|3,1|3,142", builder.toString());
+  }
+
+  @Test
+  public void testAppendDecimal_consistentWithDecimalFormat() throws IOException {
+    Random random = new Random(42);
+    DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.US);
+    String[] patterns = { "0", "#,##0", "0.0", "#,##0.00", "0.000", "0.#", "0.00##" };
+    int[][] fractionDigits = { { 0, 0 }, { 0, 0 }, { 1, 1 }, { 2, 2 }, { 3, 3 }, { 0, 1 }, { 2, 4 } };
+    for (int p = 0; p < patterns.length; p++) {
+      DecimalFormat format = new DecimalFormat(patterns[p], symbols);
+      char groupingSeparator = (patterns[p].startsWith("#,") ? ',' : 0);
+      for (int i = 0; i < 5000; i++) {
+        double value;
+        switch (i % 4) {
+          case 0:
+            value = (random.nextDouble() - 0.5) * 1000;
+            break;
+          case 1:
+            // decimal ties, which DecimalFormat does not round consistently below 0.001
+            value = (1 + random.nextInt(10000) + random.nextInt(1000) / 1000. + 0.0005) * (random.nextBoolean() ? 1 : -1);
+            break;
+          case 2:
+            value = random.nextLong() / 1E3;
+            break;
+          default:
+            value = Math.scalb(random.nextDouble(), random.nextInt(120) - 60);
+        }
+        StringBuilder builder = new StringBuilder();
+        DigitWriter.appendDecimal(builder, value, fractionDigits[p][0], fractionDigits[p][1], '.', groupingSeparator);
+        assertEquals(patterns[p] + " " + value, format.format(value), builder.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testAppendIsoDate() throws IOException {
+    LocalDate date = LocalDate.of(1583, 1, 1);
+    StringBuilder builder = new StringBuilder();
+    while (date.getYear() < 2500) {
+      builder.setLength(0);
+      DigitWriter.appendIsoDate(builder, date.toEpochDay());
+      assertEquals(date.toString(), builder.toString());
+      date = date.plusDays(13);
+    }
+  }
+
+  @Test
+  public void testAppendIsoDateTime() throws IOException {
+    StringWriter writer = new StringWriter();
+    LocalDateTime dateTime = LocalDateTime.of(1969, 12, 31, 23, 59, 58, 999000000);
+    DigitWriter.appendIsoDateTime(writer, dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), ' ');
+    writer.append('|');
+    dateTime = LocalDateTime.of(2026, 10, 18, 7, 5, 3);
+    DigitWriter.appendIsoDateTime(writer, dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), 'T');
+    assertEquals("1969-12-31 23:59:58|2026-10-18T07:05:03", writer.toString());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static String longText(long value) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    DigitWriter.appendLong(builder, value);
+    return builder.toString();
+  }
+
+  private static String groupedText(long value) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    DigitWriter.appendGrouped(builder, value, ',');
+    return builder.toString();
+  }
+
+  private static String decimalText(double value, int fractionDigits) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    DigitWriter.appendDecimal(builder, value, fractionDigits, '.', ',');
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.format;
+
+import com.rapiddweller.common.TimeUtil;
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link FormatterCache}.
+ * Created: 18.10.2026 11:08:52
+ * @author Volker Bergmann
+ */
+public class FormatterCacheTest {
+
+  @Test
+  public void testDateTimeFormatter() {
+    FormatterCache cache = new FormatterCache(10);
+    DateTimeFormatter formatter = cache.getDateTimeFormatter("dd.MM.yyyy", Locale.GERMANY);
+    assertEquals("18.10.2026", formatter.format(LocalDate.of(2026, 10, 18)));
+    assertSame(formatter, cache.getDateTimeFormatter("dd.MM.yyyy", Locale.GERMANY));
+    assertNotSame(formatter, cache.getDateTimeFormatter("dd.MM.yyyy", Locale.US));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1. / 3, cache.getHitRatio(), 1E-9);
+  }
+
+  @Test
+  public void testDateFormat() {
+    FormatterCache cache = new FormatterCache(10);
+    ConcurrentDateFormat format = cache.getDateFormat("yyyy-MM-dd", Locale.US);
+    assertEquals("2026-10-18", format.format(TimeUtil.date(2026, 9, 18)));
+    assertSame(format, cache.getDateFormat("yyyy-MM-dd", Locale.US));
+    // SimpleDateFormats depend on the default time zone, so they are cached per time zone
+    TimeUtil.runInTimeZone(TimeUtil.SINGAPORE_TIME,
+        () -> assertNotSame(format, cache.getDateFormat("yyyy-MM-dd", Locale.US)));
+  }
+
+  @Test
+  public void testDecimalFormat() {
+    FormatterCache cache = new FormatterCache(10);
+    ConcurrentDecimalFormat format = cache.getDecimalFormat("#,##0.00", ',', '.');
+    assertEquals("1.234,50", format.format(1234.5));
+    assertSame(format, cache.getDecimalFormat("#,##0.00", ',', '.'));
+    assertEquals("1,234.50", cache.getDecimalFormat("#,##0.00", '.', ',').format(1234.5));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testEviction() {
+    FormatterCache cache = new FormatterCache(5);
+    for (int i = 0; i < 20; i++) {
+      cache.getDecimalFormat("0." + "0".repeat(i));
+    }
+    assertTrue(cache.size() <= 5);
+    assertEquals(15, cache.getEvictionCount());
+    assertEquals(20, cache.getMissCount());
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMissCount());
+    assertEquals(0., cache.getHitRatio(), 0);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testNullPattern() {
+    new FormatterCache(5).getDateFormat(null);
+  }
+
+  @Test(expected = IllegalArgumentError.class)
+  public void testIllegalSize() {
+    new FormatterCache(0);
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.iterator;
+
+import com.rapiddweller.common.IOUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link ParallelChunkProcessor}.
+ * Created: 17.10.2026 20:21:56
+ * @author Volker Bergmann
+ */
+public class ParallelChunkProcessorTest {
+
+  @Test
+  public void testOrderPreserved() {
+    List<Integer> input = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ParallelChunkProcessor<Integer, List<Integer>> processor = new ParallelChunkProcessor<>(
+          chunk -> chunk.stream().map(i -> i * 2).collect(Collectors.toList()), 37, pool);
+      List<Integer> output = new ArrayList<>();
+      processor.process(input.iterator(), output::addAll);
+      assertEquals(input.stream().map(i -> i * 2).collect(Collectors.toList()), output);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testTextLineIterable() {
+    TextLineIterable source = new TextLineIterable(IOUtil.STRING_PROTOCOL + "a\nbb\nccc\ndddd\neeeee");
+    ParallelChunkProcessor<String, Integer> processor = new ParallelChunkProcessor<>(
+        chunk -> chunk.stream().mapToInt(String::length).sum(), 2, ForkJoinPool.commonPool());
+    List<Integer> sums = new ArrayList<>();
+    processor.process(source, sums::add);
+    assertEquals(List.of(3, 7, 5), sums);
+  }
+
+  @Test
+  public void testFailure() {
+    ParallelChunkProcessor<Integer, Integer> processor = new ParallelChunkProcessor<>(chunk -> {
+      throw new IllegalStateException("failed");
+    });
+    assertThrows(IllegalStateException.class,
+        () -> processor.process(List.of(1, 2, 3).iterator(), result -> { }));
+  }
+
+}
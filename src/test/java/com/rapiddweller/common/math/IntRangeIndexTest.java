@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link IntRangeIndex}.
+ * Created: 18.10.2026 08:50:37
+ * @author Volker Bergmann
+ */
+public class IntRangeIndexTest {
+
+  @Test
+  public void testStabAndOverlapping() {
+    IntRange r1 = new IntRange(1, 10);
+    IntRange r2 = new IntRange(5, 6);
+    IntRange r3 = new IntRange(20, 30);
+    IntRangeIndex index = new IntRangeIndex(Arrays.asList(r3, r2, r1));
+    assertEquals(3, index.size());
+    assertEquals(Arrays.asList(r1, r2), index.stab(5));
+    assertFalse(index.contains(15));
+    assertTrue(index.contains(30));
+    assertEquals(Arrays.asList(r1, r3), index.overlapping(8, 20));
+  }
+
+  @Test
+  public void testRandomAgainstLinearScan() {
+    Random random = new Random(3);
+    List<IntRange> ranges = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      int min = random.nextInt(100000);
+      ranges.add(new IntRange(min, min + random.nextInt(1000)));
+    }
+    IntRangeIndex index = new IntRangeIndex(ranges);
+    for (int x = 0; x < 101000; x += 37) {
+      int count = 0;
+      for (IntRange range : ranges) {
+        if (range.contains(x)) {
+          count++;
+        }
+      }
+      assertEquals(count, index.stab(x).size());
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    List<IntRange> merged = IntRangeIndex.merge(Arrays.asList(
+        new IntRange(5, 7), new IntRange(1, 4), new IntRange(9, 9), new IntRange(Integer.MAX_VALUE - 1, Integer.MAX_VALUE),
+        new IntRange(Integer.MAX_VALUE, Integer.MAX_VALUE)));
+    assertEquals(Arrays.asList(new IntRange(1, 7), new IntRange(9, 9),
+        new IntRange(Integer.MAX_VALUE - 1, Integer.MAX_VALUE)), merged);
+  }
+
+}
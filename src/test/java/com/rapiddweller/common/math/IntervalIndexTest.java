@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import com.rapiddweller.common.ComparableComparator;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link IntervalIndex}.
+ * Created: 18.10.2026 08:31:44
+ * @author Volker Bergmann
+ */
+public class IntervalIndexTest {
+
+  private static final ComparableComparator<Integer> COMPARATOR = new ComparableComparator<>();
+
+  @Test
+  public void testEmpty() {
+    IntervalIndex<Integer> index = new IntervalIndex<>(Collections.emptyList(), COMPARATOR);
+    assertEquals(0, index.size());
+    assertFalse(index.contains(1));
+    assertTrue(index.stab(1).isEmpty());
+  }
+
+  @Test
+  public void testBounds() {
+    Interval<Integer> closed = interval(1, true, 3, true);
+    Interval<Integer> open = interval(3, false, 5, false);
+    Interval<Integer> lowerOpen = interval(null, false, 0, true);
+    Interval<Integer> upperOpen = interval(10, true, null, false);
+    IntervalIndex<Integer> index = new IntervalIndex<>(Arrays.asList(open, upperOpen, closed, lowerOpen), COMPARATOR);
+    assertEquals(Collections.singletonList(lowerOpen), index.stab(-1000));
+    assertEquals(Collections.singletonList(lowerOpen), index.stab(0));
+    assertEquals(Collections.singletonList(closed), index.stab(1));
+    assertEquals(Collections.singletonList(closed), index.stab(3));
+    assertEquals(Collections.singletonList(open), index.stab(4));
+    assertFalse(index.contains(5));
+    assertFalse(index.contains(9));
+    assertTrue(index.contains(10));
+    assertTrue(index.contains(Integer.MAX_VALUE));
+    assertEquals(Arrays.asList(closed, open), index.overlapping(3, 4));
+    assertEquals(Collections.singletonList(closed), index.overlapping(interval(2, true, 3, true)));
+    assertEquals(Collections.emptyList(), index.overlapping(interval(5, true, 10, false)));
+    assertEquals(Arrays.asList(lowerOpen, closed, open, upperOpen), index.overlapping(interval(null, true, null, true)));
+  }
+
+  @Test
+  public void testRandomAgainstLinearScan() {
+    Random random = new Random(42);
+    List<Interval<Integer>> intervals = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      int min = random.nextInt(10000);
+      int max = min + random.nextInt(random.nextBoolean() ? 20 : 500);
+      intervals.add(interval(min, random.nextBoolean(), max, random.nextBoolean()));
+    }
+    IntervalIndex<Integer> index = new IntervalIndex<>(intervals, COMPARATOR);
+    for (int x = -10; x < 10600; x += 3) {
+      List<Interval<Integer>> expected = new ArrayList<>();
+      for (Interval<Integer> interval : intervals) {
+        if (interval.contains(x)) {
+          expected.add(interval);
+        }
+      }
+      List<Interval<Integer>> actual = index.stab(x);
+      assertEquals(expected.size(), actual.size());
+      assertTrue(actual.containsAll(expected));
+      assertEquals(!expected.isEmpty(), index.contains(x));
+    }
+    for (int i = 0; i < 200; i++) {
+      int min = random.nextInt(10000);
+      int max = min + random.nextInt(100);
+      int count = 0;
+      for (Interval<Integer> interval : intervals) {
+        if (!(interval.max < min || (interval.max == min && !interval.maxInclusive)
+            || interval.min > max || (interval.min == max && !interval.minInclusive))) {
+          count++;
+        }
+      }
+      assertEquals(count, index.overlapping(min, max).size());
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    List<Interval<Integer>> merged = IntervalIndex.merge(Arrays.asList(
+        interval(5, true, 7, false),
+        interval(1, true, 3, true),
+        interval(2, false, 4, false),
+        interval(7, true, 8, true),
+        interval(10, false, 12, true),
+        interval(8, false, 10, false)
+    ), COMPARATOR);
+    // [5,8] and ]8,10[ adjoin, but ]8,10[ and ]10,12] do not, since 10 is contained in neither of them
+    assertEquals("[[1,4[, [5,10[, ]10,12]]", merged.toString());
+    assertEquals(Collections.singletonList(interval(null, false, null, false)), IntervalIndex.merge(Arrays.asList(
+        interval(null, false, 0, true), interval(0, false, null, false)), COMPARATOR));
+  }
+
+  @Test
+  public void testZonedDateTimeRanges() {
+    ZoneId berlin = ZoneId.of("Europe/Berlin");
+    ZoneId utc = ZoneId.of("UTC");
+    List<Interval<ZonedDateTime>> periods = new ArrayList<>();
+    for (int month = 1; month <= 12; month++) {
+      ZonedDateTime start = ZonedDateTime.of(2026, month, 1, 0, 0, 0, 0, berlin);
+      periods.add(new com.rapiddweller.common.time.ZonedDateTimeRange(start, start.plusMonths(1).minusNanos(1))
+          .toInterval());
+    }
+    IntervalIndex<ZonedDateTime> index = new IntervalIndex<>(periods, periods.get(0).comparator);
+    // 2026-03-31T23:30 UTC is already April in Berlin
+    List<Interval<ZonedDateTime>> result = index.stab(ZonedDateTime.of(2026, 3, 31, 23, 30, 0, 0, utc));
+    assertEquals(1, result.size());
+    assertEquals(4, result.get(0).min.getMonthValue());
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  private static Interval<Integer> interval(Integer min, boolean minInclusive, Integer max, boolean maxInclusive) {
+    return new Interval<>(min, minInclusive, max, maxInclusive, COMPARATOR);
+  }
+
+}
@@ -18,6 +18,8 @@
 import com.rapiddweller.common.ComparableComparator;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -46,4 +48,35 @@ public void test() {
     assertEquals("[1,2], ]3,5[", collection.toString());
   }
 
+  @Test
+  public void testIndexedLookups() {
+    Intervals<Integer> collection = new Intervals<>();
+    ComparableComparator<Integer> comparator = new ComparableComparator<>();
+    for (int i = 0; i < 20; i++) {
+      collection.add(new Interval<>(i * 10, true, i * 10 + 5, false, comparator));
+    }
+    collection.add(new Interval<>(42, true, 60, true, comparator));
+    assertTrue(collection.contains(0));
+    assertFalse(collection.contains(5));
+    assertTrue(collection.contains(45));
+    assertFalse(collection.contains(200));
+    assertEquals(2, collection.stab(50).size());
+    assertEquals(3, collection.overlapping(40, 52).size());
+    Intervals<Integer> normalized = collection.normalize();
+    assertEquals(18, normalized.intervalCount());
+    assertEquals("[40,65[", normalized.getInterval(4).toString());
+    collection.add(new Interval<>(195, true, 199, true, comparator));
+    assertTrue(collection.contains(197));
+  }
+
+  @Test
+  public void testNormalize() {
+    Intervals<Integer> collection = new Intervals<>();
+    ComparableComparator<Integer> comparator = new ComparableComparator<>();
+    collection.add(new Interval<>(3, true, 5, true, comparator));
+    collection.add(new Interval<>(1, true, 3, false, comparator));
+    assertEquals("[1,5]", collection.normalize().toString());
+    assertEquals(Arrays.asList(collection.getInterval(1)), collection.stab(2));
+  }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.math;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LongIntervalIndex}.
+ * Created: 18.10.2026 08:44:10
+ * @author Volker Bergmann
+ */
+public class LongIntervalIndexTest {
+
+  @Test
+  public void testBounds() {
+    LongInterval closed = new LongInterval(1, 3);
+    LongInterval open = new LongInterval(3, false, 5, false);
+    LongIntervalIndex index = new LongIntervalIndex(Arrays.asList(open, closed));
+    assertFalse(index.contains(0));
+    assertEquals(Collections.singletonList(closed), index.stab(3));
+    assertEquals(Collections.singletonList(open), index.stab(4));
+    assertFalse(index.contains(5));
+    assertEquals(Arrays.asList(closed, open), index.overlapping(2, 10));
+    assertTrue(index.overlapping(5, 10).isEmpty());
+  }
+
+  @Test
+  public void testExtremeValues() {
+    LongInterval all = new LongInterval(Long.MIN_VALUE, Long.MAX_VALUE);
+    LongInterval empty = new LongInterval(5, false, 6, false);
+    LongIntervalIndex index = new LongIntervalIndex(Arrays.asList(all, empty));
+    assertEquals(Collections.singletonList(all), index.stab(Long.MIN_VALUE));
+    assertEquals(Collections.singletonList(all), index.stab(Long.MAX_VALUE));
+    assertEquals(Collections.singletonList(all), index.stab(5));
+  }
+
+  @Test
+  public void testRandomAgainstLinearScan() {
+    Random random = new Random(7);
+    List<LongInterval> intervals = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      long min = random.nextInt(1000000) * 1000L;
+      intervals.add(new LongInterval(min, min + random.nextInt(50000)));
+    }
+    LongIntervalIndex index = new LongIntervalIndex(intervals);
+    for (int i = 0; i < 2000; i++) {
+      long x = random.nextInt(1000000) * 1000L + random.nextInt(1000);
+      int count = 0;
+      for (LongInterval interval : intervals) {
+        if (interval.contains(x)) {
+          count++;
+        }
+      }
+      assertEquals(count, index.stab(x).size());
+      assertEquals(count > 0, index.contains(x));
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    List<LongInterval> merged = LongIntervalIndex.merge(Arrays.asList(
+        new LongInterval(10, 20), new LongInterval(1, 5), new LongInterval(6, 8), new LongInterval(15, 30),
+        new LongInterval(40, false, 50, false)));
+    assertEquals(Arrays.asList(new LongInterval(1, 8), new LongInterval(10, 30), new LongInterval(41, 49)), merged);
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2004-2022 Volker Bergmann (volker.bergmann@bergmann-it.de).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rapiddweller.common.time;
+
+import com.rapiddweller.common.Patterns;
+import com.rapiddweller.common.TimeUtil;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link IsoDateTimeParser}.
+ * Created: 18.10.2026 09:47:03
+ * @author Volker Bergmann
+ */
+public class IsoDateTimeParserTest {
+
+  @Test
+  public void testLayoutLength() {
+    assertEquals(10, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATE_PATTERN));
+    assertEquals(16, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATETIME_MINUTES_PATTERN));
+    assertEquals(19, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATETIME_SECONDS_PATTERN));
+    assertEquals(23, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATETIME_MILLIS_PATTERN));
+    assertEquals(26, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATETIME_MICROS_PATTERN));
+    assertEquals(29, IsoDateTimeParser.layoutLength(Patterns.DEFAULT_DATETIME_NANOS_PATTERN));
+    assertEquals(-1, IsoDateTimeParser.layoutLength("dd.MM.yyyy"));
+    assertEquals(-1, IsoDateTimeParser.layoutLength(null));
+  }
+
+  @Test
+  public void testLocalDate() {
+    assertEquals(LocalDate.of(2022, 2, 28), IsoDateTimeParser.parseLocalDate("2022-02-28"));
+    assertEquals(LocalDate.of(2020, 2, 29), IsoDateTimeParser.parseLocalDate("2020-02-29"));
+    assertEquals(LocalDate.of(1, 1, 1), IsoDateTimeParser.parseLocalDate("0001-01-01"));
+    assertEquals(LocalDate.of(9999, 12, 31), IsoDateTimeParser.parseLocalDate("9999-12-31"));
+  }
+
+  @Test
+  public void testLocalDateTime() {
+    assertEquals(LocalDateTime.of(2022, 10, 18, 9, 47),
+        IsoDateTimeParser.parseLocalDateTime("2022-10-18T09:47"));
+    assertEquals(LocalDateTime.of(2022, 10, 18, 9, 47, 3),
+        IsoDateTimeParser.parseLocalDateTime("2022-10-18T09:47:03"));
+    assertEquals(LocalDateTime.of(2022, 10, 18, 9, 47, 3, 120000000),
+        IsoDateTimeParser.parseLocalDateTime("2022-10-18T09:47:03.12"));
+    assertEquals(LocalDateTime.of(2022, 10, 18, 9, 47, 3, 123456000),
+        IsoDateTimeParser.parseLocalDateTime("2022-10-18T09:47:03.123456"));
+    assertEquals(LocalDateTime.of(2022, 10, 18, 23, 59, 59, 123456789),
+        IsoDateTimeParser.parseLocalDateTime("2022-10-18T23:59:59.123456789"));
+    assertNull(IsoDateTimeParser.parseLocalDateTime("2022-10-18"));
+  }
+
+  @Test
+  public void testMismatches() {
+    String[] texts = {
+        null, "", "2022-1-05", "22-01-05", "2022/01/05", "2022-01-05x", "2022-01-5 ",
+        "0000-01-01", "2022-00-01", "2022-13-01", "2022-01-00", "2022-01-32", "2021-02-29", "2100-02-29",
+        "2022-01-05 10:00", "2022-01-05T24:00", "2022-01-05T10:60", "2022-01-05T10:00:60",
+        "2022-01-05T10:00:00.", "2022-01-05T10:00:00,123", "2022-01-05T10:00:00.12a",
+        "2022-01-05T10:00:00.1234567890", "2022-01-05T1:00:00", "2022-01-05T10-00"
+    };
+    for (String text : texts) {
+      assertNull(text, IsoDateTimeParser.parseLocalDateTime(text));
+      assertNull(text, IsoDateTimeParser.parseDate(text));
+      assertNull(text, IsoDateTimeParser.parseTimestamp(text));
+      assertEquals(text, IsoDateTimeParser.NO_MATCH, IsoDateTimeParser.parseEpochMillis(text, TimeUtil.GMT));
+    }
+    assertNull(IsoDateTimeParser.parseLocalDate("2021-02-29"));
+    assertNull(IsoDateTimeParser.parseLocalDate("2021-02-28T00:00"));
+  }
+
+  @Test
+  public void testJulianDatesNotSupportedAsEpochValues() {
+    assertEquals(IsoDateTimeParser.NO_MATCH, IsoDateTimeParser.parseEpochMillis("1582-10-15", TimeUtil.GMT));
+    assertEquals(LocalDate.of(1582, 10, 15), IsoDateTimeParser.parseLocalDate("1582-10-15"));
+  }
+
+  @Test
+  public void testTimestamp() {
+    TimeUtil.runInTimeZone(TimeUtil.CENTRAL_EUROPEAN_TIME, () -> {
+      Timestamp timestamp = IsoDateTimeParser.parseTimestamp("2022-10-18T09:47:03.123456789");
+      assertEquals(TimeUtil.date(2022, 9, 18, 9, 47, 3, 123).getTime(), timestamp.getTime());
+      assertEquals(123456789, timestamp.getNanos());
+    });
+  }
+
+  @Test
+  public void testDaylightSavingTransitions() {
+    TimeZone berlin = TimeZone.getTimeZone("Europe/Berlin");
+    // the hour skipped and the hour repeated when switching from and to standard time
+    assertEquals(IsoDateTimeParser.NO_MATCH, IsoDateTimeParser.parseEpochMillis("2022-03-27T02:30", berlin));
+    assertEquals(IsoDateTimeParser.NO_MATCH, IsoDateTimeParser.parseEpochMillis("2022-10-30T02:30", berlin));
+    assertEquals(LocalDateTime.of(2022, 3, 27, 3, 30).atZone(berlin.toZoneId()).toInstant().toEpochMilli(),
+        IsoDateTimeParser.parseEpochMillis("2022-03-27T03:30", berlin));
+  }
+
+  @Test
+  public void testConsistencyWithSimpleDateFormat() {
+    Random random = new Random(42);
+    String[] zones = { "UTC", "Europe/Berlin", "America/Los_Angeles", "Asia/Singapore", "Australia/Lord_Howe" };
+    for (String zone : zones) {
+      TimeUtil.runInTimeZone(TimeZone.getTimeZone(zone), () -> {
+        for (int i = 0; i < 2000; i++) {
+          String text = String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03d", 1583 + random.nextInt(600),
+              1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60),
+              random.nextInt(60), random.nextInt(1000));
+          assertConsistent(text.substring(0, 10), Patterns.DEFAULT_DATE_PATTERN);
+          assertConsistent(text.substring(0, 16), Patterns.DEFAULT_DATETIME_MINUTES_PATTERN);
+          assertConsistent(text.substring(0, 19), Patterns.DEFAULT_DATETIME_SECONDS_PATTERN);
+          assertConsistent(text, Patterns.DEFAULT_DATETIME_MILLIS_PATTERN);
+        }
+      });
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void assertConsistent(String text, String pattern) {
+    long millis = IsoDateTimeParser.parseEpochMillis(text, TimeZone.getDefault());
+    if (millis != IsoDateTimeParser.NO_MATCH) {
+      try {
+        assertEquals(text, new SimpleDateFormat(pattern).parse(text).getTime(), millis);
+      } catch (ParseException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+}